@@ -0,0 +1,40 @@
+package com.github.archtiger.bytebean.api.field;
+
+/**
+ * 单字段访问器抽象类，绑定到某个类的某一个字段。
+ * <p>
+ * 与 {@link FieldInvoker} 按索引分派不同，单字段访问器的每个实现类只对应一个字段，
+ * 实现类为final，方法体仅包含一次 {@code GETFIELD}/{@code PUTFIELD}。
+ * 在只访问固定字段的热点循环中，调用点保持单态，JIT 可将其内联为直接的字段读写。
+ * 基本类型字段的访问器同时实现对应的类型化子类（如 {@link IntFieldAccessor}），提供无装箱的读写方法。
+ * </p>
+ * <p><b>使用示例：</b></p>
+ * <pre>{@code
+ * IntFieldAccessor age = FieldInvokerHelper.of(User.class).accessor("age", IntFieldAccessor.class);
+ * for (User user : users) {
+ *     total += age.getInt(user);
+ * }
+ * }</pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public abstract class FieldAccessor {
+
+    /**
+     * 读取字段值，基本类型字段会被装箱。
+     *
+     * @param instance 目标对象实例，非null
+     * @return 字段值
+     */
+    public abstract Object get(Object instance);
+
+    /**
+     * 设置字段值，基本类型字段会自动拆箱。
+     *
+     * @param instance 目标对象实例，非null
+     * @param value    要设置的值
+     * @throws IllegalArgumentException 如果字段为final
+     */
+    public abstract void set(Object instance, Object value);
+}
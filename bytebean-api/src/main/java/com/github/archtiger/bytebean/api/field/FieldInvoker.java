@@ -60,51 +60,61 @@ public abstract class FieldInvoker {
 
     /**
      * 读取指定索引的 short 类型字段值。
+     * <p>
+     * 支持 byte、short 字段，按 JLS 5.1.2 基本类型拓宽转换返回，不发生装箱。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @return short 类型字段值
-     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 short
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不能拓宽为 short
      */
     public abstract short getShort(int index, Object instance);
 
     /**
      * 读取指定索引的 int 类型字段值。
+     * <p>
+     * 支持 byte、short、char、int 字段，按 JLS 5.1.2 基本类型拓宽转换返回，不发生装箱。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @return int 类型字段值
-     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 int
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不能拓宽为 int
      */
     public abstract int getInt(int index, Object instance);
 
     /**
      * 读取指定索引的 long 类型字段值。
+     * <p>
+     * 支持 byte、short、char、int、long 字段，按 JLS 5.1.2 基本类型拓宽转换返回，不发生装箱。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @return long 类型字段值
-     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 long
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不能拓宽为 long
      */
     public abstract long getLong(int index, Object instance);
 
     /**
      * 读取指定索引的 float 类型字段值。
+     * <p>
+     * 支持 byte、short、char、int、long、float 字段，按 JLS 5.1.2 基本类型拓宽转换返回，不发生装箱。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @return float 类型字段值
-     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 float
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不能拓宽为 float
      */
     public abstract float getFloat(int index, Object instance);
 
     /**
      * 读取指定索引的 double 类型字段值。
+     * <p>
+     * 支持全部数值类型字段，按 JLS 5.1.2 基本类型拓宽转换返回，不发生装箱。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @return double 类型字段值
-     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 double
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不能拓宽为 double
      */
     public abstract double getDouble(int index, Object instance);
 
@@ -132,61 +142,73 @@ public abstract class FieldInvoker {
 
     /**
      * 设置指定索引的 byte 类型字段值。
+     * <p>
+     * 值按拓宽转换写入 short、int、long、float、double 字段；写入 char 字段时做带检查的窄化转换，值无法精确表示时抛出异常。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @param value    要设置的 byte 值
-     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 byte
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final、字段类型无法接收 byte 值，或窄化后值超出字段类型范围
      */
     public abstract void setByte(int index, Object instance, byte value);
 
     /**
      * 设置指定索引的 short 类型字段值。
+     * <p>
+     * 值按拓宽转换写入 int、long、float、double 字段；写入 byte、char 字段时做带检查的窄化转换，值无法精确表示时抛出异常。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @param value    要设置的 short 值
-     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 short
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final、字段类型无法接收 short 值，或窄化后值超出字段类型范围
      */
     public abstract void setShort(int index, Object instance, short value);
 
     /**
      * 设置指定索引的 int 类型字段值。
+     * <p>
+     * 值按拓宽转换写入 long、float、double 字段；写入 byte、short、char 字段时做带检查的窄化转换，值无法精确表示时抛出异常。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @param value    要设置的 int 值
-     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 int
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final、字段类型无法接收 int 值，或窄化后值超出字段类型范围
      */
     public abstract void setInt(int index, Object instance, int value);
 
     /**
      * 设置指定索引的 long 类型字段值。
+     * <p>
+     * 值按拓宽转换写入 float、double 字段；写入 byte、short、char、int 字段时做带检查的窄化转换，值无法精确表示时抛出异常。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @param value    要设置的 long 值
-     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 long
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final、字段类型无法接收 long 值，或窄化后值超出字段类型范围
      */
     public abstract void setLong(int index, Object instance, long value);
 
     /**
      * 设置指定索引的 float 类型字段值。
+     * <p>
+     * 值按拓宽转换写入 double 字段。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @param value    要设置的 float 值
-     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 float
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型无法接收 float 值
      */
     public abstract void setFloat(int index, Object instance, float value);
 
     /**
      * 设置指定索引的 double 类型字段值。
+     * <p>
+     * 写入 float 字段时做带检查的窄化转换，值无法精确表示时抛出异常。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @param value    要设置的 double 值
-     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 double
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final、字段类型无法接收 double 值，或窄化后值超出字段类型范围
      */
     public abstract void setDouble(int index, Object instance, double value);
 
@@ -202,11 +224,190 @@ public abstract class FieldInvoker {
 
     /**
      * 设置指定索引的 char 类型字段值。
+     * <p>
+     * 值按拓宽转换写入 int、long、float、double 字段；写入 byte、short 字段时做带检查的窄化转换，值无法精确表示时抛出异常。
      *
      * @param index    字段索引
      * @param instance 目标对象实例，非null
      * @param value    要设置的 char 值
-     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 char
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final、字段类型无法接收 char 值，或窄化后值超出字段类型范围
      */
     public abstract void setChar(int index, Object instance, char value);
+
+    // 原子与内存序操作
+
+    /**
+     * 以 volatile 语义读取指定索引的字段值，基本类型自动装箱。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @return 字段值
+     * @throws IllegalArgumentException 如果索引超出范围
+     * @see java.lang.invoke.VarHandle#getVolatile(Object...)
+     */
+    public abstract Object getVolatile(int index, Object instance);
+
+    /**
+     * 以 volatile 语义设置指定索引的字段值，基本类型字段自动拆箱。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @param value    要设置的值
+     * @throws IllegalArgumentException 如果索引超出范围或字段为final
+     * @see java.lang.invoke.VarHandle#setVolatile(Object...)
+     */
+    public abstract void setVolatile(int index, Object instance, Object value);
+
+    /**
+     * 以 acquire 语义读取指定索引的字段值，基本类型自动装箱。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @return 字段值
+     * @throws IllegalArgumentException 如果索引超出范围
+     * @see java.lang.invoke.VarHandle#getAcquire(Object...)
+     */
+    public abstract Object getAcquire(int index, Object instance);
+
+    /**
+     * 以 release 语义设置指定索引的字段值，基本类型字段自动拆箱。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @param value    要设置的值
+     * @throws IllegalArgumentException 如果索引超出范围或字段为final
+     * @see java.lang.invoke.VarHandle#setRelease(Object...)
+     */
+    public abstract void setRelease(int index, Object instance, Object value);
+
+    /**
+     * 原子地比较并设置 int 类型字段值。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @param expected 期望的当前值
+     * @param newValue 新值
+     * @return 当前值等于期望值并设置成功时返回true
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 int
+     */
+    public abstract boolean compareAndSetInt(int index, Object instance, int expected, int newValue);
+
+    /**
+     * 原子地比较并设置 long 类型字段值。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @param expected 期望的当前值
+     * @param newValue 新值
+     * @return 当前值等于期望值并设置成功时返回true
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 long
+     */
+    public abstract boolean compareAndSetLong(int index, Object instance, long expected, long newValue);
+
+    /**
+     * 原子地比较并设置引用类型字段值，按引用相等（{@code ==}）比较。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @param expected 期望的当前值
+     * @param newValue 新值
+     * @return 当前值等于期望值并设置成功时返回true
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段是基本类型
+     * @throws ClassCastException       如果 expected 或 newValue 与字段类型不匹配
+     */
+    public abstract boolean compareAndSetReference(int index, Object instance, Object expected, Object newValue);
+
+    /**
+     * 原子地将 int 类型字段值加上增量，返回相加前的值。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @param delta    增量
+     * @return 相加前的字段值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 int
+     */
+    public abstract int getAndAddInt(int index, Object instance, int delta);
+
+    /**
+     * 原子地将 long 类型字段值加上增量，返回相加前的值。
+     *
+     * @param index    字段索引
+     * @param instance 目标对象实例，非null
+     * @param delta    增量
+     * @return 相加前的字段值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 long
+     */
+    public abstract long getAndAddLong(int index, Object instance, long delta);
+
+    // 批量读写
+
+    /**
+     * 一次性读取全部字段值到缓冲区，用于对象快照。
+     * <p>
+     * 基本类型字段按索引顺序依次写入 {@code prims}：float、double 存放原始位
+     * （{@link Float#floatToRawIntBits(float)}、{@link Double#doubleToRawLongBits(double)}），
+     * boolean 存为 0/1，其余整数类型拓宽为 long；引用类型字段按索引顺序依次写入 {@code refs}。
+     * 字段按类型分组排序、基本类型在前，因此基本类型字段的槽位等于其字段索引，
+     * 引用类型字段的槽位等于其字段索引减去基本类型字段总数。
+     * <p>
+     * 只处理索引空间内的字段（默认模式下不含private字段）；{@code FieldInvokerHelper} 在目标类存在不在索引空间内的
+     * 可变实例字段时抛出 {@link IllegalStateException}，而不是生成遗漏部分状态的快照。
+     *
+     * @param instance 目标对象实例，非null
+     * @param prims    基本类型字段缓冲区，长度不小于基本类型字段数
+     * @param refs     引用类型字段缓冲区，长度不小于引用类型字段数
+     * @throws ArrayIndexOutOfBoundsException 如果缓冲区长度不足
+     */
+    public abstract void readAll(Object instance, long[] prims, Object[] refs);
+
+    /**
+     * 一次性将缓冲区中的值写回全部字段，用于从快照恢复对象。
+     * <p>
+     * 缓冲区布局与 {@link #readAll(Object, long[], Object[])} 相同；final 字段被跳过，对应槽位的值被忽略。
+     * boolean 字段在槽位值非0时写入 true。与 {@code readAll} 相同，只处理索引空间内的字段。
+     *
+     * @param instance 目标对象实例，非null
+     * @param prims    基本类型字段缓冲区，长度不小于基本类型字段数
+     * @param refs     引用类型字段缓冲区，长度不小于引用类型字段数
+     * @throws ArrayIndexOutOfBoundsException 如果缓冲区长度不足
+     * @throws ClassCastException             如果引用类型槽位中的值与字段类型不匹配
+     */
+    public abstract void writeAll(Object instance, long[] prims, Object[] refs);
+
+    // 复制、克隆与重置
+
+    /**
+     * 将源对象的全部非final字段值复制到目标对象，用于对象池复用或快照。
+     * <p>
+     * 生成的实现是一段直线代码，每个字段一次 {@code GETFIELD}/{@code PUTFIELD}，不发生装箱。
+     * <p>
+     * 只复制索引空间内的字段（默认模式下不含private字段）；{@code FieldInvokerHelper} 在目标类存在不在索引空间内的
+     * 可变实例字段时抛出 {@link IllegalStateException}，而不是静默遗漏这些字段的值。
+     *
+     * @param src 源对象，非null
+     * @param dst 目标对象，非null，与源对象为同一类型
+     * @throws ClassCastException 如果源对象或目标对象不是目标类的实例
+     */
+    public abstract void copyFields(Object src, Object dst);
+
+    /**
+     * 创建源对象的浅拷贝：通过无参构造器创建新实例，再复制全部非final字段。
+     * <p>
+     * final 字段保留无参构造器初始化的值；引用类型字段只复制引用。与 {@code copyFields} 相同，只复制索引空间内的字段。
+     *
+     * @param src 源对象，非null
+     * @return 新创建的浅拷贝
+     * @throws IllegalStateException 如果目标类没有可访问的无参构造器
+     */
+    public abstract Object shallowClone(Object src);
+
+    /**
+     * 将全部非final字段重置为JVM默认值（0、false、null），用于对象池回收实例。
+     * <p>
+     * 生成的实现是一段直线代码，每个字段一次 {@code PUTFIELD}。
+     *
+     * @param instance 目标对象实例，非null
+     * @throws ClassCastException 如果实例不是目标类的实例
+     */
+    public abstract void reset(Object instance);
 }
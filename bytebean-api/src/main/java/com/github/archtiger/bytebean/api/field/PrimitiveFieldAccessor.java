@@ -0,0 +1,40 @@
+package com.github.archtiger.bytebean.api.field;
+
+import java.util.List;
+
+/**
+ * 基本类型字段的单字段访问器基类，{@code A} 为字段类型对应的基本类型数组（如 {@code int[]}）。
+ * <p>
+ * 提供与字段类型无关的批量读取入口，由各类型化访问器（如 {@link IntFieldAccessor}）转发到生成的区间循环，
+ * 调用方每批只有一次虚调用，逐元素的字段读取都在针对该字段特化的循环内完成。
+ *
+ * @param <A> 基本类型数组类型
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public abstract class PrimitiveFieldAccessor<A> extends FieldAccessor {
+
+    /**
+     * 批量读取字段值，将 {@code source[from..to)} 中每个对象的字段值依次写入 {@code dest[destPos..)}。
+     *
+     * @param source  目标对象数组，区间内元素非null
+     * @param from    起始下标（包含）
+     * @param to      结束下标（不包含）
+     * @param dest    结果数组
+     * @param destPos 结果数组的起始下标
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 source 或 dest 的范围
+     */
+    public abstract void getAll(Object[] source, int from, int to, A dest, int destPos);
+
+    /**
+     * 批量读取字段值，将列表 {@code source} 中下标 {@code [from, to)} 内每个对象的字段值依次写入 {@code dest[destPos..)}。
+     *
+     * @param source  目标对象列表，区间内元素非null
+     * @param from    起始下标（包含）
+     * @param to      结束下标（不包含）
+     * @param dest    结果数组
+     * @param destPos 结果数组的起始下标
+     * @throws IndexOutOfBoundsException 如果区间超出 source 或 dest 的范围
+     */
+    public abstract void getAll(List<?> source, int from, int to, A dest, int destPos);
+}
@@ -0,0 +1,69 @@
+package com.github.archtiger.bytebean.api.field;
+
+import java.util.List;
+
+/**
+ * short 类型字段的单字段访问器，提供无装箱的读写方法。
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public abstract class ShortFieldAccessor extends PrimitiveFieldAccessor<short[]> {
+
+    /**
+     * 读取 short 类型字段值。
+     *
+     * @param instance 目标对象实例，非null
+     * @return short 类型字段值
+     */
+    public abstract short getShort(Object instance);
+
+    /**
+     * 设置 short 类型字段值。
+     *
+     * @param instance 目标对象实例，非null
+     * @param value    要设置的 short 值
+     * @throws IllegalArgumentException 如果字段为final
+     */
+    public abstract void setShort(Object instance, short value);
+
+    /**
+     * 批量读取 short 类型字段值，将 {@code source[from..to)} 中每个对象的字段值依次写入
+     * {@code dest[destPos..destPos + (to - from))}。
+     * <p>
+     * 生成的实现是一个针对该字段特化的循环，每个元素只有一次数组读取、一次类型检查和一次字段读取。
+     *
+     * @param source  目标对象数组，区间内元素非null
+     * @param from    起始下标（包含）
+     * @param to      结束下标（不包含）
+     * @param dest    结果数组
+     * @param destPos 结果数组的起始下标
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 source 或 dest 的范围
+     */
+    public abstract void getShorts(Object[] source, int from, int to, short[] dest, int destPos);
+
+    /**
+     * 批量读取 short 类型字段值，将列表 {@code source} 中下标 {@code [from, to)} 内每个对象的字段值依次写入
+     * {@code dest[destPos..destPos + (to - from))}。
+     * <p>
+     * 生成的实现与数组版本相同，是针对该字段特化的循环；支持随机访问的列表按下标读取，其余列表使用迭代器顺序读取。
+     *
+     * @param source  目标对象列表，区间内元素非null
+     * @param from    起始下标（包含）
+     * @param to      结束下标（不包含）
+     * @param dest    结果数组
+     * @param destPos 结果数组的起始下标
+     * @throws IndexOutOfBoundsException 如果区间超出 source 或 dest 的范围
+     */
+    public abstract void getShorts(List<?> source, int from, int to, short[] dest, int destPos);
+
+    @Override
+    public final void getAll(Object[] source, int from, int to, short[] dest, int destPos) {
+        getShorts(source, from, to, dest, destPos);
+    }
+
+    @Override
+    public final void getAll(List<?> source, int from, int to, short[] dest, int destPos) {
+        getShorts(source, from, to, dest, destPos);
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.archtiger.bytebean.api.field;
+
+/**
+ * 静态字段访问器抽象类，提供按索引读写类静态字段的能力。
+ * <p>
+ * 与 {@link FieldInvoker} 对应，但访问的是目标类自身声明的 static 字段，因此所有方法都不需要实例参数。
+ * 实现类通常通过字节码生成，在 tableswitch 中直接使用 {@code GETSTATIC}/{@code PUTSTATIC}。
+ * </p>
+ * <p><b>使用示例：</b></p>
+ * <pre>{@code
+ * StaticFieldInvokerHelper helper = StaticFieldInvokerHelper.of(FeatureFlags.class);
+ * int enabledIndex = helper.getFieldSetterIndexOrThrow("enabled");
+ *
+ * helper.setBoolean(enabledIndex, true);
+ * boolean enabled = helper.getBoolean(enabledIndex);
+ * }</pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public abstract class StaticFieldInvoker {
+
+    /**
+     * 读取指定索引的静态字段值（引用类型，基本类型自动装箱）。
+     *
+     * @param index 字段索引，通过 {@code StaticFieldInvokerHelper} 获取
+     * @return 字段值
+     * @throws IllegalArgumentException 如果索引超出范围
+     */
+    public abstract Object get(int index);
+
+    /**
+     * 设置指定索引的静态字段值（引用类型，基本类型字段自动拆箱）。
+     *
+     * @param index 字段索引，通过 {@code StaticFieldInvokerHelper} 获取
+     * @param value 要设置的值
+     * @throws IllegalArgumentException 如果索引超出范围或字段为final
+     */
+    public abstract void set(int index, Object value);
+
+    // 基本类型 getter
+
+    /**
+     * 读取指定索引的 byte 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return byte 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 byte
+     */
+    public abstract byte getByte(int index);
+
+    /**
+     * 读取指定索引的 short 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return short 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 short
+     */
+    public abstract short getShort(int index);
+
+    /**
+     * 读取指定索引的 int 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return int 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 int
+     */
+    public abstract int getInt(int index);
+
+    /**
+     * 读取指定索引的 long 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return long 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 long
+     */
+    public abstract long getLong(int index);
+
+    /**
+     * 读取指定索引的 float 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return float 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 float
+     */
+    public abstract float getFloat(int index);
+
+    /**
+     * 读取指定索引的 double 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return double 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 double
+     */
+    public abstract double getDouble(int index);
+
+    /**
+     * 读取指定索引的 boolean 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return boolean 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 boolean
+     */
+    public abstract boolean getBoolean(int index);
+
+    /**
+     * 读取指定索引的 char 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @return char 类型字段值
+     * @throws IllegalArgumentException 如果索引超出范围或字段类型不是 char
+     */
+    public abstract char getChar(int index);
+
+    // 基本类型 setter
+
+    /**
+     * 设置指定索引的 byte 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 byte 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 byte
+     */
+    public abstract void setByte(int index, byte value);
+
+    /**
+     * 设置指定索引的 short 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 short 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 short
+     */
+    public abstract void setShort(int index, short value);
+
+    /**
+     * 设置指定索引的 int 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 int 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 int
+     */
+    public abstract void setInt(int index, int value);
+
+    /**
+     * 设置指定索引的 long 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 long 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 long
+     */
+    public abstract void setLong(int index, long value);
+
+    /**
+     * 设置指定索引的 float 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 float 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 float
+     */
+    public abstract void setFloat(int index, float value);
+
+    /**
+     * 设置指定索引的 double 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 double 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 double
+     */
+    public abstract void setDouble(int index, double value);
+
+    /**
+     * 设置指定索引的 boolean 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 boolean 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 boolean
+     */
+    public abstract void setBoolean(int index, boolean value);
+
+    /**
+     * 设置指定索引的 char 类型静态字段值。
+     *
+     * @param index 字段索引
+     * @param value 要设置的 char 值
+     * @throws IllegalArgumentException 如果索引超出范围、字段为final或字段类型不是 char
+     */
+    public abstract void setChar(int index, char value);
+}
@@ -4,12 +4,22 @@ package com.github.archtiger.bytebean.api.method;
  * 方法访问器抽象类，提供高性能的方法调用能力。
  * <p>
  * 该接口定义了对类方法的通用访问方法，支持多参数、基本类型参数和返回值的调用。
- * 提供了多个特化方法（如 invoke1、invoke2 等）以减少参数数组创建开销，
- * 以及基本类型特化方法（如 intInvoke、longInvoke 等）避免装箱拆箱。
+ * 提供了多个特化方法（invoke1 ~ invoke10）以减少参数数组创建开销，
+ * 以及基本类型特化方法（如 intInvoke、longInvoke 等）避免装箱拆箱；
+ * 批量方法（如 invokeAll、intInvokeAll）在一个特化循环中对多个实例调用同一个无参方法。
  * </p>
+ * <p><b>索引约定：</b></p>
+ * <ul>
+ *   <li>{@code MethodInvokerHelper} 的所有方法接收全局方法索引（{@code getMethodIndex} 的返回值），
+ *       基本类型返回值方法由其校验返回类型并映射为实际实现使用的索引</li>
+ *   <li>内部实现中，单个字节码类生成的调用器的基本类型返回值方法（intInvoke ~ charInvoke、intInvokeAll ~ charInvokeAll）
+ *       接收该返回类型的紧凑索引（同一基本类型返回值的方法按全局索引顺序编号为 0 ~ k-1，
+ *       见 {@code MethodInvokerHelper.getPrimitiveReturnIndex}）；分片字节码与MethodHandle实现以及其余方法接收全局索引</li>
+ * </ul>
+ * 生成的调用器不对外暴露，使用方应始终通过 {@code MethodInvokerHelper} 调用，以全局索引访问。
  * <p><b>使用示例：</b></p>
  * <pre>{@code
- * MethodInvoker invoker = MethodInvokerHelper.of(MyClass.class);
+ * MethodInvokerHelper invoker = MethodInvokerHelper.of(MyClass.class);
  * int addIndex = invoker.getMethodIndexOrThrow("add", int.class, int.class);
  *
  * // 使用可变参数方法
@@ -18,7 +28,7 @@ package com.github.archtiger.bytebean.api.method;
  * // 使用特化方法（性能更优）
  * int result = (int) invoker.invoke2(addIndex, instance, 10, 20);
  *
- * // 使用基本类型返回值方法
+ * // 使用基本类型返回值方法，同样传入全局索引，由 MethodInvokerHelper 映射为紧凑索引
  * int sum = invoker.intInvoke(addIndex, instance, 10, 20);
  * }</pre>
  *
@@ -108,10 +118,95 @@ public abstract class MethodInvoker {
      */
     public abstract Object invoke5(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
 
+    /**
+     * 调用六参数方法（特化版本，避免创建参数数组）。
+     *
+     * @param index    方法索引
+     * @param instance 目标实例，非null
+     * @param arg1     方法参数1
+     * @param arg2     方法参数2
+     * @param arg3     方法参数3
+     * @param arg4     方法参数4
+     * @param arg5     方法参数5
+     * @param arg6     方法参数6
+     * @return 方法返回值
+     */
+    public abstract Object invoke6(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6);
+
+    /**
+     * 调用七参数方法（特化版本，避免创建参数数组）。
+     *
+     * @param index    方法索引
+     * @param instance 目标实例，非null
+     * @param arg1     方法参数1
+     * @param arg2     方法参数2
+     * @param arg3     方法参数3
+     * @param arg4     方法参数4
+     * @param arg5     方法参数5
+     * @param arg6     方法参数6
+     * @param arg7     方法参数7
+     * @return 方法返回值
+     */
+    public abstract Object invoke7(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7);
+
+    /**
+     * 调用八参数方法（特化版本，避免创建参数数组）。
+     *
+     * @param index    方法索引
+     * @param instance 目标实例，非null
+     * @param arg1     方法参数1
+     * @param arg2     方法参数2
+     * @param arg3     方法参数3
+     * @param arg4     方法参数4
+     * @param arg5     方法参数5
+     * @param arg6     方法参数6
+     * @param arg7     方法参数7
+     * @param arg8     方法参数8
+     * @return 方法返回值
+     */
+    public abstract Object invoke8(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8);
+
+    /**
+     * 调用九参数方法（特化版本，避免创建参数数组）。
+     *
+     * @param index    方法索引
+     * @param instance 目标实例，非null
+     * @param arg1     方法参数1
+     * @param arg2     方法参数2
+     * @param arg3     方法参数3
+     * @param arg4     方法参数4
+     * @param arg5     方法参数5
+     * @param arg6     方法参数6
+     * @param arg7     方法参数7
+     * @param arg8     方法参数8
+     * @param arg9     方法参数9
+     * @return 方法返回值
+     */
+    public abstract Object invoke9(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8, Object arg9);
+
+    /**
+     * 调用十参数方法（特化版本，避免创建参数数组）。
+     *
+     * @param index    方法索引
+     * @param instance 目标实例，非null
+     * @param arg1     方法参数1
+     * @param arg2     方法参数2
+     * @param arg3     方法参数3
+     * @param arg4     方法参数4
+     * @param arg5     方法参数5
+     * @param arg6     方法参数6
+     * @param arg7     方法参数7
+     * @param arg8     方法参数8
+     * @param arg9     方法参数9
+     * @param arg10    方法参数10
+     * @return 方法返回值
+     */
+    public abstract Object invoke10(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8, Object arg9, Object arg10);
+
     /**
      * 调用指定索引的方法，返回 int 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（int 类型）
@@ -122,7 +217,7 @@ public abstract class MethodInvoker {
     /**
      * 调用指定索引的方法，返回 long 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（long 类型）
@@ -133,7 +228,7 @@ public abstract class MethodInvoker {
     /**
      * 调用指定索引的方法，返回 float 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（float 类型）
@@ -144,7 +239,7 @@ public abstract class MethodInvoker {
     /**
      * 调用指定索引的方法，返回 double 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（double 类型）
@@ -155,7 +250,7 @@ public abstract class MethodInvoker {
     /**
      * 调用指定索引的方法，返回 boolean 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（boolean 类型）
@@ -166,7 +261,7 @@ public abstract class MethodInvoker {
     /**
      * 调用指定索引的方法，返回 byte 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（byte 类型）
@@ -177,7 +272,7 @@ public abstract class MethodInvoker {
     /**
      * 调用指定索引的方法，返回 short 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（short 类型）
@@ -188,7 +283,7 @@ public abstract class MethodInvoker {
     /**
      * 调用指定索引的方法，返回 char 类型结果（避免装箱拆箱）。
      *
-     * @param index     方法索引
+     * @param index     方法索引，索引约定见类说明
      * @param instance  目标实例，非null
      * @param arguments 方法参数数组
      * @return 方法返回值（char 类型）
@@ -276,5 +371,154 @@ public abstract class MethodInvoker {
      */
     public abstract Object invokeChar1(int index, Object instance, char arg);
 
+    /**
+     * 批量调用无参方法，对 {@code instances[from..to)} 中的每个对象依次调用同一个方法并丢弃返回值。
+     * <p>
+     * 生成的实现在入口处完成一次索引分发，之后是一个针对该方法特化的循环，循环体内直接调用目标方法。
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @throws IllegalArgumentException       如果索引超出范围或方法不是无参方法
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 的范围
+     */
+    public abstract void invokeAll(int index, Object[] instances, int from, int to);
+
+    /**
+     * 批量调用无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}，基本类型返回值装箱，void方法写入null。
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围或方法不是无参方法
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void invokeAll(int index, Object[] instances, int from, int to, Object[] dest, int destPos);
+
+    /**
+     * 批量调用返回 int 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 int
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void intInvokeAll(int index, Object[] instances, int from, int to, int[] dest, int destPos);
+
+    /**
+     * 批量调用返回 long 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 long
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void longInvokeAll(int index, Object[] instances, int from, int to, long[] dest, int destPos);
+
+    /**
+     * 批量调用返回 float 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 float
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void floatInvokeAll(int index, Object[] instances, int from, int to, float[] dest, int destPos);
+
+    /**
+     * 批量调用返回 double 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 double
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void doubleInvokeAll(int index, Object[] instances, int from, int to, double[] dest, int destPos);
+
+    /**
+     * 批量调用返回 boolean 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 boolean
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void booleanInvokeAll(int index, Object[] instances, int from, int to, boolean[] dest, int destPos);
+
+    /**
+     * 批量调用返回 byte 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 byte
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void byteInvokeAll(int index, Object[] instances, int from, int to, byte[] dest, int destPos);
+
+    /**
+     * 批量调用返回 short 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 short
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void shortInvokeAll(int index, Object[] instances, int from, int to, short[] dest, int destPos);
+
+    /**
+     * 批量调用返回 char 的无参方法，将 {@code instances[from..to)} 中每个对象的返回值依次写入
+     * {@code dest[destPos..destPos + (to - from))}（避免装箱拆箱）。
+     *
+     * @param index     方法索引，索引约定见类说明
+     * @param instances 目标实例数组，区间内元素非null
+     * @param from      起始下标（包含）
+     * @param to        结束下标（不包含）
+     * @param dest      结果数组
+     * @param destPos   结果数组的起始下标
+     * @throws IllegalArgumentException       如果索引超出范围、方法不是无参方法或返回类型不是 char
+     * @throws ArrayIndexOutOfBoundsException 如果区间超出 instances 或 dest 的范围
+     */
+    public abstract void charInvokeAll(int index, Object[] instances, int from, int to, char[] dest, int destPos);
+
 }
 
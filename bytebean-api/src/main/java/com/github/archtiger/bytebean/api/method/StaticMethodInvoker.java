@@ -0,0 +1,185 @@
+package com.github.archtiger.bytebean.api.method;
+
+/**
+ * 静态方法调用器抽象类，提供按索引调用类静态方法的能力。
+ * <p>
+ * 与 {@link MethodInvoker} 对应，但调用的是目标类自身声明的 static 方法，因此所有方法都不需要实例参数。
+ * 实现类通常通过字节码生成，在 tableswitch 中直接使用 {@code INVOKESTATIC}，
+ * 适用于 {@code valueOf}、{@code parse}、{@code of} 等工厂与转换方法。
+ * </p>
+ * <p><b>使用示例：</b></p>
+ * <pre>{@code
+ * StaticMethodInvokerHelper helper = StaticMethodInvokerHelper.of(Money.class);
+ * int parseIndex = helper.getMethodIndexOrThrow("parse", String.class);
+ * int centsIndex = helper.getMethodIndexOrThrow("toCents", String.class);
+ *
+ * Money money = (Money) helper.invokeStatic1(parseIndex, "12.30");
+ * long cents = helper.longInvokeStatic(centsIndex, "12.30");
+ * }</pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public abstract class StaticMethodInvoker {
+
+    /**
+     * 调用指定索引的静态方法。
+     *
+     * @param index     方法索引，通过 {@code StaticMethodInvokerHelper} 获取
+     * @param arguments 方法参数数组，可为null表示无参方法
+     * @return 方法返回值，void方法返回null
+     * @throws IllegalArgumentException 如果索引超出范围
+     */
+    public abstract Object invokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用无参静态方法。
+     *
+     * @param index 方法索引
+     * @return 方法返回值，void方法返回null
+     * @throws IllegalArgumentException 如果索引超出范围或方法参数数量不为0
+     */
+    public abstract Object invokeStatic(int index);
+
+    /**
+     * 调用单参数静态方法（特化版本，避免创建参数数组）。
+     *
+     * @param index 方法索引
+     * @param arg1  方法参数1
+     * @return 方法返回值，void方法返回null
+     * @throws IllegalArgumentException 如果索引超出范围或方法参数数量不为1
+     */
+    public abstract Object invokeStatic1(int index, Object arg1);
+
+    /**
+     * 调用双参数静态方法（特化版本，避免创建参数数组）。
+     *
+     * @param index 方法索引
+     * @param arg1  方法参数1
+     * @param arg2  方法参数2
+     * @return 方法返回值，void方法返回null
+     * @throws IllegalArgumentException 如果索引超出范围或方法参数数量不为2
+     */
+    public abstract Object invokeStatic2(int index, Object arg1, Object arg2);
+
+    /**
+     * 调用三参数静态方法（特化版本，避免创建参数数组）。
+     *
+     * @param index 方法索引
+     * @param arg1  方法参数1
+     * @param arg2  方法参数2
+     * @param arg3  方法参数3
+     * @return 方法返回值，void方法返回null
+     * @throws IllegalArgumentException 如果索引超出范围或方法参数数量不为3
+     */
+    public abstract Object invokeStatic3(int index, Object arg1, Object arg2, Object arg3);
+
+    /**
+     * 调用四参数静态方法（特化版本，避免创建参数数组）。
+     *
+     * @param index 方法索引
+     * @param arg1  方法参数1
+     * @param arg2  方法参数2
+     * @param arg3  方法参数3
+     * @param arg4  方法参数4
+     * @return 方法返回值，void方法返回null
+     * @throws IllegalArgumentException 如果索引超出范围或方法参数数量不为4
+     */
+    public abstract Object invokeStatic4(int index, Object arg1, Object arg2, Object arg3, Object arg4);
+
+    /**
+     * 调用五参数静态方法（特化版本，避免创建参数数组）。
+     *
+     * @param index 方法索引
+     * @param arg1  方法参数1
+     * @param arg2  方法参数2
+     * @param arg3  方法参数3
+     * @param arg4  方法参数4
+     * @param arg5  方法参数5
+     * @return 方法返回值，void方法返回null
+     * @throws IllegalArgumentException 如果索引超出范围或方法参数数量不为5
+     */
+    public abstract Object invokeStatic5(int index, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5);
+
+    // 基本类型返回值
+
+    /**
+     * 调用指定索引的静态方法，返回 int 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（int 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 int
+     */
+    public abstract int intInvokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用指定索引的静态方法，返回 long 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（long 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 long
+     */
+    public abstract long longInvokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用指定索引的静态方法，返回 float 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（float 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 float
+     */
+    public abstract float floatInvokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用指定索引的静态方法，返回 double 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（double 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 double
+     */
+    public abstract double doubleInvokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用指定索引的静态方法，返回 boolean 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（boolean 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 boolean
+     */
+    public abstract boolean booleanInvokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用指定索引的静态方法，返回 byte 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（byte 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 byte
+     */
+    public abstract byte byteInvokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用指定索引的静态方法，返回 short 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（short 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 short
+     */
+    public abstract short shortInvokeStatic(int index, Object... arguments);
+
+    /**
+     * 调用指定索引的静态方法，返回 char 类型结果（避免装箱拆箱）。
+     *
+     * @param index     方法索引
+     * @param arguments 方法参数数组
+     * @return 方法返回值（char 类型）
+     * @throws IllegalArgumentException 如果索引超出范围或方法返回类型不是 char
+     */
+    public abstract char charInvokeStatic(int index, Object... arguments);
+}
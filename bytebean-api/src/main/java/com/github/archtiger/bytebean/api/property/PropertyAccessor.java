@@ -0,0 +1,123 @@
+package com.github.archtiger.bytebean.api.property;
+
+/**
+ * 嵌套属性路径访问器抽象类，绑定到某个根类上的一条属性路径（如 {@code "customer.address.city"}）。
+ * <p>
+ * 实现类在编译路径时一次性解析每一级属性（getter 或字段），生成的方法体直接串联
+ * {@code GETFIELD}/{@code INVOKEVIRTUAL}，读取整条路径只有一次虚调用，不再逐级按索引分派。
+ * 路径末端为基本类型时，实现类覆盖对应的类型化方法（如 {@link #getInt(Object)}），读取不发生装箱；
+ * 其余类型化方法保持默认实现，调用时抛出 {@link IllegalArgumentException}。
+ * </p>
+ * <p><b>使用示例：</b></p>
+ * <pre>{@code
+ * PropertyAccessor city = PropertyPath.compile(Order.class, "customer.address.city");
+ * String value = (String) city.get(order);
+ * }</pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public abstract class PropertyAccessor {
+
+    /**
+     * 读取属性值，基本类型会被装箱。
+     * <p>
+     * 空值安全模式下，路径中任意一级为null时返回null；否则抛出 {@link NullPointerException}。
+     *
+     * @param root 根对象
+     * @return 属性值
+     */
+    public abstract Object get(Object root);
+
+    /**
+     * 读取 int 类型属性值。
+     *
+     * @param root 根对象
+     * @return int 类型属性值，空值安全模式下路径中断时返回0
+     * @throws IllegalArgumentException 如果路径末端不是 int 类型
+     */
+    public int getInt(Object root) {
+        throw typeMismatch(int.class);
+    }
+
+    /**
+     * 读取 long 类型属性值。
+     *
+     * @param root 根对象
+     * @return long 类型属性值，空值安全模式下路径中断时返回0
+     * @throws IllegalArgumentException 如果路径末端不是 long 类型
+     */
+    public long getLong(Object root) {
+        throw typeMismatch(long.class);
+    }
+
+    /**
+     * 读取 float 类型属性值。
+     *
+     * @param root 根对象
+     * @return float 类型属性值，空值安全模式下路径中断时返回0
+     * @throws IllegalArgumentException 如果路径末端不是 float 类型
+     */
+    public float getFloat(Object root) {
+        throw typeMismatch(float.class);
+    }
+
+    /**
+     * 读取 double 类型属性值。
+     *
+     * @param root 根对象
+     * @return double 类型属性值，空值安全模式下路径中断时返回0
+     * @throws IllegalArgumentException 如果路径末端不是 double 类型
+     */
+    public double getDouble(Object root) {
+        throw typeMismatch(double.class);
+    }
+
+    /**
+     * 读取 boolean 类型属性值。
+     *
+     * @param root 根对象
+     * @return boolean 类型属性值，空值安全模式下路径中断时返回false
+     * @throws IllegalArgumentException 如果路径末端不是 boolean 类型
+     */
+    public boolean getBoolean(Object root) {
+        throw typeMismatch(boolean.class);
+    }
+
+    /**
+     * 读取 byte 类型属性值。
+     *
+     * @param root 根对象
+     * @return byte 类型属性值，空值安全模式下路径中断时返回0
+     * @throws IllegalArgumentException 如果路径末端不是 byte 类型
+     */
+    public byte getByte(Object root) {
+        throw typeMismatch(byte.class);
+    }
+
+    /**
+     * 读取 short 类型属性值。
+     *
+     * @param root 根对象
+     * @return short 类型属性值，空值安全模式下路径中断时返回0
+     * @throws IllegalArgumentException 如果路径末端不是 short 类型
+     */
+    public short getShort(Object root) {
+        throw typeMismatch(short.class);
+    }
+
+    /**
+     * 读取 char 类型属性值。
+     *
+     * @param root 根对象
+     * @return char 类型属性值，空值安全模式下路径中断时返回 {@code '\u0000'}
+     * @throws IllegalArgumentException 如果路径末端不是 char 类型
+     */
+    public char getChar(Object root) {
+        throw typeMismatch(char.class);
+    }
+
+    private IllegalArgumentException typeMismatch(Class<?> type) {
+        return new IllegalArgumentException("Property cannot be read as " + type.getName());
+    }
+}
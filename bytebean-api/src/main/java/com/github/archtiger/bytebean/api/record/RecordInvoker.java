@@ -0,0 +1,127 @@
+package com.github.archtiger.bytebean.api.record;
+
+/**
+ * Record 组件访问器抽象类，提供按索引读取 record 组件以及通过规范构造器创建 record 的能力。
+ * <p>
+ * 组件索引与 {@link Class#getRecordComponents()} 的声明顺序一致。实现类通过调用组件访问方法读取值，
+ * 基本类型组件可通过类型化方法（如 {@link #getInt(int, Object)}）无装箱读取；
+ * 创建实例时直接调用规范构造器，支持 {@code Object[]} 组件缓冲区以及无装箱的 {@code long[]}/{@code Object[]} 缓冲区。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public abstract class RecordInvoker {
+
+    /**
+     * 读取组件值，基本类型组件会被装箱。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return 组件值
+     * @throws IllegalArgumentException 如果索引超出范围
+     */
+    public abstract Object get(int index, Object record);
+
+    /**
+     * 读取 int 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return int 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 int
+     */
+    public abstract int getInt(int index, Object record);
+
+    /**
+     * 读取 long 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return long 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 long
+     */
+    public abstract long getLong(int index, Object record);
+
+    /**
+     * 读取 float 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return float 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 float
+     */
+    public abstract float getFloat(int index, Object record);
+
+    /**
+     * 读取 double 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return double 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 double
+     */
+    public abstract double getDouble(int index, Object record);
+
+    /**
+     * 读取 boolean 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return boolean 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 boolean
+     */
+    public abstract boolean getBoolean(int index, Object record);
+
+    /**
+     * 读取 byte 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return byte 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 byte
+     */
+    public abstract byte getByte(int index, Object record);
+
+    /**
+     * 读取 short 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return short 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 short
+     */
+    public abstract short getShort(int index, Object record);
+
+    /**
+     * 读取 char 类型组件值。
+     *
+     * @param index  组件索引
+     * @param record record实例，非null
+     * @return char 类型组件值
+     * @throws IllegalArgumentException 如果索引超出范围或组件类型不是 char
+     */
+    public abstract char getChar(int index, Object record);
+
+    /**
+     * 通过规范构造器创建 record 实例。
+     *
+     * @param components 按组件索引排列的组件值，基本类型组件会自动拆箱
+     * @return 新创建的 record 实例
+     * @throws ArrayIndexOutOfBoundsException 如果缓冲区长度小于组件数量
+     */
+    public abstract Object newInstance(Object[] components);
+
+    /**
+     * 通过规范构造器创建 record 实例，基本类型组件不经过装箱。
+     * <p>
+     * 两个缓冲区均按组件索引定位：基本类型组件从 {@code primitives[index]} 解码
+     * （float、double 为原始位，boolean 非0即true，其余整数类型截断），引用类型组件取自 {@code references[index]}。
+     *
+     * @param primitives 基本类型组件缓冲区，长度不小于组件数量
+     * @param references 引用类型组件缓冲区，长度不小于组件数量
+     * @return 新创建的 record 实例
+     * @throws ArrayIndexOutOfBoundsException 如果缓冲区长度小于组件数量
+     */
+    public abstract Object newInstance(long[] primitives, Object[] references);
+}
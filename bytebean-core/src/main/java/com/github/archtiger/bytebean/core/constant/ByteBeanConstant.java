@@ -13,17 +13,93 @@ public interface ByteBeanConstant {
     String INVOKER_NAME_PREFIX = "ByteBean";
 
     /**
-     * 方法分片阈值，当方法数超过此值时使用MethodHandle而非字节码。
+     * 方法分片阈值，当方法数超过此值时将字节码拆分为多个分片类。
      */
     int METHOD_SHARDING_THRESHOLD_VALUE = 400;
 
     /**
-     * 字段分片阈值，当字段数超过此值时使用VarHandle而非字节码。
+     * 方法分片位移，每个分片覆盖 {@code 1 << METHOD_SHARD_SHIFT} 个方法索引。
+     * <p>
+     * 方法分支需要从参数数组中取值并拆箱，单个 case 远大于字段访问，因此分片比字段更小。
+     */
+    int METHOD_SHARD_SHIFT = 7;
+
+    /**
+     * 方法分片最大数量，当方法数超过 {@code METHOD_SHARD_MAX_COUNT << METHOD_SHARD_SHIFT} 时使用MethodHandle而非字节码。
+     */
+    int METHOD_SHARD_MAX_COUNT = 16;
+
+    /**
+     * 批量调用分组位移，生成的 {@code invokeAll} 等方法每 {@code 1 << METHOD_BATCH_GROUP_SHIFT} 个方法的循环放入一个私有方法。
+     * <p>
+     * 每个循环约 45 字节，全部放在一个方法中时两百个方法即超过 HotSpot 的 {@code HugeMethodLimit}（8000 字节），
+     * 整个方法不会被 JIT 编译；按组拆分后单个方法约 1.6KB，入口方法只按组做一次 tableswitch 分发。
+     */
+    int METHOD_BATCH_GROUP_SHIFT = 5;
+
+    /**
+     * 字段分片阈值，当字段数超过此值时将字节码拆分为多个分片类。
      */
     int FIELD_SHARDING_THRESHOLD_VALUE = 500;
 
+    /**
+     * 字段分片位移，每个分片覆盖 {@code 1 << FIELD_SHARD_SHIFT} 个字段索引。
+     * <p>
+     * 单个分片的 setter 方法约 16 字节/字段，256 个字段时仍远低于 JIT 的 HugeMethodLimit(8000 字节)。
+     */
+    int FIELD_SHARD_SHIFT = 8;
+
+    /**
+     * 字段分片最大数量，当字段数超过 {@code FIELD_SHARD_MAX_COUNT << FIELD_SHARD_SHIFT} 时使用VarHandle而非字节码。
+     */
+    int FIELD_SHARD_MAX_COUNT = 16;
+
+    /**
+     * 隐藏嵌套成员模式开关（系统属性），默认关闭。
+     * <p>
+     * 设置为 {@code true} 且能取得目标类的完全权限Lookup时，调用器定义为目标类的隐藏嵌套成员，
+     * private字段、方法与构造器进入索引空间；关闭时索引空间只包含非private成员。
+     * 该属性只在类定义工具初始化时读取一次，之后修改不生效，应通过启动参数 {@code -Dbytebean.private.access=true} 设置，
+     * 保证同一JVM中所有调用器、Helper与成员索引使用同一种索引空间。
+     */
+    String PRIVATE_ACCESS_PROPERTY = "bytebean.private.access";
+
+    /**
+     * 字段回退实现配置项（系统属性），字段数量超出分片上限时选择回退实现：
+     * <ul>
+     *   <li>{@code auto}（默认）：JDK 版本低于 {@link #FIELD_FALLBACK_OFFSET_MAX_FEATURE} 且偏移量实现可用时使用偏移量实现，否则使用VarHandle实现</li>
+     *   <li>{@code offset}：偏移量实现可用时总是使用，否则使用VarHandle实现</li>
+     *   <li>{@code varhandle}：总是使用VarHandle实现</li>
+     * </ul>
+     * 偏移量实现不可用指运行时不提供 {@code sun.misc.Unsafe}，或目标类为隐藏类、record。
+     * <p>
+     * 自动选择依据 {@code FieldFallbackBenchmark}（JDK 17，1000字段实体）：偏移量实现的单字段读写约 4~7ns，
+     * VarHandle实现约 8~13ns；批量读取1000个基本类型字段偏移量实现约 3.5μs，VarHandle实现约 770μs。
+     */
+    String FIELD_FALLBACK_PROPERTY = "bytebean.field.fallback";
+
+    /**
+     * 自动选择偏移量实现的JDK版本上限（不含）。
+     * <p>
+     * JDK 24 起 {@code sun.misc.Unsafe} 的内存访问方法首次使用时默认输出告警并终将移除（JEP 471、JEP 498），
+     * 自此版本起自动选择VarHandle实现，仍可通过 {@code offset} 显式启用偏移量实现。
+     */
+    int FIELD_FALLBACK_OFFSET_MAX_FEATURE = 24;
+
     /**
      * 构造器分片阈值，当构造器数超过此值时使用MethodHandle而非字节码。
      */
     int CONSTRUCTOR_SHARDING_THRESHOLD_VALUE = 20;
+
+    /**
+     * 并行提取的拆分粒度，{@code FieldExtractor.parallelExtract} 中单个任务最多处理的元素数量；
+     * 元素数量不超过此值时直接在调用线程中顺序提取。
+     */
+    int EXTRACT_PARALLEL_SPLIT_SIZE = 1 << 15;
+
+    /**
+     * 并行批量调用的拆分粒度，{@code MethodInvokerHelper.parallelInvokeAll} 等方法中单个任务最多处理的实例数量；
+     * 实例数量不超过此值时直接在调用线程中顺序调用。方法调用通常比字段读取重，因此粒度小于字段提取。
+     */
+    int INVOKE_ALL_PARALLEL_SPLIT_SIZE = 1 << 12;
 }
@@ -5,12 +5,12 @@ import com.github.archtiger.bytebean.api.constructor.ConstructorInvoker;
 import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
 import com.github.archtiger.bytebean.core.model.ConstructorInvokerResult;
 import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
 import com.github.archtiger.bytebean.core.utils.NameUtil;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.asm.AsmVisitorWrapper;
 import net.bytebuddy.description.modifier.TypeManifestation;
 import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.jar.asm.ClassWriter;
 
 import java.lang.reflect.Constructor;
@@ -52,16 +52,13 @@ public final class ConstructorInvokerGenerator {
 
         // 步骤2: 构造生成类的全限定名
         final String invokerName = NameUtil.calcInvokerName(targetClass, ConstructorInvoker.class);
-        try {
-            final Class<?> aClass = Class.forName(invokerName, false, targetClass.getClassLoader())
-                    .asSubclass(ConstructorInvoker.class);
-            return ConstructorInvokerResult.success((Class<? extends ConstructorInvoker>) aClass, Collections.unmodifiableList(constructors));
-        } catch (ClassNotFoundException e) {
-            // Class not generated yet, continue with ByteBuddy generation.
+        final Class<? extends ConstructorInvoker> existingClass = ClassDefineUtil.findInvokerClass(targetClass, invokerName, ConstructorInvoker.class);
+        if (existingClass != null) {
+            return ConstructorInvokerResult.success(existingClass, Collections.unmodifiableList(constructors));
         }
 
         // 步骤3: 使用 ByteBuddy 动态生成类
-        final Class<? extends ConstructorInvoker> invokerClass = new ByteBuddy()
+        final Class<? extends ConstructorInvoker> invokerClass = ClassDefineUtil.define(targetClass, new ByteBuddy()
                 .subclass(ConstructorInvoker.class)
                 .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
                 // 设置生成类的名称
@@ -80,9 +77,7 @@ public final class ConstructorInvokerGenerator {
                         .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
                 )
                 // 生成字节码
-                .make()
-                .load(targetClass.getClassLoader(), ClassLoadingStrategy.Default.INJECTION)
-                .getLoaded();
+                .make());
 
         return ConstructorInvokerResult.success(invokerClass, Collections.unmodifiableList(constructors));
     }
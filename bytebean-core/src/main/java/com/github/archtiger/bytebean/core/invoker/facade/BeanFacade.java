@@ -0,0 +1,366 @@
+package com.github.archtiger.bytebean.core.invoker.facade;
+
+import cn.hutool.core.convert.BasicType;
+import com.github.archtiger.bytebean.core.model.FacadeMember;
+import com.github.archtiger.bytebean.core.model.SimpleClassValue;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 类型化门面生成器
+ * <p>
+ * 为用户声明的门面接口生成实现类，每个抽象方法的第一个参数为目标实例，其余参数与返回值保持精确签名：
+ * <pre>{@code
+ * interface UserOps {
+ *     int age(User u);              // 绑定 getAge() 或字段 age
+ *     void setAge(User u, int v);   // 绑定 setAge(int) 或字段 age
+ *     String name(User u);          // 绑定 getName() 或字段 name
+ *     boolean rename(User u, String name);
+ * }
+ *
+ * UserOps ops = BeanFacade.of(UserOps.class, User.class);
+ * int age = ops.age(user);
+ * }</pre>
+ * <ul>
+ *   <li>启动时解析一次：优先绑定同名且参数类型完全一致的实例方法；没有额外参数且有返回值时绑定属性的getter
+ *   或字段（门面方法名可以是属性名，也可以带 {@code get}/{@code is} 前缀）；只有一个额外参数且返回void时绑定
+ *   setter或非final字段。访问规则与 {@code MethodInvokerHelper}/{@code FieldInvokerHelper} 一致</li>
+ *   <li>生成的方法直接使用 {@code INVOKEVIRTUAL}/{@code INVOKEINTERFACE}/{@code GETFIELD}/{@code PUTFIELD}，
+ *   不经过 {@code tableswitch}，也不装箱，调用点为单态，可被JIT完全内联</li>
+ *   <li>基本类型按 JLS 拓宽转换（如 int 返回值可声明为 long），引用类型按需强转，不支持装箱与拆箱</li>
+ *   <li>生成的实现按目标类、门面接口缓存</li>
+ * </ul>
+ * <p>
+ * {@link #function(Class, Class, Member)} 用同样的方式为 {@code java.util.function} 等单抽象方法接口生成绑定到
+ * 指定成员的实现（如 {@code ToIntFunction<User>} 直接调用 {@code getAge()}），不捕获任何状态；
+ * 由于这些接口的参数与返回值多为擦除后的 {@code Object}，此时允许装箱与拆箱。
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class BeanFacade {
+
+    /**
+     * 门面实例缓存，按目标类、门面接口索引。
+     */
+    private static final ClassValue<Map<Class<?>, Object>> FACADE_CACHE =
+            new SimpleClassValue<>(k -> new ConcurrentHashMap<>());
+
+    /**
+     * 函数式接口实例缓存，按目标类、（函数式接口, 成员）索引。
+     */
+    private static final ClassValue<Map<List<Object>, Object>> FUNCTION_CACHE =
+            new SimpleClassValue<>(k -> new ConcurrentHashMap<>());
+
+    private BeanFacade() {
+    }
+
+    /**
+     * 获取门面接口的生成实现
+     *
+     * @param facadeType  门面接口
+     * @param targetClass 目标类
+     * @param <T>         门面类型
+     * @return 门面实现，线程安全，可长期持有
+     * @throws IllegalArgumentException 当门面类型不是接口、对目标类不可访问，或存在无法绑定的抽象方法时抛出
+     */
+    public static <T> T of(Class<T> facadeType, Class<?> targetClass) {
+        return facadeType.cast(FACADE_CACHE.get(targetClass).computeIfAbsent(facadeType, k -> {
+            checkFacadeType(facadeType, targetClass);
+            final List<FacadeMember> facadeMembers = new ArrayList<>();
+            for (Method facadeMethod : facadeMethods(facadeType)) {
+                facadeMembers.add(resolve(targetClass, facadeMethod));
+            }
+            return newInstance(FacadeGenerator.make(facadeType, targetClass, facadeMembers));
+        }));
+    }
+
+    /**
+     * 获取绑定到指定成员的函数式接口实现
+     * <p>
+     * 函数式接口的唯一抽象方法的第一个参数为目标实例：
+     * <ul>
+     *   <li>方法：其余参数与方法参数一一对应，如 {@code ToIntFunction} 绑定无参 {@code int} 方法，
+     *   {@code ObjIntConsumer} 绑定一个 {@code int} 参数的方法；函数式方法返回void时丢弃方法的返回值</li>
+     *   <li>字段：没有其余参数且有返回值时读取字段（如 {@code ToIntFunction}、{@code Function}），
+     *   只有一个其余参数且返回void时写入非final字段（如 {@code ObjIntConsumer}、{@code BiConsumer}）</li>
+     * </ul>
+     * 参数与返回值按 JLS 拓宽转换、装箱或拆箱、引用强转适配，传入 {@code null} 拆箱时抛出 {@link NullPointerException}。
+     *
+     * @param functionalType 函数式接口，如 {@code ToIntFunction.class}
+     * @param targetClass    目标类
+     * @param member         目标类的实例方法或实例字段
+     * @param <F>            函数式接口类型
+     * @return 函数式接口实现，线程安全，可长期持有
+     * @throws IllegalArgumentException 当接口不是单抽象方法接口、对目标类不可访问，或成员无法绑定到其抽象方法时抛出
+     */
+    public static <F> F function(Class<F> functionalType, Class<?> targetClass, Member member) {
+        return functionalType.cast(FUNCTION_CACHE.get(targetClass).computeIfAbsent(List.of(functionalType, member), k -> {
+            checkFacadeType(functionalType, targetClass);
+            final List<Method> methods = facadeMethods(functionalType);
+            if (methods.size() != 1) {
+                throw new IllegalArgumentException("Functional type must declare exactly one abstract method: "
+                        + functionalType.getName());
+            }
+            final FacadeMember facadeMember = resolveFunction(targetClass, methods.get(0), member);
+            return newInstance(FacadeGenerator.make(functionalType, targetClass, List.of(facadeMember)));
+        }));
+    }
+
+    private static Object newInstance(Class<?> facadeClass) {
+        try {
+            return facadeClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 检查门面类型：必须是接口，且生成的实现类（以目标类的身份定义）能够引用它
+     *
+     * @param facadeType  门面接口
+     * @param targetClass 目标类
+     */
+    private static void checkFacadeType(Class<?> facadeType, Class<?> targetClass) {
+        if (!facadeType.isInterface()) {
+            throw new IllegalArgumentException("Facade type must be an interface: " + facadeType.getName());
+        }
+        if (!ByteBeanReflectUtil.isTypeAccessible(targetClass, facadeType) || !isVisible(targetClass, facadeType)) {
+            throw new IllegalArgumentException("Facade type " + facadeType.getName()
+                    + " is not accessible from " + targetClass.getName());
+        }
+    }
+
+    /**
+     * 判断门面接口能否从目标类的类加载器按名称解析为同一个类
+     */
+    private static boolean isVisible(Class<?> targetClass, Class<?> facadeType) {
+        try {
+            return Class.forName(facadeType.getName(), false, targetClass.getClassLoader()) == facadeType;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 获取需要实现的抽象方法，跳过default方法以及与 {@link Object} 的public方法签名相同的方法
+     *
+     * @param facadeType 门面接口
+     * @return 按方法名、参数数量排序的抽象方法
+     */
+    private static List<Method> facadeMethods(Class<?> facadeType) {
+        final List<Method> methods = new ArrayList<>();
+        for (Method method : facadeType.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            methods.add(method);
+        }
+        methods.sort(Comparator.comparing(Method::getName).thenComparingInt(Method::getParameterCount));
+        return methods;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 为门面方法绑定目标成员
+     *
+     * @param targetClass  目标类
+     * @param facadeMethod 门面方法
+     * @return 门面方法与目标成员的绑定
+     */
+    private static FacadeMember resolve(Class<?> targetClass, Method facadeMethod) {
+        final Class<?>[] argumentTypes = argumentTypes(targetClass, facadeMethod);
+        final Class<?> returnType = facadeMethod.getReturnType();
+        final String name = facadeMethod.getName();
+
+        // 1. 同名且参数类型完全一致的实例方法
+        final Method method = ByteBeanReflectUtil.findMethod(targetClass, name, argumentTypes);
+        if (method != null && (returnType == void.class || isConvertible(method.getReturnType(), returnType))) {
+            final FacadeMember facadeMember = bind(targetClass, facadeMethod, method, false);
+            if (facadeMember != null) {
+                return facadeMember;
+            }
+        }
+
+        // 2. 属性读取：getter 或字段
+        if (argumentTypes.length == 0 && returnType != void.class) {
+            final String property = propertyName(name, "get", "is");
+            final String suffix = capitalize(property);
+            for (String getterName : new String[]{"get" + suffix, "is" + suffix}) {
+                final Method getter = ByteBeanReflectUtil.findMethod(targetClass, getterName);
+                if (getter != null && getter.getReturnType() != void.class && isConvertible(getter.getReturnType(), returnType)) {
+                    final FacadeMember facadeMember = bind(targetClass, facadeMethod, getter, false);
+                    if (facadeMember != null) {
+                        return facadeMember;
+                    }
+                }
+            }
+            final Field field = ByteBeanReflectUtil.findField(targetClass, property);
+            if (field != null && isConvertible(field.getType(), returnType)) {
+                final FacadeMember facadeMember = bind(targetClass, facadeMethod, field, false);
+                if (facadeMember != null) {
+                    return facadeMember;
+                }
+            }
+        }
+
+        // 3. 属性写入：setter 或非final字段
+        if (argumentTypes.length == 1 && returnType == void.class) {
+            final String property = propertyName(name, "set");
+            final Method setter = ByteBeanReflectUtil.findMethod(targetClass, "set" + capitalize(property), argumentTypes);
+            if (setter != null) {
+                final FacadeMember facadeMember = bind(targetClass, facadeMethod, setter, false);
+                if (facadeMember != null) {
+                    return facadeMember;
+                }
+            }
+            final Field field = ByteBeanReflectUtil.findField(targetClass, property);
+            if (field != null && !Modifier.isFinal(field.getModifiers()) && isConvertible(argumentTypes[0], field.getType())) {
+                final FacadeMember facadeMember = bind(targetClass, facadeMethod, field, true);
+                if (facadeMember != null) {
+                    return facadeMember;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Cannot resolve facade method " + facadeMethod + " on " + targetClass.getName());
+    }
+
+    /**
+     * 将函数式方法绑定到指定成员
+     *
+     * @param targetClass      目标类
+     * @param functionalMethod 函数式接口的抽象方法
+     * @param member           目标方法或字段
+     * @return 函数式方法与目标成员的绑定
+     */
+    private static FacadeMember resolveFunction(Class<?> targetClass, Method functionalMethod, Member member) {
+        final Class<?>[] argumentTypes = argumentTypes(targetClass, functionalMethod);
+        final Class<?> returnType = functionalMethod.getReturnType();
+
+        FacadeMember facadeMember = null;
+        if (!Modifier.isStatic(member.getModifiers()) && member.getDeclaringClass().isAssignableFrom(targetClass)) {
+            if (member instanceof Method method) {
+                if (isAdaptable(argumentTypes, method.getParameterTypes())
+                        && (returnType == void.class
+                        || method.getReturnType() != void.class && isAdaptable(method.getReturnType(), returnType))) {
+                    facadeMember = bind(targetClass, functionalMethod, method, false);
+                }
+            } else if (member instanceof Field field) {
+                if (argumentTypes.length == 0 && returnType != void.class && isAdaptable(field.getType(), returnType)) {
+                    facadeMember = bind(targetClass, functionalMethod, field, false);
+                } else if (argumentTypes.length == 1 && returnType == void.class
+                        && !Modifier.isFinal(field.getModifiers()) && isAdaptable(argumentTypes[0], field.getType())) {
+                    facadeMember = bind(targetClass, functionalMethod, field, true);
+                }
+            }
+        }
+
+        if (facadeMember == null) {
+            throw new IllegalArgumentException("Cannot bind " + member + " to functional method " + functionalMethod);
+        }
+        return facadeMember;
+    }
+
+    /**
+     * 检查方法的第一个参数能否接收目标实例，返回其余参数类型
+     */
+    private static Class<?>[] argumentTypes(Class<?> targetClass, Method facadeMethod) {
+        final Class<?>[] paramTypes = facadeMethod.getParameterTypes();
+        if (paramTypes.length == 0 || paramTypes[0].isPrimitive()
+                || !(paramTypes[0].isAssignableFrom(targetClass) || targetClass.isAssignableFrom(paramTypes[0]))) {
+            throw new IllegalArgumentException("First parameter of facade method " + facadeMethod
+                    + " must accept " + targetClass.getName());
+        }
+        return Arrays.copyOfRange(paramTypes, 1, paramTypes.length);
+    }
+
+    /**
+     * 创建绑定，成员对生成的类不可访问时返回null
+     */
+    private static FacadeMember bind(Class<?> targetClass, Method facadeMethod, Member member, boolean write) {
+        final Class<?> owner = Modifier.isPrivate(member.getModifiers()) ? member.getDeclaringClass() : targetClass;
+        if (!ByteBeanReflectUtil.isMemberAccessible(targetClass, owner, member)) {
+            return null;
+        }
+        return new FacadeMember(facadeMethod, owner, member, write);
+    }
+
+    /**
+     * 判断 from 类型的值能否不经装箱传给 to 类型：类型相同、基本类型拓宽转换，或引用类型可赋值（to 是 from 的父类型）
+     */
+    private static boolean isConvertible(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+        if (from.isPrimitive() || to.isPrimitive()) {
+            return ByteBeanReflectUtil.isWidening(from, to);
+        }
+        return to.isAssignableFrom(from);
+    }
+
+    /**
+     * 判断参数列表能否逐个适配，见 {@link #isAdaptable(Class, Class)}
+     */
+    private static boolean isAdaptable(Class<?>[] from, Class<?>[] to) {
+        if (from.length != to.length) {
+            return false;
+        }
+        for (int i = 0; i < from.length; i++) {
+            if (!isAdaptable(from[i], to[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 在 {@link #isConvertible(Class, Class)} 的基础上允许装箱与拆箱：基本类型可传给其包装类型的父类型，
+     * 包装类型的父类型（如 {@code Object}、{@code Number}）可拆箱为基本类型（运行时强转为包装类型）。
+     * 函数式接口的泛型参数擦除为上界，引用类型也允许向下转型（运行时强转），但两种类型必须存在继承关系
+     */
+    private static boolean isAdaptable(Class<?> from, Class<?> to) {
+        if (from.isPrimitive() && !to.isPrimitive()) {
+            return to.isAssignableFrom(BasicType.wrap(from));
+        }
+        if (!from.isPrimitive() && to.isPrimitive()) {
+            return from.isAssignableFrom(BasicType.wrap(to));
+        }
+        return isConvertible(from, to) || !from.isPrimitive() && from.isAssignableFrom(to);
+    }
+
+    /**
+     * 去掉门面方法名的属性前缀（如 {@code getAge} → {@code age}），没有前缀时原样返回
+     */
+    private static String propertyName(String name, String... prefixes) {
+        for (String prefix : prefixes) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)
+                    && Character.isUpperCase(name.charAt(prefix.length()))) {
+                return Character.toLowerCase(name.charAt(prefix.length())) + name.substring(prefix.length() + 1);
+            }
+        }
+        return name;
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.archtiger.bytebean.core.invoker.facade;
+
+import com.github.archtiger.bytebean.core.model.FacadeMember;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.NameUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.MethodManifestation;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.jar.asm.ClassWriter;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 门面实现类生成器
+ * <p>
+ * 为门面接口与目标类生成一个final实现类，类名为 {@code Target$$ByteBean$BeanFacade$<sequence>}，
+ * 以目标类的身份定义（见 {@link ClassDefineUtil}），每个抽象方法都直接访问绑定的目标成员。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+final class FacadeGenerator {
+
+    /**
+     * 生成类名序号，同一目标类上的不同门面接口使用不同的类名。
+     */
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private FacadeGenerator() {
+    }
+
+    /**
+     * 生成门面实现类
+     *
+     * @param facadeType    门面接口
+     * @param targetClass   目标类
+     * @param facadeMembers 已解析的门面方法绑定
+     * @return 生成的实现类
+     */
+    static Class<?> make(Class<?> facadeType, Class<?> targetClass, List<FacadeMember> facadeMembers) {
+        final String facadeName = NameUtil.calcInvokerName(targetClass, BeanFacade.class) + "$" + SEQUENCE.getAndIncrement();
+
+        DynamicType.Builder<Object> builder = new ByteBuddy()
+                .subclass(Object.class)
+                .implement(facadeType)
+                .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
+                .name(facadeName);
+
+        for (FacadeMember facadeMember : facadeMembers) {
+            final Method facadeMethod = facadeMember.facadeMethod();
+            builder = builder
+                    .defineMethod(facadeMethod.getName(), facadeMethod.getReturnType(), Visibility.PUBLIC, MethodManifestation.FINAL)
+                    .withParameters(facadeMethod.getParameterTypes())
+                    .intercept(new FacadeMethodByteCode(facadeMember));
+        }
+
+        return ClassDefineUtil.define(targetClass, builder
+                // 自动计算
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make());
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.archtiger.bytebean.core.invoker.facade;
+
+import com.github.archtiger.bytebean.core.model.FacadeMember;
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * 门面方法字节码实现，为门面接口的一个抽象方法生成直接访问目标成员的方法体。
+ * <p>
+ * 生成的字节码等价于：
+ * <pre>
+ * return ((User) u).getAge();          // 方法或getter
+ * return ((User) u).age;               // 字段读取
+ * ((User) u).age = v;                  // 字段写入
+ * </pre>
+ * 参数与返回值保持门面方法声明的精确签名，不经过 {@code tableswitch}，也不装箱；
+ * 基本类型按 JLS 拓宽转换，引用类型在需要时执行 {@code CHECKCAST}，门面方法返回void时丢弃成员的返回值；
+ * 函数式接口（见 {@link BeanFacade#function}）中擦除为 {@code Object} 的参数与返回值按需装箱或拆箱。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: 目标实例
+ * slot 2..: 其余参数，按类型占用 1 或 2 个槽位
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+final class FacadeMethodByteCode implements Implementation {
+
+    /**
+     * 门面方法与目标成员的绑定。
+     */
+    private final FacadeMember facadeMember;
+
+    /**
+     * 构造函数。
+     *
+     * @param facadeMember 门面方法与目标成员的绑定
+     */
+    FacadeMethodByteCode(FacadeMember facadeMember) {
+        this.facadeMember = facadeMember;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final Method facadeMethod = facadeMember.facadeMethod();
+            final Class<?>[] facadeParamTypes = facadeMethod.getParameterTypes();
+            final String owner = Type.getInternalName(facadeMember.ownerClass());
+
+            // 加载并强转目标实例
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+
+            // 加载其余参数，并适配为成员的参数类型
+            final Class<?>[] memberParamTypes = facadeMember.member() instanceof Method method
+                    ? method.getParameterTypes()
+                    : facadeMember.write() ? new Class<?>[]{((Field) facadeMember.member()).getType()} : new Class<?>[0];
+            int slot = 2;
+            for (int i = 1; i < facadeParamTypes.length; i++) {
+                mv.visitVarInsn(AsmUtil.getLoadOpcode(facadeParamTypes[i]), slot);
+                adapt(mv, facadeParamTypes[i], memberParamTypes[i - 1]);
+                slot += AsmUtil.slotSize(facadeParamTypes[i]);
+            }
+
+            // 访问目标成员
+            if (facadeMember.member() instanceof Method method) {
+                AsmUtil.invokeMethod(mv, facadeMember.ownerClass(), method);
+            } else {
+                final Field field = (Field) facadeMember.member();
+                mv.visitFieldInsn(facadeMember.write() ? Opcodes.PUTFIELD : Opcodes.GETFIELD,
+                        owner, field.getName(), Type.getDescriptor(field.getType()));
+            }
+
+            // 处理返回值
+            final Class<?> valueType = facadeMember.valueType();
+            final Class<?> returnType = facadeMethod.getReturnType();
+            if (returnType == void.class) {
+                if (valueType != void.class) {
+                    mv.visitInsn(AsmUtil.slotSize(valueType) == 2 ? Opcodes.POP2 : Opcodes.POP);
+                }
+            } else {
+                adapt(mv, valueType, returnType);
+            }
+            mv.visitInsn(AsmUtil.getReturnOpcode(returnType));
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    /**
+     * 将栈顶的值从 from 类型适配为 to 类型
+     * <p>
+     * 调用方需保证两者兼容（见 {@link BeanFacade}）：基本类型之间为拓宽转换，基本类型与引用类型之间装箱或拆箱，
+     * 引用类型之间按需强转。
+     *
+     * @param mv   方法访问器
+     * @param from 栈顶值的类型
+     * @param to   目标类型
+     */
+    private static void adapt(MethodVisitor mv, Class<?> from, Class<?> to) {
+        if (from == to) {
+            return;
+        }
+        if (from.isPrimitive() && to.isPrimitive()) {
+            AsmUtil.widen(mv, from, to);
+        } else if (from.isPrimitive()) {
+            AsmUtil.boxIfNeeded(mv, from);
+        } else if (to.isPrimitive()) {
+            AsmUtil.unboxIfNeeded(mv, to);
+        } else if (!to.isAssignableFrom(from)) {
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(to));
+        }
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * 单字段访问器批量读取字节码实现，为类型化FieldAccessor生成按区间提取字段值的循环。
+ * <p>
+ * 数组来源（{@code getXxxs(Object[], ...)}）生成的字节码等价于：
+ * <pre>
+ * int delta = destPos - from;
+ * for (int i = from; i &lt; to; i++) {
+ *     dest[i + delta] = ((Target) source[i]).field;
+ * }
+ * </pre>
+ * 列表来源（{@code getXxxs(List, ...)}）对 {@link RandomAccess} 列表以 {@code source.get(i)} 代替数组读取，
+ * 其余列表使用 {@code source.listIterator(from)} 顺序读取，避免链表按下标访问的平方开销。
+ * 循环体内没有索引分发，字段读取针对单个字段特化，JIT 可以直接展开循环。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object[] source 或 List source
+ * slot 2: int from
+ * slot 3: int to
+ * slot 4: xxx[] dest
+ * slot 5: int destPos
+ * slot 6: int i
+ * slot 7: int delta
+ * slot 8: ListIterator iterator（仅非随机访问列表）
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldAccessorExtractByteCode implements Implementation {
+
+    private static final String LIST = Type.getInternalName(List.class);
+
+    private static final String LIST_ITERATOR = Type.getInternalName(ListIterator.class);
+
+    /**
+     * 目标类，用于元素类型转换。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 访问的字段，必须为基本类型。
+     */
+    private final Field field;
+
+    /**
+     * 来源是否为 {@link List}，否则为 {@code Object[]}。
+     */
+    private final boolean listSource;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass 目标类
+     * @param field       访问的字段
+     * @param listSource  来源是否为 {@link List}
+     */
+    public FieldAccessorExtractByteCode(Class<?> targetClass, Field field, boolean listSource) {
+        this.targetClass = targetClass;
+        this.field = field;
+        this.listSource = listSource;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            // delta = destPos - from
+            mv.visitVarInsn(Opcodes.ILOAD, 5);
+            mv.visitVarInsn(Opcodes.ILOAD, 2);
+            mv.visitInsn(Opcodes.ISUB);
+            mv.visitVarInsn(Opcodes.ISTORE, 7);
+
+            if (!listSource) {
+                visitLoop(mv, () -> {
+                    mv.visitVarInsn(Opcodes.ALOAD, 1);
+                    mv.visitVarInsn(Opcodes.ILOAD, 6);
+                    mv.visitInsn(Opcodes.AALOAD);
+                });
+                mv.visitInsn(Opcodes.RETURN);
+                return ByteCodeAppender.Size.ZERO;
+            }
+
+            // if (source instanceof RandomAccess): source.get(i)
+            Label sequential = new Label();
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(RandomAccess.class));
+            mv.visitJumpInsn(Opcodes.IFEQ, sequential);
+            visitLoop(mv, () -> {
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitVarInsn(Opcodes.ILOAD, 6);
+                mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, LIST, "get", "(I)Ljava/lang/Object;", true);
+            });
+            mv.visitInsn(Opcodes.RETURN);
+
+            // else: iterator = source.listIterator(from); iterator.next()
+            mv.visitLabel(sequential);
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitVarInsn(Opcodes.ILOAD, 2);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, LIST, "listIterator", "(I)Ljava/util/ListIterator;", true);
+            mv.visitVarInsn(Opcodes.ASTORE, 8);
+            visitLoop(mv, () -> {
+                mv.visitVarInsn(Opcodes.ALOAD, 8);
+                mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, LIST_ITERATOR, "next", "()Ljava/lang/Object;", true);
+            });
+            mv.visitInsn(Opcodes.RETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    /**
+     * 生成 {@code for (i = from; i < to; i++) dest[i + delta] = ((Target) element).field;}，
+     * 由 {@code loadElement} 将当前元素压栈。
+     */
+    private void visitLoop(MethodVisitor mv, Runnable loadElement) {
+        Label loop = new Label();
+        Label end = new Label();
+
+        // i = from
+        mv.visitVarInsn(Opcodes.ILOAD, 2);
+        mv.visitVarInsn(Opcodes.ISTORE, 6);
+
+        // while (i < to)
+        mv.visitLabel(loop);
+        mv.visitVarInsn(Opcodes.ILOAD, 6);
+        mv.visitVarInsn(Opcodes.ILOAD, 3);
+        mv.visitJumpInsn(Opcodes.IF_ICMPGE, end);
+
+        // dest[i + delta] = ((Target) element).field
+        mv.visitVarInsn(Opcodes.ALOAD, 4);
+        mv.visitVarInsn(Opcodes.ILOAD, 6);
+        mv.visitVarInsn(Opcodes.ILOAD, 7);
+        mv.visitInsn(Opcodes.IADD);
+        loadElement.run();
+        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(targetClass));
+        mv.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(field.getDeclaringClass()),
+                field.getName(), Type.getDescriptor(field.getType()));
+        mv.visitInsn(Type.getType(field.getType()).getOpcode(Opcodes.IASTORE));
+
+        // i++
+        mv.visitIincInsn(6, 1);
+        mv.visitJumpInsn(Opcodes.GOTO, loop);
+
+        mv.visitLabel(end);
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
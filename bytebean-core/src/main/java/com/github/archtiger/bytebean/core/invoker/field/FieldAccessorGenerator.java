@@ -0,0 +1,118 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.BooleanFieldAccessor;
+import com.github.archtiger.bytebean.api.field.ByteFieldAccessor;
+import com.github.archtiger.bytebean.api.field.CharFieldAccessor;
+import com.github.archtiger.bytebean.api.field.DoubleFieldAccessor;
+import com.github.archtiger.bytebean.api.field.FieldAccessor;
+import com.github.archtiger.bytebean.api.field.FloatFieldAccessor;
+import com.github.archtiger.bytebean.api.field.IntFieldAccessor;
+import com.github.archtiger.bytebean.api.field.LongFieldAccessor;
+import com.github.archtiger.bytebean.api.field.ShortFieldAccessor;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.NameUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.jar.asm.ClassWriter;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * 单字段访问器生成器
+ * <p>
+ * 为目标类的某一个字段生成一个final的 {@link FieldAccessor} 实现类，类名为
+ * {@code Target$$ByteBean$FieldAccessor$<index>}。基本类型字段继承对应的类型化访问器
+ * （如 {@link IntFieldAccessor}），额外生成无装箱的 {@code getInt}/{@code setInt} 方法
+ * 以及按区间批量读取数组或列表来源的 {@code getInts} 方法。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldAccessorGenerator {
+
+    private FieldAccessorGenerator() {
+    }
+
+    /**
+     * 获取字段对应的访问器基类
+     *
+     * @param type 字段类型
+     * @return 访问器基类，引用类型字段返回 {@link FieldAccessor}
+     */
+    static Class<? extends FieldAccessor> accessorType(Class<?> type) {
+        if (type == int.class) return IntFieldAccessor.class;
+        if (type == long.class) return LongFieldAccessor.class;
+        if (type == float.class) return FloatFieldAccessor.class;
+        if (type == double.class) return DoubleFieldAccessor.class;
+        if (type == boolean.class) return BooleanFieldAccessor.class;
+        if (type == byte.class) return ByteFieldAccessor.class;
+        if (type == short.class) return ShortFieldAccessor.class;
+        if (type == char.class) return CharFieldAccessor.class;
+        return FieldAccessor.class;
+    }
+
+    /**
+     * 为字段生成单字段访问器类
+     *
+     * @param targetClass 目标类
+     * @param field       字段
+     * @param index       字段在 FieldInvoker 中的全局索引，用于生成类名
+     * @return 生成的访问器类
+     */
+    static Class<? extends FieldAccessor> make(Class<?> targetClass, Field field, int index) {
+        final Class<? extends FieldAccessor> accessorType = accessorType(field.getType());
+        final String accessorName = NameUtil.calcInvokerName(targetClass, FieldAccessor.class) + "$" + index;
+        final Class<? extends FieldAccessor> existingClass =
+                ClassDefineUtil.findInvokerClass(targetClass, accessorName, accessorType);
+        if (existingClass != null) {
+            return existingClass;
+        }
+
+        DynamicType.Builder<? extends FieldAccessor> builder = new ByteBuddy()
+                .subclass(accessorType)
+                .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
+                .name(accessorName)
+                // Object get(Object instance)
+                .defineMethod("get", Object.class, Visibility.PUBLIC)
+                .withParameters(Object.class)
+                .intercept(new FieldAccessorGetterByteCode(targetClass, field, false))
+                // void set(Object instance, Object value)
+                .defineMethod("set", void.class, Visibility.PUBLIC)
+                .withParameters(Object.class, Object.class)
+                .intercept(new FieldAccessorSetterByteCode(targetClass, field, false));
+
+        // 基本类型字段: getXxx(Object) / setXxx(Object, xxx)
+        if (accessorType != FieldAccessor.class) {
+            final Class<?> type = field.getType();
+            final String suffix = Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+            builder = builder
+                    .defineMethod("get" + suffix, type, Visibility.PUBLIC)
+                    .withParameters(Object.class)
+                    .intercept(new FieldAccessorGetterByteCode(targetClass, field, true))
+                    .defineMethod("set" + suffix, void.class, Visibility.PUBLIC)
+                    .withParameters(Object.class, type)
+                    .intercept(new FieldAccessorSetterByteCode(targetClass, field, true))
+                    // void getXxxs(Object[] source, int from, int to, xxx[] dest, int destPos)
+                    .defineMethod("get" + suffix + "s", void.class, Visibility.PUBLIC)
+                    .withParameters(Object[].class, int.class, int.class, Array.newInstance(type, 0).getClass(), int.class)
+                    .intercept(new FieldAccessorExtractByteCode(targetClass, field, false))
+                    // void getXxxs(List source, int from, int to, xxx[] dest, int destPos)
+                    .defineMethod("get" + suffix + "s", void.class, Visibility.PUBLIC)
+                    .withParameters(List.class, int.class, int.class, Array.newInstance(type, 0).getClass(), int.class)
+                    .intercept(new FieldAccessorExtractByteCode(targetClass, field, true));
+        }
+
+        return ClassDefineUtil.define(targetClass, builder
+                // 自动计算
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make());
+    }
+}
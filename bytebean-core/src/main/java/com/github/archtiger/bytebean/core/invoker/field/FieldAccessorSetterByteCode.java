@@ -0,0 +1,102 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 单字段访问器setter字节码实现，为FieldAccessor生成只写入一个字段的方法体。
+ * <p>
+ * 生成的字节码等价于：
+ * <pre>
+ * ((Target) instance).field = value;            // 类型化方法，如 void setInt(Object, int)
+ * ((Target) instance).field = unbox(value);     // 通用方法 void set(Object, Object)
+ * </pre>
+ * final字段生成的方法体直接抛出 IllegalArgumentException。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object instance
+ * slot 2: value (long/double占slot 2和3)
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldAccessorSetterByteCode implements Implementation {
+
+    /**
+     * 目标类，用于实例类型转换。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 访问的字段。
+     */
+    private final Field field;
+
+    /**
+     * 是否直接接收字段原始类型的值；为false时以Object接收并拆箱或转换。
+     */
+    private final boolean typed;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass 目标类
+     * @param field       访问的字段
+     * @param typed       是否生成类型化方法（接收字段原始类型）
+     */
+    public FieldAccessorSetterByteCode(Class<?> targetClass, Field field, boolean typed) {
+        this.targetClass = targetClass;
+        this.field = field;
+        this.typed = typed;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            // 拒绝修改 final 字段
+            if (Modifier.isFinal(field.getModifiers())) {
+                mv.visitTypeInsn(Opcodes.NEW, "java/lang/IllegalArgumentException");
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitLdcInsn("Cannot set field: " + field.getName());
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IllegalArgumentException",
+                        "<init>", "(Ljava/lang/String;)V", false);
+                mv.visitInsn(Opcodes.ATHROW);
+                return ByteCodeAppender.Size.ZERO;
+            }
+
+            // 转换实例
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(targetClass));
+
+            // 加载值
+            if (typed) {
+                mv.visitVarInsn(AsmUtil.getLoadOpcode(field.getType()), 2);
+            } else {
+                mv.visitVarInsn(Opcodes.ALOAD, 2);
+                AsmUtil.unboxOrCast(mv, field.getType());
+            }
+
+            // 写入字段
+            mv.visitFieldInsn(Opcodes.PUTFIELD, Type.getInternalName(field.getDeclaringClass()),
+                    field.getName(), Type.getDescriptor(field.getType()));
+            mv.visitInsn(Opcodes.RETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
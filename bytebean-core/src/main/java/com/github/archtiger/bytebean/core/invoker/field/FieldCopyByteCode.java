@@ -0,0 +1,152 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.invoker.constructor.ConstructorP0ByteCode;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * 字段复制字节码实现，为FieldInvoker生成 {@code copyFields} 与 {@code shallowClone} 方法。
+ * <p>
+ * 生成的字节码等价于：
+ * <pre>
+ * // void copyFields(Object src, Object dst)
+ * Target s = (Target) src;
+ * Target d = (Target) dst;
+ * d.a = s.a;
+ * d.b = s.b;
+ * ...
+ *
+ * // Object shallowClone(Object src)
+ * Target s = (Target) src;
+ * Target d = new Target();
+ * d.a = s.a;
+ * ...
+ * return d;
+ * </pre>
+ * 方法体是一段直线代码，只处理本类负责的非final字段；实例通过 {@link ConstructorP0ByteCode} 的无参构造器路径创建。
+ * 目标类没有可访问的无参构造器时，{@code shallowClone} 抛出 {@link IllegalStateException}。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object src
+ * slot 2: Object dst（仅 copyFields）
+ * slot 3: Target 转换后的源对象
+ * slot 4: Target 转换后的目标对象
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldCopyByteCode implements Implementation {
+
+    /**
+     * 目标类，用于实例类型转换。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 本类负责的字段列表。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 是否生成 shallowClone；为false时生成 copyFields。
+     */
+    private final boolean clone;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass 目标类
+     * @param fields      本类负责的字段列表
+     * @param clone       是否生成 shallowClone
+     */
+    public FieldCopyByteCode(Class<?> targetClass, List<Field> fields, boolean clone) {
+        this.targetClass = targetClass;
+        this.fields = fields;
+        this.clone = clone;
+    }
+
+    /**
+     * 判断目标类是否有生成的字节码可直接调用的无参构造器
+     *
+     * @param targetClass 目标类
+     * @return 是否可通过无参构造器创建实例
+     */
+    static boolean hasAccessibleNoArgConstructor(Class<?> targetClass) {
+        if (Modifier.isAbstract(targetClass.getModifiers())) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = targetClass.getDeclaredConstructor();
+            return ClassDefineUtil.isAccessible(targetClass, constructor);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final String owner = Type.getInternalName(targetClass);
+
+            if (clone && !hasAccessibleNoArgConstructor(targetClass)) {
+                mv.visitTypeInsn(Opcodes.NEW, "java/lang/IllegalStateException");
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitLdcInsn("No accessible no-arg constructor: " + targetClass.getName());
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/IllegalStateException", "<init>", "(Ljava/lang/String;)V", false);
+                mv.visitInsn(Opcodes.ATHROW);
+                return ByteCodeAppender.Size.ZERO;
+            }
+
+            // 转换源对象与目标对象
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+            mv.visitVarInsn(Opcodes.ASTORE, 3);
+            if (clone) {
+                ConstructorP0ByteCode.newInstance(mv, targetClass);
+            } else {
+                mv.visitVarInsn(Opcodes.ALOAD, 2);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+            }
+            mv.visitVarInsn(Opcodes.ASTORE, 4);
+
+            // 逐字段复制，跳过final字段
+            for (Field field : fields) {
+                if (Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                final String fieldOwner = Type.getInternalName(field.getDeclaringClass());
+                final String descriptor = Type.getDescriptor(field.getType());
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitFieldInsn(Opcodes.GETFIELD, fieldOwner, field.getName(), descriptor);
+                mv.visitFieldInsn(Opcodes.PUTFIELD, fieldOwner, field.getName(), descriptor);
+            }
+
+            if (clone) {
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitInsn(Opcodes.ARETURN);
+            } else {
+                mv.visitInsn(Opcodes.RETURN);
+            }
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
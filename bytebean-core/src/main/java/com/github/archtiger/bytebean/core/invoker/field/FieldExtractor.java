@@ -0,0 +1,155 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.DoubleFieldAccessor;
+import com.github.archtiger.bytebean.api.field.PrimitiveFieldAccessor;
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 列式字段提取工具
+ * <p>
+ * 将集合中每个对象的同一个基本类型字段提取到基本类型数组中，用于分析类的批量计算。
+ * 提取基于类型化的单字段访问器（见 {@link FieldInvokerHelper#accessor(String, Class)}），
+ * 结果数组的类型由访问器决定（如 {@link DoubleFieldAccessor} 对应 {@code double[]}）：
+ * <ul>
+ *   <li>数组与列表来源都直接调用访问器生成的区间循环（如 {@link DoubleFieldAccessor#getDoubles}），
+ *   循环针对单个字段特化，每批只有一次虚调用，循环体内没有索引分发</li>
+ *   <li>{@code parallelExtract} 按 {@link ByteBeanConstant#EXTRACT_PARALLEL_SPLIT_SIZE} 拆分为指定
+ *   {@link ForkJoinPool} 上的任务，小输入直接在调用线程中执行；不支持随机访问的列表退化为顺序提取</li>
+ * </ul>
+ * <p>
+ * <b>使用示例：</b>
+ * <pre>{@code
+ * DoubleFieldAccessor price = FieldInvokerHelper.of(Order.class).accessor("price", DoubleFieldAccessor.class);
+ * double[] prices = new double[orders.size()];
+ * FieldExtractor.parallelExtract(price, orders, prices, ForkJoinPool.commonPool());
+ * }</pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldExtractor {
+
+    private FieldExtractor() {
+    }
+
+    /**
+     * 区间提取逻辑，处理 {@code [from, to)} 内的元素。
+     */
+    @FunctionalInterface
+    private interface RangeExtractor {
+        void extract(int from, int to);
+    }
+
+    /**
+     * 按区间二分的fork/join提取任务。
+     */
+    private static final class ExtractTask extends RecursiveAction {
+
+        private final RangeExtractor extractor;
+
+        private final int from;
+
+        private final int to;
+
+        private ExtractTask(RangeExtractor extractor, int from, int to) {
+            this.extractor = extractor;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ByteBeanConstant.EXTRACT_PARALLEL_SPLIT_SIZE) {
+                extractor.extract(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ExtractTask(extractor, from, mid), new ExtractTask(extractor, mid, to));
+        }
+    }
+
+    private static void parallel(int size, ForkJoinPool pool, RangeExtractor extractor) {
+        if (size <= ByteBeanConstant.EXTRACT_PARALLEL_SPLIT_SIZE) {
+            extractor.extract(0, size);
+            return;
+        }
+        pool.invoke(new ExtractTask(extractor, 0, size));
+    }
+
+    private static void checkLength(int sourceLength, Object dest) {
+        int destLength = Array.getLength(dest);
+        if (destLength < sourceLength) {
+            throw new IllegalArgumentException("Destination length " + destLength + " is less than source size " + sourceLength);
+        }
+    }
+
+    /**
+     * 从数组中提取字段值
+     *
+     * @param accessor 基本类型字段访问器
+     * @param source   目标对象数组，元素非null
+     * @param dest     结果数组，类型与字段类型对应，长度不小于 source
+     * @param <A>      基本类型数组类型
+     * @throws IllegalArgumentException 如果结果数组长度不足
+     */
+    public static <A> void extract(PrimitiveFieldAccessor<A> accessor, Object[] source, A dest) {
+        checkLength(source.length, dest);
+        accessor.getAll(source, 0, source.length, dest, 0);
+    }
+
+    /**
+     * 从列表中提取字段值
+     *
+     * @param accessor 基本类型字段访问器
+     * @param source   目标对象列表，元素非null
+     * @param dest     结果数组，类型与字段类型对应，长度不小于 source
+     * @param <A>      基本类型数组类型
+     * @throws IllegalArgumentException 如果结果数组长度不足
+     */
+    public static <A> void extract(PrimitiveFieldAccessor<A> accessor, List<?> source, A dest) {
+        int size = source.size();
+        checkLength(size, dest);
+        accessor.getAll(source, 0, size, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地从数组中提取字段值
+     *
+     * @param accessor 基本类型字段访问器
+     * @param source   目标对象数组，元素非null
+     * @param dest     结果数组，类型与字段类型对应，长度不小于 source
+     * @param pool     执行任务的线程池
+     * @param <A>      基本类型数组类型
+     * @throws IllegalArgumentException 如果结果数组长度不足
+     */
+    public static <A> void parallelExtract(PrimitiveFieldAccessor<A> accessor, Object[] source, A dest, ForkJoinPool pool) {
+        checkLength(source.length, dest);
+        parallel(source.length, pool, (from, to) -> accessor.getAll(source, from, to, dest, from));
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地从列表中提取字段值，列表不支持随机访问时退化为顺序提取
+     *
+     * @param accessor 基本类型字段访问器
+     * @param source   目标对象列表，元素非null
+     * @param dest     结果数组，类型与字段类型对应，长度不小于 source
+     * @param pool     执行任务的线程池
+     * @param <A>      基本类型数组类型
+     * @throws IllegalArgumentException 如果结果数组长度不足
+     */
+    public static <A> void parallelExtract(PrimitiveFieldAccessor<A> accessor, List<?> source, A dest, ForkJoinPool pool) {
+        if (!(source instanceof RandomAccess)) {
+            extract(accessor, source, dest);
+            return;
+        }
+        int size = source.size();
+        checkLength(size, dest);
+        parallel(size, pool, (from, to) -> accessor.getAll(source, from, to, dest, from));
+    }
+}
@@ -41,6 +41,11 @@ public final class FieldGetterByteCode implements Implementation {
      */
     private final List<Field> fields;
 
+    /**
+     * 第一个字段对应的全局索引，非分片场景下为 0。
+     */
+    private final int indexOffset;
+
     /**
      * 构造函数。
      *
@@ -48,8 +53,20 @@ public final class FieldGetterByteCode implements Implementation {
      * @param fields      字段列表
      */
     public FieldGetterByteCode(Class<?> targetClass, List<Field> fields) {
+        this(targetClass, fields, 0);
+    }
+
+    /**
+     * 构造函数，用于分片场景。
+     *
+     * @param targetClass 目标类
+     * @param fields      字段列表
+     * @param indexOffset 第一个字段对应的全局索引
+     */
+    public FieldGetterByteCode(Class<?> targetClass, List<Field> fields, int indexOffset) {
         this.targetClass = targetClass;
         this.fields = fields;
+        this.indexOffset = indexOffset;
     }
 
     @Override
@@ -86,7 +103,7 @@ public final class FieldGetterByteCode implements Implementation {
             // ============================================================
             // 步骤3: 生成 tableswitch 指令
             // ============================================================
-            mv.visitTableSwitchInsn(0, fields.size() - 1, defaultLabel, labels);
+            mv.visitTableSwitchInsn(indexOffset, indexOffset + fields.size() - 1, defaultLabel, labels);
 
             // ============================================================
             // 步骤4: 生成各个 case 分支
@@ -98,7 +115,7 @@ public final class FieldGetterByteCode implements Implementation {
                 // 读取字段值 (直接使用 slot 3 中已转换好的对象)
                 mv.visitVarInsn(Opcodes.ALOAD, 3);
                 mv.visitFieldInsn(Opcodes.GETFIELD,
-                        owner, f.getName(), Type.getDescriptor(f.getType()));
+                        Type.getInternalName(f.getDeclaringClass()), f.getName(), Type.getDescriptor(f.getType()));
 
                 // 基本类型装箱
                 AsmUtil.boxIfNeeded(mv, f.getType());
@@ -5,14 +5,15 @@ import com.github.archtiger.bytebean.api.field.FieldInvoker;
 import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
 import com.github.archtiger.bytebean.core.model.FieldInvokerResult;
 import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
 import com.github.archtiger.bytebean.core.utils.NameUtil;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.asm.AsmVisitorWrapper;
 import net.bytebuddy.description.modifier.TypeManifestation;
 import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.jar.asm.ClassWriter;
 
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
@@ -50,15 +51,32 @@ public final class FieldInvokerGenerator {
 
         // 步骤2: 构造生成类的全限定名
         final String invokerName = NameUtil.calcInvokerName(targetClass, FieldInvoker.class);
-        try {
-            final Class<?> aClass = Class.forName(invokerName, false, targetClass.getClassLoader())
-                    .asSubclass(FieldInvoker.class);
-            return FieldInvokerResult.success((Class<? extends FieldInvoker>) aClass, Collections.unmodifiableList(fields));
-        } catch (ClassNotFoundException e) {
-            // Class not generated yet, continue with ByteBuddy generation.
+        final Class<? extends FieldInvoker> existingClass = ClassDefineUtil.findInvokerClass(targetClass, invokerName, FieldInvoker.class);
+        if (existingClass != null) {
+            return FieldInvokerResult.success(existingClass, Collections.unmodifiableList(fields));
         }
         // 步骤3: 使用 ByteBuddy 动态生成类
-        final Class<? extends FieldInvoker> invokerClass = new ByteBuddy()
+        final Class<? extends FieldInvoker> invokerClass = make(targetClass, invokerName, fields, 0, primitiveCount(fields));
+
+        return FieldInvokerResult.success(invokerClass, Collections.unmodifiableList(fields));
+    }
+
+    /**
+     * 生成覆盖连续索引区间的字段访问器类
+     * <p>
+     * 分片场景下每个分片只包含部分字段，tableswitch 的起始值为 {@code indexOffset}，
+     * 保证分片内使用的仍是全局字段索引。
+     *
+     * @param targetClass    目标类
+     * @param invokerName    生成类的全限定名
+     * @param fields         该类负责的字段列表
+     * @param indexOffset    第一个字段对应的全局索引
+     * @param primitiveCount 目标类全部字段中基本类型字段的数量，用于计算批量读写的引用类型槽位
+     * @return 生成的字段访问器类
+     */
+    static Class<? extends FieldInvoker> make(Class<?> targetClass, String invokerName, List<Field> fields,
+                                              int indexOffset, int primitiveCount) {
+        return ClassDefineUtil.define(targetClass, new ByteBuddy()
                 .subclass(FieldInvoker.class)
                 .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
                 // 设置生成类的名称
@@ -70,72 +88,132 @@ public final class FieldInvokerGenerator {
                 .defineMethod("get", Object.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
                 // 使用 GetterImpl 作为方法实现的字节码生成器
-                .intercept(new FieldGetterByteCode(targetClass, fields))
+                .intercept(new FieldGetterByteCode(targetClass, fields, indexOffset))
                 // 定义 set 方法: void set(int index, Object instance, Object value)
                 .defineMethod("set", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, Object.class)
                 // 使用 SetterImpl 作为方法实现的字节码生成器
-                .intercept(new FieldSetterByteCode(targetClass, fields))
+                .intercept(new FieldSetterByteCode(targetClass, fields, indexOffset))
                 // 基本类型 getter 方法
                 .defineMethod("getByte", byte.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, byte.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, byte.class, indexOffset))
                 .defineMethod("getShort", short.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, short.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, short.class, indexOffset))
                 .defineMethod("getInt", int.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, int.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, int.class, indexOffset))
                 .defineMethod("getLong", long.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, long.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, long.class, indexOffset))
                 .defineMethod("getFloat", float.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, float.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, float.class, indexOffset))
                 .defineMethod("getDouble", double.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, double.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, double.class, indexOffset))
                 .defineMethod("getBoolean", boolean.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, boolean.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, boolean.class, indexOffset))
                 .defineMethod("getChar", char.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class)
-                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, char.class))
+                .intercept(new PrimitiveFieldGetterByteCode(targetClass, fields, char.class, indexOffset))
                 // 基本类型 setter 方法
                 .defineMethod("setByte", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, byte.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, byte.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, byte.class, indexOffset))
                 .defineMethod("setShort", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, short.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, short.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, short.class, indexOffset))
                 .defineMethod("setInt", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, int.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, int.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, int.class, indexOffset))
                 .defineMethod("setLong", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, long.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, long.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, long.class, indexOffset))
                 .defineMethod("setFloat", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, float.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, float.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, float.class, indexOffset))
                 .defineMethod("setDouble", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, double.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, double.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, double.class, indexOffset))
                 .defineMethod("setBoolean", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, boolean.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, boolean.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, boolean.class, indexOffset))
                 .defineMethod("setChar", void.class, Visibility.PUBLIC)
                 .withParameters(int.class, Object.class, char.class)
-                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, char.class))
+                .intercept(new PrimitiveFieldSetterByteCode(targetClass, fields, char.class, indexOffset))
+                // 原子与内存序方法
+                .defineMethod("getVolatile", Object.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.GET_VOLATILE, null))
+                .defineMethod("setVolatile", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, Object.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.SET_VOLATILE, null))
+                .defineMethod("getAcquire", Object.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.GET_ACQUIRE, null))
+                .defineMethod("setRelease", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, Object.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.SET_RELEASE, null))
+                .defineMethod("compareAndSetInt", boolean.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, int.class, int.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.COMPARE_AND_SET, int.class))
+                .defineMethod("compareAndSetLong", boolean.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, long.class, long.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.COMPARE_AND_SET, long.class))
+                .defineMethod("compareAndSetReference", boolean.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, Object.class, Object.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.COMPARE_AND_SET, Object.class))
+                .defineMethod("getAndAddInt", int.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, int.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.GET_AND_ADD, int.class))
+                .defineMethod("getAndAddLong", long.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, long.class)
+                .intercept(new FieldVarHandleByteCode(targetClass, fields, indexOffset, VarHandle.AccessMode.GET_AND_ADD, long.class))
+                // 批量读写方法
+                .defineMethod("readAll", void.class, Visibility.PUBLIC)
+                .withParameters(Object.class, long[].class, Object[].class)
+                .intercept(new FieldReadAllByteCode(targetClass, fields, indexOffset, primitiveCount))
+                .defineMethod("writeAll", void.class, Visibility.PUBLIC)
+                .withParameters(Object.class, long[].class, Object[].class)
+                .intercept(new FieldWriteAllByteCode(targetClass, fields, indexOffset, primitiveCount))
+                // 复制与克隆方法
+                .defineMethod("copyFields", void.class, Visibility.PUBLIC)
+                .withParameters(Object.class, Object.class)
+                .intercept(new FieldCopyByteCode(targetClass, fields, false))
+                .defineMethod("shallowClone", Object.class, Visibility.PUBLIC)
+                .withParameters(Object.class)
+                .intercept(new FieldCopyByteCode(targetClass, fields, true))
+                .defineMethod("reset", void.class, Visibility.PUBLIC)
+                .withParameters(Object.class)
+                .intercept(new FieldResetByteCode(targetClass, fields))
                 // 自动计算
                 .visit(new AsmVisitorWrapper.ForDeclaredMethods()
                         .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
                 )
                 // 生成字节码
-                .make()
-                .load(targetClass.getClassLoader(), ClassLoadingStrategy.Default.INJECTION)
-                .getLoaded();
+                .make());
+    }
 
-        return FieldInvokerResult.success(invokerClass, Collections.unmodifiableList(fields));
+    /**
+     * 统计基本类型字段数量
+     * <p>
+     * 字段已按类型分组排序，基本类型字段总在引用类型字段之前，
+     * 因此该数量同时也是第一个引用类型字段的索引。
+     *
+     * @param fields 已排序的字段列表
+     * @return 基本类型字段数量
+     */
+    static int primitiveCount(List<Field> fields) {
+        int count = 0;
+        for (Field field : fields) {
+            if (field.getType().isPrimitive()) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
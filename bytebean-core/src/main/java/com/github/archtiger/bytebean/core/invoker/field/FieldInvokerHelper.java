@@ -1,8 +1,11 @@
 package com.github.archtiger.bytebean.core.invoker.field;
 
 import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.field.FieldAccessor;
 import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.invoker.facade.BeanFacade;
 import com.github.archtiger.bytebean.core.model.FieldInvokerResult;
+import com.github.archtiger.bytebean.core.model.ShardInvokerResult;
 import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
 import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
 import com.github.archtiger.bytebean.core.constant.ExceptionCode;
@@ -13,6 +16,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * 字段访问器Helper，提供字段索引管理和缓存能力。
@@ -25,7 +38,9 @@ import java.util.Map;
  *   <li>使用WeakKeyValueConcurrentMap缓存，避免内存泄漏</li>
  *   <li>支持通过字段名获取索引</li>
  *   <li>当字段不存在或为final时，抛出IllegalArgumentException</li>
- *   <li>根据字段数量自动选择字节码或VarHandle实现</li>
+ *   <li>根据字段数量自动选择字节码、分片字节码或回退实现（偏移量或VarHandle，见 {@link ByteBeanConstant#FIELD_FALLBACK_PROPERTY}）</li>
+ *   <li>按需生成单字段访问器（{@link #accessor(String)}），供热点循环使用</li>
+ *   <li>按需生成读写单个字段的 {@code java.util.function} 实现（如 {@link #toIntFunction(int)}），供流式处理使用</li>
  * </ul>
  *
  * @author archtiger
@@ -55,10 +70,85 @@ public class FieldInvokerHelper extends FieldInvoker {
      */
     private final int[] modifiers;
 
-    private FieldInvokerHelper(FieldInvoker fieldInvoker, String[] fieldNames, int[] modifiers) {
+    /**
+     * 字段声明类数组，按索引顺序排列。
+     * 用于在父类与子类存在同名字段时确定按名称查找的结果。
+     */
+    private final Class<?>[] declaringClasses;
+
+    /**
+     * 目标类。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 字段列表，按索引顺序排列，用于生成单字段访问器。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 基本类型字段数量，即批量读写时 {@code long[]} 缓冲区所需长度。
+     */
+    private final int primitiveSlotCount;
+
+    /**
+     * 目标类（含父类）中不在索引空间内的首个可变实例字段，全部可变字段都在索引空间内时为null。
+     * <p>
+     * 默认模式下private字段不进入索引空间，批量读写与复制会静默跳过这类字段，因此存在时 {@link #readAll}、{@link #writeAll}、
+     * {@link #copyFields}、{@link #shallowClone} 直接拒绝。
+     */
+    private final Field unindexedField;
+
+    /**
+     * 单字段访问器缓存，按字段索引存放，首次访问时生成。
+     */
+    private final Map<Integer, FieldAccessor> accessors = new ConcurrentHashMap<>();
+
+    private FieldInvokerHelper(FieldInvoker fieldInvoker, Class<?> targetClass, List<Field> fields) {
         this.fieldInvoker = fieldInvoker;
-        this.fieldNames = fieldNames;
-        this.modifiers = modifiers;
+        this.targetClass = targetClass;
+        this.fields = fields;
+        this.fieldNames = fields.stream().map(Field::getName).toArray(String[]::new);
+        this.modifiers = fields.stream().mapToInt(Field::getModifiers).toArray();
+        this.declaringClasses = fields.stream().map(Field::getDeclaringClass).toArray(Class<?>[]::new);
+        this.primitiveSlotCount = FieldInvokerGenerator.primitiveCount(fields);
+        this.unindexedField = findUnindexedField(targetClass, fields);
+    }
+
+    /**
+     * 查找目标类（含父类）中不在索引空间内的首个可变实例字段
+     *
+     * @param targetClass 目标类
+     * @param fields      索引空间内的字段
+     * @return 不在索引空间内的非static、非final、非合成字段，不存在时返回null
+     */
+    private static Field findUnindexedField(Class<?> targetClass, List<Field> fields) {
+        for (Class<?> current = targetClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                final int fieldModifiers = field.getModifiers();
+                if (Modifier.isStatic(fieldModifiers) || Modifier.isFinal(fieldModifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (!fields.contains(field)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 校验全部可变实例字段都在索引空间内，否则整体读写、复制会静默遗漏这些字段
+     *
+     * @param operation 操作名称，用于异常信息
+     * @throws IllegalStateException 如果存在不在索引空间内的可变实例字段
+     */
+    private void checkAllFieldsIndexed(String operation) {
+        if (unindexedField != null) {
+            throw new IllegalStateException(operation + " would skip field not in index space: "
+                    + unindexedField.getDeclaringClass().getName() + "." + unindexedField.getName()
+                    + (Modifier.isPrivate(unindexedField.getModifiers()) ? " (private fields require -Dbytebean.private.access=true)" : ""));
+        }
     }
 
     /**
@@ -74,38 +164,90 @@ public class FieldInvokerHelper extends FieldInvoker {
                 return null;
             }
 
-            final String[] fieldNames = fields.stream().map(Field::getName).toArray(String[]::new);
-            final int[] modifiers = fields.stream().mapToInt(Field::getModifiers).toArray();
-
             // 若字段数量小于等于阈值，则使用 FieldInvokerGenerator 生成 FieldInvoker
             if (fields.size() <= ByteBeanConstant.FIELD_SHARDING_THRESHOLD_VALUE) {
                 final FieldInvokerResult fieldInvokerResult = FieldInvokerGenerator.generate(targetClass);
                 if (fieldInvokerResult.ok()) {
                     try {
                         final FieldInvoker fieldInvoker = fieldInvokerResult.fieldInvokerClass().getDeclaredConstructor().newInstance();
-                        return new FieldInvokerHelper(fieldInvoker, fieldNames, modifiers);
+                        return new FieldInvokerHelper(fieldInvoker, targetClass, fields);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
                              NoSuchMethodException e) {
                         throw new RuntimeException(e);
                     }
                 }
+            } else {
+                // 超过阈值时，优先使用分片字节码实现
+                final ShardInvokerResult<FieldInvoker> shardInvokerResult = FieldInvokerShardingGenerator.generate(targetClass);
+                if (shardInvokerResult.ok()) {
+                    try {
+                        final FieldInvoker fieldInvoker = shardInvokerResult.newInstance(FieldInvoker.class);
+                        return new FieldInvokerHelper(fieldInvoker, targetClass, fields);
+                    } catch (ReflectiveOperationException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
             }
 
-            final FieldVarHandleInvoker fieldVarHandleInvoker = FieldVarHandleInvoker.of(targetClass);
-            return new FieldInvokerHelper(fieldVarHandleInvoker, fieldNames, modifiers);
+            return new FieldInvokerHelper(fallbackInvoker(targetClass), targetClass, fields);
         });
 
     }
 
+    /**
+     * 按配置选择回退实现，见 {@link ByteBeanConstant#FIELD_FALLBACK_PROPERTY}
+     *
+     * @param targetClass 目标类
+     * @return 偏移量实现或VarHandle实现
+     */
+    static FieldInvoker fallbackInvoker(Class<?> targetClass) {
+        final String fallback = System.getProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY, "auto");
+        // 自动选择时只在 Unsafe 内存访问不告警的 JDK 上使用偏移量实现（JDK 24 起默认告警，JEP 498）
+        final boolean offset = "offset".equals(fallback)
+                || "auto".equals(fallback) && Runtime.version().feature() < ByteBeanConstant.FIELD_FALLBACK_OFFSET_MAX_FEATURE;
+        if (offset) {
+            try {
+                final FieldUnsafeInvoker fieldUnsafeInvoker = FieldUnsafeInvoker.of(targetClass);
+                if (fieldUnsafeInvoker != null) {
+                    return fieldUnsafeInvoker;
+                }
+            } catch (LinkageError e) {
+                // 运行时未包含 jdk.unsupported 模块或 Unsafe 缺少所需方法，回退到VarHandle实现
+            }
+        }
+        return FieldVarHandleInvoker.of(targetClass);
+    }
+
     /**
      * 获取字段索引
+     * <p>
+     * 父类与子类存在同名字段时，返回继承层级最近（最接近目标类）的声明。
      *
      * @param fieldName 字段名
      * @return 字段索引，若不存在则返回 -1
      */
     public int getFieldGetterIndex(String fieldName) {
+        int index = ExceptionCode.INVALID_INDEX;
         for (int i = 0; i < fieldNames.length; i++) {
-            if (fieldNames[i].equals(fieldName)) {
+            if (fieldNames[i].equals(fieldName)
+                    && (index == ExceptionCode.INVALID_INDEX || declaringClasses[index].isAssignableFrom(declaringClasses[i]))) {
+                index = i;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * 获取指定声明类中字段的索引，用于访问被子类遮蔽的父类字段
+     *
+     * @param declaringClass 字段声明类
+     * @param fieldName      字段名
+     * @return 字段索引，若不存在则返回 -1
+     */
+    public int getFieldGetterIndex(Class<?> declaringClass, String fieldName) {
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (declaringClasses[i] == declaringClass && fieldNames[i].equals(fieldName)) {
                 return i;
             }
         }
@@ -131,19 +273,34 @@ public class FieldInvokerHelper extends FieldInvoker {
 
     /**
      * 获取字段设置器索引
+     * <p>
+     * 与 {@link #getFieldGetterIndex(String)} 的名称解析规则一致，解析到的字段为final时返回 -1。
      *
      * @param fieldName 字段名
      * @return 字段设置器索引，若不存在则返回 -1
      */
     public int getFieldSetterIndex(String fieldName) {
-        for (int i = 0; i < fieldNames.length; i++) {
-            // 跳过final字段
-            if (!Modifier.isFinal(modifiers[i]) && fieldNames[i].equals(fieldName)) {
-                return i;
-            }
+        return setterIndexOf(getFieldGetterIndex(fieldName));
+    }
+
+    /**
+     * 获取指定声明类中字段的设置器索引，用于写入被子类遮蔽的父类字段
+     *
+     * @param declaringClass 字段声明类
+     * @param fieldName      字段名
+     * @return 字段设置器索引，若不存在或为final则返回 -1
+     */
+    public int getFieldSetterIndex(Class<?> declaringClass, String fieldName) {
+        return setterIndexOf(getFieldGetterIndex(declaringClass, fieldName));
+    }
+
+    private int setterIndexOf(int index) {
+        // 跳过final字段
+        if (index == ExceptionCode.INVALID_INDEX || Modifier.isFinal(modifiers[index])) {
+            return ExceptionCode.INVALID_INDEX;
         }
 
-        return ExceptionCode.INVALID_INDEX;
+        return index;
     }
 
     /**
@@ -162,6 +319,232 @@ public class FieldInvokerHelper extends FieldInvoker {
         return fieldSetterIndex;
     }
 
+    /**
+     * 获取单字段访问器
+     * <p>
+     * 访问器为按需生成的final类，只包含对一个字段的直接读写；基本类型字段返回对应的类型化访问器
+     * （如 {@link com.github.archtiger.bytebean.api.field.IntFieldAccessor}）。同一字段的访问器只生成一次。
+     *
+     * @param fieldName 字段名，父类与子类存在同名字段时解析为子类字段
+     * @return 单字段访问器
+     * @throws IllegalArgumentException 当字段不存在时抛出
+     */
+    public FieldAccessor accessor(String fieldName) {
+        return accessor(getFieldGetterIndexOrThrow(fieldName));
+    }
+
+    /**
+     * 获取指定声明类中字段的单字段访问器，用于访问被子类遮蔽的父类字段
+     *
+     * @param declaringClass 字段声明类
+     * @param fieldName      字段名
+     * @return 单字段访问器
+     * @throws IllegalArgumentException 当字段不存在时抛出
+     */
+    public FieldAccessor accessor(Class<?> declaringClass, String fieldName) {
+        int index = getFieldGetterIndex(declaringClass, fieldName);
+        if (index == ExceptionCode.INVALID_INDEX) {
+            throw ExceptionUtil.fieldNotGet(fieldName);
+        }
+
+        return accessor(index);
+    }
+
+    /**
+     * 获取指定类型的单字段访问器
+     *
+     * @param fieldName    字段名
+     * @param accessorType 访问器类型，如 {@code IntFieldAccessor.class}
+     * @param <A>          访问器类型
+     * @return 单字段访问器
+     * @throws IllegalArgumentException 当字段不存在或字段类型与访问器类型不匹配时抛出
+     */
+    public <A extends FieldAccessor> A accessor(String fieldName, Class<A> accessorType) {
+        FieldAccessor accessor = accessor(fieldName);
+        if (!accessorType.isInstance(accessor)) {
+            throw new IllegalArgumentException("Field " + fieldName + " cannot be accessed by " + accessorType.getSimpleName());
+        }
+
+        return accessorType.cast(accessor);
+    }
+
+    /**
+     * 按字段索引获取单字段访问器
+     *
+     * @param index 字段索引
+     * @return 单字段访问器
+     * @throws IndexOutOfBoundsException 当索引越界时抛出
+     */
+    public FieldAccessor accessor(int index) {
+        Field field = fields.get(index);
+        return accessors.computeIfAbsent(index, k -> {
+            try {
+                return FieldAccessorGenerator.make(targetClass, field, index).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * 获取读写指定字段的函数式接口实现
+     * <p>
+     * 实现类按需生成：没有其余参数且有返回值的接口（如 {@link ToIntFunction}）读取字段，
+     * 只有一个其余参数且返回void的接口（如 {@link ObjIntConsumer}）写入字段；
+     * 生成的方法直接使用 {@code GETFIELD}/{@code PUTFIELD}，不捕获任何状态，详见 {@link BeanFacade#function}。
+     *
+     * @param index          字段索引
+     * @param functionalType 函数式接口，如 {@code ToIntFunction.class}
+     * @param <F>            函数式接口类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界、字段类型与接口不匹配，或写入final字段时抛出
+     */
+    public <F> F function(int index, Class<F> functionalType) {
+        if (index < 0 || index >= fields.size()) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return BeanFacade.function(functionalType, targetClass, fields.get(index));
+    }
+
+    /**
+     * 获取读取字段的 {@link Function}，基本类型字段装箱
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @param <R>   字段类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R> Function<T, R> function(int index) {
+        return function(index, Function.class);
+    }
+
+    /**
+     * 获取读取字段的 {@link ToIntFunction}，字段可以是 {@code int} 或更窄的整数类型
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或字段类型不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ToIntFunction<T> toIntFunction(int index) {
+        return function(index, ToIntFunction.class);
+    }
+
+    /**
+     * 获取读取字段的 {@link ToLongFunction}，字段可以是 {@code long} 或更窄的整数类型
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或字段类型不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ToLongFunction<T> toLongFunction(int index) {
+        return function(index, ToLongFunction.class);
+    }
+
+    /**
+     * 获取读取字段的 {@link ToDoubleFunction}，字段可以是任意数值类型
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或字段类型不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ToDoubleFunction<T> toDoubleFunction(int index) {
+        return function(index, ToDoubleFunction.class);
+    }
+
+    /**
+     * 获取读取 {@code boolean} 字段的 {@link Predicate}
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或字段类型不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Predicate<T> predicate(int index) {
+        return function(index, Predicate.class);
+    }
+
+    /**
+     * 获取写入字段的 {@link BiConsumer}，基本类型字段拆箱
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @param <U>   字段类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或字段为final时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> BiConsumer<T, U> biConsumer(int index) {
+        return function(index, BiConsumer.class);
+    }
+
+    /**
+     * 获取写入字段的 {@link ObjIntConsumer}，字段可以是 {@code int} 或更宽的数值类型
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界、字段类型不匹配或字段为final时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjIntConsumer<T> objIntConsumer(int index) {
+        return function(index, ObjIntConsumer.class);
+    }
+
+    /**
+     * 获取写入字段的 {@link ObjLongConsumer}，字段可以是 {@code long} 或更宽的数值类型
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界、字段类型不匹配或字段为final时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjLongConsumer<T> objLongConsumer(int index) {
+        return function(index, ObjLongConsumer.class);
+    }
+
+    /**
+     * 获取写入 {@code double} 字段的 {@link ObjDoubleConsumer}
+     *
+     * @param index 字段索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界、字段类型不匹配或字段为final时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjDoubleConsumer<T> objDoubleConsumer(int index) {
+        return function(index, ObjDoubleConsumer.class);
+    }
+
+    /**
+     * 获取批量读写所需的基本类型缓冲区长度
+     *
+     * @return 基本类型字段数量
+     * @see #readAll(Object, long[], Object[])
+     */
+    public int getPrimitiveSlotCount() {
+        return primitiveSlotCount;
+    }
+
+    /**
+     * 获取批量读写所需的引用类型缓冲区长度
+     *
+     * @return 引用类型字段数量
+     * @see #readAll(Object, long[], Object[])
+     */
+    public int getReferenceSlotCount() {
+        return fields.size() - primitiveSlotCount;
+    }
+
     @Override
     public Object get(int index, Object instance) {
         return fieldInvoker.get(index, instance);
@@ -251,4 +634,98 @@ public class FieldInvokerHelper extends FieldInvoker {
     public void setChar(int index, Object instance, char value) {
         fieldInvoker.setChar(index, instance, value);
     }
+
+    @Override
+    public Object getVolatile(int index, Object instance) {
+        return fieldInvoker.getVolatile(index, instance);
+    }
+
+    @Override
+    public void setVolatile(int index, Object instance, Object value) {
+        fieldInvoker.setVolatile(index, instance, value);
+    }
+
+    @Override
+    public Object getAcquire(int index, Object instance) {
+        return fieldInvoker.getAcquire(index, instance);
+    }
+
+    @Override
+    public void setRelease(int index, Object instance, Object value) {
+        fieldInvoker.setRelease(index, instance, value);
+    }
+
+    @Override
+    public boolean compareAndSetInt(int index, Object instance, int expected, int newValue) {
+        return fieldInvoker.compareAndSetInt(index, instance, expected, newValue);
+    }
+
+    @Override
+    public boolean compareAndSetLong(int index, Object instance, long expected, long newValue) {
+        return fieldInvoker.compareAndSetLong(index, instance, expected, newValue);
+    }
+
+    @Override
+    public boolean compareAndSetReference(int index, Object instance, Object expected, Object newValue) {
+        return fieldInvoker.compareAndSetReference(index, instance, expected, newValue);
+    }
+
+    @Override
+    public int getAndAddInt(int index, Object instance, int delta) {
+        return fieldInvoker.getAndAddInt(index, instance, delta);
+    }
+
+    @Override
+    public long getAndAddLong(int index, Object instance, long delta) {
+        return fieldInvoker.getAndAddLong(index, instance, delta);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException 如果目标类存在不在索引空间内的可变实例字段（如默认模式下的private字段），快照会遗漏其状态
+     */
+    @Override
+    public void readAll(Object instance, long[] prims, Object[] refs) {
+        checkAllFieldsIndexed("readAll");
+        fieldInvoker.readAll(instance, prims, refs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException 如果目标类存在不在索引空间内的可变实例字段（如默认模式下的private字段），恢复会遗漏其状态
+     */
+    @Override
+    public void writeAll(Object instance, long[] prims, Object[] refs) {
+        checkAllFieldsIndexed("writeAll");
+        fieldInvoker.writeAll(instance, prims, refs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException 如果目标类存在不在索引空间内的可变实例字段（如默认模式下的private字段），复制会遗漏其值
+     */
+    @Override
+    public void copyFields(Object src, Object dst) {
+        checkAllFieldsIndexed("copyFields");
+        fieldInvoker.copyFields(src, dst);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException 如果目标类存在不在索引空间内的可变实例字段（如默认模式下的private字段），克隆会遗漏其值
+     */
+    @Override
+    public Object shallowClone(Object src) {
+        checkAllFieldsIndexed("shallowClone");
+        return fieldInvoker.shallowClone(src);
+    }
+
+    @Override
+    public void reset(Object instance) {
+        fieldInvoker.reset(instance);
+    }
 }
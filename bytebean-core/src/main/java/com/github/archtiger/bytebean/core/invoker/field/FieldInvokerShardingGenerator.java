@@ -0,0 +1,89 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.invoker.shard.ShardCloneByteCode;
+import com.github.archtiger.bytebean.core.invoker.shard.ShardDispatcherGenerator;
+import com.github.archtiger.bytebean.core.model.ShardInvokerResult;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.NameUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分片字段访问生成器
+ * <p>
+ * 当字段数量超过 {@link ByteBeanConstant#FIELD_SHARDING_THRESHOLD_VALUE} 时，
+ * 单个类的 tableswitch 方法会超出 JIT 的内联与 HugeMethodLimit 预算。
+ * 本生成器将字段按 {@code 1 << FIELD_SHARD_SHIFT} 个一组拆分为多个分片类，
+ * 每个分片仍使用全局索引的 tableswitch，再由一个生成的调度器按索引区间转发。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldInvokerShardingGenerator {
+    private static final Map<Class<?>, ShardInvokerResult<FieldInvoker>> CACHE = new WeakKeyValueConcurrentMap<>();
+
+    private FieldInvokerShardingGenerator() {
+    }
+
+    private static ShardInvokerResult<FieldInvoker> doCreate(final Class<?> targetClass) {
+
+        // 步骤1: 收集目标类的所有非静态字段
+        final List<Field> fields = ByteBeanReflectUtil.getFields(targetClass);
+        if (fields.isEmpty()) {
+            return ShardInvokerResult.fail();
+        }
+
+        // 步骤2: 计算分片数量，超过上限时交给VarHandle实现
+        final int shardSize = 1 << ByteBeanConstant.FIELD_SHARD_SHIFT;
+        final int shardCount = (fields.size() + shardSize - 1) >> ByteBeanConstant.FIELD_SHARD_SHIFT;
+        if (shardCount > ByteBeanConstant.FIELD_SHARD_MAX_COUNT) {
+            return ShardInvokerResult.fail();
+        }
+
+        // 步骤3: 逐个生成分片类，分片 i 负责全局索引 [i * shardSize, (i + 1) * shardSize)
+        final String invokerName = NameUtil.calcInvokerName(targetClass, FieldInvoker.class);
+        final int primitiveCount = FieldInvokerGenerator.primitiveCount(fields);
+        final List<Class<? extends FieldInvoker>> shardClasses = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            final int from = i * shardSize;
+            final int to = Math.min(from + shardSize, fields.size());
+            final String shardName = invokerName + "$Shard" + i;
+            Class<? extends FieldInvoker> shardClass = ClassDefineUtil.findInvokerClass(targetClass, shardName, FieldInvoker.class);
+            if (shardClass == null) {
+                shardClass = FieldInvokerGenerator.make(targetClass, shardName, fields.subList(from, to), from, primitiveCount);
+            }
+            shardClasses.add(shardClass);
+        }
+
+        // 步骤4: 生成调度器，批量读写、复制与重置方法依次调用全部分片，克隆由第一个分片创建实例
+        Class<? extends FieldInvoker> dispatcherClass = ClassDefineUtil.findInvokerClass(targetClass, invokerName, FieldInvoker.class);
+        if (dispatcherClass == null) {
+            dispatcherClass = ShardDispatcherGenerator.make(FieldInvoker.class, invokerName, targetClass,
+                    shardCount, ByteBeanConstant.FIELD_SHARD_SHIFT, "Invalid field index: ",
+                    Map.of("shallowClone", new ShardCloneByteCode(FieldInvoker.class, shardCount, "copyFields")),
+                    "readAll", "writeAll", "copyFields", "reset");
+        }
+
+        return ShardInvokerResult.success(dispatcherClass, Collections.unmodifiableList(shardClasses));
+    }
+
+    /**
+     * 为目标类生成分片的 FieldInvoker 实现
+     *
+     * @param targetClass 目标类
+     * @return 分片调度器及分片类信息
+     */
+    static ShardInvokerResult<FieldInvoker> generate(Class<?> targetClass) {
+        return CACHE.computeIfAbsent(targetClass, FieldInvokerShardingGenerator::doCreate);
+    }
+
+}
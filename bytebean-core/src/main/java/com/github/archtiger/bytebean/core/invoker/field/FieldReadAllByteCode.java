@@ -0,0 +1,115 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * 批量读取字节码实现，为FieldInvoker生成 {@code readAll} 方法。
+ * <p>
+ * 生成的方法体是一段无分支的直线代码，每个字段一次 GETFIELD 加一次数组写入：
+ * <ul>
+ *   <li>基本类型字段写入 {@code long[] prims}，编码规则见 {@link AsmUtil#encodeToLong}</li>
+ *   <li>引用类型字段写入 {@code Object[] refs}</li>
+ *   <li>字段已按类型分组排序，基本类型在前，因此基本类型槽位即全局索引，
+ *   引用类型槽位为全局索引减去基本类型字段总数</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object instance
+ * slot 2: long[] prims
+ * slot 3: Object[] refs
+ * slot 4: Target castedInstance
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldReadAllByteCode implements Implementation {
+
+    /**
+     * 目标类，用于类型检查和字节码生成。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 字段列表，按索引顺序排列。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 第一个字段对应的全局索引，非分片场景下为 0。
+     */
+    private final int indexOffset;
+
+    /**
+     * 目标类全部字段中基本类型字段的数量，用于计算引用类型槽位。
+     */
+    private final int primitiveCount;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass    目标类
+     * @param fields         字段列表
+     * @param indexOffset    第一个字段对应的全局索引
+     * @param primitiveCount 目标类全部字段中基本类型字段的数量
+     */
+    public FieldReadAllByteCode(Class<?> targetClass, List<Field> fields, int indexOffset, int primitiveCount) {
+        this.targetClass = targetClass;
+        this.fields = fields;
+        this.indexOffset = indexOffset;
+        this.primitiveCount = primitiveCount;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            // ============================================================
+            // 步骤1: 将 instance 强制转换为目标类型
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(targetClass));
+            mv.visitVarInsn(Opcodes.ASTORE, 4);
+
+            // ============================================================
+            // 步骤2: 逐个字段读取并写入对应缓冲区
+            // ============================================================
+            for (int i = 0; i < fields.size(); i++) {
+                Field f = fields.get(i);
+                int index = indexOffset + i;
+                boolean primitive = f.getType().isPrimitive();
+
+                mv.visitVarInsn(Opcodes.ALOAD, primitive ? 2 : 3);
+                IntegerConstant.forValue(primitive ? index : index - primitiveCount).apply(mv, ctx);
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitFieldInsn(Opcodes.GETFIELD,
+                        Type.getInternalName(f.getDeclaringClass()), f.getName(), Type.getDescriptor(f.getType()));
+                if (primitive) {
+                    AsmUtil.encodeToLong(mv, f.getType());
+                    mv.visitInsn(Opcodes.LASTORE);
+                } else {
+                    mv.visitInsn(Opcodes.AASTORE);
+                }
+            }
+
+            mv.visitInsn(Opcodes.RETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * 字段重置字节码实现，为FieldInvoker生成 {@code reset} 方法。
+ * <p>
+ * 生成的字节码等价于：
+ * <pre>
+ * Target t = (Target) instance;
+ * t.intField = 0;
+ * t.booleanField = false;
+ * t.stringField = null;
+ * ...
+ * </pre>
+ * 方法体是一段直线代码，只处理本类负责的非final字段，写入JVM默认值（0、false、null）。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object instance
+ * slot 2: Target 转换后的实例
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldResetByteCode implements Implementation {
+
+    /**
+     * 目标类，用于实例类型转换。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 本类负责的字段列表。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass 目标类
+     * @param fields      本类负责的字段列表
+     */
+    public FieldResetByteCode(Class<?> targetClass, List<Field> fields) {
+        this.targetClass = targetClass;
+        this.fields = fields;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(targetClass));
+            mv.visitVarInsn(Opcodes.ASTORE, 2);
+
+            for (Field field : fields) {
+                if (Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                mv.visitVarInsn(Opcodes.ALOAD, 2);
+                AsmUtil.pushDefaultValue(mv, field.getType());
+                mv.visitFieldInsn(Opcodes.PUTFIELD, Type.getInternalName(field.getDeclaringClass()),
+                        field.getName(), Type.getDescriptor(field.getType()));
+            }
+
+            mv.visitInsn(Opcodes.RETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
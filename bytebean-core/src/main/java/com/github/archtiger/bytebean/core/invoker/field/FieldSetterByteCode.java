@@ -43,6 +43,11 @@ public final class FieldSetterByteCode implements Implementation {
      */
     private final List<Field> fields;
 
+    /**
+     * 第一个字段对应的全局索引，非分片场景下为 0。
+     */
+    private final int indexOffset;
+
     /**
      * 构造函数。
      *
@@ -50,8 +55,20 @@ public final class FieldSetterByteCode implements Implementation {
      * @param fields      字段列表
      */
     public FieldSetterByteCode(Class<?> targetClass, List<Field> fields) {
+        this(targetClass, fields, 0);
+    }
+
+    /**
+     * 构造函数，用于分片场景。
+     *
+     * @param targetClass 目标类
+     * @param fields      字段列表
+     * @param indexOffset 第一个字段对应的全局索引
+     */
+    public FieldSetterByteCode(Class<?> targetClass, List<Field> fields, int indexOffset) {
         this.targetClass = targetClass;
         this.fields = fields;
+        this.indexOffset = indexOffset;
     }
 
     @Override
@@ -87,7 +104,7 @@ public final class FieldSetterByteCode implements Implementation {
             Label[] labels = new Label[fields.size()];
             for (int i = 0; i < labels.length; i++) labels[i] = new Label();
 
-            mv.visitTableSwitchInsn(0, fields.size() - 1, defaultLabel, labels);
+            mv.visitTableSwitchInsn(indexOffset, indexOffset + fields.size() - 1, defaultLabel, labels);
 
             // ============================================================
             // 步骤4: 为每个字段生成对应的 case 分支
@@ -120,7 +137,7 @@ public final class FieldSetterByteCode implements Implementation {
                 // 步骤4.4: 写入字段值 (PUTFIELD)
                 // ========================================================
                 mv.visitFieldInsn(Opcodes.PUTFIELD,
-                        owner, f.getName(), Type.getDescriptor(f.getType()));
+                        Type.getInternalName(f.getDeclaringClass()), f.getName(), Type.getDescriptor(f.getType()));
 
                 // ========================================================
                 // 步骤4.5: 返回
@@ -0,0 +1,748 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ExceptionUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 基于字段偏移量的字段访问器，作为大量字段场景下VarHandle实现之外的另一种回退实现。
+ * <p>
+ * 创建时通过 {@code Unsafe.objectFieldOffset} 一次性计算每个字段的偏移量存入 {@code long[]}，
+ * 访问时按字段类型直接调用 {@code getInt(Object, long)}、{@code putLong(Object, long, long)} 等类型化内存访问方法。
+ * 与 {@link FieldVarHandleInvoker} 相比，偏移量数组访问不依赖非常量 VarHandle/MethodHandle 的间接调用，
+ * 由 JIT 内联为一次地址计算和一次内存访问。
+ * Unsafe 经 {@link UnsafeAccess} 以常量 MethodHandle 反射访问，源码不直接引用 Unsafe 类型。
+ * <p>
+ * <b>安全性：</b>偏移量访问不做JVM级类型检查，因此每次访问都显式检查实例不为null且是目标类的实例，
+ * 引用类型字段写入前检查值的类型，final字段拒绝写入。
+ * <p>
+ * <b>特点：</b>
+ * <ul>
+ *   <li>仅在 {@code sun.misc.Unsafe} 可用且目标类不是隐藏类或record时可用（见 {@link #of(Class)}）</li>
+ *   <li>基本类型读写无装箱，与字节码访问器一样支持拓宽读取与带检查的窄化写入</li>
+ *   <li>volatile、acquire/release、CAS、getAndAdd 使用对应的 Unsafe 内存序方法</li>
+ * </ul>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldUnsafeInvoker extends FieldInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    // 字段类型编号，与 ByteBeanReflectUtil.getTypeOrder 一致
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte FLOAT = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte BYTE = 6;
+    private static final byte SHORT = 7;
+    private static final byte CHAR = 8;
+    private static final byte REFERENCE = 9;
+
+    /**
+     * 目标类，用于实例类型检查。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 字段偏移量数组，按字段索引排列。
+     */
+    private final long[] offsets;
+
+    /**
+     * 字段类型编号数组，按字段索引排列。
+     */
+    private final byte[] kinds;
+
+    /**
+     * 字段类型数组，用于引用类型字段写入前的类型检查。
+     */
+    private final Class<?>[] types;
+
+    /**
+     * final字段标记数组，final字段不允许写入。
+     */
+    private final boolean[] finalFields;
+
+    /**
+     * 基本类型字段数量，也是第一个引用类型字段的索引。
+     */
+    private final int primitiveCount;
+
+    /**
+     * 无参构造器，签名为 ()Object，不存在时为null。
+     */
+    private final MethodHandle noArgConstructor;
+
+    private FieldUnsafeInvoker(Class<?> targetClass, List<Field> fields, MethodHandle noArgConstructor) {
+        this.targetClass = targetClass;
+        this.noArgConstructor = noArgConstructor;
+        this.primitiveCount = FieldInvokerGenerator.primitiveCount(fields);
+        this.offsets = new long[fields.size()];
+        this.kinds = new byte[fields.size()];
+        this.types = new Class<?>[fields.size()];
+        this.finalFields = new boolean[fields.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            Field field = fields.get(i);
+            offsets[i] = UnsafeAccess.objectFieldOffset(field);
+            kinds[i] = (byte) ByteBeanReflectUtil.getTypeOrder(field.getType());
+            types[i] = field.getType();
+            finalFields[i] = Modifier.isFinal(field.getModifiers());
+        }
+    }
+
+    /**
+     * 判断当前运行时是否提供偏移量访问所需的 {@code sun.misc.Unsafe}
+     *
+     * @return 是否可用
+     */
+    public static boolean isAvailable() {
+        return UnsafeAccess.isAvailable();
+    }
+
+    /**
+     * 创建基于字段偏移量的字段访问器
+     *
+     * @param targetClass 目标类
+     * @return FieldUnsafeInvoker 实例；Unsafe 不可用，或目标类为隐藏类、record 而无法获取字段偏移量时返回 null
+     */
+    public static FieldUnsafeInvoker of(Class<?> targetClass) {
+        if (!UnsafeAccess.isAvailable() || targetClass.isHidden() || targetClass.isRecord()) {
+            return null;
+        }
+        List<Field> fields = ByteBeanReflectUtil.getFields(targetClass);
+        MethodHandle noArgConstructor;
+        try {
+            noArgConstructor = FieldVarHandleInvoker.findNoArgConstructor(MethodHandles.privateLookupIn(targetClass, LOOKUP), targetClass);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        try {
+            return new FieldUnsafeInvoker(targetClass, fields, noArgConstructor);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 检查实例是目标类的非null实例，偏移量访问前必须调用
+     *
+     * @param instance 目标对象实例
+     * @return 原实例
+     */
+    private Object check(Object instance) {
+        return targetClass.cast(Objects.requireNonNull(instance));
+    }
+
+    /**
+     * 获取可写字段的偏移量，final字段抛出 IllegalArgumentException
+     *
+     * @param index 字段索引
+     * @return 字段偏移量
+     */
+    private long writableOffset(int index) {
+        long offset = offsets[index];
+        if (finalFields[index]) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return offset;
+    }
+
+    /**
+     * 读取整数字段并拓宽为long，非整数字段抛出 IllegalArgumentException
+     */
+    private long readIntegral(int index, Object target) {
+        long offset = offsets[index];
+        switch (kinds[index]) {
+            case INT:
+                return UnsafeAccess.getInt(target, offset);
+            case LONG:
+                return UnsafeAccess.getLong(target, offset);
+            case BYTE:
+                return UnsafeAccess.getByte(target, offset);
+            case SHORT:
+                return UnsafeAccess.getShort(target, offset);
+            case CHAR:
+                return UnsafeAccess.getChar(target, offset);
+            default:
+                throw ExceptionUtil.invalidFieldIndex(index);
+        }
+    }
+
+    /**
+     * 按字段实际类型写入整数值：拓宽为 long、float、double，或带检查地窄化为更窄的整数类型
+     */
+    private void writeIntegral(int index, Object target, long value) {
+        switch (kinds[index]) {
+            case INT:
+                checkNarrowing(index, (int) value == value);
+                UnsafeAccess.putInt(target, writableOffset(index), (int) value);
+                return;
+            case LONG:
+                UnsafeAccess.putLong(target, writableOffset(index), value);
+                return;
+            case FLOAT:
+                UnsafeAccess.putFloat(target, writableOffset(index), (float) value);
+                return;
+            case DOUBLE:
+                UnsafeAccess.putDouble(target, writableOffset(index), (double) value);
+                return;
+            case BYTE:
+                checkNarrowing(index, (byte) value == value);
+                UnsafeAccess.putByte(target, writableOffset(index), (byte) value);
+                return;
+            case SHORT:
+                checkNarrowing(index, (short) value == value);
+                UnsafeAccess.putShort(target, writableOffset(index), (short) value);
+                return;
+            case CHAR:
+                checkNarrowing(index, (char) value == value);
+                UnsafeAccess.putChar(target, writableOffset(index), (char) value);
+                return;
+            default:
+                throw ExceptionUtil.invalidFieldIndex(index);
+        }
+    }
+
+    private static void checkNarrowing(int index, boolean exact) {
+        if (!exact) {
+            throw ExceptionUtil.fieldValueOutOfRange(index);
+        }
+    }
+
+    @Override
+    public Object get(int index, Object instance) {
+        Object target = check(instance);
+        long offset = offsets[index];
+        switch (kinds[index]) {
+            case INT:
+                return UnsafeAccess.getInt(target, offset);
+            case LONG:
+                return UnsafeAccess.getLong(target, offset);
+            case FLOAT:
+                return UnsafeAccess.getFloat(target, offset);
+            case DOUBLE:
+                return UnsafeAccess.getDouble(target, offset);
+            case BOOLEAN:
+                return UnsafeAccess.getBoolean(target, offset);
+            case BYTE:
+                return UnsafeAccess.getByte(target, offset);
+            case SHORT:
+                return UnsafeAccess.getShort(target, offset);
+            case CHAR:
+                return UnsafeAccess.getChar(target, offset);
+            default:
+                return UnsafeAccess.getObject(target, offset);
+        }
+    }
+
+    @Override
+    public void set(int index, Object instance, Object value) {
+        Object target = check(instance);
+        long offset = writableOffset(index);
+        switch (kinds[index]) {
+            case INT:
+                UnsafeAccess.putInt(target, offset, (Integer) value);
+                return;
+            case LONG:
+                UnsafeAccess.putLong(target, offset, (Long) value);
+                return;
+            case FLOAT:
+                UnsafeAccess.putFloat(target, offset, (Float) value);
+                return;
+            case DOUBLE:
+                UnsafeAccess.putDouble(target, offset, (Double) value);
+                return;
+            case BOOLEAN:
+                UnsafeAccess.putBoolean(target, offset, (Boolean) value);
+                return;
+            case BYTE:
+                UnsafeAccess.putByte(target, offset, (Byte) value);
+                return;
+            case SHORT:
+                UnsafeAccess.putShort(target, offset, (Short) value);
+                return;
+            case CHAR:
+                UnsafeAccess.putChar(target, offset, (Character) value);
+                return;
+            default:
+                UnsafeAccess.putObject(target, offset, types[index].cast(value));
+        }
+    }
+
+    @Override
+    public byte getByte(int index, Object instance) {
+        Object target = check(instance);
+        if (kinds[index] != BYTE) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.getByte(target, offsets[index]);
+    }
+
+    @Override
+    public short getShort(int index, Object instance) {
+        Object target = check(instance);
+        byte kind = kinds[index];
+        if (kind == SHORT) {
+            return UnsafeAccess.getShort(target, offsets[index]);
+        }
+        if (kind == BYTE) {
+            return UnsafeAccess.getByte(target, offsets[index]);
+        }
+        throw ExceptionUtil.invalidFieldIndex(index);
+    }
+
+    @Override
+    public int getInt(int index, Object instance) {
+        Object target = check(instance);
+        if (kinds[index] == INT) {
+            return UnsafeAccess.getInt(target, offsets[index]);
+        }
+        if (kinds[index] == LONG) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        // byte、short、char字段拓宽为int
+        return (int) readIntegral(index, target);
+    }
+
+    @Override
+    public long getLong(int index, Object instance) {
+        Object target = check(instance);
+        if (kinds[index] == LONG) {
+            return UnsafeAccess.getLong(target, offsets[index]);
+        }
+        // int及更窄的整数字段拓宽为long
+        return readIntegral(index, target);
+    }
+
+    @Override
+    public float getFloat(int index, Object instance) {
+        Object target = check(instance);
+        if (kinds[index] == FLOAT) {
+            return UnsafeAccess.getFloat(target, offsets[index]);
+        }
+        // 整数字段拓宽为float
+        return readIntegral(index, target);
+    }
+
+    @Override
+    public double getDouble(int index, Object instance) {
+        Object target = check(instance);
+        byte kind = kinds[index];
+        if (kind == DOUBLE) {
+            return UnsafeAccess.getDouble(target, offsets[index]);
+        }
+        if (kind == FLOAT) {
+            return UnsafeAccess.getFloat(target, offsets[index]);
+        }
+        // 整数字段拓宽为double
+        return readIntegral(index, target);
+    }
+
+    @Override
+    public boolean getBoolean(int index, Object instance) {
+        Object target = check(instance);
+        if (kinds[index] != BOOLEAN) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.getBoolean(target, offsets[index]);
+    }
+
+    @Override
+    public char getChar(int index, Object instance) {
+        Object target = check(instance);
+        if (kinds[index] != CHAR) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.getChar(target, offsets[index]);
+    }
+
+    @Override
+    public void setByte(int index, Object instance, byte value) {
+        Object target = check(instance);
+        if (kinds[index] == BYTE) {
+            UnsafeAccess.putByte(target, writableOffset(index), value);
+            return;
+        }
+        writeIntegral(index, target, value);
+    }
+
+    @Override
+    public void setShort(int index, Object instance, short value) {
+        Object target = check(instance);
+        if (kinds[index] == SHORT) {
+            UnsafeAccess.putShort(target, writableOffset(index), value);
+            return;
+        }
+        writeIntegral(index, target, value);
+    }
+
+    @Override
+    public void setInt(int index, Object instance, int value) {
+        Object target = check(instance);
+        if (kinds[index] == INT) {
+            UnsafeAccess.putInt(target, writableOffset(index), value);
+            return;
+        }
+        writeIntegral(index, target, value);
+    }
+
+    @Override
+    public void setLong(int index, Object instance, long value) {
+        Object target = check(instance);
+        if (kinds[index] == LONG) {
+            UnsafeAccess.putLong(target, writableOffset(index), value);
+            return;
+        }
+        writeIntegral(index, target, value);
+    }
+
+    @Override
+    public void setFloat(int index, Object instance, float value) {
+        Object target = check(instance);
+        byte kind = kinds[index];
+        if (kind == FLOAT) {
+            UnsafeAccess.putFloat(target, writableOffset(index), value);
+        } else if (kind == DOUBLE) {
+            // float值拓宽写入double字段
+            UnsafeAccess.putDouble(target, writableOffset(index), value);
+        } else {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+    }
+
+    @Override
+    public void setDouble(int index, Object instance, double value) {
+        Object target = check(instance);
+        byte kind = kinds[index];
+        if (kind == DOUBLE) {
+            UnsafeAccess.putDouble(target, writableOffset(index), value);
+        } else if (kind == FLOAT) {
+            // double值舍入写入float字段，有限值溢出为无穷大时拒绝
+            long offset = writableOffset(index);
+            float narrowed = (float) value;
+            checkNarrowing(index, !Float.isInfinite(narrowed) || Double.isInfinite(value));
+            UnsafeAccess.putFloat(target, offset, narrowed);
+        } else {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+    }
+
+    @Override
+    public void setBoolean(int index, Object instance, boolean value) {
+        Object target = check(instance);
+        if (kinds[index] != BOOLEAN) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        UnsafeAccess.putBoolean(target, writableOffset(index), value);
+    }
+
+    @Override
+    public void setChar(int index, Object instance, char value) {
+        Object target = check(instance);
+        if (kinds[index] == CHAR) {
+            UnsafeAccess.putChar(target, writableOffset(index), value);
+            return;
+        }
+        writeIntegral(index, target, value);
+    }
+
+    @Override
+    public Object getVolatile(int index, Object instance) {
+        Object target = check(instance);
+        long offset = offsets[index];
+        switch (kinds[index]) {
+            case INT:
+                return UnsafeAccess.getIntVolatile(target, offset);
+            case LONG:
+                return UnsafeAccess.getLongVolatile(target, offset);
+            case FLOAT:
+                return UnsafeAccess.getFloatVolatile(target, offset);
+            case DOUBLE:
+                return UnsafeAccess.getDoubleVolatile(target, offset);
+            case BOOLEAN:
+                return UnsafeAccess.getBooleanVolatile(target, offset);
+            case BYTE:
+                return UnsafeAccess.getByteVolatile(target, offset);
+            case SHORT:
+                return UnsafeAccess.getShortVolatile(target, offset);
+            case CHAR:
+                return UnsafeAccess.getCharVolatile(target, offset);
+            default:
+                return UnsafeAccess.getObjectVolatile(target, offset);
+        }
+    }
+
+    @Override
+    public void setVolatile(int index, Object instance, Object value) {
+        Object target = check(instance);
+        long offset = writableOffset(index);
+        switch (kinds[index]) {
+            case INT:
+                UnsafeAccess.putIntVolatile(target, offset, (Integer) value);
+                return;
+            case LONG:
+                UnsafeAccess.putLongVolatile(target, offset, (Long) value);
+                return;
+            case FLOAT:
+                UnsafeAccess.putFloatVolatile(target, offset, (Float) value);
+                return;
+            case DOUBLE:
+                UnsafeAccess.putDoubleVolatile(target, offset, (Double) value);
+                return;
+            case BOOLEAN:
+                UnsafeAccess.putBooleanVolatile(target, offset, (Boolean) value);
+                return;
+            case BYTE:
+                UnsafeAccess.putByteVolatile(target, offset, (Byte) value);
+                return;
+            case SHORT:
+                UnsafeAccess.putShortVolatile(target, offset, (Short) value);
+                return;
+            case CHAR:
+                UnsafeAccess.putCharVolatile(target, offset, (Character) value);
+                return;
+            default:
+                UnsafeAccess.putObjectVolatile(target, offset, types[index].cast(value));
+        }
+    }
+
+    /**
+     * sun.misc.Unsafe 没有单独的 acquire 读取，使用更强的 volatile 读取。
+     */
+    @Override
+    public Object getAcquire(int index, Object instance) {
+        return getVolatile(index, instance);
+    }
+
+    /**
+     * int、long、引用类型字段使用 {@code putOrdered*}（release 语义），其余类型使用更强的 volatile 写入。
+     */
+    @Override
+    public void setRelease(int index, Object instance, Object value) {
+        Object target = check(instance);
+        long offset = writableOffset(index);
+        switch (kinds[index]) {
+            case INT:
+                UnsafeAccess.putOrderedInt(target, offset, (Integer) value);
+                return;
+            case LONG:
+                UnsafeAccess.putOrderedLong(target, offset, (Long) value);
+                return;
+            case REFERENCE:
+                UnsafeAccess.putOrderedObject(target, offset, types[index].cast(value));
+                return;
+            default:
+                setVolatile(index, target, value);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetInt(int index, Object instance, int expected, int newValue) {
+        Object target = check(instance);
+        if (kinds[index] != INT) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.compareAndSwapInt(target, writableOffset(index), expected, newValue);
+    }
+
+    @Override
+    public boolean compareAndSetLong(int index, Object instance, long expected, long newValue) {
+        Object target = check(instance);
+        if (kinds[index] != LONG) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.compareAndSwapLong(target, writableOffset(index), expected, newValue);
+    }
+
+    @Override
+    public boolean compareAndSetReference(int index, Object instance, Object expected, Object newValue) {
+        Object target = check(instance);
+        if (kinds[index] != REFERENCE) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.compareAndSwapObject(target, writableOffset(index), expected, types[index].cast(newValue));
+    }
+
+    @Override
+    public int getAndAddInt(int index, Object instance, int delta) {
+        Object target = check(instance);
+        if (kinds[index] != INT) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.getAndAddInt(target, writableOffset(index), delta);
+    }
+
+    @Override
+    public long getAndAddLong(int index, Object instance, long delta) {
+        Object target = check(instance);
+        if (kinds[index] != LONG) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return UnsafeAccess.getAndAddLong(target, writableOffset(index), delta);
+    }
+
+    @Override
+    public void readAll(Object instance, long[] prims, Object[] refs) {
+        Object target = check(instance);
+        // 基本类型在前，基本类型槽位即字段索引
+        for (int i = 0; i < primitiveCount; i++) {
+            long offset = offsets[i];
+            switch (kinds[i]) {
+                case FLOAT:
+                    prims[i] = Float.floatToRawIntBits(UnsafeAccess.getFloat(target, offset));
+                    break;
+                case DOUBLE:
+                    prims[i] = Double.doubleToRawLongBits(UnsafeAccess.getDouble(target, offset));
+                    break;
+                case BOOLEAN:
+                    prims[i] = UnsafeAccess.getBoolean(target, offset) ? 1L : 0L;
+                    break;
+                default:
+                    prims[i] = readIntegral(i, target);
+            }
+        }
+        for (int i = primitiveCount; i < offsets.length; i++) {
+            refs[i - primitiveCount] = UnsafeAccess.getObject(target, offsets[i]);
+        }
+    }
+
+    @Override
+    public void writeAll(Object instance, long[] prims, Object[] refs) {
+        Object target = check(instance);
+        // 先检查引用类型值，避免写入一半后失败
+        for (int i = primitiveCount; i < offsets.length; i++) {
+            if (!finalFields[i]) {
+                types[i].cast(refs[i - primitiveCount]);
+            }
+        }
+        for (int i = 0; i < primitiveCount; i++) {
+            if (finalFields[i]) {
+                continue;
+            }
+            long offset = offsets[i];
+            long value = prims[i];
+            switch (kinds[i]) {
+                case INT:
+                    UnsafeAccess.putInt(target, offset, (int) value);
+                    break;
+                case LONG:
+                    UnsafeAccess.putLong(target, offset, value);
+                    break;
+                case FLOAT:
+                    UnsafeAccess.putFloat(target, offset, Float.intBitsToFloat((int) value));
+                    break;
+                case DOUBLE:
+                    UnsafeAccess.putDouble(target, offset, Double.longBitsToDouble(value));
+                    break;
+                case BOOLEAN:
+                    UnsafeAccess.putBoolean(target, offset, value != 0L);
+                    break;
+                case BYTE:
+                    UnsafeAccess.putByte(target, offset, (byte) value);
+                    break;
+                case SHORT:
+                    UnsafeAccess.putShort(target, offset, (short) value);
+                    break;
+                default:
+                    UnsafeAccess.putChar(target, offset, (char) value);
+            }
+        }
+        for (int i = primitiveCount; i < offsets.length; i++) {
+            if (!finalFields[i]) {
+                UnsafeAccess.putObject(target, offsets[i], refs[i - primitiveCount]);
+            }
+        }
+    }
+
+    @Override
+    public void copyFields(Object src, Object dst) {
+        Object source = check(src);
+        Object target = check(dst);
+        // 源与目标同为目标类实例，同一偏移量上的值类型一致，按字段宽度复制即可
+        for (int i = 0; i < offsets.length; i++) {
+            if (finalFields[i]) {
+                continue;
+            }
+            long offset = offsets[i];
+            switch (kinds[i]) {
+                case INT:
+                case FLOAT:
+                    UnsafeAccess.putInt(target, offset, UnsafeAccess.getInt(source, offset));
+                    break;
+                case LONG:
+                case DOUBLE:
+                    UnsafeAccess.putLong(target, offset, UnsafeAccess.getLong(source, offset));
+                    break;
+                case BOOLEAN:
+                case BYTE:
+                    UnsafeAccess.putByte(target, offset, UnsafeAccess.getByte(source, offset));
+                    break;
+                case SHORT:
+                case CHAR:
+                    UnsafeAccess.putShort(target, offset, UnsafeAccess.getShort(source, offset));
+                    break;
+                default:
+                    UnsafeAccess.putObject(target, offset, UnsafeAccess.getObject(source, offset));
+            }
+        }
+    }
+
+    @Override
+    public Object shallowClone(Object src) {
+        check(src);
+        if (noArgConstructor == null) {
+            throw new IllegalStateException("No accessible no-arg constructor: " + targetClass.getName());
+        }
+        Object dst;
+        try {
+            dst = (Object) noArgConstructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+        copyFields(src, dst);
+        return dst;
+    }
+
+    @Override
+    public void reset(Object instance) {
+        Object target = check(instance);
+        for (int i = 0; i < offsets.length; i++) {
+            if (finalFields[i]) {
+                continue;
+            }
+            long offset = offsets[i];
+            switch (kinds[i]) {
+                case INT:
+                case FLOAT:
+                    UnsafeAccess.putInt(target, offset, 0);
+                    break;
+                case LONG:
+                case DOUBLE:
+                    UnsafeAccess.putLong(target, offset, 0L);
+                    break;
+                case BOOLEAN:
+                case BYTE:
+                    UnsafeAccess.putByte(target, offset, (byte) 0);
+                    break;
+                case SHORT:
+                case CHAR:
+                    UnsafeAccess.putShort(target, offset, (short) 0);
+                    break;
+                default:
+                    UnsafeAccess.putObject(target, offset, null);
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.ConstantDynamic;
+import net.bytebuddy.jar.asm.Handle;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * 字段原子与内存序操作字节码实现，通过动态常量（{@code CONSTANT_Dynamic}）形式的VarHandle访问字段。
+ * <p>
+ * 每个 case 分支形如：
+ * <pre>
+ * case i: return ((VarHandle) ldc[ConstantBootstraps.fieldVarHandle(Declaring.class, "name", type.class)])
+ *         .compareAndSet((Declaring) instance, expected, newValue);
+ * </pre>
+ * 动态常量在对应分支第一次执行时才通过生成类自身的Lookup解析（隐藏嵌套成员模式下可以访问private字段），
+ * 之后由常量池缓存；不使用原子操作的调用器不会为任何字段查找VarHandle，类初始化也没有额外开销。
+ * 同一字段的各个方法共享同一个常量池项。VarHandle 调用使用与字段完全一致的签名（坐标为字段声明类，值为字段类型），
+ * 解析后的动态常量被JIT视为常量，可以内联为 CAS、带屏障的读写等硬件指令。
+ * <p>
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>使用tableswitch实现O(1)索引到字段的映射</li>
+ *   <li>字段类型不匹配或写操作遇到final字段时跳转到default分支</li>
+ *   <li>default分支抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2: Object instance
+ * slot 3..: 操作参数（expected/newValue、delta 或 value）
+ * slot n: Target castedInstance（紧随参数之后）
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldVarHandleByteCode implements Implementation {
+
+    private static final String CONSTANT_BOOTSTRAPS = "java/lang/invoke/ConstantBootstraps";
+
+    /**
+     * {@code ConstantBootstraps.fieldVarHandle(Lookup, String, Class, Class, Class)}
+     */
+    private static final Handle FIELD_VAR_HANDLE = new Handle(Opcodes.H_INVOKESTATIC, CONSTANT_BOOTSTRAPS, "fieldVarHandle",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;Ljava/lang/Class;Ljava/lang/Class;)"
+                    + "Ljava/lang/invoke/VarHandle;", false);
+
+    /**
+     * {@code ConstantBootstraps.primitiveClass(Lookup, String, Class)}
+     */
+    private static final Handle PRIMITIVE_CLASS = new Handle(Opcodes.H_INVOKESTATIC, CONSTANT_BOOTSTRAPS, "primitiveClass",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Class;", false);
+
+    /**
+     * 目标类，用于实例类型转换。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 字段列表，按索引顺序排列。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 第一个字段对应的全局索引，非分片场景下为 0。
+     */
+    private final int indexOffset;
+
+    /**
+     * VarHandle 访问模式，支持 GET_VOLATILE、SET_VOLATILE、GET_ACQUIRE、SET_RELEASE、COMPARE_AND_SET、GET_AND_ADD。
+     */
+    private final VarHandle.AccessMode accessMode;
+
+    /**
+     * 操作的字段类型：基本类型只处理该类型字段，{@code Object.class} 只处理引用类型字段，
+     * {@code null} 处理所有字段（值以 Object 装箱传递）。
+     */
+    private final Class<?> valueType;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass 目标类
+     * @param fields      字段列表
+     * @param indexOffset 第一个字段对应的全局索引
+     * @param accessMode  VarHandle 访问模式
+     * @param valueType   操作的字段类型，{@code null} 表示所有字段
+     */
+    public FieldVarHandleByteCode(Class<?> targetClass, List<Field> fields, int indexOffset,
+                                  VarHandle.AccessMode accessMode, Class<?> valueType) {
+        this.targetClass = targetClass;
+        this.fields = fields;
+        this.indexOffset = indexOffset;
+        this.accessMode = accessMode;
+        this.valueType = valueType;
+    }
+
+    private boolean isWrite() {
+        return accessMode != VarHandle.AccessMode.GET_VOLATILE && accessMode != VarHandle.AccessMode.GET_ACQUIRE;
+    }
+
+    private boolean supports(Field field) {
+        if (isWrite() && Modifier.isFinal(field.getModifiers())) {
+            return false;
+        }
+        if (valueType == null) {
+            return true;
+        }
+        if (valueType == Object.class) {
+            return !field.getType().isPrimitive();
+        }
+        return field.getType() == valueType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            // ============================================================
+            // 步骤1: 将 instance 转换为目标类型，存放在参数之后的第一个 slot
+            // ============================================================
+            int castedInstanceSlot = md.getStackSize();
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(targetClass));
+            mv.visitVarInsn(Opcodes.ASTORE, castedInstanceSlot);
+
+            // ============================================================
+            // 步骤2: 加载索引并生成 switch
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[fields.size()];
+            for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+            mv.visitTableSwitchInsn(indexOffset, indexOffset + fields.size() - 1, defaultLabel, labels);
+
+            // ============================================================
+            // 步骤3: 生成 case 分支
+            // ============================================================
+            for (int i = 0; i < fields.size(); i++) {
+                Field f = fields.get(i);
+                mv.visitLabel(labels[i]);
+
+                if (!supports(f)) {
+                    mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+                    continue;
+                }
+
+                mv.visitLdcInsn(varHandleConstant(f));
+                mv.visitVarInsn(Opcodes.ALOAD, castedInstanceSlot);
+                invoke(mv, f);
+            }
+
+            // ============================================================
+            // 步骤4: 处理 default 分支
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+
+            AsmUtil.throwIAEForField(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    /**
+     * 生成加载操作参数、调用 VarHandle 并返回的字节码
+     *
+     * @param mv 方法访问器
+     * @param f  字段
+     */
+    private void invoke(MethodVisitor mv, Field f) {
+        Class<?> type = f.getType();
+        String coordinate = Type.getDescriptor(f.getDeclaringClass());
+        String value = Type.getDescriptor(type);
+        String descriptor;
+
+        switch (accessMode) {
+            case GET_VOLATILE, GET_ACQUIRE -> {
+                descriptor = "(" + coordinate + ")" + value;
+                callVarHandle(mv, descriptor);
+                AsmUtil.boxIfNeeded(mv, type);
+                mv.visitInsn(Opcodes.ARETURN);
+            }
+            case SET_VOLATILE, SET_RELEASE -> {
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                AsmUtil.unboxOrCast(mv, type);
+                descriptor = "(" + coordinate + value + ")V";
+                callVarHandle(mv, descriptor);
+                mv.visitInsn(Opcodes.RETURN);
+            }
+            case COMPARE_AND_SET -> {
+                if (type.isPrimitive()) {
+                    mv.visitVarInsn(AsmUtil.getLoadOpcode(type), 3);
+                    mv.visitVarInsn(AsmUtil.getLoadOpcode(type), 3 + AsmUtil.slotSize(type));
+                } else {
+                    mv.visitVarInsn(Opcodes.ALOAD, 3);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+                    mv.visitVarInsn(Opcodes.ALOAD, 4);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+                }
+                descriptor = "(" + coordinate + value + value + ")Z";
+                callVarHandle(mv, descriptor);
+                mv.visitInsn(Opcodes.IRETURN);
+            }
+            case GET_AND_ADD -> {
+                mv.visitVarInsn(AsmUtil.getLoadOpcode(type), 3);
+                descriptor = "(" + coordinate + value + ")" + value;
+                callVarHandle(mv, descriptor);
+                mv.visitInsn(AsmUtil.getReturnOpcode(type));
+            }
+            default -> throw new UnsupportedOperationException(accessMode.toString());
+        }
+    }
+
+    /**
+     * 创建字段VarHandle的动态常量，基本类型字段的类型参数通过 {@code ConstantBootstraps.primitiveClass} 获取
+     *
+     * @param f 字段
+     * @return 动态常量
+     */
+    private static ConstantDynamic varHandleConstant(Field f) {
+        Class<?> type = f.getType();
+        Object typeConstant = type.isPrimitive()
+                ? new ConstantDynamic(Type.getDescriptor(type), "Ljava/lang/Class;", PRIMITIVE_CLASS)
+                : Type.getType(type);
+        return new ConstantDynamic(f.getName(), "Ljava/lang/invoke/VarHandle;", FIELD_VAR_HANDLE,
+                Type.getType(f.getDeclaringClass()), typeConstant);
+    }
+
+    private void callVarHandle(MethodVisitor mv, String descriptor) {
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/invoke/VarHandle", accessMode.methodName(), descriptor, false);
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
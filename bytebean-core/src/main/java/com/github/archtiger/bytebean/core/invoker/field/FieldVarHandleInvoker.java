@@ -2,22 +2,33 @@ package com.github.archtiger.bytebean.core.invoker.field;
 
 import com.github.archtiger.bytebean.api.field.FieldInvoker;
 import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ExceptionUtil;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 基于VarHandle的字段访问器，为大量字段场景提供高性能字段读写能力。
  * <p>
- * 当类的字段数量超过阈值（默认500）时，使用VarHandle实现而非字节码生成。
+ * 当类的字段数量超过阈值（默认500）且无法分片生成字节码时，使用VarHandle实现而非字节码生成。
  * VarHandle是Java 9引入的轻量级对象引用和数组访问API，性能接近直接字节码访问。
  * <p>
+ * 字段已按类型分组排序（见 {@link ByteBeanReflectUtil#getFields(Class)}），同类型字段索引连续，
+ * 因此基本类型访问采用与 {@code MethodHandleInvoker} 相同的紧凑数组+偏移量方式，
+ * 每个Handle都适配为精确签名（如 {@code (Object)int}、{@code (Object,int)void}）并通过
+ * {@code invokeExact} 调用，避免装箱和签名适配开销。字段类型与访问类型不同时，
+ * 按字段实际类型委托给对应的精确访问方法，再在Java代码中完成拓宽或带检查的窄化转换。
+ * <p>
  * <b>特点：</b>
  * <ul>
  *   <li>使用privateLookupIn支持私有字段访问</li>
- *   <li>相比反射调用，性能提升约3-5倍</li>
+ *   <li>基本类型读写无装箱，与字节码访问器一样支持拓宽读取与带检查的窄化写入</li>
  *   <li>内存占用小，无字节码生成开销</li>
  * </ul>
  *
@@ -31,14 +42,192 @@ public final class FieldVarHandleInvoker extends FieldInvoker {
      */
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
+    /**
+     * 空MethodHandle数组，用于不存在对应类型字段的情况。
+     */
+    private static final MethodHandle[] EMPTY_HANDLES = new MethodHandle[0];
+
     /**
      * VarHandle数组，按字段索引排列。
-     * 每个VarHandle对应一个字段，支持直接读写。
+     * 每个VarHandle对应一个字段，用于通用的Object读写。
      */
     private final VarHandle[] varHandles;
 
-    private FieldVarHandleInvoker(VarHandle[] varHandles) {
+    // 基本类型优化：紧凑数组 + 偏移量
+
+    /**
+     * int字段getter的紧凑数组，类型为 (Object)int。
+     */
+    private final MethodHandle[] intGetters;
+
+    /**
+     * int字段setter的紧凑数组，类型为 (Object,int)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] intSetters;
+
+    /**
+     * intGetters/intSetters在索引空间的起始偏移量。
+     */
+    private final int intOffset;
+
+    /**
+     * long字段getter的紧凑数组，类型为 (Object)long。
+     */
+    private final MethodHandle[] longGetters;
+
+    /**
+     * long字段setter的紧凑数组，类型为 (Object,long)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] longSetters;
+
+    /**
+     * longGetters/longSetters在索引空间的起始偏移量。
+     */
+    private final int longOffset;
+
+    /**
+     * float字段getter的紧凑数组，类型为 (Object)float。
+     */
+    private final MethodHandle[] floatGetters;
+
+    /**
+     * float字段setter的紧凑数组，类型为 (Object,float)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] floatSetters;
+
+    /**
+     * floatGetters/floatSetters在索引空间的起始偏移量。
+     */
+    private final int floatOffset;
+
+    /**
+     * double字段getter的紧凑数组，类型为 (Object)double。
+     */
+    private final MethodHandle[] doubleGetters;
+
+    /**
+     * double字段setter的紧凑数组，类型为 (Object,double)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] doubleSetters;
+
+    /**
+     * doubleGetters/doubleSetters在索引空间的起始偏移量。
+     */
+    private final int doubleOffset;
+
+    /**
+     * boolean字段getter的紧凑数组，类型为 (Object)boolean。
+     */
+    private final MethodHandle[] booleanGetters;
+
+    /**
+     * boolean字段setter的紧凑数组，类型为 (Object,boolean)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] booleanSetters;
+
+    /**
+     * booleanGetters/booleanSetters在索引空间的起始偏移量。
+     */
+    private final int booleanOffset;
+
+    /**
+     * byte字段getter的紧凑数组，类型为 (Object)byte。
+     */
+    private final MethodHandle[] byteGetters;
+
+    /**
+     * byte字段setter的紧凑数组，类型为 (Object,byte)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] byteSetters;
+
+    /**
+     * byteGetters/byteSetters在索引空间的起始偏移量。
+     */
+    private final int byteOffset;
+
+    /**
+     * short字段getter的紧凑数组，类型为 (Object)short。
+     */
+    private final MethodHandle[] shortGetters;
+
+    /**
+     * short字段setter的紧凑数组，类型为 (Object,short)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] shortSetters;
+
+    /**
+     * shortGetters/shortSetters在索引空间的起始偏移量。
+     */
+    private final int shortOffset;
+
+    /**
+     * char字段getter的紧凑数组，类型为 (Object)char。
+     */
+    private final MethodHandle[] charGetters;
+
+    /**
+     * char字段setter的紧凑数组，类型为 (Object,char)void；final字段对应位置为null。
+     */
+    private final MethodHandle[] charSetters;
+
+    /**
+     * charGetters/charSetters在索引空间的起始偏移量。
+     */
+    private final int charOffset;
+
+    /**
+     * 基本类型字段数量，也是第一个引用类型字段的索引。
+     */
+    private final int primitiveCount;
+
+    /**
+     * 字段是否为final，按字段索引排列，批量写入时跳过final字段。
+     */
+    private final boolean[] finalFields;
+
+    /**
+     * 无参构造器Handle，类型为 ()Object，目标类没有无参构造器时为null。
+     */
+    private final MethodHandle noArgConstructor;
+
+    /**
+     * 目标类名称，用于异常信息。
+     */
+    private final String targetClassName;
+
+    private FieldVarHandleInvoker(Class<?> targetClass, List<Field> fields, VarHandle[] varHandles, MethodHandle noArgConstructor) {
         this.varHandles = varHandles;
+        this.noArgConstructor = noArgConstructor;
+        this.targetClassName = targetClass.getName();
+        this.primitiveCount = FieldInvokerGenerator.primitiveCount(fields);
+        this.finalFields = new boolean[fields.size()];
+        for (int i = 0; i < finalFields.length; i++) {
+            finalFields[i] = Modifier.isFinal(fields.get(i).getModifiers());
+        }
+        this.intGetters = getters(fields, varHandles, int.class);
+        this.intSetters = setters(fields, varHandles, int.class);
+        this.intOffset = offset(fields, int.class);
+        this.longGetters = getters(fields, varHandles, long.class);
+        this.longSetters = setters(fields, varHandles, long.class);
+        this.longOffset = offset(fields, long.class);
+        this.floatGetters = getters(fields, varHandles, float.class);
+        this.floatSetters = setters(fields, varHandles, float.class);
+        this.floatOffset = offset(fields, float.class);
+        this.doubleGetters = getters(fields, varHandles, double.class);
+        this.doubleSetters = setters(fields, varHandles, double.class);
+        this.doubleOffset = offset(fields, double.class);
+        this.booleanGetters = getters(fields, varHandles, boolean.class);
+        this.booleanSetters = setters(fields, varHandles, boolean.class);
+        this.booleanOffset = offset(fields, boolean.class);
+        this.byteGetters = getters(fields, varHandles, byte.class);
+        this.byteSetters = setters(fields, varHandles, byte.class);
+        this.byteOffset = offset(fields, byte.class);
+        this.shortGetters = getters(fields, varHandles, short.class);
+        this.shortSetters = setters(fields, varHandles, short.class);
+        this.shortOffset = offset(fields, short.class);
+        this.charGetters = getters(fields, varHandles, char.class);
+        this.charSetters = setters(fields, varHandles, char.class);
+        this.charOffset = offset(fields, char.class);
     }
 
     /**
@@ -50,15 +239,220 @@ public final class FieldVarHandleInvoker extends FieldInvoker {
     public static FieldVarHandleInvoker of(Class<?> targetClass) {
         List<Field> fields = ByteBeanReflectUtil.getFields(targetClass);
         VarHandle[] varHandles = new VarHandle[fields.size()];
+        MethodHandle noArgConstructor;
         try {
             MethodHandles.Lookup privateLookup = MethodHandles.privateLookupIn(targetClass, LOOKUP);
             for (int i = 0; i < varHandles.length; i++) {
-                varHandles[i] = privateLookup.findVarHandle(targetClass, fields.get(i).getName(), fields.get(i).getType());
+                Field field = fields.get(i);
+                varHandles[i] = privateLookup.findVarHandle(field.getDeclaringClass(), field.getName(), field.getType());
             }
+            noArgConstructor = findNoArgConstructor(privateLookup, targetClass);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
-        return new FieldVarHandleInvoker(varHandles);
+        return new FieldVarHandleInvoker(targetClass, fields, varHandles, noArgConstructor);
+    }
+
+    /**
+     * 查找无参构造器并适配为 ()Object 签名
+     *
+     * @param lookup      目标类的私有Lookup
+     * @param targetClass 目标类
+     * @return 无参构造器Handle，不存在或目标类为抽象类时返回null
+     */
+    static MethodHandle findNoArgConstructor(MethodHandles.Lookup lookup, Class<?> targetClass) throws IllegalAccessException {
+        if (Modifier.isAbstract(targetClass.getModifiers())) {
+            return null;
+        }
+        try {
+            return lookup.findConstructor(targetClass, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 计算指定基本类型字段在索引空间的起始偏移量
+     *
+     * @param fields 已按类型分组排序的字段列表
+     * @param type   基本类型
+     * @return 第一个该类型字段的索引，不存在时返回0
+     */
+    private static int offset(List<Field> fields, Class<?> type) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getType() == type) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 构建指定基本类型字段的精确getter紧凑数组，签名为 (Object)type
+     *
+     * @param fields     已按类型分组排序的字段列表
+     * @param varHandles VarHandle数组
+     * @param type       基本类型
+     * @return getter数组
+     */
+    private static MethodHandle[] getters(List<Field> fields, VarHandle[] varHandles, Class<?> type) {
+        int offset = offset(fields, type);
+        int count = count(fields, type);
+        if (count == 0) {
+            return EMPTY_HANDLES;
+        }
+        MethodType getterType = MethodType.methodType(type, Object.class);
+        MethodHandle[] getters = new MethodHandle[count];
+        for (int i = 0; i < count; i++) {
+            getters[i] = varHandles[offset + i].toMethodHandle(VarHandle.AccessMode.GET).asType(getterType);
+        }
+        return getters;
+    }
+
+    /**
+     * 构建指定基本类型字段的精确setter紧凑数组，签名为 (Object,type)void，final字段对应位置为null
+     *
+     * @param fields     已按类型分组排序的字段列表
+     * @param varHandles VarHandle数组
+     * @param type       基本类型
+     * @return setter数组
+     */
+    private static MethodHandle[] setters(List<Field> fields, VarHandle[] varHandles, Class<?> type) {
+        int offset = offset(fields, type);
+        int count = count(fields, type);
+        if (count == 0) {
+            return EMPTY_HANDLES;
+        }
+        MethodType setterType = MethodType.methodType(void.class, Object.class, type);
+        MethodHandle[] setters = new MethodHandle[count];
+        for (int i = 0; i < count; i++) {
+            if (Modifier.isFinal(fields.get(offset + i).getModifiers())) {
+                continue;
+            }
+            setters[i] = varHandles[offset + i].toMethodHandle(VarHandle.AccessMode.SET).asType(setterType);
+        }
+        return setters;
+    }
+
+    private static int count(List<Field> fields, Class<?> type) {
+        int count = 0;
+        for (Field field : fields) {
+            if (field.getType() == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 将全局字段索引转换为紧凑数组下标
+     * <p>
+     * 索引越界时抛出 IndexOutOfBoundsException；索引有效但字段类型不匹配时抛出 IllegalArgumentException。
+     *
+     * @param index  全局字段索引
+     * @param offset 紧凑数组偏移量
+     * @param length 紧凑数组长度
+     * @return 紧凑数组下标
+     */
+    private int slot(int index, int offset, int length) {
+        Objects.checkIndex(index, varHandles.length);
+        int slot = index - offset;
+        if (slot < 0 || slot >= length) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return slot;
+    }
+
+    /**
+     * 判断全局字段索引是否落在指定类型的紧凑数组内
+     * <p>
+     * 索引越界时抛出 IndexOutOfBoundsException。
+     *
+     * @param index  全局字段索引
+     * @param offset 紧凑数组偏移量
+     * @param length 紧凑数组长度
+     * @return 字段类型是否与紧凑数组类型一致
+     */
+    private boolean hasSlot(int index, int offset, int length) {
+        Objects.checkIndex(index, varHandles.length);
+        int slot = index - offset;
+        return slot >= 0 && slot < length;
+    }
+
+    /**
+     * 获取能够接收指定类型值的字段类型，既不能拓宽也不能带检查窄化时抛出 IllegalArgumentException
+     *
+     * @param index     全局字段索引
+     * @param valueType 写入值类型
+     * @return 字段类型
+     */
+    private Class<?> convertibleFieldType(int index, Class<?> valueType) {
+        Class<?> fieldType = varHandles[index].varType();
+        if (!ByteBeanReflectUtil.isWidening(valueType, fieldType) && !ByteBeanReflectUtil.isCheckedNarrowing(valueType, fieldType)) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return fieldType;
+    }
+
+    /**
+     * 按字段实际类型写入整数值：拓宽为 long、float、double，或带检查地窄化为更窄的整数类型
+     *
+     * @param index     全局字段索引
+     * @param instance  目标对象实例
+     * @param value     写入值（已拓宽为long）
+     * @param valueType 写入值的原始类型
+     */
+    private void setIntegral(int index, Object instance, long value, Class<?> valueType) {
+        Class<?> fieldType = convertibleFieldType(index, valueType);
+        if (fieldType == long.class) {
+            setLong(index, instance, value);
+        } else if (fieldType == float.class) {
+            setFloat(index, instance, (float) value);
+        } else if (fieldType == double.class) {
+            setDouble(index, instance, (double) value);
+        } else if (fieldType == int.class) {
+            checkNarrowing(index, (int) value == value);
+            setInt(index, instance, (int) value);
+        } else if (fieldType == short.class) {
+            checkNarrowing(index, (short) value == value);
+            setShort(index, instance, (short) value);
+        } else if (fieldType == char.class) {
+            checkNarrowing(index, (char) value == value);
+            setChar(index, instance, (char) value);
+        } else {
+            checkNarrowing(index, (byte) value == value);
+            setByte(index, instance, (byte) value);
+        }
+    }
+
+    private static void checkNarrowing(int index, boolean exact) {
+        if (!exact) {
+            throw ExceptionUtil.fieldValueOutOfRange(index);
+        }
+    }
+
+    /**
+     * 获取可写字段的VarHandle，final字段抛出 IllegalArgumentException
+     *
+     * @param index 全局字段索引
+     * @return VarHandle
+     */
+    private VarHandle writable(int index) {
+        if (finalFields[index]) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        return varHandles[index];
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(e);
     }
 
     @Override
@@ -73,81 +467,504 @@ public final class FieldVarHandleInvoker extends FieldInvoker {
 
     @Override
     public byte getByte(int index, Object instance) {
-        return (byte) varHandles[index].get(instance);
+        MethodHandle getter = byteGetters[slot(index, byteOffset, byteGetters.length)];
+        try {
+            return (byte) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public short getShort(int index, Object instance) {
-        return (short) varHandles[index].get(instance);
+        if (!hasSlot(index, shortOffset, shortGetters.length)) {
+            // byte字段拓宽为short
+            return getByte(index, instance);
+        }
+        MethodHandle getter = shortGetters[index - shortOffset];
+        try {
+            return (short) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public int getInt(int index, Object instance) {
-        return (int) varHandles[index].get(instance);
+        if (!hasSlot(index, intOffset, intGetters.length)) {
+            // byte、short、char字段拓宽为int
+            return varHandles[index].varType() == char.class ? getChar(index, instance) : getShort(index, instance);
+        }
+        MethodHandle getter = intGetters[index - intOffset];
+        try {
+            return (int) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public long getLong(int index, Object instance) {
-        return (long) varHandles[index].get(instance);
+        if (!hasSlot(index, longOffset, longGetters.length)) {
+            // int及更窄的整数字段拓宽为long
+            return getInt(index, instance);
+        }
+        MethodHandle getter = longGetters[index - longOffset];
+        try {
+            return (long) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public float getFloat(int index, Object instance) {
-        return (float) varHandles[index].get(instance);
+        if (!hasSlot(index, floatOffset, floatGetters.length)) {
+            // 整数字段拓宽为float
+            return getLong(index, instance);
+        }
+        MethodHandle getter = floatGetters[index - floatOffset];
+        try {
+            return (float) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public double getDouble(int index, Object instance) {
-        return (double) varHandles[index].get(instance);
+        if (!hasSlot(index, doubleOffset, doubleGetters.length)) {
+            // float与整数字段拓宽为double
+            return varHandles[index].varType() == float.class ? getFloat(index, instance) : getLong(index, instance);
+        }
+        MethodHandle getter = doubleGetters[index - doubleOffset];
+        try {
+            return (double) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public boolean getBoolean(int index, Object instance) {
-        return (boolean) varHandles[index].get(instance);
+        MethodHandle getter = booleanGetters[slot(index, booleanOffset, booleanGetters.length)];
+        try {
+            return (boolean) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public char getChar(int index, Object instance) {
-        return (char) varHandles[index].get(instance);
+        MethodHandle getter = charGetters[slot(index, charOffset, charGetters.length)];
+        try {
+            return (char) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setByte(int index, Object instance, byte value) {
-        varHandles[index].set(instance, value);
+        if (!hasSlot(index, byteOffset, byteSetters.length)) {
+            setIntegral(index, instance, value, byte.class);
+            return;
+        }
+        MethodHandle setter = byteSetters[index - byteOffset];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setShort(int index, Object instance, short value) {
-        varHandles[index].set(instance, value);
+        if (!hasSlot(index, shortOffset, shortSetters.length)) {
+            setIntegral(index, instance, value, short.class);
+            return;
+        }
+        MethodHandle setter = shortSetters[index - shortOffset];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setInt(int index, Object instance, int value) {
-        varHandles[index].set(instance, value);
+        if (!hasSlot(index, intOffset, intSetters.length)) {
+            setIntegral(index, instance, value, int.class);
+            return;
+        }
+        MethodHandle setter = intSetters[index - intOffset];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setLong(int index, Object instance, long value) {
-        varHandles[index].set(instance, value);
+        if (!hasSlot(index, longOffset, longSetters.length)) {
+            setIntegral(index, instance, value, long.class);
+            return;
+        }
+        MethodHandle setter = longSetters[index - longOffset];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setFloat(int index, Object instance, float value) {
-        varHandles[index].set(instance, value);
+        if (!hasSlot(index, floatOffset, floatSetters.length)) {
+            // float值只能拓宽写入double字段
+            convertibleFieldType(index, float.class);
+            setDouble(index, instance, value);
+            return;
+        }
+        MethodHandle setter = floatSetters[index - floatOffset];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setDouble(int index, Object instance, double value) {
-        varHandles[index].set(instance, value);
+        if (!hasSlot(index, doubleOffset, doubleSetters.length)) {
+            // double值舍入写入float字段，有限值溢出为无穷大时拒绝
+            convertibleFieldType(index, double.class);
+            float narrowed = (float) value;
+            if (Float.isInfinite(narrowed) && !Double.isInfinite(value)) {
+                throw ExceptionUtil.fieldValueOutOfRange(index);
+            }
+            setFloat(index, instance, narrowed);
+            return;
+        }
+        MethodHandle setter = doubleSetters[index - doubleOffset];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setBoolean(int index, Object instance, boolean value) {
-        varHandles[index].set(instance, value);
+        MethodHandle setter = booleanSetters[slot(index, booleanOffset, booleanSetters.length)];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
     }
 
     @Override
     public void setChar(int index, Object instance, char value) {
-        varHandles[index].set(instance, value);
+        if (!hasSlot(index, charOffset, charSetters.length)) {
+            setIntegral(index, instance, value, char.class);
+            return;
+        }
+        MethodHandle setter = charSetters[index - charOffset];
+        if (setter == null) {
+            throw ExceptionUtil.invalidFieldIndex(index);
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    @Override
+    public Object getVolatile(int index, Object instance) {
+        return varHandles[index].getVolatile(instance);
+    }
+
+    @Override
+    public void setVolatile(int index, Object instance, Object value) {
+        writable(index).setVolatile(instance, value);
+    }
+
+    @Override
+    public Object getAcquire(int index, Object instance) {
+        return varHandles[index].getAcquire(instance);
+    }
+
+    @Override
+    public void setRelease(int index, Object instance, Object value) {
+        writable(index).setRelease(instance, value);
+    }
+
+    @Override
+    public boolean compareAndSetInt(int index, Object instance, int expected, int newValue) {
+        slot(index, intOffset, intGetters.length);
+        return writable(index).compareAndSet(instance, expected, newValue);
+    }
+
+    @Override
+    public boolean compareAndSetLong(int index, Object instance, long expected, long newValue) {
+        slot(index, longOffset, longGetters.length);
+        return writable(index).compareAndSet(instance, expected, newValue);
+    }
+
+    @Override
+    public boolean compareAndSetReference(int index, Object instance, Object expected, Object newValue) {
+        slot(index, primitiveCount, varHandles.length - primitiveCount);
+        return writable(index).compareAndSet(instance, expected, newValue);
+    }
+
+    @Override
+    public int getAndAddInt(int index, Object instance, int delta) {
+        slot(index, intOffset, intGetters.length);
+        return (int) writable(index).getAndAdd(instance, delta);
+    }
+
+    @Override
+    public long getAndAddLong(int index, Object instance, long delta) {
+        slot(index, longOffset, longGetters.length);
+        return (long) writable(index).getAndAdd(instance, delta);
+    }
+
+    @Override
+    public void readAll(Object instance, long[] prims, Object[] refs) {
+        // 基本类型在前，基本类型槽位即字段索引
+        try {
+            for (int i = 0; i < intGetters.length; i++) {
+                prims[intOffset + i] = (int) intGetters[i].invokeExact(instance);
+            }
+            for (int i = 0; i < longGetters.length; i++) {
+                prims[longOffset + i] = (long) longGetters[i].invokeExact(instance);
+            }
+            for (int i = 0; i < floatGetters.length; i++) {
+                prims[floatOffset + i] = Float.floatToRawIntBits((float) floatGetters[i].invokeExact(instance));
+            }
+            for (int i = 0; i < doubleGetters.length; i++) {
+                prims[doubleOffset + i] = Double.doubleToRawLongBits((double) doubleGetters[i].invokeExact(instance));
+            }
+            for (int i = 0; i < booleanGetters.length; i++) {
+                prims[booleanOffset + i] = (boolean) booleanGetters[i].invokeExact(instance) ? 1L : 0L;
+            }
+            for (int i = 0; i < byteGetters.length; i++) {
+                prims[byteOffset + i] = (byte) byteGetters[i].invokeExact(instance);
+            }
+            for (int i = 0; i < shortGetters.length; i++) {
+                prims[shortOffset + i] = (short) shortGetters[i].invokeExact(instance);
+            }
+            for (int i = 0; i < charGetters.length; i++) {
+                prims[charOffset + i] = (char) charGetters[i].invokeExact(instance);
+            }
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+        for (int i = primitiveCount; i < varHandles.length; i++) {
+            refs[i - primitiveCount] = varHandles[i].get(instance);
+        }
+    }
+
+    @Override
+    public void writeAll(Object instance, long[] prims, Object[] refs) {
+        // final字段对应的setter为null，直接跳过
+        try {
+            for (int i = 0; i < intSetters.length; i++) {
+                if (intSetters[i] != null) {
+                    intSetters[i].invokeExact(instance, (int) prims[intOffset + i]);
+                }
+            }
+            for (int i = 0; i < longSetters.length; i++) {
+                if (longSetters[i] != null) {
+                    longSetters[i].invokeExact(instance, prims[longOffset + i]);
+                }
+            }
+            for (int i = 0; i < floatSetters.length; i++) {
+                if (floatSetters[i] != null) {
+                    floatSetters[i].invokeExact(instance, Float.intBitsToFloat((int) prims[floatOffset + i]));
+                }
+            }
+            for (int i = 0; i < doubleSetters.length; i++) {
+                if (doubleSetters[i] != null) {
+                    doubleSetters[i].invokeExact(instance, Double.longBitsToDouble(prims[doubleOffset + i]));
+                }
+            }
+            for (int i = 0; i < booleanSetters.length; i++) {
+                if (booleanSetters[i] != null) {
+                    booleanSetters[i].invokeExact(instance, prims[booleanOffset + i] != 0L);
+                }
+            }
+            for (int i = 0; i < byteSetters.length; i++) {
+                if (byteSetters[i] != null) {
+                    byteSetters[i].invokeExact(instance, (byte) prims[byteOffset + i]);
+                }
+            }
+            for (int i = 0; i < shortSetters.length; i++) {
+                if (shortSetters[i] != null) {
+                    shortSetters[i].invokeExact(instance, (short) prims[shortOffset + i]);
+                }
+            }
+            for (int i = 0; i < charSetters.length; i++) {
+                if (charSetters[i] != null) {
+                    charSetters[i].invokeExact(instance, (char) prims[charOffset + i]);
+                }
+            }
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+        for (int i = primitiveCount; i < varHandles.length; i++) {
+            if (!finalFields[i]) {
+                varHandles[i].set(instance, refs[i - primitiveCount]);
+            }
+        }
+    }
+
+    @Override
+    public void copyFields(Object src, Object dst) {
+        // final字段对应的setter为null，直接跳过
+        try {
+            for (int i = 0; i < intSetters.length; i++) {
+                if (intSetters[i] != null) {
+                    intSetters[i].invokeExact(dst, (int) intGetters[i].invokeExact(src));
+                }
+            }
+            for (int i = 0; i < longSetters.length; i++) {
+                if (longSetters[i] != null) {
+                    longSetters[i].invokeExact(dst, (long) longGetters[i].invokeExact(src));
+                }
+            }
+            for (int i = 0; i < floatSetters.length; i++) {
+                if (floatSetters[i] != null) {
+                    floatSetters[i].invokeExact(dst, (float) floatGetters[i].invokeExact(src));
+                }
+            }
+            for (int i = 0; i < doubleSetters.length; i++) {
+                if (doubleSetters[i] != null) {
+                    doubleSetters[i].invokeExact(dst, (double) doubleGetters[i].invokeExact(src));
+                }
+            }
+            for (int i = 0; i < booleanSetters.length; i++) {
+                if (booleanSetters[i] != null) {
+                    booleanSetters[i].invokeExact(dst, (boolean) booleanGetters[i].invokeExact(src));
+                }
+            }
+            for (int i = 0; i < byteSetters.length; i++) {
+                if (byteSetters[i] != null) {
+                    byteSetters[i].invokeExact(dst, (byte) byteGetters[i].invokeExact(src));
+                }
+            }
+            for (int i = 0; i < shortSetters.length; i++) {
+                if (shortSetters[i] != null) {
+                    shortSetters[i].invokeExact(dst, (short) shortGetters[i].invokeExact(src));
+                }
+            }
+            for (int i = 0; i < charSetters.length; i++) {
+                if (charSetters[i] != null) {
+                    charSetters[i].invokeExact(dst, (char) charGetters[i].invokeExact(src));
+                }
+            }
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+        for (int i = primitiveCount; i < varHandles.length; i++) {
+            if (!finalFields[i]) {
+                varHandles[i].set(dst, varHandles[i].get(src));
+            }
+        }
+    }
+
+    @Override
+    public Object shallowClone(Object src) {
+        if (noArgConstructor == null) {
+            throw new IllegalStateException("No accessible no-arg constructor: " + targetClassName);
+        }
+        Object dst;
+        try {
+            dst = (Object) noArgConstructor.invokeExact();
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+        copyFields(src, dst);
+        return dst;
+    }
+
+    @Override
+    public void reset(Object instance) {
+        // final字段对应的setter为null，直接跳过
+        try {
+            for (MethodHandle setter : intSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, 0);
+                }
+            }
+            for (MethodHandle setter : longSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, 0L);
+                }
+            }
+            for (MethodHandle setter : floatSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, 0F);
+                }
+            }
+            for (MethodHandle setter : doubleSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, 0D);
+                }
+            }
+            for (MethodHandle setter : booleanSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, false);
+                }
+            }
+            for (MethodHandle setter : byteSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, (byte) 0);
+                }
+            }
+            for (MethodHandle setter : shortSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, (short) 0);
+                }
+            }
+            for (MethodHandle setter : charSetters) {
+                if (setter != null) {
+                    setter.invokeExact(instance, (char) 0);
+                }
+            }
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+        for (int i = primitiveCount; i < varHandles.length; i++) {
+            if (!finalFields[i]) {
+                varHandles[i].set(instance, (Object) null);
+            }
+        }
     }
 }
@@ -0,0 +1,117 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * 批量写入字节码实现，为FieldInvoker生成 {@code writeAll} 方法。
+ * <p>
+ * 与 {@link FieldReadAllByteCode} 使用相同的槽位布局，每个字段一次数组读取加一次 PUTFIELD；
+ * final 字段不生成写入指令，其槽位中的值被忽略。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object instance
+ * slot 2: long[] prims
+ * slot 3: Object[] refs
+ * slot 4: Target castedInstance
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class FieldWriteAllByteCode implements Implementation {
+
+    /**
+     * 目标类，用于类型检查和字节码生成。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 字段列表，按索引顺序排列。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 第一个字段对应的全局索引，非分片场景下为 0。
+     */
+    private final int indexOffset;
+
+    /**
+     * 目标类全部字段中基本类型字段的数量，用于计算引用类型槽位。
+     */
+    private final int primitiveCount;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass    目标类
+     * @param fields         字段列表
+     * @param indexOffset    第一个字段对应的全局索引
+     * @param primitiveCount 目标类全部字段中基本类型字段的数量
+     */
+    public FieldWriteAllByteCode(Class<?> targetClass, List<Field> fields, int indexOffset, int primitiveCount) {
+        this.targetClass = targetClass;
+        this.fields = fields;
+        this.indexOffset = indexOffset;
+        this.primitiveCount = primitiveCount;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            // ============================================================
+            // 步骤1: 将 instance 强制转换为目标类型
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(targetClass));
+            mv.visitVarInsn(Opcodes.ASTORE, 4);
+
+            // ============================================================
+            // 步骤2: 逐个字段从缓冲区读取并写回，跳过 final 字段
+            // ============================================================
+            for (int i = 0; i < fields.size(); i++) {
+                Field f = fields.get(i);
+                if (Modifier.isFinal(f.getModifiers())) {
+                    continue;
+                }
+                int index = indexOffset + i;
+                Class<?> type = f.getType();
+
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                if (type.isPrimitive()) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 2);
+                    IntegerConstant.forValue(index).apply(mv, ctx);
+                    mv.visitInsn(Opcodes.LALOAD);
+                    AsmUtil.decodeFromLong(mv, type);
+                } else {
+                    mv.visitVarInsn(Opcodes.ALOAD, 3);
+                    IntegerConstant.forValue(index - primitiveCount).apply(mv, ctx);
+                    mv.visitInsn(Opcodes.AALOAD);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+                }
+                mv.visitFieldInsn(Opcodes.PUTFIELD,
+                        Type.getInternalName(f.getDeclaringClass()), f.getName(), Type.getDescriptor(type));
+            }
+
+            mv.visitInsn(Opcodes.RETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.archtiger.bytebean.core.invoker.field;
 
 import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -15,14 +16,15 @@ import java.util.List;
  * 基本类型字段getter字节码实现，为FieldInvoker生成无装箱开销的字段读取字节码。
  * <p>
  * 该类专门处理特定基本类型（如int、long等）字段的读取，直接返回基本类型值，
- * 避免了装箱拆箱的性能损耗。
+ * 避免了装箱拆箱的性能损耗。字段类型可按 JLS 5.1.2 拓宽为返回类型时（如 {@code getLong} 读取 int 字段、
+ * {@code getDouble} 读取任意数值字段），在 case 分支内直接生成 {@code I2L}、{@code I2D} 等拓宽指令。
  * <p>
  * 生成的字节码具有以下特点：
  * <ul>
  *   <li>在方法入口处一次性完成类型转换</li>
  *   <li>使用tableswitch实现O(1)索引到字段的映射</li>
  *   <li>直接返回基本类型值（使用IRETURN、LRETURN等指令）</li>
- *   <li>类型不匹配时跳转到default分支</li>
+ *   <li>字段类型不能拓宽为返回类型时跳转到default分支</li>
  *   <li>索引越界时抛出IllegalArgumentException</li>
  * </ul>
  * <p>
@@ -45,7 +47,12 @@ public final class PrimitiveFieldGetterByteCode implements Implementation {
     private final List<Field> fields;
 
     /**
-     * 基本类型，只读取匹配此类型的字段。
+     * 第一个字段对应的全局索引，非分片场景下为 0。
+     */
+    private final int indexOffset;
+
+    /**
+     * 基本类型，只读取可拓宽为此类型的字段。
      */
     private final Class<?> primitiveType;
 
@@ -57,9 +64,22 @@ public final class PrimitiveFieldGetterByteCode implements Implementation {
      * @param primitiveType 基本类型（如int.class、long.class等）
      */
     public PrimitiveFieldGetterByteCode(Class<?> targetClass, List<Field> fields, Class<?> primitiveType) {
+        this(targetClass, fields, primitiveType, 0);
+    }
+
+    /**
+     * 构造函数，用于分片场景。
+     *
+     * @param targetClass   目标类
+     * @param fields        字段列表
+     * @param primitiveType 基本类型（如int.class、long.class等）
+     * @param indexOffset   第一个字段对应的全局索引
+     */
+    public PrimitiveFieldGetterByteCode(Class<?> targetClass, List<Field> fields, Class<?> primitiveType, int indexOffset) {
         this.targetClass = targetClass;
         this.fields = fields;
         this.primitiveType = primitiveType;
+        this.indexOffset = indexOffset;
     }
 
     @Override
@@ -84,7 +104,7 @@ public final class PrimitiveFieldGetterByteCode implements Implementation {
             Label[] labels = new Label[fields.size()];
             for (int i = 0; i < labels.length; i++) labels[i] = new Label();
 
-            mv.visitTableSwitchInsn(0, fields.size() - 1, defaultLabel, labels);
+            mv.visitTableSwitchInsn(indexOffset, indexOffset + fields.size() - 1, defaultLabel, labels);
 
             // ============================================================
             // 步骤3: 生成 case 分支
@@ -93,8 +113,8 @@ public final class PrimitiveFieldGetterByteCode implements Implementation {
                 Field f = fields.get(i);
                 mv.visitLabel(labels[i]);
 
-                // 类型校验：只处理指定基本类型的字段，其他跳转到 default
-                if (f.getType() != primitiveType) {
+                // 类型校验：只处理可拓宽为指定基本类型的字段，其他跳转到 default
+                if (!ByteBeanReflectUtil.isWidening(f.getType(), primitiveType)) {
                     mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
                     continue;
                 }
@@ -102,7 +122,10 @@ public final class PrimitiveFieldGetterByteCode implements Implementation {
                 // 读取字段值
                 mv.visitVarInsn(Opcodes.ALOAD, 3);
                 String desc = Type.getDescriptor(f.getType());
-                mv.visitFieldInsn(Opcodes.GETFIELD, owner, f.getName(), desc);
+                mv.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(f.getDeclaringClass()), f.getName(), desc);
+
+                // 拓宽为返回类型 (I2L, I2F, I2D, L2F, L2D, F2D)
+                AsmUtil.widen(mv, f.getType(), primitiveType);
 
                 // 根据基本类型选择对应的 RETURN 指令 (IRETURN, LRETURN, FRETURN, DRETURN)
                 mv.visitInsn(AsmUtil.getReturnOpcode(primitiveType));
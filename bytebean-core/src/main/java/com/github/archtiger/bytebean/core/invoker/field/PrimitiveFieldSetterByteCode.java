@@ -1,6 +1,7 @@
 package com.github.archtiger.bytebean.core.invoker.field;
 
 import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
@@ -16,14 +17,15 @@ import java.util.List;
  * 基本类型字段setter字节码实现，为FieldInvoker生成无拆箱开销的字段写入字节码。
  * <p>
  * 该类专门处理特定基本类型（如int、long等）字段的写入，直接接收基本类型值，
- * 避免了装箱拆箱的性能损耗。
+ * 避免了装箱拆箱的性能损耗。值类型可拓宽为字段类型时直接拓宽后写入；字段为更窄的整数类型
+ * （或 double 值写入 float 字段）时先检查窄化后能否精确还原，不能时抛出 IllegalArgumentException。
  * <p>
  * 生成的字节码具有以下特点：
  * <ul>
  *   <li>正确处理long和double类型占用两个局部变量slot的情况</li>
  *   <li>使用tableswitch实现O(1)索引到字段的映射</li>
  *   <li>直接使用基本类型值进行字段写入</li>
- *   <li>类型不匹配或final字段时跳转到default分支</li>
+ *   <li>类型无法转换或final字段时跳转到default分支</li>
  *   <li>索引越界时抛出IllegalArgumentException</li>
  * </ul>
  * <p>
@@ -55,7 +57,12 @@ public final class PrimitiveFieldSetterByteCode implements Implementation {
     private final List<Field> fields;
 
     /**
-     * 基本类型，只写入匹配此类型的字段。
+     * 第一个字段对应的全局索引，非分片场景下为 0。
+     */
+    private final int indexOffset;
+
+    /**
+     * 基本类型，即写入值的类型。
      */
     private final Class<?> primitiveType;
 
@@ -67,9 +74,22 @@ public final class PrimitiveFieldSetterByteCode implements Implementation {
      * @param primitiveType 基本类型（如int.class、long.class等）
      */
     public PrimitiveFieldSetterByteCode(Class<?> targetClass, List<Field> fields, Class<?> primitiveType) {
+        this(targetClass, fields, primitiveType, 0);
+    }
+
+    /**
+     * 构造函数，用于分片场景。
+     *
+     * @param targetClass   目标类
+     * @param fields        字段列表
+     * @param primitiveType 基本类型（如int.class、long.class等）
+     * @param indexOffset   第一个字段对应的全局索引
+     */
+    public PrimitiveFieldSetterByteCode(Class<?> targetClass, List<Field> fields, Class<?> primitiveType, int indexOffset) {
         this.targetClass = targetClass;
         this.fields = fields;
         this.primitiveType = primitiveType;
+        this.indexOffset = indexOffset;
     }
 
     @Override
@@ -105,33 +125,48 @@ public final class PrimitiveFieldSetterByteCode implements Implementation {
             Label[] labels = new Label[fields.size()];
             for (int i = 0; i < labels.length; i++) labels[i] = new Label();
 
-            mv.visitTableSwitchInsn(0, fields.size() - 1, defaultLabel, labels);
+            mv.visitTableSwitchInsn(indexOffset, indexOffset + fields.size() - 1, defaultLabel, labels);
 
             // ============================================================
             // 步骤3: 生成 case 分支
             // ============================================================
+            Label outOfRangeLabel = new Label();
+            boolean hasNarrowing = false;
             for (int i = 0; i < fields.size(); i++) {
                 Field f = fields.get(i);
                 mv.visitLabel(labels[i]);
 
-                final boolean notPrimitive = f.getType() != primitiveType;
+                final Class<?> fieldType = f.getType();
+                final boolean widening = ByteBeanReflectUtil.isWidening(primitiveType, fieldType);
+                final boolean narrowing = ByteBeanReflectUtil.isCheckedNarrowing(primitiveType, fieldType);
                 final boolean isFinalField = Modifier.isFinal(f.getModifiers());
 
-                // 拒绝处理: 类型不匹配 或 final 字段
-                if (notPrimitive || isFinalField) {
+                // 拒绝处理: 类型无法转换 或 final 字段
+                if ((!widening && !narrowing) || isFinalField) {
                     mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
                     continue;
                 }
 
+                // 窄化前检查值能否精确还原，不能时跳转到 outOfRange
+                if (narrowing) {
+                    AsmUtil.checkNarrowing(mv, primitiveType, fieldType, 3, outOfRangeLabel);
+                    hasNarrowing = true;
+                }
+
                 // 加载目标对象引用
                 mv.visitVarInsn(Opcodes.ALOAD, castedInstanceSlot);
 
-                // 加载基本类型的 value 参数 (从 slot 3 开始)
+                // 加载基本类型的 value 参数 (从 slot 3 开始)，并转换为字段类型
                 mv.visitVarInsn(AsmUtil.getLoadOpcode(primitiveType), 3);
+                if (narrowing) {
+                    AsmUtil.narrow(mv, primitiveType, fieldType);
+                } else {
+                    AsmUtil.widen(mv, primitiveType, fieldType);
+                }
 
                 // 设置字段值 (PUTFIELD)
-                String desc = Type.getDescriptor(f.getType());
-                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, f.getName(), desc);
+                String desc = Type.getDescriptor(fieldType);
+                mv.visitFieldInsn(Opcodes.PUTFIELD, Type.getInternalName(f.getDeclaringClass()), f.getName(), desc);
 
                 // 返回
                 mv.visitInsn(Opcodes.RETURN);
@@ -145,6 +180,12 @@ public final class PrimitiveFieldSetterByteCode implements Implementation {
             // 抛出 IllegalArgumentException 异常
             AsmUtil.throwIAEForField(mv);
 
+            // 窄化后超出字段类型范围
+            if (hasNarrowing) {
+                mv.visitLabel(outOfRangeLabel);
+                AsmUtil.throwIAEForFieldValue(mv);
+            }
+
             // ============================================================
             // 返回 Size.ZERO
             // ============================================================
@@ -0,0 +1,109 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * 静态字段getter字节码实现，为StaticFieldInvoker生成按索引读取静态字段的字节码。
+ * <p>
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>使用tableswitch实现O(1)索引到字段的映射，每个case一条 {@code GETSTATIC}</li>
+ *   <li>通用方法 {@code Object get(int)} 对基本类型字段执行自动装箱</li>
+ *   <li>类型化方法（如 {@code int getInt(int)}）只处理类型匹配的字段，其余索引跳转到default分支</li>
+ *   <li>索引越界或类型不匹配时抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class StaticFieldGetterByteCode implements Implementation {
+
+    /**
+     * 静态字段列表，按索引顺序排列。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 返回的字段类型，{@code null} 表示通用方法（处理所有字段并装箱）。
+     */
+    private final Class<?> fieldType;
+
+    /**
+     * 构造函数。
+     *
+     * @param fields    静态字段列表
+     * @param fieldType 返回的字段类型，{@code null} 表示通用方法
+     */
+    public StaticFieldGetterByteCode(List<Field> fields, Class<?> fieldType) {
+        this.fields = fields;
+        this.fieldType = fieldType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            // ============================================================
+            // 步骤1: 加载索引并生成 switch
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[fields.size()];
+            for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+            mv.visitTableSwitchInsn(0, fields.size() - 1, defaultLabel, labels);
+
+            // ============================================================
+            // 步骤2: 生成 case 分支
+            // ============================================================
+            for (int i = 0; i < fields.size(); i++) {
+                Field f = fields.get(i);
+                mv.visitLabel(labels[i]);
+
+                if (fieldType != null && f.getType() != fieldType) {
+                    mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+                    continue;
+                }
+
+                mv.visitFieldInsn(Opcodes.GETSTATIC,
+                        Type.getInternalName(f.getDeclaringClass()), f.getName(), Type.getDescriptor(f.getType()));
+
+                if (fieldType == null) {
+                    AsmUtil.boxIfNeeded(mv, f.getType());
+                    mv.visitInsn(Opcodes.ARETURN);
+                } else {
+                    mv.visitInsn(AsmUtil.getReturnOpcode(fieldType));
+                }
+            }
+
+            // ============================================================
+            // 步骤3: 处理 default 分支
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+
+            AsmUtil.throwIAEForField(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
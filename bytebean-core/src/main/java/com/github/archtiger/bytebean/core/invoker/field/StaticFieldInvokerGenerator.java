@@ -0,0 +1,124 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.field.StaticFieldInvoker;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.NameUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.jar.asm.ClassWriter;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 静态字段访问生成器
+ * <p>
+ * 为目标类生成一个能够通过索引访问其静态字段的 {@link StaticFieldInvoker} 实现类，
+ * 使用 tableswitch + {@code GETSTATIC}/{@code PUTSTATIC}，避免 {@code Field.get(null)} 的反射开销。
+ * 类的静态字段数量通常很少，因此不做分片。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class StaticFieldInvokerGenerator {
+    private static final Map<Class<?>, Class<? extends StaticFieldInvoker>> CACHE = new WeakKeyValueConcurrentMap<>();
+
+    private StaticFieldInvokerGenerator() {
+    }
+
+    private static Class<? extends StaticFieldInvoker> doCreate(final Class<?> targetClass) {
+        final List<Field> fields = ByteBeanReflectUtil.getStaticFields(targetClass);
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        final String invokerName = NameUtil.calcInvokerName(targetClass, StaticFieldInvoker.class);
+        final Class<? extends StaticFieldInvoker> existingClass =
+                ClassDefineUtil.findInvokerClass(targetClass, invokerName, StaticFieldInvoker.class);
+        if (existingClass != null) {
+            return existingClass;
+        }
+
+        return ClassDefineUtil.define(targetClass, new ByteBuddy()
+                .subclass(StaticFieldInvoker.class)
+                .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
+                .name(invokerName)
+                // Object get(int index) / void set(int index, Object value)
+                .defineMethod("get", Object.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, null))
+                .defineMethod("set", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new StaticFieldSetterByteCode(fields, null))
+                // 基本类型 getter / setter 方法
+                .defineMethod("getByte", byte.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, byte.class))
+                .defineMethod("getShort", short.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, short.class))
+                .defineMethod("getInt", int.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, int.class))
+                .defineMethod("getLong", long.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, long.class))
+                .defineMethod("getFloat", float.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, float.class))
+                .defineMethod("getDouble", double.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, double.class))
+                .defineMethod("getBoolean", boolean.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, boolean.class))
+                .defineMethod("getChar", char.class, Visibility.PUBLIC)
+                .withParameters(int.class)
+                .intercept(new StaticFieldGetterByteCode(fields, char.class))
+                .defineMethod("setByte", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, byte.class)
+                .intercept(new StaticFieldSetterByteCode(fields, byte.class))
+                .defineMethod("setShort", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, short.class)
+                .intercept(new StaticFieldSetterByteCode(fields, short.class))
+                .defineMethod("setInt", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, int.class)
+                .intercept(new StaticFieldSetterByteCode(fields, int.class))
+                .defineMethod("setLong", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, long.class)
+                .intercept(new StaticFieldSetterByteCode(fields, long.class))
+                .defineMethod("setFloat", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, float.class)
+                .intercept(new StaticFieldSetterByteCode(fields, float.class))
+                .defineMethod("setDouble", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, double.class)
+                .intercept(new StaticFieldSetterByteCode(fields, double.class))
+                .defineMethod("setBoolean", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, boolean.class)
+                .intercept(new StaticFieldSetterByteCode(fields, boolean.class))
+                .defineMethod("setChar", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, char.class)
+                .intercept(new StaticFieldSetterByteCode(fields, char.class))
+                // 自动计算
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make());
+    }
+
+    /**
+     * 为目标类生成 StaticFieldInvoker 实现类
+     *
+     * @param targetClass 目标类
+     * @return 生成的实现类，目标类没有可访问的静态字段时返回 null
+     */
+    static Class<? extends StaticFieldInvoker> generate(Class<?> targetClass) {
+        return CACHE.computeIfAbsent(targetClass, StaticFieldInvokerGenerator::doCreate);
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.field.StaticFieldInvoker;
+import com.github.archtiger.bytebean.core.constant.ExceptionCode;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ExceptionUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 静态字段访问器Helper，提供静态字段索引管理和缓存能力。
+ * <p>
+ * 该类继承自{@link StaticFieldInvoker}，与 {@link FieldInvokerHelper} 对应：
+ * 维护静态字段名称到索引的映射，并按目标类缓存生成的访问器。
+ * <p>
+ * <b>特点：</b>
+ * <ul>
+ *   <li>使用WeakKeyValueConcurrentMap缓存，避免内存泄漏</li>
+ *   <li>只访问目标类自身声明的静态字段</li>
+ *   <li>当字段不存在或为final时，抛出IllegalArgumentException</li>
+ * </ul>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public class StaticFieldInvokerHelper extends StaticFieldInvoker {
+
+    /**
+     * StaticFieldInvokerHelper缓存，按目标Class索引。
+     */
+    private static final Map<Class<?>, StaticFieldInvokerHelper> STATIC_FIELD_INVOKER_HELPER_CACHE = new WeakKeyValueConcurrentMap<>();
+
+    /**
+     * 生成的静态字段访问器实现。
+     */
+    private final StaticFieldInvoker staticFieldInvoker;
+
+    /**
+     * 字段名称数组，按索引顺序排列。
+     */
+    private final String[] fieldNames;
+
+    /**
+     * 字段修饰符数组，按索引顺序排列，用于判断字段是否为final。
+     */
+    private final int[] modifiers;
+
+    private StaticFieldInvokerHelper(StaticFieldInvoker staticFieldInvoker, List<Field> fields) {
+        this.staticFieldInvoker = staticFieldInvoker;
+        this.fieldNames = fields.stream().map(Field::getName).toArray(String[]::new);
+        this.modifiers = fields.stream().mapToInt(Field::getModifiers).toArray();
+    }
+
+    /**
+     * 创建 StaticFieldInvokerHelper 实例
+     *
+     * @param targetClass 目标类
+     * @return StaticFieldInvokerHelper 实例，若目标类没有可访问的静态字段则返回 null
+     */
+    public static StaticFieldInvokerHelper of(Class<?> targetClass) {
+        return STATIC_FIELD_INVOKER_HELPER_CACHE.computeIfAbsent(targetClass, k -> {
+            final Class<? extends StaticFieldInvoker> invokerClass = StaticFieldInvokerGenerator.generate(targetClass);
+            if (invokerClass == null) {
+                return null;
+            }
+            try {
+                final StaticFieldInvoker staticFieldInvoker = invokerClass.getDeclaredConstructor().newInstance();
+                return new StaticFieldInvokerHelper(staticFieldInvoker, ByteBeanReflectUtil.getStaticFields(targetClass));
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * 获取静态字段索引
+     *
+     * @param fieldName 字段名
+     * @return 字段索引，若不存在则返回 -1
+     */
+    public int getFieldGetterIndex(String fieldName) {
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i].equals(fieldName)) {
+                return i;
+            }
+        }
+
+        return ExceptionCode.INVALID_INDEX;
+    }
+
+    /**
+     * 获取静态字段获取器索引，若不存在则抛出异常
+     *
+     * @param fieldName 字段名
+     * @return 字段获取器索引
+     * @throws IllegalArgumentException 当字段不存在时抛出
+     */
+    public int getFieldGetterIndexOrThrow(String fieldName) {
+        int fieldGetterIndex = getFieldGetterIndex(fieldName);
+        if (fieldGetterIndex == ExceptionCode.INVALID_INDEX) {
+            throw ExceptionUtil.fieldNotGet(fieldName);
+        }
+
+        return fieldGetterIndex;
+    }
+
+    /**
+     * 获取静态字段设置器索引
+     *
+     * @param fieldName 字段名
+     * @return 字段设置器索引，若不存在或为final则返回 -1
+     */
+    public int getFieldSetterIndex(String fieldName) {
+        int index = getFieldGetterIndex(fieldName);
+        // 跳过final字段
+        if (index == ExceptionCode.INVALID_INDEX || Modifier.isFinal(modifiers[index])) {
+            return ExceptionCode.INVALID_INDEX;
+        }
+
+        return index;
+    }
+
+    /**
+     * 获取静态字段设置器索引，若不存在则抛出异常
+     *
+     * @param fieldName 字段名
+     * @return 字段设置器索引
+     * @throws IllegalArgumentException 当字段不存在或为final时抛出
+     */
+    public int getFieldSetterIndexOrThrow(String fieldName) {
+        int fieldSetterIndex = getFieldSetterIndex(fieldName);
+        if (fieldSetterIndex == ExceptionCode.INVALID_INDEX) {
+            throw ExceptionUtil.fieldNotSet(fieldName);
+        }
+
+        return fieldSetterIndex;
+    }
+
+    @Override
+    public Object get(int index) {
+        return staticFieldInvoker.get(index);
+    }
+
+    @Override
+    public void set(int index, Object value) {
+        staticFieldInvoker.set(index, value);
+    }
+
+    @Override
+    public byte getByte(int index) {
+        return staticFieldInvoker.getByte(index);
+    }
+
+    @Override
+    public short getShort(int index) {
+        return staticFieldInvoker.getShort(index);
+    }
+
+    @Override
+    public int getInt(int index) {
+        return staticFieldInvoker.getInt(index);
+    }
+
+    @Override
+    public long getLong(int index) {
+        return staticFieldInvoker.getLong(index);
+    }
+
+    @Override
+    public float getFloat(int index) {
+        return staticFieldInvoker.getFloat(index);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return staticFieldInvoker.getDouble(index);
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return staticFieldInvoker.getBoolean(index);
+    }
+
+    @Override
+    public char getChar(int index) {
+        return staticFieldInvoker.getChar(index);
+    }
+
+    @Override
+    public void setByte(int index, byte value) {
+        staticFieldInvoker.setByte(index, value);
+    }
+
+    @Override
+    public void setShort(int index, short value) {
+        staticFieldInvoker.setShort(index, value);
+    }
+
+    @Override
+    public void setInt(int index, int value) {
+        staticFieldInvoker.setInt(index, value);
+    }
+
+    @Override
+    public void setLong(int index, long value) {
+        staticFieldInvoker.setLong(index, value);
+    }
+
+    @Override
+    public void setFloat(int index, float value) {
+        staticFieldInvoker.setFloat(index, value);
+    }
+
+    @Override
+    public void setDouble(int index, double value) {
+        staticFieldInvoker.setDouble(index, value);
+    }
+
+    @Override
+    public void setBoolean(int index, boolean value) {
+        staticFieldInvoker.setBoolean(index, value);
+    }
+
+    @Override
+    public void setChar(int index, char value) {
+        staticFieldInvoker.setChar(index, value);
+    }
+}
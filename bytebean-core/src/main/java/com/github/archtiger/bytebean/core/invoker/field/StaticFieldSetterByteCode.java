@@ -0,0 +1,113 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * 静态字段setter字节码实现，为StaticFieldInvoker生成按索引写入静态字段的字节码。
+ * <p>
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>使用tableswitch实现O(1)索引到字段的映射，每个case一条 {@code PUTSTATIC}</li>
+ *   <li>通用方法 {@code void set(int, Object)} 对基本类型字段执行自动拆箱</li>
+ *   <li>final字段以及类型化方法中类型不匹配的字段跳转到default分支</li>
+ *   <li>索引越界、类型不匹配或字段为final时抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2: value（long/double 占用 slot 2 和 3）
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class StaticFieldSetterByteCode implements Implementation {
+
+    /**
+     * 静态字段列表，按索引顺序排列。
+     */
+    private final List<Field> fields;
+
+    /**
+     * 参数的字段类型，{@code null} 表示通用方法（处理所有字段并拆箱）。
+     */
+    private final Class<?> fieldType;
+
+    /**
+     * 构造函数。
+     *
+     * @param fields    静态字段列表
+     * @param fieldType 参数的字段类型，{@code null} 表示通用方法
+     */
+    public StaticFieldSetterByteCode(List<Field> fields, Class<?> fieldType) {
+        this.fields = fields;
+        this.fieldType = fieldType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            // ============================================================
+            // 步骤1: 加载索引并生成 switch
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[fields.size()];
+            for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+            mv.visitTableSwitchInsn(0, fields.size() - 1, defaultLabel, labels);
+
+            // ============================================================
+            // 步骤2: 生成 case 分支
+            // ============================================================
+            for (int i = 0; i < fields.size(); i++) {
+                Field f = fields.get(i);
+                mv.visitLabel(labels[i]);
+
+                // 拒绝处理: final 字段 或 类型不匹配
+                if (Modifier.isFinal(f.getModifiers()) || (fieldType != null && f.getType() != fieldType)) {
+                    mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+                    continue;
+                }
+
+                if (fieldType == null) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 2);
+                    AsmUtil.unboxOrCast(mv, f.getType());
+                } else {
+                    mv.visitVarInsn(AsmUtil.getLoadOpcode(fieldType), 2);
+                }
+
+                mv.visitFieldInsn(Opcodes.PUTSTATIC,
+                        Type.getInternalName(f.getDeclaringClass()), f.getName(), Type.getDescriptor(f.getType()));
+                mv.visitInsn(Opcodes.RETURN);
+            }
+
+            // ============================================================
+            // 步骤3: 处理 default 分支
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+
+            AsmUtil.throwIAEForField(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
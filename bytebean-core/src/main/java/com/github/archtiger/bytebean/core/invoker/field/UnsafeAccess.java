@@ -0,0 +1,484 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * {@code sun.misc.Unsafe} 的反射访问入口，供 {@link FieldUnsafeInvoker} 使用。
+ * <p>
+ * 通过 {@code Class.forName} 加载 Unsafe 并将用到的方法绑定为 {@code static final} 的 MethodHandle，
+ * 源码中不引用 Unsafe 类型，编译时不产生内部专有API告警；常量 MethodHandle 由 JIT 内联为对 Unsafe 内建方法的直接调用。
+ * 方法名与参数与 Unsafe 中同名方法一致，运行时不提供 Unsafe 时 {@link #isAvailable()} 返回 false，其余方法不可调用。
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+final class UnsafeAccess {
+
+    /**
+     * Unsafe实例，当前运行时不提供时为null。
+     */
+    private static final Object UNSAFE = loadUnsafe();
+
+    // Unsafe 方法句柄，已绑定到 Unsafe 实例，Unsafe 不可用时为 null
+    private static final MethodHandle GET_INT = bind("getInt", int.class, Object.class, long.class);
+    private static final MethodHandle PUT_INT = bind("putInt", void.class, Object.class, long.class, int.class);
+    private static final MethodHandle GET_LONG = bind("getLong", long.class, Object.class, long.class);
+    private static final MethodHandle PUT_LONG = bind("putLong", void.class, Object.class, long.class, long.class);
+    private static final MethodHandle GET_FLOAT = bind("getFloat", float.class, Object.class, long.class);
+    private static final MethodHandle PUT_FLOAT = bind("putFloat", void.class, Object.class, long.class, float.class);
+    private static final MethodHandle GET_DOUBLE = bind("getDouble", double.class, Object.class, long.class);
+    private static final MethodHandle PUT_DOUBLE = bind("putDouble", void.class, Object.class, long.class, double.class);
+    private static final MethodHandle GET_BOOLEAN = bind("getBoolean", boolean.class, Object.class, long.class);
+    private static final MethodHandle PUT_BOOLEAN = bind("putBoolean", void.class, Object.class, long.class, boolean.class);
+    private static final MethodHandle GET_BYTE = bind("getByte", byte.class, Object.class, long.class);
+    private static final MethodHandle PUT_BYTE = bind("putByte", void.class, Object.class, long.class, byte.class);
+    private static final MethodHandle GET_SHORT = bind("getShort", short.class, Object.class, long.class);
+    private static final MethodHandle PUT_SHORT = bind("putShort", void.class, Object.class, long.class, short.class);
+    private static final MethodHandle GET_CHAR = bind("getChar", char.class, Object.class, long.class);
+    private static final MethodHandle PUT_CHAR = bind("putChar", void.class, Object.class, long.class, char.class);
+    private static final MethodHandle GET_OBJECT = bind("getObject", Object.class, Object.class, long.class);
+    private static final MethodHandle PUT_OBJECT = bind("putObject", void.class, Object.class, long.class, Object.class);
+    private static final MethodHandle GET_INT_VOLATILE = bind("getIntVolatile", int.class, Object.class, long.class);
+    private static final MethodHandle PUT_INT_VOLATILE = bind("putIntVolatile", void.class, Object.class, long.class, int.class);
+    private static final MethodHandle GET_LONG_VOLATILE = bind("getLongVolatile", long.class, Object.class, long.class);
+    private static final MethodHandle PUT_LONG_VOLATILE = bind("putLongVolatile", void.class, Object.class, long.class, long.class);
+    private static final MethodHandle GET_FLOAT_VOLATILE = bind("getFloatVolatile", float.class, Object.class, long.class);
+    private static final MethodHandle PUT_FLOAT_VOLATILE = bind("putFloatVolatile", void.class, Object.class, long.class, float.class);
+    private static final MethodHandle GET_DOUBLE_VOLATILE = bind("getDoubleVolatile", double.class, Object.class, long.class);
+    private static final MethodHandle PUT_DOUBLE_VOLATILE = bind("putDoubleVolatile", void.class, Object.class, long.class, double.class);
+    private static final MethodHandle GET_BOOLEAN_VOLATILE = bind("getBooleanVolatile", boolean.class, Object.class, long.class);
+    private static final MethodHandle PUT_BOOLEAN_VOLATILE = bind("putBooleanVolatile", void.class, Object.class, long.class, boolean.class);
+    private static final MethodHandle GET_BYTE_VOLATILE = bind("getByteVolatile", byte.class, Object.class, long.class);
+    private static final MethodHandle PUT_BYTE_VOLATILE = bind("putByteVolatile", void.class, Object.class, long.class, byte.class);
+    private static final MethodHandle GET_SHORT_VOLATILE = bind("getShortVolatile", short.class, Object.class, long.class);
+    private static final MethodHandle PUT_SHORT_VOLATILE = bind("putShortVolatile", void.class, Object.class, long.class, short.class);
+    private static final MethodHandle GET_CHAR_VOLATILE = bind("getCharVolatile", char.class, Object.class, long.class);
+    private static final MethodHandle PUT_CHAR_VOLATILE = bind("putCharVolatile", void.class, Object.class, long.class, char.class);
+    private static final MethodHandle GET_OBJECT_VOLATILE = bind("getObjectVolatile", Object.class, Object.class, long.class);
+    private static final MethodHandle PUT_OBJECT_VOLATILE = bind("putObjectVolatile", void.class, Object.class, long.class, Object.class);
+    private static final MethodHandle PUT_ORDERED_INT = bind("putOrderedInt", void.class, Object.class, long.class, int.class);
+    private static final MethodHandle PUT_ORDERED_LONG = bind("putOrderedLong", void.class, Object.class, long.class, long.class);
+    private static final MethodHandle PUT_ORDERED_OBJECT = bind("putOrderedObject", void.class, Object.class, long.class, Object.class);
+    private static final MethodHandle COMPARE_AND_SWAP_INT = bind("compareAndSwapInt", boolean.class, Object.class, long.class, int.class, int.class);
+    private static final MethodHandle COMPARE_AND_SWAP_LONG = bind("compareAndSwapLong", boolean.class, Object.class, long.class, long.class, long.class);
+    private static final MethodHandle COMPARE_AND_SWAP_OBJECT = bind("compareAndSwapObject", boolean.class, Object.class, long.class, Object.class, Object.class);
+    private static final MethodHandle GET_AND_ADD_INT = bind("getAndAddInt", int.class, Object.class, long.class, int.class);
+    private static final MethodHandle GET_AND_ADD_LONG = bind("getAndAddLong", long.class, Object.class, long.class, long.class);
+    private static final MethodHandle OBJECT_FIELD_OFFSET = bind("objectFieldOffset", long.class, Field.class);
+
+    private UnsafeAccess() {
+    }
+
+    /**
+     * 判断当前运行时是否提供 {@code sun.misc.Unsafe}
+     *
+     * @return 是否可用
+     */
+    static boolean isAvailable() {
+        return UNSAFE != null;
+    }
+
+    private static Object loadUnsafe() {
+        try {
+            Field field = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * 查找 Unsafe 的实例方法并绑定到 Unsafe 实例
+     *
+     * @param name           方法名
+     * @param returnType     返回类型
+     * @param parameterTypes 参数类型
+     * @return 绑定后的MethodHandle，Unsafe 不可用时返回 null
+     */
+    private static MethodHandle bind(String name, Class<?> returnType, Class<?>... parameterTypes) {
+        if (UNSAFE == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(UNSAFE.getClass(), name, MethodType.methodType(returnType, parameterTypes))
+                    .bindTo(UNSAFE);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(e);
+    }
+
+    static int getInt(Object o, long offset) {
+        try {
+            return (int) GET_INT.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putInt(Object o, long offset, int x) {
+        try {
+            PUT_INT.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static long getLong(Object o, long offset) {
+        try {
+            return (long) GET_LONG.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putLong(Object o, long offset, long x) {
+        try {
+            PUT_LONG.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static float getFloat(Object o, long offset) {
+        try {
+            return (float) GET_FLOAT.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putFloat(Object o, long offset, float x) {
+        try {
+            PUT_FLOAT.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static double getDouble(Object o, long offset) {
+        try {
+            return (double) GET_DOUBLE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putDouble(Object o, long offset, double x) {
+        try {
+            PUT_DOUBLE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static boolean getBoolean(Object o, long offset) {
+        try {
+            return (boolean) GET_BOOLEAN.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putBoolean(Object o, long offset, boolean x) {
+        try {
+            PUT_BOOLEAN.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static byte getByte(Object o, long offset) {
+        try {
+            return (byte) GET_BYTE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putByte(Object o, long offset, byte x) {
+        try {
+            PUT_BYTE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static short getShort(Object o, long offset) {
+        try {
+            return (short) GET_SHORT.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putShort(Object o, long offset, short x) {
+        try {
+            PUT_SHORT.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static char getChar(Object o, long offset) {
+        try {
+            return (char) GET_CHAR.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putChar(Object o, long offset, char x) {
+        try {
+            PUT_CHAR.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static Object getObject(Object o, long offset) {
+        try {
+            return (Object) GET_OBJECT.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putObject(Object o, long offset, Object x) {
+        try {
+            PUT_OBJECT.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static int getIntVolatile(Object o, long offset) {
+        try {
+            return (int) GET_INT_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putIntVolatile(Object o, long offset, int x) {
+        try {
+            PUT_INT_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static long getLongVolatile(Object o, long offset) {
+        try {
+            return (long) GET_LONG_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putLongVolatile(Object o, long offset, long x) {
+        try {
+            PUT_LONG_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static float getFloatVolatile(Object o, long offset) {
+        try {
+            return (float) GET_FLOAT_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putFloatVolatile(Object o, long offset, float x) {
+        try {
+            PUT_FLOAT_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static double getDoubleVolatile(Object o, long offset) {
+        try {
+            return (double) GET_DOUBLE_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putDoubleVolatile(Object o, long offset, double x) {
+        try {
+            PUT_DOUBLE_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static boolean getBooleanVolatile(Object o, long offset) {
+        try {
+            return (boolean) GET_BOOLEAN_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putBooleanVolatile(Object o, long offset, boolean x) {
+        try {
+            PUT_BOOLEAN_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static byte getByteVolatile(Object o, long offset) {
+        try {
+            return (byte) GET_BYTE_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putByteVolatile(Object o, long offset, byte x) {
+        try {
+            PUT_BYTE_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static short getShortVolatile(Object o, long offset) {
+        try {
+            return (short) GET_SHORT_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putShortVolatile(Object o, long offset, short x) {
+        try {
+            PUT_SHORT_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static char getCharVolatile(Object o, long offset) {
+        try {
+            return (char) GET_CHAR_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putCharVolatile(Object o, long offset, char x) {
+        try {
+            PUT_CHAR_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static Object getObjectVolatile(Object o, long offset) {
+        try {
+            return (Object) GET_OBJECT_VOLATILE.invokeExact(o, offset);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putObjectVolatile(Object o, long offset, Object x) {
+        try {
+            PUT_OBJECT_VOLATILE.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putOrderedInt(Object o, long offset, int x) {
+        try {
+            PUT_ORDERED_INT.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putOrderedLong(Object o, long offset, long x) {
+        try {
+            PUT_ORDERED_LONG.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static void putOrderedObject(Object o, long offset, Object x) {
+        try {
+            PUT_ORDERED_OBJECT.invokeExact(o, offset, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static boolean compareAndSwapInt(Object o, long offset, int expected, int x) {
+        try {
+            return (boolean) COMPARE_AND_SWAP_INT.invokeExact(o, offset, expected, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static boolean compareAndSwapLong(Object o, long offset, long expected, long x) {
+        try {
+            return (boolean) COMPARE_AND_SWAP_LONG.invokeExact(o, offset, expected, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static boolean compareAndSwapObject(Object o, long offset, Object expected, Object x) {
+        try {
+            return (boolean) COMPARE_AND_SWAP_OBJECT.invokeExact(o, offset, expected, x);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static int getAndAddInt(Object o, long offset, int delta) {
+        try {
+            return (int) GET_AND_ADD_INT.invokeExact(o, offset, delta);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static long getAndAddLong(Object o, long offset, long delta) {
+        try {
+            return (long) GET_AND_ADD_LONG.invokeExact(o, offset, delta);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    static long objectFieldOffset(Field field) {
+        try {
+            return (long) OBJECT_FIELD_OFFSET.invokeExact(field);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+}
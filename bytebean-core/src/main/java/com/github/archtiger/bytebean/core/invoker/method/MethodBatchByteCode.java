@@ -0,0 +1,196 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.model.MethodIdentify;
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 批量方法调用字节码实现，为MethodInvoker生成对多个实例调用同一个无参方法的循环。
+ * <p>
+ * 生成的字节码在入口处通过tableswitch完成一次索引分发，每个case是一个针对该方法特化的循环：
+ * <pre>
+ * case N:
+ *     int delta = destPos - from;
+ *     for (int i = from; i &lt; to; i++) {
+ *         dest[i + delta] = ((Target) instances[i]).method();
+ *     }
+ *     return;
+ * </pre>
+ * 循环体内没有索引分发，调用点为单态，JIT 可以内联目标方法并展开循环。
+ * <p>
+ * 每个循环约 45 字节，方法较多时由生成器按 {@link com.github.archtiger.bytebean.core.constant.ByteBeanConstant#METHOD_BATCH_GROUP_SHIFT}
+ * 分组，每组生成一个私有方法，入口方法由 {@link MethodBatchDispatchByteCode} 按组转发，使单个方法保持在 JIT 可编译的大小内。
+ * <ul>
+ *   <li>{@code invokeAll(int, Object[], int, int)}：丢弃返回值</li>
+ *   <li>{@code invokeAll(int, Object[], int, int, Object[], int)}：基本类型返回值装箱，void方法写入null</li>
+ *   <li>{@code intInvokeAll} 等：只处理返回类型匹配的方法，直接写入基本类型数组</li>
+ * </ul>
+ * 有参数的方法、返回类型不匹配或索引越界时抛出IllegalArgumentException；分组方法与入口方法同描述符，局部变量表布局相同。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2: Object[] instances
+ * slot 3: int from
+ * slot 4: int to
+ * slot 5: xxx[] dest（丢弃返回值时不存在）
+ * slot 6: int destPos（丢弃返回值时不存在）
+ * 其后: int i、int delta
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class MethodBatchByteCode implements Implementation {
+
+    /**
+     * 目标类，用于元素类型转换。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 方法标识列表，按索引顺序排列。
+     */
+    private final List<MethodIdentify> methodIdentifyList;
+
+    /**
+     * 结果类型：{@code void.class} 表示丢弃返回值，{@code Object.class} 表示装箱写入 {@code Object[]}，
+     * 基本类型表示只处理返回该类型的方法并写入对应的基本类型数组。
+     */
+    private final Class<?> resultType;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass        目标类
+     * @param methodIdentifyList 方法标识列表
+     * @param resultType         结果类型
+     */
+    public MethodBatchByteCode(Class<?> targetClass, List<MethodIdentify> methodIdentifyList, Class<?> resultType) {
+        this.targetClass = targetClass;
+        this.methodIdentifyList = methodIdentifyList;
+        this.resultType = resultType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final boolean hasDest = resultType != void.class;
+            final int iSlot = hasDest ? 7 : 5;
+            final int deltaSlot = iSlot + 1;
+
+            // ============================================================
+            // 步骤1: 加载 Index 并初始化 Switch
+            // ============================================================
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[methodIdentifyList.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = new Label();
+            }
+
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+            if (!methodIdentifyList.isEmpty()) {
+                mv.visitTableSwitchInsn(methodIdentifyList.get(0).index(), methodIdentifyList.get(methodIdentifyList.size() - 1).index(), defaultLabel, labels);
+            } else {
+                mv.visitInsn(Opcodes.POP);
+                mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+            }
+
+            // ============================================================
+            // 步骤2: 每个 case 生成一个特化循环
+            // ============================================================
+            for (int i = 0; i < methodIdentifyList.size(); i++) {
+                Method method = methodIdentifyList.get(i).method();
+                mv.visitLabel(labels[i]);
+
+                if (method.getParameterCount() != 0
+                        || resultType.isPrimitive() && resultType != void.class && method.getReturnType() != resultType) {
+                    mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+                    continue;
+                }
+
+                visitLoop(mv, method, hasDest, iSlot, deltaSlot);
+            }
+
+            // ============================================================
+            // 步骤3: 处理 default 分支
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+            AsmUtil.throwIAEForMethod(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    private void visitLoop(MethodVisitor mv, Method method, boolean hasDest, int iSlot, int deltaSlot) {
+        Label loop = new Label();
+        Label end = new Label();
+        Class<?> returnType = method.getReturnType();
+
+        // i = from; delta = destPos - from
+        mv.visitVarInsn(Opcodes.ILOAD, 3);
+        mv.visitVarInsn(Opcodes.ISTORE, iSlot);
+        if (hasDest) {
+            mv.visitVarInsn(Opcodes.ILOAD, 6);
+            mv.visitVarInsn(Opcodes.ILOAD, 3);
+            mv.visitInsn(Opcodes.ISUB);
+            mv.visitVarInsn(Opcodes.ISTORE, deltaSlot);
+        }
+
+        // while (i < to)
+        mv.visitLabel(loop);
+        mv.visitVarInsn(Opcodes.ILOAD, iSlot);
+        mv.visitVarInsn(Opcodes.ILOAD, 4);
+        mv.visitJumpInsn(Opcodes.IF_ICMPGE, end);
+
+        // dest[i + delta] = ((Target) instances[i]).method()
+        if (hasDest) {
+            mv.visitVarInsn(Opcodes.ALOAD, 5);
+            mv.visitVarInsn(Opcodes.ILOAD, iSlot);
+            mv.visitVarInsn(Opcodes.ILOAD, deltaSlot);
+            mv.visitInsn(Opcodes.IADD);
+        }
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitVarInsn(Opcodes.ILOAD, iSlot);
+        mv.visitInsn(Opcodes.AALOAD);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(targetClass));
+        AsmUtil.invokeMethod(mv, targetClass, method);
+
+        if (!hasDest) {
+            if (returnType != void.class) {
+                mv.visitInsn(AsmUtil.slotSize(returnType) == 2 ? Opcodes.POP2 : Opcodes.POP);
+            }
+        } else if (resultType == Object.class) {
+            if (returnType == void.class) {
+                mv.visitInsn(Opcodes.ACONST_NULL);
+            } else {
+                AsmUtil.boxIfNeeded(mv, returnType);
+            }
+            mv.visitInsn(Opcodes.AASTORE);
+        } else {
+            mv.visitInsn(Type.getType(resultType).getOpcode(Opcodes.IASTORE));
+        }
+
+        // i++
+        mv.visitIincInsn(iSlot, 1);
+        mv.visitJumpInsn(Opcodes.GOTO, loop);
+
+        mv.visitLabel(end);
+        mv.visitInsn(Opcodes.RETURN);
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+
+/**
+ * 批量调用分发字节码实现，将 {@code invokeAll} 等入口方法按索引转发给分组的私有批量方法。
+ * <p>
+ * 每组覆盖 {@code 1 << groupShift} 个连续索引，组内的特化循环由 {@link MethodBatchByteCode} 生成。
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>通过 {@code (index - firstIndex) >> groupShift} 计算组号，使用tableswitch实现O(1)分发</li>
+ *   <li>入口方法大小只与组数有关，单个方法始终远小于 JIT 的 {@code HugeMethodLimit}</li>
+ *   <li>原样转发全部参数，组内仍使用原索引，组内越界由组方法的 default 分支处理</li>
+ *   <li>小于首个索引的索引右移后为负数，落入 default 分支抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2..: 其余参数，原样转发
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class MethodBatchDispatchByteCode implements Implementation {
+
+    /**
+     * 首个方法索引。
+     */
+    private final int firstIndex;
+
+    /**
+     * 分组数量。
+     */
+    private final int groupCount;
+
+    /**
+     * 分组位移，每组覆盖 {@code 1 << groupShift} 个索引。
+     */
+    private final int groupShift;
+
+    /**
+     * 构造函数。
+     *
+     * @param firstIndex 首个方法索引
+     * @param groupCount 分组数量
+     * @param groupShift 分组位移
+     */
+    public MethodBatchDispatchByteCode(int firstIndex, int groupCount, int groupShift) {
+        this.firstIndex = firstIndex;
+        this.groupCount = groupCount;
+        this.groupShift = groupShift;
+    }
+
+    /**
+     * 计算分组批量方法名称，与入口方法同描述符
+     *
+     * @param methodName 入口方法名称
+     * @param groupIndex 组号
+     * @return 分组批量方法名称
+     */
+    public static String groupMethodName(String methodName, int groupIndex) {
+        return methodName + "$" + groupIndex;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            String owner = implementationTarget.getInstrumentedType().getInternalName();
+
+            // ============================================================
+            // 步骤1: 计算组号 (index - firstIndex) >> groupShift
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+            mv.visitLdcInsn(firstIndex);
+            mv.visitInsn(Opcodes.ISUB);
+            mv.visitIntInsn(Opcodes.BIPUSH, groupShift);
+            mv.visitInsn(Opcodes.ISHR);
+
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[groupCount];
+            for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+            mv.visitTableSwitchInsn(0, groupCount - 1, defaultLabel, labels);
+
+            // ============================================================
+            // 步骤2: 每组一个 case，原样转发所有参数
+            // ============================================================
+            for (int i = 0; i < groupCount; i++) {
+                mv.visitLabel(labels[i]);
+
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                MethodVariableAccess.allArgumentsOf(md).apply(mv, ctx);
+                mv.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, groupMethodName(md.getInternalName(), i), md.getDescriptor(), false);
+                mv.visitInsn(Opcodes.RETURN);
+            }
+
+            // ============================================================
+            // 步骤3: 处理 default 分支（索引越界）
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+            AsmUtil.throwIAEForMethod(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -69,7 +69,7 @@ public final class MethodByteCode implements Implementation {
             }
 
             if (!methodIdentifyList.isEmpty()) {
-                mv.visitTableSwitchInsn(0, methodIdentifyList.size() - 1, defaultLabel, labels);
+                mv.visitTableSwitchInsn(methodIdentifyList.get(0).index(), methodIdentifyList.get(methodIdentifyList.size() - 1).index(), defaultLabel, labels);
             } else {
                 mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
             }
@@ -110,13 +110,7 @@ public final class MethodByteCode implements Implementation {
                 }
 
                 // 调用目标方法
-                mv.visitMethodInsn(
-                        Opcodes.INVOKEVIRTUAL,
-                        owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method),
-                        false
-                );
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 // 处理返回值
                 if (method.getReturnType() == void.class) {
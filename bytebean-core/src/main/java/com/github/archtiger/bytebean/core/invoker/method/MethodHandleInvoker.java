@@ -42,6 +42,11 @@ public final class MethodHandleInvoker extends MethodInvoker {
      */
     private static final MethodHandle[] EMPTY_HANDLES = new MethodHandle[0];
 
+    /**
+     * 空参数数组，用于批量调用无参方法。
+     */
+    private static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
     /**
      * 通用方法Handle数组，按方法索引排列。
      */
@@ -472,6 +477,51 @@ public final class MethodHandleInvoker extends MethodInvoker {
         }
     }
 
+    @Override
+    public Object invoke6(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6) {
+        try {
+            return methodHandles[index].invokeExact(instance, arg1, arg2, arg3, arg4, arg5, arg6);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Object invoke7(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7) {
+        try {
+            return methodHandles[index].invokeExact(instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Object invoke8(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8) {
+        try {
+            return methodHandles[index].invokeExact(instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Object invoke9(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8, Object arg9) {
+        try {
+            return methodHandles[index].invokeExact(instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public Object invoke10(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8, Object arg9, Object arg10) {
+        try {
+            return methodHandles[index].invokeExact(instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public int intInvoke(int index, Object instance, Object... arguments) {
         try {
@@ -629,5 +679,124 @@ public final class MethodHandleInvoker extends MethodInvoker {
             throw new RuntimeException(e);
         }
     }
-}
 
+    @Override
+    public void invokeAll(int index, Object[] instances, int from, int to) {
+        final MethodHandle methodHandle = methodHandles[index];
+        try {
+            for (int i = from; i < to; i++) {
+                Object ignored = methodHandle.invokeExact(instances[i]);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void invokeAll(int index, Object[] instances, int from, int to, Object[] dest, int destPos) {
+        final MethodHandle methodHandle = methodHandles[index];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = methodHandle.invokeExact(instances[i]);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void intInvokeAll(int index, Object[] instances, int from, int to, int[] dest, int destPos) {
+        final MethodHandle methodHandle = intReturnHandles[index - intReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (int) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void longInvokeAll(int index, Object[] instances, int from, int to, long[] dest, int destPos) {
+        final MethodHandle methodHandle = longReturnHandles[index - longReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (long) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void floatInvokeAll(int index, Object[] instances, int from, int to, float[] dest, int destPos) {
+        final MethodHandle methodHandle = floatReturnHandles[index - floatReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (float) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void doubleInvokeAll(int index, Object[] instances, int from, int to, double[] dest, int destPos) {
+        final MethodHandle methodHandle = doubleReturnHandles[index - doubleReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (double) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void booleanInvokeAll(int index, Object[] instances, int from, int to, boolean[] dest, int destPos) {
+        final MethodHandle methodHandle = booleanReturnHandles[index - booleanReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (boolean) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void byteInvokeAll(int index, Object[] instances, int from, int to, byte[] dest, int destPos) {
+        final MethodHandle methodHandle = byteReturnHandles[index - byteReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (byte) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void shortInvokeAll(int index, Object[] instances, int from, int to, short[] dest, int destPos) {
+        final MethodHandle methodHandle = shortReturnHandles[index - shortReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (short) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void charInvokeAll(int index, Object[] instances, int from, int to, char[] dest, int destPos) {
+        final MethodHandle methodHandle = charReturnHandles[index - charReturnOffset];
+        try {
+            for (int i = from, j = destPos; i < to; i++, j++) {
+                dest[j] = (char) methodHandle.invokeExact(instances[i], EMPTY_ARGUMENTS);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
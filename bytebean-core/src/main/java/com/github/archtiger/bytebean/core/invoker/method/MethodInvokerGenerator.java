@@ -3,19 +3,25 @@ package com.github.archtiger.bytebean.core.invoker.method;
 import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
 import com.github.archtiger.bytebean.api.method.MethodInvoker;
 import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.invoker.shard.ShardDispatcherGenerator;
 import com.github.archtiger.bytebean.core.model.MethodGroup;
 import com.github.archtiger.bytebean.core.model.MethodIdentify;
 import com.github.archtiger.bytebean.core.model.MethodInvokerResult;
+import com.github.archtiger.bytebean.core.model.ShardInvokerResult;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
 import com.github.archtiger.bytebean.core.utils.NameUtil;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.asm.AsmVisitorWrapper;
 import net.bytebuddy.description.modifier.MethodManifestation;
 import net.bytebuddy.description.modifier.TypeManifestation;
 import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.jar.asm.ClassWriter;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -24,12 +30,17 @@ import java.util.stream.Collectors;
  * <p>
  * 为目标类生成一个能够通过索引访问所有方法的辅助类。
  * 使用字节码的 tableswitch 指令实现高效的方法调用，避免反射开销。
+ * 非分片时，基本类型返回方法（{@code intInvoke} 等）按返回类型使用紧凑索引，
+ * 全局索引到紧凑索引的映射由 {@link MethodInvokerHelper} 维护。
+ * 非分片时还为类中出现的每个擦除基本类型签名生成专用入口（如 {@code invoke_II_V}，见 {@link MethodSignatureByteCode}），
+ * 由 {@link MethodInvokerHelper#signatureEntry(String)} 以类型化的 {@code MethodHandle} 暴露。
  *
  * @author ZIJIDELU
  * @since 1.0.0
  */
 public final class MethodInvokerGenerator {
     private static final Map<Class<?>, MethodInvokerResult> CACHE = new WeakKeyValueConcurrentMap<>();
+    private static final Map<Class<?>, ShardInvokerResult<MethodInvoker>> SHARD_CACHE = new WeakKeyValueConcurrentMap<>();
 
     private MethodInvokerGenerator() {
     }
@@ -50,110 +61,279 @@ public final class MethodInvokerGenerator {
 
         // 步骤2: 构造生成类的全限定名
         final String invokerName = NameUtil.calcInvokerName(targetClass, MethodInvoker.class);
-        try {
-            final Class<?> aClass = Class.forName(invokerName, false, targetClass.getClassLoader())
-                    .asSubclass(MethodInvoker.class);
-            return MethodInvokerResult.success((Class<? extends MethodInvoker>) aClass, methodGroup.methodAllList().stream().map(MethodIdentify::method).collect(Collectors.toList()));
-        } catch (ClassNotFoundException e) {
-            // Class not generated yet, continue with ByteBuddy generation.
+        final Class<? extends MethodInvoker> existingClass = ClassDefineUtil.findInvokerClass(targetClass, invokerName, MethodInvoker.class);
+        if (existingClass != null) {
+            return MethodInvokerResult.success(existingClass, methodGroup.methodAllList().stream().map(MethodIdentify::method).collect(Collectors.toList()));
         }
 
         // 步骤3: 使用 ByteBuddy 动态生成类
-        final Class<? extends MethodInvoker> invokerClass = new ByteBuddy()
+        final Class<? extends MethodInvoker> invokerClass = make(targetClass, invokerName, methodGroup, 0, methodGroup.methodAllList().size(), true);
+
+        return MethodInvokerResult.success(
+                invokerClass,
+                Collections.unmodifiableList(methodGroup.methodAllList().stream().map(MethodIdentify::method).collect(Collectors.toList()))
+        );
+    }
+
+    /**
+     * 生成覆盖全局索引区间 [from, to) 的方法访问器类
+     * <p>
+     * 各特化表只保留索引落在区间内的方法；由于每张表在全局索引空间中连续，
+     * 切分后仍然连续，tableswitch 依旧使用全局索引。
+     *
+     * @param targetClass 目标类
+     * @param invokerName 生成类的全限定名
+     * @param methodGroup 方法分组
+     * @param from        起始全局索引（包含）
+     * @param to          结束全局索引（不包含）
+     * @param dense       基本类型返回方法是否使用紧凑索引（见 {@link MethodGroup#primitiveReturnList(Class)}），
+     *                    并生成擦除签名专用入口；分片时每个分片的索引区间已经有限，仍使用全局索引以便调度器按区间转发
+     * @return 生成的方法访问器类
+     */
+    private static Class<? extends MethodInvoker> make(Class<?> targetClass, String invokerName, MethodGroup methodGroup, int from, int to, boolean dense) {
+        DynamicType.Builder<MethodInvoker> builder = new ByteBuddy()
                 .subclass(MethodInvoker.class)
                 .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
                 .name(invokerName)
                 // 定义 invoke 方法: Object invoke(int index, Object instance, Object... arguments)
                 .defineMethod("invoke", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new MethodByteCode(targetClass, methodGroup.methodAllList()))
+                .intercept(new MethodByteCode(targetClass, slice(methodGroup.methodAllList(), from, to)))
                 // 定义 invoke 方法: Object invoke(int index, Object instance)
                 .defineMethod("invoke", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class)
-                .intercept(new MethodP0ByteCode(targetClass, methodGroup.method0List()))
+                .intercept(new MethodP0ByteCode(targetClass, slice(methodGroup.method0List(), from, to)))
                 // 定义 invoke1 方法: Object invoke(int index, Object instance, Object arg0)
                 .defineMethod("invoke1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object.class)
-                .intercept(new MethodP1ByteCode(targetClass, methodGroup.method1List()))
+                .intercept(new MethodP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to)))
                 // 定义 invoke2 方法: Object invoke(int index, Object instance, Object arg0, Object arg1)
                 .defineMethod("invoke2", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object.class, Object.class)
-                .intercept(new MethodP2ByteCode(targetClass, methodGroup.method2List()))
+                .intercept(new MethodP2ByteCode(targetClass, slice(methodGroup.method2List(), from, to)))
                 // 定义 invoke3 方法: Object invoke(int index, Object instance, Object arg0, Object arg1, Object arg2)
                 .defineMethod("invoke3", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object.class, Object.class, Object.class)
-                .intercept(new MethodP3ByteCode(targetClass, methodGroup.method3List()))
+                .intercept(new MethodP3ByteCode(targetClass, slice(methodGroup.method3List(), from, to)))
                 // 定义 invoke4 方法: Object invoke(int index, Object instance, Object arg0, Object arg1, Object arg2, Object arg3)
                 .defineMethod("invoke4", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class)
-                .intercept(new MethodP4ByteCode(targetClass, methodGroup.method4List()))
+                .intercept(new MethodP4ByteCode(targetClass, slice(methodGroup.method4List(), from, to)))
                 // 定义 invoke5 方法: Object invoke(int index, Object instance, Object arg0, Object arg1, Object arg2, Object arg3, Object arg4)
                 .defineMethod("invoke5", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class)
-                .intercept(new MethodP5ByteCode(targetClass, methodGroup.method5List()))
+                .intercept(new MethodP5ByteCode(targetClass, slice(methodGroup.method5List(), from, to)))
+                // 定义 invoke6 方法: Object invoke6(int index, Object instance, Object arg0 ~ arg5)
+                .defineMethod("invoke6", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class)
+                .intercept(new MethodPnByteCode(targetClass, slice(methodGroup.method6List(), from, to), 6))
+                // 定义 invoke7 方法: Object invoke7(int index, Object instance, Object arg0 ~ arg6)
+                .defineMethod("invoke7", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class)
+                .intercept(new MethodPnByteCode(targetClass, slice(methodGroup.method7List(), from, to), 7))
+                // 定义 invoke8 方法: Object invoke8(int index, Object instance, Object arg0 ~ arg7)
+                .defineMethod("invoke8", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class)
+                .intercept(new MethodPnByteCode(targetClass, slice(methodGroup.method8List(), from, to), 8))
+                // 定义 invoke9 方法: Object invoke9(int index, Object instance, Object arg0 ~ arg8)
+                .defineMethod("invoke9", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class)
+                .intercept(new MethodPnByteCode(targetClass, slice(methodGroup.method9List(), from, to), 9))
+                // 定义 invoke10 方法: Object invoke10(int index, Object instance, Object arg0 ~ arg9)
+                .defineMethod("invoke10", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class)
+                .intercept(new MethodPnByteCode(targetClass, slice(methodGroup.method10List(), from, to), 10))
                 // 基本类型返回方法
                 .defineMethod("intInvoke", int.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), int.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, int.class, from, to, dense), int.class))
                 .defineMethod("longInvoke", long.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), long.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, long.class, from, to, dense), long.class))
                 .defineMethod("floatInvoke", float.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), float.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, float.class, from, to, dense), float.class))
                 .defineMethod("doubleInvoke", double.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), double.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, double.class, from, to, dense), double.class))
                 .defineMethod("booleanInvoke", boolean.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), boolean.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, boolean.class, from, to, dense), boolean.class))
                 .defineMethod("byteInvoke", byte.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), byte.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, byte.class, from, to, dense), byte.class))
                 .defineMethod("shortInvoke", short.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), short.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, short.class, from, to, dense), short.class))
                 .defineMethod("charInvoke", char.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, Object[].class)
-                .intercept(new PrimitiveMethodByteCode(targetClass, methodGroup.methodAllList(), char.class))
+                .intercept(new PrimitiveMethodByteCode(targetClass, primitiveReturnList(methodGroup, char.class, from, to, dense), char.class))
                 // 单参数基本类型方法
                 .defineMethod("invokeInt1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, int.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), int.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), int.class))
                 .defineMethod("invokeLong1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, long.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), long.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), long.class))
                 .defineMethod("invokeFloat1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, float.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), float.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), float.class))
                 .defineMethod("invokeDouble1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, double.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), double.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), double.class))
                 .defineMethod("invokeBoolean1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, boolean.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), boolean.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), boolean.class))
                 .defineMethod("invokeByte1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, byte.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), byte.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), byte.class))
                 .defineMethod("invokeShort1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, short.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), short.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), short.class))
                 .defineMethod("invokeChar1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
                 .withParameters(int.class, Object.class, char.class)
-                .intercept(new MethodPrimitiveP1ByteCode(targetClass, methodGroup.method1List(), char.class))
+                .intercept(new MethodPrimitiveP1ByteCode(targetClass, slice(methodGroup.method1List(), from, to), char.class));
+        // 批量调用无参方法: void invokeAll(int index, Object[] instances, int from, int to[, xxx[] dest, int destPos])
+        builder = defineBatch(builder, targetClass, "invokeAll", void.class, slice(methodGroup.method0List(), from, to));
+        builder = defineBatch(builder, targetClass, "invokeAll", Object.class, slice(methodGroup.method0List(), from, to));
+        builder = defineBatch(builder, targetClass, "intInvokeAll", int.class, primitiveReturnList(methodGroup, int.class, from, to, dense));
+        builder = defineBatch(builder, targetClass, "longInvokeAll", long.class, primitiveReturnList(methodGroup, long.class, from, to, dense));
+        builder = defineBatch(builder, targetClass, "floatInvokeAll", float.class, primitiveReturnList(methodGroup, float.class, from, to, dense));
+        builder = defineBatch(builder, targetClass, "doubleInvokeAll", double.class, primitiveReturnList(methodGroup, double.class, from, to, dense));
+        builder = defineBatch(builder, targetClass, "booleanInvokeAll", boolean.class, primitiveReturnList(methodGroup, boolean.class, from, to, dense));
+        builder = defineBatch(builder, targetClass, "byteInvokeAll", byte.class, primitiveReturnList(methodGroup, byte.class, from, to, dense));
+        builder = defineBatch(builder, targetClass, "shortInvokeAll", short.class, primitiveReturnList(methodGroup, short.class, from, to, dense));
+        builder = defineBatch(builder, targetClass, "charInvokeAll", char.class, primitiveReturnList(methodGroup, char.class, from, to, dense));
+
+        // 擦除签名专用入口（如 invoke_II_V），只在单个字节码类中生成
+        if (dense) {
+            for (Map.Entry<String, List<MethodIdentify>> entry : methodGroup.primitiveSignatureLists().entrySet()) {
+                final Method method = entry.getValue().get(0).method();
+                final Class<?>[] erasedParamTypes = MethodSignatureByteCode.erasedParamTypes(method);
+                final Class<?>[] parameters = new Class<?>[erasedParamTypes.length + 2];
+                parameters[0] = int.class;
+                parameters[1] = Object.class;
+                System.arraycopy(erasedParamTypes, 0, parameters, 2, erasedParamTypes.length);
+                builder = builder
+                        .defineMethod(MethodSignatureByteCode.entryName(entry.getKey()),
+                                MethodSignatureByteCode.erasedReturnType(method), Visibility.PUBLIC, MethodManifestation.FINAL)
+                        .withParameters(parameters)
+                        .intercept(new MethodSignatureByteCode(targetClass, entry.getValue(),
+                                erasedParamTypes, MethodSignatureByteCode.erasedReturnType(method)));
+            }
+        }
+
+        return ClassDefineUtil.define(targetClass, builder
                 // 自动计算
                 .visit(new AsmVisitorWrapper.ForDeclaredMethods()
                         .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
                 )
                 // 生成字节码
-                .make()
-                .load(targetClass.getClassLoader(), ClassLoadingStrategy.Default.INJECTION)
-                .getLoaded();
+                .make());
+    }
 
-        return MethodInvokerResult.success(
-                invokerClass,
-                Collections.unmodifiableList(methodGroup.methodAllList().stream().map(MethodIdentify::method).collect(Collectors.toList()))
-        );
+    /**
+     * 定义批量调用方法
+     * <p>
+     * 方法数不超过 {@code 1 << METHOD_BATCH_GROUP_SHIFT} 时循环直接生成在入口方法中；否则每组循环生成一个同描述符的私有方法，
+     * 入口方法只按组分发，避免单个方法超过 JIT 的 {@code HugeMethodLimit} 而无法编译。
+     *
+     * @param builder            类构建器
+     * @param targetClass        目标类
+     * @param methodName         入口方法名称
+     * @param resultType         结果类型，见 {@link MethodBatchByteCode}
+     * @param methodIdentifyList 方法标识列表，索引连续
+     * @return 类构建器
+     */
+    private static DynamicType.Builder<MethodInvoker> defineBatch(DynamicType.Builder<MethodInvoker> builder, Class<?> targetClass,
+                                                                  String methodName, Class<?> resultType, List<MethodIdentify> methodIdentifyList) {
+        final Class<?>[] parameterTypes = resultType == void.class
+                ? new Class<?>[]{int.class, Object[].class, int.class, int.class}
+                : new Class<?>[]{int.class, Object[].class, int.class, int.class, resultType == Object.class ? Object[].class : resultType.arrayType(), int.class};
+        final int groupSize = 1 << ByteBeanConstant.METHOD_BATCH_GROUP_SHIFT;
+        if (methodIdentifyList.size() <= groupSize) {
+            return builder.defineMethod(methodName, void.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                    .withParameters(parameterTypes)
+                    .intercept(new MethodBatchByteCode(targetClass, methodIdentifyList, resultType));
+        }
+
+        final int groupCount = (methodIdentifyList.size() + groupSize - 1) >> ByteBeanConstant.METHOD_BATCH_GROUP_SHIFT;
+        for (int i = 0; i < groupCount; i++) {
+            final List<MethodIdentify> group = methodIdentifyList.subList(i * groupSize, Math.min((i + 1) * groupSize, methodIdentifyList.size()));
+            builder = builder.defineMethod(MethodBatchDispatchByteCode.groupMethodName(methodName, i), void.class, Visibility.PRIVATE)
+                    .withParameters(parameterTypes)
+                    .intercept(new MethodBatchByteCode(targetClass, group, resultType));
+        }
+        return builder.defineMethod(methodName, void.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(parameterTypes)
+                .intercept(new MethodBatchDispatchByteCode(methodIdentifyList.get(0).index(), groupCount, ByteBeanConstant.METHOD_BATCH_GROUP_SHIFT));
+    }
+
+    /**
+     * 截取索引落在 [from, to) 内的方法标识
+     *
+     * @param methodIdentifyList 方法标识列表
+     * @param from               起始全局索引（包含）
+     * @param to                 结束全局索引（不包含）
+     * @return 截取后的方法标识列表
+     */
+    private static List<MethodIdentify> slice(List<MethodIdentify> methodIdentifyList, int from, int to) {
+        return methodIdentifyList.stream()
+                .filter(methodIdentify -> methodIdentify.index() >= from && methodIdentify.index() < to)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 获取基本类型返回方法的特化表
+     *
+     * @param methodGroup   方法分组
+     * @param primitiveType 基本类型返回值
+     * @param from          起始全局索引（包含）
+     * @param to            结束全局索引（不包含）
+     * @param dense         是否使用紧凑索引
+     * @return 紧凑索引表，或截取后的全局索引表
+     */
+    private static List<MethodIdentify> primitiveReturnList(MethodGroup methodGroup, Class<?> primitiveType, int from, int to, boolean dense) {
+        return dense ? methodGroup.primitiveReturnList(primitiveType) : slice(methodGroup.methodAllList(), from, to);
+    }
+
+    private static ShardInvokerResult<MethodInvoker> doCreateSharded(final Class<?> targetClass) {
+        // 步骤1: 收集目标类的所有非静态、可访问的方法
+        final MethodGroup methodGroup = MethodGroup.of(targetClass);
+        if (!methodGroup.ok()) {
+            return ShardInvokerResult.fail();
+        }
+
+        // 步骤2: 计算分片数量，超过上限时交给MethodHandle实现
+        final int methodCount = methodGroup.methodAllList().size();
+        final int shardSize = 1 << ByteBeanConstant.METHOD_SHARD_SHIFT;
+        final int shardCount = (methodCount + shardSize - 1) >> ByteBeanConstant.METHOD_SHARD_SHIFT;
+        if (shardCount > ByteBeanConstant.METHOD_SHARD_MAX_COUNT) {
+            return ShardInvokerResult.fail();
+        }
+
+        // 步骤3: 逐个生成分片类，分片 i 负责全局索引 [i * shardSize, (i + 1) * shardSize)
+        final String invokerName = NameUtil.calcInvokerName(targetClass, MethodInvoker.class);
+        final List<Class<? extends MethodInvoker>> shardClasses = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            final int from = i * shardSize;
+            final int to = Math.min(from + shardSize, methodCount);
+            final String shardName = invokerName + "$Shard" + i;
+            Class<? extends MethodInvoker> shardClass = ClassDefineUtil.findInvokerClass(targetClass, shardName, MethodInvoker.class);
+            if (shardClass == null) {
+                shardClass = make(targetClass, shardName, methodGroup, from, to, false);
+            }
+            shardClasses.add(shardClass);
+        }
+
+        // 步骤4: 生成调度器
+        Class<? extends MethodInvoker> dispatcherClass = ClassDefineUtil.findInvokerClass(targetClass, invokerName, MethodInvoker.class);
+        if (dispatcherClass == null) {
+            dispatcherClass = ShardDispatcherGenerator.make(MethodInvoker.class, invokerName, targetClass,
+                    shardCount, ByteBeanConstant.METHOD_SHARD_SHIFT, "Invalid method index: ");
+        }
+
+        return ShardInvokerResult.success(dispatcherClass, Collections.unmodifiableList(shardClasses));
     }
 
     /**
@@ -165,4 +345,17 @@ public final class MethodInvokerGenerator {
     static MethodInvokerResult generate(Class<?> targetClass) {
         return CACHE.computeIfAbsent(targetClass, MethodInvokerGenerator::doCreate);
     }
+
+    /**
+     * 为目标类生成分片的 MethodInvoker 实现
+     * <p>
+     * 适用于方法数量超过 {@link ByteBeanConstant#METHOD_SHARDING_THRESHOLD_VALUE} 的类，
+     * 每个分片覆盖 {@code 1 << METHOD_SHARD_SHIFT} 个全局索引，由生成的调度器按索引区间转发。
+     *
+     * @param targetClass 目标类
+     * @return 分片调度器及分片类信息
+     */
+    static ShardInvokerResult<MethodInvoker> generateSharded(Class<?> targetClass) {
+        return SHARD_CACHE.computeIfAbsent(targetClass, MethodInvokerGenerator::doCreateSharded);
+    }
 }
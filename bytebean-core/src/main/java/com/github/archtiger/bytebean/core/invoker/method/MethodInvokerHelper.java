@@ -2,17 +2,37 @@ package com.github.archtiger.bytebean.core.invoker.method;
 
 import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
 import com.github.archtiger.bytebean.api.method.MethodInvoker;
+import com.github.archtiger.bytebean.core.invoker.facade.BeanFacade;
 import com.github.archtiger.bytebean.core.model.MethodGroup;
 import com.github.archtiger.bytebean.core.model.MethodIdentify;
 import com.github.archtiger.bytebean.core.model.MethodInvokerResult;
+import com.github.archtiger.bytebean.core.model.ShardInvokerResult;
 import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
 import com.github.archtiger.bytebean.core.constant.ExceptionCode;
 import com.github.archtiger.bytebean.core.utils.ExceptionUtil;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
 
 /**
  * 方法访问器Helper，提供方法索引管理和缓存能力。
@@ -25,7 +45,12 @@ import java.util.Map;
  *   <li>使用WeakKeyValueConcurrentMap缓存，避免内存泄漏</li>
  *   <li>支持通过方法名和参数类型获取索引</li>
  *   <li>支持方法重载的精确匹配</li>
- *   <li>根据方法数量自动选择字节码或MethodHandle实现</li>
+ *   <li>根据方法数量自动选择字节码、分片字节码或MethodHandle实现</li>
+ *   <li>字节码实现为每个擦除基本类型签名生成专用入口（如 {@code invoke_II_V}），通过 {@link #signatureEntry(String)} 获取，
+ *   多个基本类型参数的方法也无需装箱；{@link #methodHandle(int)} 另外提供单个方法的精确签名 {@link MethodHandle}</li>
+ *   <li>批量调用（{@link #invokeAll(int, Object[])}、{@link #intInvokeAll(int, Object[], int[])} 等）对多个实例调用同一个无参方法，
+ *   并支持在指定的 {@link ForkJoinPool} 上并行执行</li>
+ *   <li>按需生成绑定单个方法的 {@code java.util.function} 实现（如 {@link #toIntFunction(int)}），供流式处理等热点路径使用</li>
  * </ul>
  *
  * @author ZIJIDELU
@@ -39,11 +64,23 @@ public final class MethodInvokerHelper extends MethodInvoker {
      */
     private static final Map<Class<?>, MethodInvokerHelper> METHOD_INVOKER_HELPER_CACHE = new WeakKeyValueConcurrentMap<>();
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
     /**
      * 实际的方法访问器实现，可能是字节码生成或MethodHandle实现。
      */
     private final MethodInvoker methodInvoker;
 
+    /**
+     * 目标类。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 方法数组，按索引顺序排列。
+     */
+    private final Method[] methods;
+
     /**
      * 方法名称数组，按索引顺序排列。
      */
@@ -55,12 +92,55 @@ public final class MethodInvokerHelper extends MethodInvoker {
      */
     private final Class<?>[][] methodParamTypes;
 
+    /**
+     * 方法返回类型数组，按索引顺序排列。
+     */
+    private final Class<?>[] methodReturnTypes;
+
+    /**
+     * 全局索引到基本类型返回值紧凑索引的映射，返回类型不是基本类型的方法为 -1。
+     */
+    private final int[] primitiveReturnIndexes;
+
+    /**
+     * 全局索引到擦除签名紧凑索引的映射，没有擦除签名的方法为 -1。
+     */
+    private final int[] primitiveSignatureIndexes;
+
+    /**
+     * 实际实现的基本类型返回方法（如 intInvoke）是否使用紧凑索引，以及是否生成了擦除签名专用入口。
+     * 单个字节码类时为true；分片与MethodHandle实现仍使用全局索引，且没有专用入口。
+     */
+    private final boolean denseReturnTables;
+
+    /**
+     * 擦除签名入口句柄缓存，按签名按需创建。
+     */
+    private final Map<String, MethodHandle> signatureEntries = new ConcurrentHashMap<>();
+
+    /**
+     * 精确签名方法句柄缓存，按方法索引按需创建。
+     */
+    private final Map<Integer, MethodHandle> methodHandles = new ConcurrentHashMap<>();
+
     private MethodInvokerHelper(MethodInvoker methodInvoker,
+                                Class<?> targetClass,
+                                Method[] methods,
                                 String[] methodNames,
-                                Class<?>[][] methodParamTypes
+                                Class<?>[][] methodParamTypes,
+                                Class<?>[] methodReturnTypes,
+                                int[] primitiveReturnIndexes,
+                                int[] primitiveSignatureIndexes,
+                                boolean denseReturnTables
     ) {
+        this.targetClass = targetClass;
+        this.methods = methods;
         this.methodNames = methodNames;
         this.methodParamTypes = methodParamTypes;
+        this.methodReturnTypes = methodReturnTypes;
+        this.primitiveReturnIndexes = primitiveReturnIndexes;
+        this.primitiveSignatureIndexes = primitiveSignatureIndexes;
+        this.denseReturnTables = denseReturnTables;
         this.methodInvoker = methodInvoker;
     }
 
@@ -77,13 +157,19 @@ public final class MethodInvokerHelper extends MethodInvoker {
                 return null;
             }
 
+            final Method[] methods = new Method[methodGroup.methodAllList().size()];
             final String[] methodNames = new String[methodGroup.methodAllList().size()];
             final Class<?>[][] methodParamTypes = new Class<?>[methodGroup.methodAllList().size()][];
+            final Class<?>[] methodReturnTypes = new Class<?>[methodGroup.methodAllList().size()];
             for (int i = 0; i < methodGroup.methodAllList().size(); i++) {
                 MethodIdentify methodIdentify = methodGroup.methodAllList().get(i);
+                methods[i] = methodIdentify.method();
                 methodNames[i] = methodIdentify.method().getName();
                 methodParamTypes[i] = methodIdentify.method().getParameterTypes();
+                methodReturnTypes[i] = methodIdentify.method().getReturnType();
             }
+            final int[] primitiveReturnIndexes = methodGroup.primitiveReturnIndexes();
+            final int[] primitiveSignatureIndexes = methodGroup.primitiveSignatureIndexes();
 
             // 若方法数量小于等于阈值,则使用 MethodInvokerGenerator 生成 MethodInvoker 实现类
             if (methodGroup.methodAllList().size() <= ByteBeanConstant.METHOD_SHARDING_THRESHOLD_VALUE) {
@@ -91,17 +177,31 @@ public final class MethodInvokerHelper extends MethodInvoker {
                 if (generate.ok()) {
                     try {
                         final MethodInvoker methodInvoker = generate.methodInvokerClass().getDeclaredConstructor().newInstance();
-                        return new MethodInvokerHelper(methodInvoker, methodNames, methodParamTypes);
+                        return new MethodInvokerHelper(methodInvoker, targetClass, methods, methodNames, methodParamTypes,
+                                methodReturnTypes, primitiveReturnIndexes, primitiveSignatureIndexes, true);
                     } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
                              NoSuchMethodException e) {
                         throw new RuntimeException(e);
                     }
                 }
+            } else {
+                // 超过阈值时,优先使用分片字节码实现
+                final ShardInvokerResult<MethodInvoker> generate = MethodInvokerGenerator.generateSharded(targetClass);
+                if (generate.ok()) {
+                    try {
+                        final MethodInvoker methodInvoker = generate.newInstance(MethodInvoker.class);
+                        return new MethodInvokerHelper(methodInvoker, targetClass, methods, methodNames, methodParamTypes,
+                                methodReturnTypes, primitiveReturnIndexes, primitiveSignatureIndexes, false);
+                    } catch (ReflectiveOperationException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
             }
 
             // 否则,使用 MethodHandleInvoker 实现类
             final MethodHandleInvoker methodHandleInvoker = MethodHandleInvoker.of(targetClass);
-            return new MethodInvokerHelper(methodHandleInvoker, methodNames, methodParamTypes);
+            return new MethodInvokerHelper(methodHandleInvoker, targetClass, methods, methodNames, methodParamTypes,
+                    methodReturnTypes, primitiveReturnIndexes, primitiveSignatureIndexes, false);
         });
 
     }
@@ -151,6 +251,336 @@ public final class MethodInvokerHelper extends MethodInvoker {
         return methodIndex;
     }
 
+    /**
+     * 获取方法在其基本类型返回值表中的紧凑索引
+     * <p>
+     * 返回同一基本类型的方法按全局索引顺序编号为 0 ~ k-1，生成的 {@code intInvoke}、{@code longInvoke}
+     * 等方法只在对应的紧凑表上构建 tableswitch，字节码大小与匹配的方法数量成正比。
+     * {@link #intInvoke(int, Object, Object...)} 等方法仍接收全局索引，由本类完成映射。
+     *
+     * @param methodIndex 方法索引
+     * @return 紧凑索引，若索引越界或返回类型不是基本类型（含void）则返回 -1
+     */
+    public int getPrimitiveReturnIndex(int methodIndex) {
+        if (methodIndex < 0 || methodIndex >= primitiveReturnIndexes.length) {
+            return ExceptionCode.INVALID_INDEX;
+        }
+        return primitiveReturnIndexes[methodIndex];
+    }
+
+    /**
+     * 获取方法的擦除基本类型签名
+     *
+     * @param methodIndex 方法索引
+     * @return 擦除签名（如 {@code II_V}，见 {@link MethodGroup#primitiveSignature(Method)}），
+     * 若索引越界或方法没有擦除签名则返回null
+     */
+    public String getPrimitiveSignature(int methodIndex) {
+        if (methodIndex < 0 || methodIndex >= methods.length) {
+            return null;
+        }
+        return MethodGroup.primitiveSignature(methods[methodIndex]);
+    }
+
+    /**
+     * 获取方法在其擦除签名入口中的紧凑索引
+     * <p>
+     * 同一擦除签名的方法按全局索引顺序编号为 0 ~ k-1，作为 {@link #signatureEntry(String)} 返回句柄的第一个参数。
+     *
+     * @param methodIndex 方法索引
+     * @return 紧凑索引，若索引越界或方法没有擦除签名则返回 -1
+     */
+    public int getPrimitiveSignatureIndex(int methodIndex) {
+        if (methodIndex < 0 || methodIndex >= primitiveSignatureIndexes.length) {
+            return ExceptionCode.INVALID_INDEX;
+        }
+        return primitiveSignatureIndexes[methodIndex];
+    }
+
+    /**
+     * 获取擦除签名的专用入口
+     * <p>
+     * 字节码实现为类中出现的每个擦除基本类型签名生成专用入口，如 {@code setRange(int, int)} 与 {@code shift(int, int)}
+     * 共用 {@code void invoke_II_V(int index, Object instance, int arg1, int arg2)}，入口按签名内的紧凑索引
+     * （{@link #getPrimitiveSignatureIndex(int)}）以 tableswitch 分派，基本类型参数与返回值全程不装箱。
+     * 返回的句柄绑定到该入口，类型为 {@code (int, Object, 擦除参数类型...)擦除返回类型}，可通过 {@code invokeExact} 调用：
+     * <pre>{@code
+     * static final MethodHandle II_V = helper.signatureEntry("II_V");
+     * int setRange = helper.getPrimitiveSignatureIndex(helper.getMethodIndexOrThrow("setRange", int.class, int.class));
+     * II_V.invokeExact(setRange, (Object) range, 1, 10);
+     * }</pre>
+     * 分片与MethodHandle实现没有专用入口，句柄经由通用的 {@code invoke} 方法适配，类型与索引相同但会装箱。
+     *
+     * @param signature 擦除签名，如 {@code II_V}
+     * @return 入口方法句柄，按签名缓存
+     * @throws IllegalArgumentException 当类中没有该擦除签名的方法时抛出
+     */
+    public MethodHandle signatureEntry(String signature) {
+        return signatureEntries.computeIfAbsent(signature, this::createSignatureEntry);
+    }
+
+    private MethodHandle createSignatureEntry(String signature) {
+        // 签名内的紧凑索引到全局索引的映射
+        final int[] globalIndexes = IntStream.range(0, methods.length)
+                .filter(i -> signature.equals(MethodGroup.primitiveSignature(methods[i])))
+                .toArray();
+        if (globalIndexes.length == 0) {
+            throw ExceptionUtil.primitiveSignatureNotFound(signature);
+        }
+        final Method method = methods[globalIndexes[0]];
+        final MethodType entryType = MethodType.methodType(MethodSignatureByteCode.erasedReturnType(method), int.class, Object.class)
+                .appendParameterTypes(MethodSignatureByteCode.erasedParamTypes(method));
+        if (denseReturnTables) {
+            try {
+                return LOOKUP.findVirtual(methodInvoker.getClass(), MethodSignatureByteCode.entryName(signature), entryType)
+                        .bindTo(methodInvoker);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // 入口不可访问，经由通用 invoke 方法适配
+            }
+        }
+        try {
+            final MethodHandle invoke = LOOKUP.findVirtual(MethodInvoker.class, "invoke",
+                    MethodType.methodType(Object.class, int.class, Object.class, Object[].class));
+            return MethodHandles.filterArguments(invoke.bindTo(methodInvoker), 0,
+                            MethodHandles.arrayElementGetter(int[].class).bindTo(globalIndexes))
+                    .asCollector(Object[].class, method.getParameterCount())
+                    .asType(entryType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取调用指定方法的精确签名 {@link MethodHandle}
+     * <p>
+     * 句柄类型为 {@code (目标类, 参数类型...)返回类型}，与方法声明一致，可通过 {@code invokeExact} 调用：
+     * <pre>{@code
+     * static final MethodHandle SET_RANGE = helper.methodHandle(helper.getMethodIndexOrThrow("setRange", int.class, int.class));
+     * SET_RANGE.invokeExact(range, 1, 10);
+     * }</pre>
+     * 句柄通过目标类的完全权限Lookup直接 {@code unreflect} 目标方法，不经过索引分派；句柄按方法索引缓存，重复调用返回同一实例。
+     * 无法取得目标类的Lookup（目标类所在模块未开放）时，有擦除签名的方法绑定到 {@link #signatureEntry(String)} 及其紧凑索引，
+     * 其余方法经由调用器通用的 {@code invoke} 方法适配，语义相同但会装箱。
+     *
+     * @param index 方法索引
+     * @return 精确签名的方法句柄
+     * @throws IllegalArgumentException 当索引越界时抛出
+     */
+    public MethodHandle methodHandle(int index) {
+        if (index < 0 || index >= methods.length) {
+            throw ExceptionUtil.invalidMethodIndex(index);
+        }
+        return methodHandles.computeIfAbsent(index, this::createMethodHandle);
+    }
+
+    private MethodHandle createMethodHandle(int index) {
+        final Method method = methods[index];
+        final MethodType exactType = MethodType.methodType(method.getReturnType(), targetClass)
+                .appendParameterTypes(method.getParameterTypes());
+        try {
+            return MethodHandles.privateLookupIn(targetClass, LOOKUP).unreflect(method).asType(exactType);
+        } catch (IllegalAccessException e) {
+            // 目标类所在模块未开放，经由擦除签名入口或调用器的通用 invoke 方法适配
+        }
+        final String signature = MethodGroup.primitiveSignature(method);
+        if (signature != null) {
+            return MethodHandles.insertArguments(signatureEntry(signature), 0, primitiveSignatureIndexes[index]).asType(exactType);
+        }
+        try {
+            final MethodHandle invoke = LOOKUP.findVirtual(MethodInvoker.class, "invoke",
+                    MethodType.methodType(Object.class, int.class, Object.class, Object[].class));
+            return MethodHandles.insertArguments(invoke.bindTo(methodInvoker), 0, index)
+                    .asCollector(Object[].class, method.getParameterCount())
+                    .asType(exactType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取调用指定方法的函数式接口实现
+     * <p>
+     * 实现类按需生成，其唯一抽象方法直接调用该方法（第一个参数为目标实例，其余参数依次传给方法），
+     * 不经过索引分派，也不捕获任何状态，同一方法与接口的实现只生成一次，详见 {@link BeanFacade#function}。
+     *
+     * @param index          方法索引
+     * @param functionalType 函数式接口，如 {@code ToIntFunction.class}
+     * @param <F>            函数式接口类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界，或方法签名与函数式接口不匹配时抛出
+     */
+    public <F> F function(int index, Class<F> functionalType) {
+        if (index < 0 || index >= methods.length) {
+            throw ExceptionUtil.invalidMethodIndex(index);
+        }
+        return BeanFacade.function(functionalType, targetClass, methods[index]);
+    }
+
+    /**
+     * 获取调用无参方法的 {@link Function}，基本类型返回值装箱
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @param <R>   返回类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法有参数、返回void时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R> Function<T, R> function(int index) {
+        return function(index, Function.class);
+    }
+
+    /**
+     * 获取调用无参方法的 {@link ToIntFunction}，返回值可以是 {@code int} 或更窄的整数类型
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ToIntFunction<T> toIntFunction(int index) {
+        return function(index, ToIntFunction.class);
+    }
+
+    /**
+     * 获取调用无参方法的 {@link ToLongFunction}，返回值可以是 {@code long} 或更窄的整数类型
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ToLongFunction<T> toLongFunction(int index) {
+        return function(index, ToLongFunction.class);
+    }
+
+    /**
+     * 获取调用无参方法的 {@link ToDoubleFunction}，返回值可以是任意数值类型
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ToDoubleFunction<T> toDoubleFunction(int index) {
+        return function(index, ToDoubleFunction.class);
+    }
+
+    /**
+     * 获取调用无参 {@code boolean} 方法的 {@link Predicate}
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Predicate<T> predicate(int index) {
+        return function(index, Predicate.class);
+    }
+
+    /**
+     * 获取调用无参方法的 {@link Consumer}，丢弃返回值
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法有参数时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Consumer<T> consumer(int index) {
+        return function(index, Consumer.class);
+    }
+
+    /**
+     * 获取调用单参数方法的 {@link BiFunction}，参数按需拆箱，基本类型返回值装箱
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @param <U>   参数类型
+     * @param <R>   返回类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U, R> BiFunction<T, U, R> biFunction(int index) {
+        return function(index, BiFunction.class);
+    }
+
+    /**
+     * 获取调用单参数方法的 {@link BiConsumer}，参数按需拆箱，丢弃返回值
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @param <U>   参数类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> BiConsumer<T, U> biConsumer(int index) {
+        return function(index, BiConsumer.class);
+    }
+
+    /**
+     * 获取调用单个 {@code int}（或更宽数值类型）参数方法的 {@link ObjIntConsumer}，丢弃返回值
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjIntConsumer<T> objIntConsumer(int index) {
+        return function(index, ObjIntConsumer.class);
+    }
+
+    /**
+     * 获取调用单个 {@code long}（或更宽数值类型）参数方法的 {@link ObjLongConsumer}，丢弃返回值
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjLongConsumer<T> objLongConsumer(int index) {
+        return function(index, ObjLongConsumer.class);
+    }
+
+    /**
+     * 获取调用单个 {@code double} 参数方法的 {@link ObjDoubleConsumer}，丢弃返回值
+     *
+     * @param index 方法索引
+     * @param <T>   目标类型
+     * @return 函数式接口实现
+     * @throws IllegalArgumentException 当索引越界或方法签名不匹配时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjDoubleConsumer<T> objDoubleConsumer(int index) {
+        return function(index, ObjDoubleConsumer.class);
+    }
+
+    /**
+     * 将全局索引映射为实际实现使用的基本类型返回方法索引
+     *
+     * @param index         方法索引
+     * @param primitiveType 基本类型返回值
+     * @return 实际实现使用的索引
+     * @throws IllegalArgumentException 如果索引越界或方法返回类型不是 primitiveType
+     */
+    private int primitiveReturnIndex(int index, Class<?> primitiveType) {
+        if (!denseReturnTables) {
+            return index;
+        }
+        if (index < 0 || index >= methodReturnTypes.length || methodReturnTypes[index] != primitiveType) {
+            throw ExceptionUtil.invalidMethodIndex(index);
+        }
+        return primitiveReturnIndexes[index];
+    }
+
     @Override
     public Object invoke(int index, Object instance, Object... arguments) {
         return methodInvoker.invoke(index, instance, arguments);
@@ -186,44 +616,69 @@ public final class MethodInvokerHelper extends MethodInvoker {
         return methodInvoker.invoke5(index, instance, arg1, arg2, arg3, arg4, arg5);
     }
 
+    @Override
+    public Object invoke6(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6) {
+        return methodInvoker.invoke6(index, instance, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public Object invoke7(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7) {
+        return methodInvoker.invoke7(index, instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public Object invoke8(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8) {
+        return methodInvoker.invoke8(index, instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public Object invoke9(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8, Object arg9) {
+        return methodInvoker.invoke9(index, instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
+    }
+
+    @Override
+    public Object invoke10(int index, Object instance, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5, Object arg6, Object arg7, Object arg8, Object arg9, Object arg10) {
+        return methodInvoker.invoke10(index, instance, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
     @Override
     public int intInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.intInvoke(index, instance, arguments);
+        return methodInvoker.intInvoke(primitiveReturnIndex(index, int.class), instance, arguments);
     }
 
     @Override
     public long longInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.longInvoke(index, instance, arguments);
+        return methodInvoker.longInvoke(primitiveReturnIndex(index, long.class), instance, arguments);
     }
 
     @Override
     public float floatInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.floatInvoke(index, instance, arguments);
+        return methodInvoker.floatInvoke(primitiveReturnIndex(index, float.class), instance, arguments);
     }
 
     @Override
     public double doubleInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.doubleInvoke(index, instance, arguments);
+        return methodInvoker.doubleInvoke(primitiveReturnIndex(index, double.class), instance, arguments);
     }
 
     @Override
     public boolean booleanInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.booleanInvoke(index, instance, arguments);
+        return methodInvoker.booleanInvoke(primitiveReturnIndex(index, boolean.class), instance, arguments);
     }
 
     @Override
     public byte byteInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.byteInvoke(index, instance, arguments);
+        return methodInvoker.byteInvoke(primitiveReturnIndex(index, byte.class), instance, arguments);
     }
 
     @Override
     public short shortInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.shortInvoke(index, instance, arguments);
+        return methodInvoker.shortInvoke(primitiveReturnIndex(index, short.class), instance, arguments);
     }
 
     @Override
     public char charInvoke(int index, Object instance, Object... arguments) {
-        return methodInvoker.charInvoke(index, instance, arguments);
+        return methodInvoker.charInvoke(primitiveReturnIndex(index, char.class), instance, arguments);
     }
 
     @Override
@@ -265,4 +720,383 @@ public final class MethodInvokerHelper extends MethodInvoker {
     public Object invokeChar1(int index, Object instance, char arg) {
         return methodInvoker.invokeChar1(index, instance, arg);
     }
+
+    @Override
+    public void invokeAll(int index, Object[] instances, int from, int to) {
+        methodInvoker.invokeAll(index, instances, from, to);
+    }
+
+    @Override
+    public void invokeAll(int index, Object[] instances, int from, int to, Object[] dest, int destPos) {
+        methodInvoker.invokeAll(index, instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void intInvokeAll(int index, Object[] instances, int from, int to, int[] dest, int destPos) {
+        methodInvoker.intInvokeAll(primitiveReturnIndex(index, int.class), instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void longInvokeAll(int index, Object[] instances, int from, int to, long[] dest, int destPos) {
+        methodInvoker.longInvokeAll(primitiveReturnIndex(index, long.class), instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void floatInvokeAll(int index, Object[] instances, int from, int to, float[] dest, int destPos) {
+        methodInvoker.floatInvokeAll(primitiveReturnIndex(index, float.class), instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void doubleInvokeAll(int index, Object[] instances, int from, int to, double[] dest, int destPos) {
+        methodInvoker.doubleInvokeAll(primitiveReturnIndex(index, double.class), instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void booleanInvokeAll(int index, Object[] instances, int from, int to, boolean[] dest, int destPos) {
+        methodInvoker.booleanInvokeAll(primitiveReturnIndex(index, boolean.class), instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void byteInvokeAll(int index, Object[] instances, int from, int to, byte[] dest, int destPos) {
+        methodInvoker.byteInvokeAll(primitiveReturnIndex(index, byte.class), instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void shortInvokeAll(int index, Object[] instances, int from, int to, short[] dest, int destPos) {
+        methodInvoker.shortInvokeAll(primitiveReturnIndex(index, short.class), instances, from, to, dest, destPos);
+    }
+
+    @Override
+    public void charInvokeAll(int index, Object[] instances, int from, int to, char[] dest, int destPos) {
+        methodInvoker.charInvokeAll(primitiveReturnIndex(index, char.class), instances, from, to, dest, destPos);
+    }
+
+    // ==================== 批量调用 ====================
+
+    /**
+     * 区间调用逻辑，处理 {@code [from, to)} 内的实例。
+     */
+    @FunctionalInterface
+    private interface RangeInvoker {
+        void invoke(int from, int to);
+    }
+
+    /**
+     * 按区间二分的fork/join批量调用任务。
+     */
+    private static final class InvokeAllTask extends RecursiveAction {
+
+        private final RangeInvoker invoker;
+
+        private final int from;
+
+        private final int to;
+
+        private InvokeAllTask(RangeInvoker invoker, int from, int to) {
+            this.invoker = invoker;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ByteBeanConstant.INVOKE_ALL_PARALLEL_SPLIT_SIZE) {
+                invoker.invoke(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new InvokeAllTask(invoker, from, mid), new InvokeAllTask(invoker, mid, to));
+        }
+    }
+
+    private static void parallel(int size, ForkJoinPool pool, RangeInvoker invoker) {
+        if (size <= ByteBeanConstant.INVOKE_ALL_PARALLEL_SPLIT_SIZE) {
+            invoker.invoke(0, size);
+            return;
+        }
+        pool.invoke(new InvokeAllTask(invoker, 0, size));
+    }
+
+    private static void checkLength(int sourceLength, int destLength) {
+        if (destLength < sourceLength) {
+            throw new IllegalArgumentException("Destination length " + destLength + " is less than source size " + sourceLength);
+        }
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个无参方法，丢弃返回值
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @throws IllegalArgumentException 如果索引超出范围或方法不是无参方法
+     */
+    public void invokeAll(int index, Object[] instances) {
+        methodInvoker.invokeAll(index, instances, 0, instances.length);
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个无参方法，返回值装箱后写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是无参方法或结果数组长度不足
+     */
+    public void invokeAll(int index, Object[] instances, Object[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.invokeAll(index, instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个无参方法，丢弃返回值
+     * <p>
+     * 按 {@link ByteBeanConstant#INVOKE_ALL_PARALLEL_SPLIT_SIZE} 拆分任务，小输入直接在调用线程中执行；
+     * 目标方法需要能够被多个线程同时调用（各实例互不影响）。
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围或方法不是无参方法
+     */
+    public void parallelInvokeAll(int index, Object[] instances, ForkJoinPool pool) {
+        parallel(instances.length, pool, (from, to) -> methodInvoker.invokeAll(index, instances, from, to));
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个无参方法，返回值装箱后写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是无参方法或结果数组长度不足
+     */
+    public void parallelInvokeAll(int index, Object[] instances, Object[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.invokeAll(index, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 int 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 int 的无参方法或结果数组长度不足
+     */
+    public void intInvokeAll(int index, Object[] instances, int[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.intInvokeAll(primitiveReturnIndex(index, int.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 int 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 int 的无参方法或结果数组长度不足
+     */
+    public void parallelIntInvokeAll(int index, Object[] instances, int[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, int.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.intInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 long 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 long 的无参方法或结果数组长度不足
+     */
+    public void longInvokeAll(int index, Object[] instances, long[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.longInvokeAll(primitiveReturnIndex(index, long.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 long 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 long 的无参方法或结果数组长度不足
+     */
+    public void parallelLongInvokeAll(int index, Object[] instances, long[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, long.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.longInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 float 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 float 的无参方法或结果数组长度不足
+     */
+    public void floatInvokeAll(int index, Object[] instances, float[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.floatInvokeAll(primitiveReturnIndex(index, float.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 float 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 float 的无参方法或结果数组长度不足
+     */
+    public void parallelFloatInvokeAll(int index, Object[] instances, float[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, float.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.floatInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 double 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 double 的无参方法或结果数组长度不足
+     */
+    public void doubleInvokeAll(int index, Object[] instances, double[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.doubleInvokeAll(primitiveReturnIndex(index, double.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 double 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 double 的无参方法或结果数组长度不足
+     */
+    public void parallelDoubleInvokeAll(int index, Object[] instances, double[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, double.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.doubleInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 boolean 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 boolean 的无参方法或结果数组长度不足
+     */
+    public void booleanInvokeAll(int index, Object[] instances, boolean[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.booleanInvokeAll(primitiveReturnIndex(index, boolean.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 boolean 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 boolean 的无参方法或结果数组长度不足
+     */
+    public void parallelBooleanInvokeAll(int index, Object[] instances, boolean[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, boolean.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.booleanInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 byte 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 byte 的无参方法或结果数组长度不足
+     */
+    public void byteInvokeAll(int index, Object[] instances, byte[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.byteInvokeAll(primitiveReturnIndex(index, byte.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 byte 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 byte 的无参方法或结果数组长度不足
+     */
+    public void parallelByteInvokeAll(int index, Object[] instances, byte[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, byte.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.byteInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 short 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 short 的无参方法或结果数组长度不足
+     */
+    public void shortInvokeAll(int index, Object[] instances, short[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.shortInvokeAll(primitiveReturnIndex(index, short.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 short 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 short 的无参方法或结果数组长度不足
+     */
+    public void parallelShortInvokeAll(int index, Object[] instances, short[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, short.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.shortInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
+
+    /**
+     * 对数组中的每个实例调用同一个返回 char 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 char 的无参方法或结果数组长度不足
+     */
+    public void charInvokeAll(int index, Object[] instances, char[] dest) {
+        checkLength(instances.length, dest.length);
+        methodInvoker.charInvokeAll(primitiveReturnIndex(index, char.class), instances, 0, instances.length, dest, 0);
+    }
+
+    /**
+     * 使用fork/join在指定线程池上并行地对数组中的每个实例调用同一个返回 char 的无参方法，返回值写入结果数组的相同下标
+     *
+     * @param index     方法索引
+     * @param instances 目标实例数组，元素非null
+     * @param dest      结果数组，长度不小于 instances
+     * @param pool      执行任务的线程池
+     * @throws IllegalArgumentException 如果索引超出范围、方法不是返回 char 的无参方法或结果数组长度不足
+     */
+    public void parallelCharInvokeAll(int index, Object[] instances, char[] dest, ForkJoinPool pool) {
+        checkLength(instances.length, dest.length);
+        final int actualIndex = primitiveReturnIndex(index, char.class);
+        parallel(instances.length, pool, (from, to) -> methodInvoker.charInvokeAll(actualIndex, instances, from, to, dest, from));
+    }
 }
@@ -106,8 +106,7 @@ public class MethodP0ByteCode implements Implementation {
                 mv.visitVarInsn(Opcodes.ALOAD, 3);
 
                 // 调用目标方法
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, method.getName(),
-                        Type.getMethodDescriptor(method), false);
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 // 处理返回值
                 if (method.getReturnType() == void.class) {
@@ -113,9 +113,7 @@ public class MethodP1ByteCode implements Implementation {
                 // C: 参数适配 (必须在 Case 内部，因为类型不同)
                 AsmUtil.unboxOrCast(mv, paramType);
 
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method), false);
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 if (method.getReturnType() == void.class) {
                     mv.visitInsn(Opcodes.ACONST_NULL);
@@ -104,9 +104,7 @@ public class MethodP2ByteCode implements Implementation {
                 // E: 参数适配
                 AsmUtil.unboxOrCast(mv, paramTypes[1]);
 
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method), false);
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 if (method.getReturnType() == void.class) {
                     mv.visitInsn(Opcodes.ACONST_NULL);
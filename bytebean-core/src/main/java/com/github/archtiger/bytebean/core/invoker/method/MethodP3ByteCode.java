@@ -109,9 +109,7 @@ public class MethodP3ByteCode implements Implementation {
                 // G: 参数适配
                 AsmUtil.unboxOrCast(mv, paramTypes[2]);
 
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method), false);
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 if (method.getReturnType() == void.class) {
                     mv.visitInsn(Opcodes.ACONST_NULL);
@@ -114,9 +114,7 @@ public class MethodP4ByteCode implements Implementation {
                 // I: 参数适配
                 AsmUtil.unboxOrCast(mv, paramTypes[3]);
 
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method), false);
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 if (method.getReturnType() == void.class) {
                     mv.visitInsn(Opcodes.ACONST_NULL);
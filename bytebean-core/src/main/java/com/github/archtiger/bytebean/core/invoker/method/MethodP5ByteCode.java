@@ -119,9 +119,7 @@ public class MethodP5ByteCode implements Implementation {
                 // K: 参数适配
                 AsmUtil.unboxOrCast(mv, paramTypes[4]);
 
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method), false);
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 if (method.getReturnType() == void.class) {
                     mv.visitInsn(Opcodes.ACONST_NULL);
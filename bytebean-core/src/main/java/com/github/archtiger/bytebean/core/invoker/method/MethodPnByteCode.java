@@ -0,0 +1,138 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.model.MethodIdentify;
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 固定参数数量方法调用字节码实现，为MethodInvoker生成六至十参数方法调用字节码。
+ * <p>
+ * 与 {@link MethodP5ByteCode} 相同，通过tableswitch指令实现方法索引到方法调用的快速分发，
+ * 参数逐个以 {@code Object} 传入，避免了参数数组的创建开销；参数数量由构造参数指定，而不是每个数量一个类。
+ * </p>
+ * <p>
+ * <b>API对应：</b> {@code Object invokeN(int index, Object instance, Object arg1, ..., Object argN)}，N 为 6 ~ 10
+ * </p>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2: Object instance
+ * slot 3 ~ 2+N: Object arg1 ~ argN
+ * slot 3+N: 强转后的 instance
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public class MethodPnByteCode implements Implementation {
+
+    /**
+     * 目标类，用于类型检查和字节码生成。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 方法标识列表，按索引顺序排列。
+     */
+    private final List<MethodIdentify> methodIdentifyList;
+
+    /**
+     * 参数数量。
+     */
+    private final int parameterCount;
+
+    /**
+     * 创建固定参数数量方法字节码实现
+     *
+     * @param targetClass        目标类
+     * @param methodIdentifyList 方法标识列表
+     * @param parameterCount     参数数量
+     */
+    public MethodPnByteCode(Class<?> targetClass, List<MethodIdentify> methodIdentifyList, int parameterCount) {
+        this.targetClass = targetClass;
+        this.methodIdentifyList = methodIdentifyList;
+        this.parameterCount = parameterCount;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, implementationContext, instrumentedMethod) -> {
+
+            String owner = Type.getInternalName(targetClass);
+            int instanceSlot = 3 + parameterCount;
+
+            // ============================================================
+            // 0. 预加载并强转 instance，存入参数之后的槽位
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+            mv.visitVarInsn(Opcodes.ASTORE, instanceSlot);
+
+            // --- 1. 加载 index 并构建 TableSwitch ---
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[methodIdentifyList.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = new Label();
+            }
+
+            if (!methodIdentifyList.isEmpty()) {
+                mv.visitTableSwitchInsn(methodIdentifyList.get(0).index(), methodIdentifyList.get(methodIdentifyList.size() - 1).index(), defaultLabel, labels);
+            } else {
+                mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+            }
+
+            // --- 2. 生成 Case 逻辑 ---
+            for (int i = 0; i < methodIdentifyList.size(); i++) {
+                Method method = methodIdentifyList.get(i).method();
+
+                mv.visitLabel(labels[i]);
+
+                if (method.getParameterCount() != parameterCount) {
+                    mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+                    continue;
+                }
+
+                Class<?>[] paramTypes = method.getParameterTypes();
+
+                mv.visitVarInsn(Opcodes.ALOAD, instanceSlot);
+                for (int j = 0; j < parameterCount; j++) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 3 + j);
+                    AsmUtil.unboxOrCast(mv, paramTypes[j]);
+                }
+
+                AsmUtil.invokeMethod(mv, targetClass, method);
+
+                if (method.getReturnType() == void.class) {
+                    mv.visitInsn(Opcodes.ACONST_NULL);
+                } else {
+                    AsmUtil.boxIfNeeded(mv, method.getReturnType());
+                }
+
+                mv.visitInsn(Opcodes.ARETURN);
+            }
+
+            // --- 3. Default Case ---
+            mv.visitLabel(defaultLabel);
+            AsmUtil.throwIAEForMethod(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
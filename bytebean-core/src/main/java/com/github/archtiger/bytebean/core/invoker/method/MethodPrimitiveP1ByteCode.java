@@ -129,13 +129,7 @@ public final class MethodPrimitiveP1ByteCode implements Implementation {
                 mv.visitVarInsn(AsmUtil.getLoadOpcode(primitiveType), 3);
 
                 // C. 调用方法
-                mv.visitMethodInsn(
-                        Opcodes.INVOKEVIRTUAL,
-                        owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method),
-                        false
-                );
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 // D. 处理返回值
                 if (method.getReturnType() == void.class) {
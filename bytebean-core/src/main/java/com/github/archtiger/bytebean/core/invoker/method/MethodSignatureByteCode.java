@@ -0,0 +1,170 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.model.MethodIdentify;
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 擦除签名专用入口字节码实现，为MethodInvoker生成按签名特化、无装箱的多参数方法调用字节码。
+ * <p>
+ * 每个擦除基本类型签名（见 {@link com.github.archtiger.bytebean.core.model.MethodGroup#primitiveSignature(Method)}）
+ * 生成一个入口方法，如 {@code setRange(int, int)} 对应：
+ * <pre>
+ * void invoke_II_V(int index, Object instance, int arg1, int arg2)
+ * </pre>
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>使用tableswitch实现O(1)索引到方法的映射，索引为签名内的紧凑索引（0 ~ k-1）</li>
+ *   <li>基本类型参数与返回值直接传递，引用类型参数执行强转，返回值不装箱</li>
+ *   <li>索引越界时抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2: Object instance
+ * slot 3..: 参数，按类型占用 1 或 2 个槽位
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class MethodSignatureByteCode implements Implementation {
+
+    /**
+     * 目标类，用于类型检查和字节码生成。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 同一擦除签名的方法标识列表，索引为紧凑索引。
+     */
+    private final List<MethodIdentify> identifyMethodList;
+
+    /**
+     * 入口方法的参数类型（不含index与instance），引用类型擦除为Object。
+     */
+    private final Class<?>[] erasedParamTypes;
+
+    /**
+     * 入口方法的返回类型，引用类型擦除为Object。
+     */
+    private final Class<?> erasedReturnType;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass        目标类
+     * @param identifyMethodList 同一擦除签名的方法标识列表
+     * @param erasedParamTypes   入口方法的参数类型（不含index与instance）
+     * @param erasedReturnType   入口方法的返回类型
+     */
+    public MethodSignatureByteCode(Class<?> targetClass, List<MethodIdentify> identifyMethodList,
+                                   Class<?>[] erasedParamTypes, Class<?> erasedReturnType) {
+        this.targetClass = targetClass;
+        this.identifyMethodList = identifyMethodList;
+        this.erasedParamTypes = erasedParamTypes;
+        this.erasedReturnType = erasedReturnType;
+    }
+
+    /**
+     * 获取擦除签名对应的入口方法名
+     *
+     * @param signature 擦除签名，如 {@code II_V}
+     * @return 入口方法名，如 {@code invoke_II_V}
+     */
+    static String entryName(String signature) {
+        return "invoke_" + signature;
+    }
+
+    /**
+     * 获取方法在入口中的参数类型（不含index与instance），引用类型擦除为Object
+     *
+     * @param method 方法
+     * @return 擦除后的参数类型
+     */
+    static Class<?>[] erasedParamTypes(Method method) {
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        final Class<?>[] erasedParamTypes = new Class<?>[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            erasedParamTypes[i] = paramTypes[i].isPrimitive() ? paramTypes[i] : Object.class;
+        }
+        return erasedParamTypes;
+    }
+
+    /**
+     * 获取方法在入口中的返回类型，引用类型擦除为Object
+     *
+     * @param method 方法
+     * @return 擦除后的返回类型
+     */
+    static Class<?> erasedReturnType(Method method) {
+        return method.getReturnType().isPrimitive() ? method.getReturnType() : Object.class;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final String owner = Type.getInternalName(targetClass);
+
+            // ============================================================
+            // 步骤1: 加载 Index 并初始化 Switch
+            // ============================================================
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[identifyMethodList.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = new Label();
+            }
+
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+            mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+
+            // ============================================================
+            // 步骤2: 生成 case 分支
+            // ============================================================
+            for (int i = 0; i < identifyMethodList.size(); i++) {
+                Method method = identifyMethodList.get(i).method();
+                mv.visitLabel(labels[i]);
+
+                mv.visitVarInsn(Opcodes.ALOAD, 2);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+
+                Class<?>[] paramTypes = method.getParameterTypes();
+                int slot = 3;
+                for (int j = 0; j < paramTypes.length; j++) {
+                    mv.visitVarInsn(AsmUtil.getLoadOpcode(erasedParamTypes[j]), slot);
+                    if (!paramTypes[j].isPrimitive() && paramTypes[j] != Object.class) {
+                        mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(paramTypes[j]));
+                    }
+                    slot += AsmUtil.slotSize(erasedParamTypes[j]);
+                }
+
+                AsmUtil.invokeMethod(mv, targetClass, method);
+                mv.visitInsn(AsmUtil.getReturnOpcode(erasedReturnType));
+            }
+
+            // ============================================================
+            // 步骤3: 处理 default 分支
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+
+            AsmUtil.throwIAEForMethod(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -23,7 +23,9 @@ import java.util.List;
  *   <li>使用tableswitch实现O(1)索引到方法的映射</li>
  *   <li>对基本类型参数执行自动拆箱</li>
  *   <li>直接返回基本类型值（使用IRETURN、LRETURN等指令）</li>
- *   <li>类型不匹配时跳转到default分支</li>
+ *   <li>单个字节码类时，方法表为 {@link com.github.archtiger.bytebean.core.model.MethodGroup#primitiveReturnList(Class)}
+ *   给出的紧凑表（索引 0 ~ k-1，调用方负责将全局索引映射为紧凑索引），switch 只覆盖返回类型匹配的方法；
+ *   分片时使用截取的全局索引表，类型不匹配时跳转到default分支</li>
  *   <li>索引越界时抛出IllegalArgumentException</li>
  * </ul>
  * <p>
@@ -90,7 +92,7 @@ public final class PrimitiveMethodByteCode implements Implementation {
             }
 
             if (!identifyMethodList.isEmpty()) {
-                mv.visitTableSwitchInsn(0, identifyMethodList.size() - 1, defaultLabel, labels);
+                mv.visitTableSwitchInsn(identifyMethodList.get(0).index(), identifyMethodList.get(identifyMethodList.size() - 1).index(), defaultLabel, labels);
             } else {
                 mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
             }
@@ -152,13 +154,7 @@ public final class PrimitiveMethodByteCode implements Implementation {
                 }
 
                 // 调用方法
-                mv.visitMethodInsn(
-                        Opcodes.INVOKEVIRTUAL,
-                        owner,
-                        method.getName(),
-                        Type.getMethodDescriptor(method),
-                        false
-                );
+                AsmUtil.invokeMethod(mv, targetClass, method);
 
                 // 根据基本类型返回对应的 RETURN 指令（避免装箱）
                 mv.visitInsn(AsmUtil.getReturnOpcode(primitiveType));
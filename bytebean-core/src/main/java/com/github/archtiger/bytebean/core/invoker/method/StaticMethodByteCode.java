@@ -0,0 +1,169 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 静态方法调用字节码实现，为StaticMethodInvoker生成按索引调用静态方法的字节码。
+ * <p>
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>使用tableswitch实现O(1)索引到方法的映射，每个case一条 {@code INVOKESTATIC}</li>
+ *   <li>参数数组版本（{@code invokeStatic(int, Object...)}、{@code intInvokeStatic} 等）覆盖全部方法；
+ *   特化版本（{@code invokeStatic1} 等）只覆盖参数数量匹配的方法，由于静态方法按参数数量排序，switch 区间连续且紧凑</li>
+ *   <li>对参数执行拆箱或强转，通用方法对基本类型返回值装箱，类型化方法只处理返回类型匹配的方法</li>
+ *   <li>索引越界、参数数量或返回类型不匹配时抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2: Object[] arguments（参数数组版本）或 Object arg1 ~ argN（特化版本，依次占用 slot 2 起的槽位）
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class StaticMethodByteCode implements Implementation {
+
+    /**
+     * 参数数量标记：参数通过 {@code Object[]} 传递，覆盖全部方法。
+     */
+    public static final int ARGUMENT_ARRAY = -1;
+
+    /**
+     * 目标类，静态方法的引用类。
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * 静态方法列表，按索引顺序排列。
+     */
+    private final List<Method> methods;
+
+    /**
+     * 参数数量，{@link #ARGUMENT_ARRAY} 表示参数数组版本。
+     */
+    private final int arity;
+
+    /**
+     * 返回的基本类型，{@code null} 表示通用方法（返回Object，基本类型装箱）。
+     */
+    private final Class<?> returnType;
+
+    /**
+     * 构造函数。
+     *
+     * @param targetClass 目标类
+     * @param methods     静态方法列表
+     * @param arity       参数数量，{@link #ARGUMENT_ARRAY} 表示参数数组版本
+     * @param returnType  返回的基本类型，{@code null} 表示通用方法
+     */
+    public StaticMethodByteCode(Class<?> targetClass, List<Method> methods, int arity, Class<?> returnType) {
+        this.targetClass = targetClass;
+        this.methods = methods;
+        this.arity = arity;
+        this.returnType = returnType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final String owner = Type.getInternalName(targetClass);
+            final boolean isInterface = targetClass.isInterface();
+
+            // ============================================================
+            // 步骤1: 计算 switch 区间（特化版本只覆盖参数数量匹配的连续区间）
+            // ============================================================
+            int from = -1;
+            int to = -1;
+            for (int i = 0; i < methods.size(); i++) {
+                if (arity == ARGUMENT_ARRAY || methods.get(i).getParameterCount() == arity) {
+                    if (from < 0) {
+                        from = i;
+                    }
+                    to = i;
+                }
+            }
+
+            Label defaultLabel = new Label();
+            if (from < 0) {
+                mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+            } else {
+                Label[] labels = new Label[to - from + 1];
+                for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+                mv.visitVarInsn(Opcodes.ILOAD, 1);
+                mv.visitTableSwitchInsn(from, to, defaultLabel, labels);
+
+                // ============================================================
+                // 步骤2: 生成 case 分支
+                // ============================================================
+                for (int i = from; i <= to; i++) {
+                    Method method = methods.get(i);
+                    mv.visitLabel(labels[i - from]);
+
+                    if (returnType != null && method.getReturnType() != returnType) {
+                        mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+                        continue;
+                    }
+
+                    // 加载参数
+                    Class<?>[] paramTypes = method.getParameterTypes();
+                    for (int j = 0; j < paramTypes.length; j++) {
+                        if (arity == ARGUMENT_ARRAY) {
+                            mv.visitVarInsn(Opcodes.ALOAD, 2);
+                            if (j <= 5) {
+                                mv.visitInsn(Opcodes.ICONST_0 + j);
+                            } else {
+                                mv.visitIntInsn(Opcodes.BIPUSH, j);
+                            }
+                            mv.visitInsn(Opcodes.AALOAD);
+                        } else {
+                            mv.visitVarInsn(Opcodes.ALOAD, 2 + j);
+                        }
+                        AsmUtil.unboxOrCast(mv, paramTypes[j]);
+                    }
+
+                    mv.visitMethodInsn(Opcodes.INVOKESTATIC, owner, method.getName(),
+                            Type.getMethodDescriptor(method), isInterface);
+
+                    // 处理返回值
+                    if (returnType != null) {
+                        mv.visitInsn(AsmUtil.getReturnOpcode(returnType));
+                    } else {
+                        if (method.getReturnType() == void.class) {
+                            mv.visitInsn(Opcodes.ACONST_NULL);
+                        } else {
+                            AsmUtil.boxIfNeeded(mv, method.getReturnType());
+                        }
+                        mv.visitInsn(Opcodes.ARETURN);
+                    }
+                }
+            }
+
+            // ============================================================
+            // 步骤3: 处理 default 分支
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+
+            AsmUtil.throwIAEForMethod(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
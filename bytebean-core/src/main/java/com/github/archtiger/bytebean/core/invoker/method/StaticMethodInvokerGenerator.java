@@ -0,0 +1,117 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.method.StaticMethodInvoker;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.NameUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.MethodManifestation;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.jar.asm.ClassWriter;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 静态方法调用生成器
+ * <p>
+ * 为目标类生成一个能够通过索引调用其静态方法的 {@link StaticMethodInvoker} 实现类，
+ * 使用 tableswitch + {@code INVOKESTATIC}，避免 {@code Method.invoke(null, ...)} 的反射开销。
+ * 类的静态方法数量通常很少，因此不做分片。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class StaticMethodInvokerGenerator {
+    private static final Map<Class<?>, Class<? extends StaticMethodInvoker>> CACHE = new WeakKeyValueConcurrentMap<>();
+
+    private StaticMethodInvokerGenerator() {
+    }
+
+    private static Class<? extends StaticMethodInvoker> doCreate(final Class<?> targetClass) {
+        final List<Method> methods = ByteBeanReflectUtil.getStaticMethods(targetClass);
+        if (methods.isEmpty()) {
+            return null;
+        }
+
+        final String invokerName = NameUtil.calcInvokerName(targetClass, StaticMethodInvoker.class);
+        final Class<? extends StaticMethodInvoker> existingClass =
+                ClassDefineUtil.findInvokerClass(targetClass, invokerName, StaticMethodInvoker.class);
+        if (existingClass != null) {
+            return existingClass;
+        }
+
+        return ClassDefineUtil.define(targetClass, new ByteBuddy()
+                .subclass(StaticMethodInvoker.class)
+                .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
+                .name(invokerName)
+                // Object invokeStatic(int index, Object... arguments)
+                .defineMethod("invokeStatic", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, null))
+                // Object invokeStatic(int index) 及 invokeStatic1 ~ invokeStatic5 特化方法
+                .defineMethod("invokeStatic", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, 0, null))
+                .defineMethod("invokeStatic1", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, 1, null))
+                .defineMethod("invokeStatic2", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, 2, null))
+                .defineMethod("invokeStatic3", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, 3, null))
+                .defineMethod("invokeStatic4", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class, Object.class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, 4, null))
+                .defineMethod("invokeStatic5", Object.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object.class, Object.class, Object.class, Object.class, Object.class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, 5, null))
+                // 基本类型返回方法
+                .defineMethod("intInvokeStatic", int.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, int.class))
+                .defineMethod("longInvokeStatic", long.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, long.class))
+                .defineMethod("floatInvokeStatic", float.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, float.class))
+                .defineMethod("doubleInvokeStatic", double.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, double.class))
+                .defineMethod("booleanInvokeStatic", boolean.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, boolean.class))
+                .defineMethod("byteInvokeStatic", byte.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, byte.class))
+                .defineMethod("shortInvokeStatic", short.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, short.class))
+                .defineMethod("charInvokeStatic", char.class, Visibility.PUBLIC, MethodManifestation.FINAL)
+                .withParameters(int.class, Object[].class)
+                .intercept(new StaticMethodByteCode(targetClass, methods, StaticMethodByteCode.ARGUMENT_ARRAY, char.class))
+                // 自动计算
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make());
+    }
+
+    /**
+     * 为目标类生成 StaticMethodInvoker 实现类
+     *
+     * @param targetClass 目标类
+     * @return 生成的实现类，目标类没有可访问的静态方法时返回 null
+     */
+    static Class<? extends StaticMethodInvoker> generate(Class<?> targetClass) {
+        return CACHE.computeIfAbsent(targetClass, StaticMethodInvokerGenerator::doCreate);
+    }
+}
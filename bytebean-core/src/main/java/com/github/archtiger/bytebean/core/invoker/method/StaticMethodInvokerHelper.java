@@ -0,0 +1,201 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.method.StaticMethodInvoker;
+import com.github.archtiger.bytebean.core.constant.ExceptionCode;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ExceptionUtil;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 静态方法调用器Helper，提供静态方法索引管理和缓存能力。
+ * <p>
+ * 该类继承自{@link StaticMethodInvoker}，与 {@link MethodInvokerHelper} 对应：
+ * 维护静态方法名称和参数类型到索引的映射，并按目标类缓存生成的调用器。
+ * <p>
+ * <b>特点：</b>
+ * <ul>
+ *   <li>使用WeakKeyValueConcurrentMap缓存，避免内存泄漏</li>
+ *   <li>只调用目标类自身声明的静态方法</li>
+ *   <li>支持方法重载的精确匹配</li>
+ * </ul>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class StaticMethodInvokerHelper extends StaticMethodInvoker {
+
+    /**
+     * StaticMethodInvokerHelper缓存，按目标Class索引。
+     */
+    private static final Map<Class<?>, StaticMethodInvokerHelper> STATIC_METHOD_INVOKER_HELPER_CACHE = new WeakKeyValueConcurrentMap<>();
+
+    /**
+     * 生成的静态方法调用器实现。
+     */
+    private final StaticMethodInvoker staticMethodInvoker;
+
+    /**
+     * 方法名称数组，按索引顺序排列。
+     */
+    private final String[] methodNames;
+
+    /**
+     * 方法参数类型数组，按索引顺序排列。
+     */
+    private final Class<?>[][] methodParamTypes;
+
+    private StaticMethodInvokerHelper(StaticMethodInvoker staticMethodInvoker, List<Method> methods) {
+        this.staticMethodInvoker = staticMethodInvoker;
+        this.methodNames = methods.stream().map(Method::getName).toArray(String[]::new);
+        this.methodParamTypes = methods.stream().map(Method::getParameterTypes).toArray(Class<?>[][]::new);
+    }
+
+    /**
+     * 创建 StaticMethodInvokerHelper 实例
+     *
+     * @param targetClass 目标类
+     * @return StaticMethodInvokerHelper 实例，若目标类没有可访问的静态方法则返回 null
+     */
+    public static StaticMethodInvokerHelper of(Class<?> targetClass) {
+        return STATIC_METHOD_INVOKER_HELPER_CACHE.computeIfAbsent(targetClass, k -> {
+            final Class<? extends StaticMethodInvoker> invokerClass = StaticMethodInvokerGenerator.generate(targetClass);
+            if (invokerClass == null) {
+                return null;
+            }
+            try {
+                final StaticMethodInvoker staticMethodInvoker = invokerClass.getDeclaredConstructor().newInstance();
+                return new StaticMethodInvokerHelper(staticMethodInvoker, ByteBeanReflectUtil.getStaticMethods(targetClass));
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * 获取静态方法索引
+     *
+     * @param methodName 方法名
+     * @param paramTypes 参数类型
+     * @return 方法索引，若不存在则返回 -1
+     */
+    public int getMethodIndex(String methodName, Class<?>... paramTypes) {
+        for (int i = 0, n = methodNames.length; i < n; i++) {
+            if (methodNames[i].equals(methodName) && Arrays.equals(paramTypes, this.methodParamTypes[i])) {
+                return i;
+            }
+        }
+
+        return ExceptionCode.INVALID_INDEX;
+    }
+
+    /**
+     * 获取静态方法索引
+     *
+     * @param method 方法对象
+     * @return 方法索引，若不存在或不是静态方法则返回 -1
+     */
+    public int getMethodIndex(Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            return ExceptionCode.INVALID_INDEX;
+        }
+        return getMethodIndex(method.getName(), method.getParameterTypes());
+    }
+
+    /**
+     * 获取静态方法索引，若不存在则抛出异常
+     *
+     * @param methodName 方法名
+     * @param paramTypes 参数类型
+     * @return 方法索引
+     * @throws IllegalArgumentException 当方法不存在时抛出
+     */
+    public int getMethodIndexOrThrow(String methodName, Class<?>... paramTypes) {
+        int methodIndex = getMethodIndex(methodName, paramTypes);
+        if (methodIndex == ExceptionCode.INVALID_INDEX) {
+            throw ExceptionUtil.methodNotFound(methodName, paramTypes);
+        }
+
+        return methodIndex;
+    }
+
+    @Override
+    public Object invokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.invokeStatic(index, arguments);
+    }
+
+    @Override
+    public Object invokeStatic(int index) {
+        return staticMethodInvoker.invokeStatic(index);
+    }
+
+    @Override
+    public Object invokeStatic1(int index, Object arg1) {
+        return staticMethodInvoker.invokeStatic1(index, arg1);
+    }
+
+    @Override
+    public Object invokeStatic2(int index, Object arg1, Object arg2) {
+        return staticMethodInvoker.invokeStatic2(index, arg1, arg2);
+    }
+
+    @Override
+    public Object invokeStatic3(int index, Object arg1, Object arg2, Object arg3) {
+        return staticMethodInvoker.invokeStatic3(index, arg1, arg2, arg3);
+    }
+
+    @Override
+    public Object invokeStatic4(int index, Object arg1, Object arg2, Object arg3, Object arg4) {
+        return staticMethodInvoker.invokeStatic4(index, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public Object invokeStatic5(int index, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+        return staticMethodInvoker.invokeStatic5(index, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public int intInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.intInvokeStatic(index, arguments);
+    }
+
+    @Override
+    public long longInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.longInvokeStatic(index, arguments);
+    }
+
+    @Override
+    public float floatInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.floatInvokeStatic(index, arguments);
+    }
+
+    @Override
+    public double doubleInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.doubleInvokeStatic(index, arguments);
+    }
+
+    @Override
+    public boolean booleanInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.booleanInvokeStatic(index, arguments);
+    }
+
+    @Override
+    public byte byteInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.byteInvokeStatic(index, arguments);
+    }
+
+    @Override
+    public short shortInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.shortInvokeStatic(index, arguments);
+    }
+
+    @Override
+    public char charInvokeStatic(int index, Object... arguments) {
+        return staticMethodInvoker.charInvokeStatic(index, arguments);
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.archtiger.bytebean.core.invoker.property;
+
+import com.github.archtiger.bytebean.api.property.PropertyAccessor;
+import com.github.archtiger.bytebean.core.model.PropertyHop;
+import com.github.archtiger.bytebean.core.model.SimpleClassValue;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 嵌套属性路径编译器
+ * <p>
+ * 将 {@code "customer.address.city"} 这样的属性路径编译为一个 {@link PropertyAccessor}：
+ * <ul>
+ *   <li>编译时按顺序解析每一级属性，只解析一次：优先使用无参getter（{@code getXxx}、boolean 的 {@code isXxx}、
+ *   record 的访问方法 {@code xxx()}），其次使用字段，访问规则与 {@code FieldInvokerHelper}/{@code MethodInvokerHelper}
+ *   一致，并以根类为准（生成的类以根类的身份定义）</li>
+ *   <li>生成的类用直接的 {@code GETFIELD}/{@code INVOKEVIRTUAL}/{@code INVOKEINTERFACE} 串联整条路径，
+ *   不再逐级经过调用器的 {@code tableswitch}</li>
+ *   <li>支持空值安全模式：路径中任意一级为null时返回null（基本类型末端返回0或false）</li>
+ *   <li>编译结果按根类、路径、是否空值安全缓存</li>
+ * </ul>
+ * <p><b>使用示例：</b></p>
+ * <pre>{@code
+ * PropertyAccessor city = PropertyPath.compile(Order.class, "customer.address.city", true);
+ * String value = (String) city.get(order);
+ *
+ * PropertyAccessor zip = PropertyPath.compile(Order.class, "customer.address.zip");
+ * int zipCode = zip.getInt(order);
+ * }</pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class PropertyPath {
+
+    /**
+     * 普通访问器缓存，按根类、路径索引。
+     */
+    private static final ClassValue<Map<String, PropertyAccessor>> ACCESSOR_CACHE =
+            new SimpleClassValue<>(k -> new ConcurrentHashMap<>());
+
+    /**
+     * 空值安全访问器缓存，按根类、路径索引。
+     */
+    private static final ClassValue<Map<String, PropertyAccessor>> NULL_SAFE_ACCESSOR_CACHE =
+            new SimpleClassValue<>(k -> new ConcurrentHashMap<>());
+
+    private PropertyPath() {
+    }
+
+    /**
+     * 编译属性路径，路径中出现null时抛出 {@link NullPointerException}
+     *
+     * @param rootClass 根类
+     * @param path      以 {@code .} 分隔的属性路径
+     * @return 属性路径访问器
+     * @throws IllegalArgumentException 当路径为空、属性不存在或不可访问、中间属性为基本类型时抛出
+     */
+    public static PropertyAccessor compile(Class<?> rootClass, String path) {
+        return compile(rootClass, path, false);
+    }
+
+    /**
+     * 编译属性路径
+     *
+     * @param rootClass 根类
+     * @param path      以 {@code .} 分隔的属性路径
+     * @param nullSafe  是否空值安全；为true时路径中任意一级为null都返回null（基本类型末端返回0或false）
+     * @return 属性路径访问器
+     * @throws IllegalArgumentException 当路径为空、属性不存在或不可访问、中间属性为基本类型时抛出
+     */
+    public static PropertyAccessor compile(Class<?> rootClass, String path, boolean nullSafe) {
+        final ClassValue<Map<String, PropertyAccessor>> cache = nullSafe ? NULL_SAFE_ACCESSOR_CACHE : ACCESSOR_CACHE;
+        return cache.get(rootClass).computeIfAbsent(path, k -> {
+            final List<PropertyHop> hops = resolve(rootClass, path);
+            try {
+                return PropertyPathGenerator.make(rootClass, hops, nullSafe).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * 解析属性路径的每一级属性
+     *
+     * @param rootClass 根类
+     * @param path      属性路径
+     * @return 按顺序排列的各级属性
+     */
+    private static List<PropertyHop> resolve(Class<?> rootClass, String path) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("Property path is empty");
+        }
+
+        final String[] names = path.split("\\.", -1);
+        final List<PropertyHop> hops = new ArrayList<>(names.length);
+        Class<?> current = rootClass;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].isEmpty()) {
+                throw new IllegalArgumentException("Invalid property path: " + path);
+            }
+            if (current.isPrimitive()) {
+                throw new IllegalArgumentException("Cannot navigate primitive property " + names[i - 1] + " in path: " + path);
+            }
+
+            final PropertyHop hop = resolveHop(rootClass, current, names[i]);
+            hops.add(hop);
+            current = hop.type();
+        }
+
+        return hops;
+    }
+
+    /**
+     * 在当前类型上解析一级属性，优先使用getter，其次使用字段
+     *
+     * @param rootClass 根类
+     * @param type      当前类型
+     * @param name      属性名
+     * @return 属性
+     */
+    private static PropertyHop resolveHop(Class<?> rootClass, Class<?> type, String name) {
+        final Method getter = findGetter(type, name);
+        if (getter != null) {
+            final Class<?> owner = ownerOf(type, getter);
+            if (ByteBeanReflectUtil.isMemberAccessible(rootClass, owner, getter)) {
+                return new PropertyHop(name, owner, getter);
+            }
+        }
+
+        final Field field = ByteBeanReflectUtil.findField(type, name);
+        if (field != null) {
+            final Class<?> owner = ownerOf(type, field);
+            if (ByteBeanReflectUtil.isMemberAccessible(rootClass, owner, field)) {
+                return new PropertyHop(name, owner, field);
+            }
+        }
+
+        throw new IllegalArgumentException("Cannot resolve property " + name + " on " + type.getName());
+    }
+
+    /**
+     * 计算字节码中引用成员时使用的类：private成员必须通过声明类引用，其余成员通过当前类型引用
+     */
+    private static Class<?> ownerOf(Class<?> type, Member member) {
+        return Modifier.isPrivate(member.getModifiers()) ? member.getDeclaringClass() : type;
+    }
+
+    /**
+     * 查找属性的无参getter
+     *
+     * @param type 当前类型
+     * @param name 属性名
+     * @return getter，不存在时返回null
+     */
+    private static Method findGetter(Class<?> type, String name) {
+        final String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        Method method = ByteBeanReflectUtil.findMethod(type, "get" + suffix);
+        if (method != null && method.getReturnType() != void.class) {
+            return method;
+        }
+
+        method = ByteBeanReflectUtil.findMethod(type, "is" + suffix);
+        if (method != null && method.getReturnType() == boolean.class) {
+            return method;
+        }
+
+        if (type.isRecord()) {
+            return ByteBeanReflectUtil.findMethod(type, name);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.archtiger.bytebean.core.invoker.property;
+
+import com.github.archtiger.bytebean.core.model.PropertyHop;
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 属性路径读取字节码实现，为PropertyAccessor生成串联读取整条路径的方法体。
+ * <p>
+ * 生成的字节码等价于：
+ * <pre>
+ * return ((Root) root).getCustomer().address.getCity();        // 类型化方法，如 int getInt(Object)
+ * return box(((Root) root).getCustomer().address.getCity());   // 通用方法 Object get(Object)
+ * </pre>
+ * 空值安全模式下，每一级读取前检查当前值，为null时直接返回null（类型化方法返回0或false）：
+ * <pre>
+ * Root r = (Root) root;
+ * if (r == null) return null;
+ * Customer c = r.getCustomer();
+ * if (c == null) return null;
+ * ...
+ * </pre>
+ * 每个空值分支只有一个前驱，操作数栈上的值类型固定，不需要合并栈帧。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object root
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class PropertyPathByteCode implements Implementation {
+
+    /**
+     * 根类，用于根对象类型转换。
+     */
+    private final Class<?> rootClass;
+
+    /**
+     * 按顺序排列的各级属性。
+     */
+    private final List<PropertyHop> hops;
+
+    /**
+     * 是否空值安全。
+     */
+    private final boolean nullSafe;
+
+    /**
+     * 是否直接返回路径末端的原始类型；为false时基本类型装箱后以Object返回。
+     */
+    private final boolean typed;
+
+    /**
+     * 构造函数。
+     *
+     * @param rootClass 根类
+     * @param hops      按顺序排列的各级属性
+     * @param nullSafe  是否空值安全
+     * @param typed     是否生成类型化方法（返回路径末端的原始类型）
+     */
+    public PropertyPathByteCode(Class<?> rootClass, List<PropertyHop> hops, boolean nullSafe, boolean typed) {
+        this.rootClass = rootClass;
+        this.hops = hops;
+        this.nullSafe = nullSafe;
+        this.typed = typed;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final Class<?> terminalType = hops.get(hops.size() - 1).type();
+            final Class<?> returnType = typed ? terminalType : Object.class;
+
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(rootClass));
+
+            for (PropertyHop hop : hops) {
+                if (nullSafe) {
+                    Label nonNull = new Label();
+                    mv.visitInsn(Opcodes.DUP);
+                    mv.visitJumpInsn(Opcodes.IFNONNULL, nonNull);
+                    mv.visitInsn(Opcodes.POP);
+                    AsmUtil.pushDefaultValue(mv, returnType);
+                    mv.visitInsn(AsmUtil.getReturnOpcode(returnType));
+                    mv.visitLabel(nonNull);
+                }
+                visitHop(mv, hop);
+            }
+
+            if (!typed) {
+                AsmUtil.boxIfNeeded(mv, terminalType);
+            }
+            mv.visitInsn(AsmUtil.getReturnOpcode(returnType));
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    /**
+     * 生成读取一级属性的指令，操作数栈顶为当前对象
+     *
+     * @param mv  方法访问器
+     * @param hop 属性
+     */
+    private static void visitHop(MethodVisitor mv, PropertyHop hop) {
+        if (hop.member() instanceof Method method) {
+            AsmUtil.invokeMethod(mv, hop.ownerClass(), method);
+        } else {
+            final Field field = (Field) hop.member();
+            mv.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(hop.ownerClass()), field.getName(),
+                    Type.getDescriptor(field.getType()));
+        }
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.archtiger.bytebean.core.invoker.property;
+
+import com.github.archtiger.bytebean.api.property.PropertyAccessor;
+import com.github.archtiger.bytebean.core.model.PropertyHop;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.NameUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.jar.asm.ClassWriter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 属性路径访问器生成器
+ * <p>
+ * 为根类上的一条已解析的属性路径生成一个final的 {@link PropertyAccessor} 实现类，类名为
+ * {@code Root$$ByteBean$PropertyAccessor$<sequence>}，以根类的身份定义（见 {@link ClassDefineUtil}）。
+ * 路径末端为基本类型时，额外覆盖对应的无装箱类型化方法（如 {@code getInt}）。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+final class PropertyPathGenerator {
+
+    /**
+     * 生成类名序号，同一根类上的不同路径使用不同的类名。
+     */
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private PropertyPathGenerator() {
+    }
+
+    /**
+     * 为属性路径生成访问器类
+     *
+     * @param rootClass 根类
+     * @param hops      按顺序排列的各级属性，非空
+     * @param nullSafe  是否空值安全
+     * @return 生成的访问器类
+     */
+    static Class<? extends PropertyAccessor> make(Class<?> rootClass, List<PropertyHop> hops, boolean nullSafe) {
+        final String accessorName = NameUtil.calcInvokerName(rootClass, PropertyAccessor.class) + "$" + SEQUENCE.getAndIncrement();
+
+        DynamicType.Builder<PropertyAccessor> builder = new ByteBuddy()
+                .subclass(PropertyAccessor.class)
+                .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
+                .name(accessorName)
+                // Object get(Object root)
+                .defineMethod("get", Object.class, Visibility.PUBLIC)
+                .withParameters(Object.class)
+                .intercept(new PropertyPathByteCode(rootClass, hops, nullSafe, false));
+
+        // 基本类型末端: getXxx(Object)
+        final Class<?> type = hops.get(hops.size() - 1).type();
+        if (type.isPrimitive()) {
+            final String suffix = Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+            builder = builder
+                    .defineMethod("get" + suffix, type, Visibility.PUBLIC)
+                    .withParameters(Object.class)
+                    .intercept(new PropertyPathByteCode(rootClass, hops, nullSafe, true));
+        }
+
+        return ClassDefineUtil.define(rootClass, builder
+                // 自动计算
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make());
+    }
+}
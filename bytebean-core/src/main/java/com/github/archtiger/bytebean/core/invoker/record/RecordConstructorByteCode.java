@@ -0,0 +1,110 @@
+package com.github.archtiger.bytebean.core.invoker.record;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Record规范构造器字节码实现，为RecordInvoker生成从组件缓冲区创建实例的字节码。
+ * <p>
+ * 生成的字节码等价于：
+ * <pre>
+ * // Object newInstance(Object[] components)
+ * return new Target((int) components[0], (String) components[1], ...);
+ *
+ * // Object newInstance(long[] primitives, Object[] references)
+ * return new Target(decode(primitives[0]), (String) references[1], ...);
+ * </pre>
+ * 方法体是一段直线代码，没有分支。
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object[] components 或 long[] primitives
+ * slot 2: Object[] references（仅无装箱版本）
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class RecordConstructorByteCode implements Implementation {
+
+    /**
+     * record类。
+     */
+    private final Class<?> recordClass;
+
+    /**
+     * record组件，按声明顺序排列。
+     */
+    private final RecordComponent[] components;
+
+    /**
+     * 规范构造器。
+     */
+    private final Constructor<?> constructor;
+
+    /**
+     * 是否从 {@code long[]}/{@code Object[]} 缓冲区读取组件；为false时从单个 {@code Object[]} 读取并拆箱。
+     */
+    private final boolean encoded;
+
+    /**
+     * 构造函数。
+     *
+     * @param recordClass record类
+     * @param components  record组件
+     * @param constructor 规范构造器
+     * @param encoded     是否生成无装箱版本
+     */
+    public RecordConstructorByteCode(Class<?> recordClass, RecordComponent[] components,
+                                     Constructor<?> constructor, boolean encoded) {
+        this.recordClass = recordClass;
+        this.components = components;
+        this.constructor = constructor;
+        this.encoded = encoded;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final String owner = Type.getInternalName(recordClass);
+
+            mv.visitTypeInsn(Opcodes.NEW, owner);
+            mv.visitInsn(Opcodes.DUP);
+
+            for (int i = 0; i < components.length; i++) {
+                Class<?> type = components[i].getType();
+                if (encoded && type.isPrimitive()) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 1);
+                    IntegerConstant.forValue(i).apply(mv, ctx);
+                    mv.visitInsn(Opcodes.LALOAD);
+                    AsmUtil.decodeFromLong(mv, type);
+                } else {
+                    mv.visitVarInsn(Opcodes.ALOAD, encoded ? 2 : 1);
+                    IntegerConstant.forValue(i).apply(mv, ctx);
+                    mv.visitInsn(Opcodes.AALOAD);
+                    AsmUtil.unboxOrCast(mv, type);
+                }
+            }
+
+            mv.visitMethodInsn(Opcodes.INVOKESPECIAL, owner, "<init>",
+                    Type.getConstructorDescriptor(constructor), false);
+            mv.visitInsn(Opcodes.ARETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
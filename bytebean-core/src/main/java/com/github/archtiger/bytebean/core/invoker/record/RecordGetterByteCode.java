@@ -0,0 +1,115 @@
+package com.github.archtiger.bytebean.core.invoker.record;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Record组件getter字节码实现，为RecordInvoker生成按索引读取组件的字节码。
+ * <p>
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>使用tableswitch实现O(1)索引到组件的映射，每个case调用一次组件访问方法</li>
+ *   <li>通用方法 {@code Object get(int, Object)} 对基本类型组件执行自动装箱</li>
+ *   <li>类型化方法（如 {@code int getInt(int, Object)}）只处理类型匹配的组件，其余索引跳转到default分支</li>
+ *   <li>索引越界或类型不匹配时抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2: Object record
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class RecordGetterByteCode implements Implementation {
+
+    /**
+     * record类，用于实例类型转换。
+     */
+    private final Class<?> recordClass;
+
+    /**
+     * record组件，按声明顺序排列。
+     */
+    private final RecordComponent[] components;
+
+    /**
+     * 返回的组件类型，{@code null} 表示通用方法（处理所有组件并装箱）。
+     */
+    private final Class<?> componentType;
+
+    /**
+     * 构造函数。
+     *
+     * @param recordClass   record类
+     * @param components    record组件
+     * @param componentType 返回的组件类型，{@code null} 表示通用方法
+     */
+    public RecordGetterByteCode(Class<?> recordClass, RecordComponent[] components, Class<?> componentType) {
+        this.recordClass = recordClass;
+        this.components = components;
+        this.componentType = componentType;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            final String owner = Type.getInternalName(recordClass);
+            Label defaultLabel = new Label();
+
+            // 没有组件的record只生成default分支
+            if (components.length > 0) {
+                mv.visitVarInsn(Opcodes.ILOAD, 1);
+
+                Label[] labels = new Label[components.length];
+                for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+                mv.visitTableSwitchInsn(0, components.length - 1, defaultLabel, labels);
+
+                for (int i = 0; i < components.length; i++) {
+                    RecordComponent component = components[i];
+                    mv.visitLabel(labels[i]);
+
+                    if (componentType != null && component.getType() != componentType) {
+                        mv.visitJumpInsn(Opcodes.GOTO, defaultLabel);
+                        continue;
+                    }
+
+                    Method accessor = component.getAccessor();
+                    mv.visitVarInsn(Opcodes.ALOAD, 2);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, accessor.getName(),
+                            Type.getMethodDescriptor(accessor), false);
+
+                    if (componentType == null) {
+                        AsmUtil.boxIfNeeded(mv, component.getType());
+                        mv.visitInsn(Opcodes.ARETURN);
+                    } else {
+                        mv.visitInsn(AsmUtil.getReturnOpcode(componentType));
+                    }
+                }
+            }
+
+            mv.visitLabel(defaultLabel);
+            AsmUtil.throwIAEForRecordComponent(mv);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
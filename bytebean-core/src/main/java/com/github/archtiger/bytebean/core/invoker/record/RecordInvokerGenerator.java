@@ -0,0 +1,130 @@
+package com.github.archtiger.bytebean.core.invoker.record;
+
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.record.RecordInvoker;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.NameUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.jar.asm.ClassWriter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
+
+/**
+ * Record组件访问生成器
+ * <p>
+ * 为record类生成一个 {@link RecordInvoker} 实现类：组件读取使用 tableswitch + 组件访问方法调用，
+ * 实例创建直接调用规范构造器。record的字段均为private final，不在 {@code FieldInvokerHelper}
+ * 的处理范围内，因此组件通过访问方法读取，在普通类定义模式下同样可用。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class RecordInvokerGenerator {
+    private static final Map<Class<?>, Class<? extends RecordInvoker>> CACHE = new WeakKeyValueConcurrentMap<>();
+
+    private RecordInvokerGenerator() {
+    }
+
+    private static Class<? extends RecordInvoker> doCreate(final Class<?> recordClass) {
+        if (!recordClass.isRecord()) {
+            return null;
+        }
+
+        final RecordComponent[] components = recordClass.getRecordComponents();
+        final Constructor<?> constructor = canonicalConstructor(recordClass, components);
+        // 规范构造器不可访问时（private record 且无法使用隐藏嵌套成员模式），无法生成
+        if (!ClassDefineUtil.isAccessible(recordClass, constructor)) {
+            return null;
+        }
+
+        final String invokerName = NameUtil.calcInvokerName(recordClass, RecordInvoker.class);
+        final Class<? extends RecordInvoker> existingClass =
+                ClassDefineUtil.findInvokerClass(recordClass, invokerName, RecordInvoker.class);
+        if (existingClass != null) {
+            return existingClass;
+        }
+
+        return ClassDefineUtil.define(recordClass, new ByteBuddy()
+                .subclass(RecordInvoker.class)
+                .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
+                .name(invokerName)
+                // Object get(int index, Object record)
+                .defineMethod("get", Object.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, null))
+                // 基本类型 getter 方法
+                .defineMethod("getInt", int.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, int.class))
+                .defineMethod("getLong", long.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, long.class))
+                .defineMethod("getFloat", float.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, float.class))
+                .defineMethod("getDouble", double.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, double.class))
+                .defineMethod("getBoolean", boolean.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, boolean.class))
+                .defineMethod("getByte", byte.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, byte.class))
+                .defineMethod("getShort", short.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, short.class))
+                .defineMethod("getChar", char.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new RecordGetterByteCode(recordClass, components, char.class))
+                // Object newInstance(Object[] components)
+                .defineMethod("newInstance", Object.class, Visibility.PUBLIC)
+                .withParameters(Object[].class)
+                .intercept(new RecordConstructorByteCode(recordClass, components, constructor, false))
+                // Object newInstance(long[] primitives, Object[] references)
+                .defineMethod("newInstance", Object.class, Visibility.PUBLIC)
+                .withParameters(long[].class, Object[].class)
+                .intercept(new RecordConstructorByteCode(recordClass, components, constructor, true))
+                // 自动计算
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make());
+    }
+
+    /**
+     * 获取record的规范构造器
+     *
+     * @param recordClass record类
+     * @param components  record组件
+     * @return 规范构造器
+     */
+    static Constructor<?> canonicalConstructor(Class<?> recordClass, RecordComponent[] components) {
+        final Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = components[i].getType();
+        }
+        try {
+            return recordClass.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            // record 总是声明规范构造器
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 为record类生成 RecordInvoker 实现类
+     *
+     * @param recordClass record类
+     * @return 生成的实现类，目标类不是record或规范构造器不可访问时返回 null
+     */
+    static Class<? extends RecordInvoker> generate(Class<?> recordClass) {
+        return CACHE.computeIfAbsent(recordClass, RecordInvokerGenerator::doCreate);
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.archtiger.bytebean.core.invoker.record;
+
+import cn.hutool.core.map.reference.WeakKeyValueConcurrentMap;
+import com.github.archtiger.bytebean.api.record.RecordInvoker;
+import com.github.archtiger.bytebean.core.constant.ExceptionCode;
+import com.github.archtiger.bytebean.core.utils.ExceptionUtil;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
+
+/**
+ * Record组件访问器Helper，提供组件索引管理和缓存能力。
+ * <p>
+ * 该类继承自{@link RecordInvoker}，维护组件名称到索引的映射，并按record类缓存生成的访问器。
+ * 组件索引与 {@link Class#getRecordComponents()} 的声明顺序一致。
+ * <p>
+ * <b>使用示例：</b>
+ * <pre>{@code
+ * RecordInvokerHelper helper = RecordInvokerHelper.of(Event.class);
+ * int idIndex = helper.getComponentIndexOrThrow("id");
+ * long id = helper.getLong(idIndex, event);
+ *
+ * Event copy = (Event) helper.newInstance(new Object[]{1L, "created"});
+ * }</pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public class RecordInvokerHelper extends RecordInvoker {
+
+    /**
+     * RecordInvokerHelper缓存，按record类索引。
+     */
+    private static final Map<Class<?>, RecordInvokerHelper> RECORD_INVOKER_HELPER_CACHE = new WeakKeyValueConcurrentMap<>();
+
+    /**
+     * 生成的record组件访问器实现。
+     */
+    private final RecordInvoker recordInvoker;
+
+    /**
+     * 组件名称数组，按索引顺序排列。
+     */
+    private final String[] componentNames;
+
+    /**
+     * 组件类型数组，按索引顺序排列。
+     */
+    private final Class<?>[] componentTypes;
+
+    private RecordInvokerHelper(RecordInvoker recordInvoker, RecordComponent[] components) {
+        this.recordInvoker = recordInvoker;
+        this.componentNames = new String[components.length];
+        this.componentTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            componentNames[i] = components[i].getName();
+            componentTypes[i] = components[i].getType();
+        }
+    }
+
+    /**
+     * 创建 RecordInvokerHelper 实例
+     *
+     * @param recordClass record类
+     * @return RecordInvokerHelper 实例，若目标类不是record或规范构造器不可访问则返回 null
+     */
+    public static RecordInvokerHelper of(Class<?> recordClass) {
+        return RECORD_INVOKER_HELPER_CACHE.computeIfAbsent(recordClass, k -> {
+            final Class<? extends RecordInvoker> invokerClass = RecordInvokerGenerator.generate(recordClass);
+            if (invokerClass == null) {
+                return null;
+            }
+            try {
+                final RecordInvoker recordInvoker = invokerClass.getDeclaredConstructor().newInstance();
+                return new RecordInvokerHelper(recordInvoker, recordClass.getRecordComponents());
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * 获取组件索引
+     *
+     * @param componentName 组件名
+     * @return 组件索引，若不存在则返回 -1
+     */
+    public int getComponentIndex(String componentName) {
+        for (int i = 0; i < componentNames.length; i++) {
+            if (componentNames[i].equals(componentName)) {
+                return i;
+            }
+        }
+
+        return ExceptionCode.INVALID_INDEX;
+    }
+
+    /**
+     * 获取组件索引，若不存在则抛出异常
+     *
+     * @param componentName 组件名
+     * @return 组件索引
+     * @throws IllegalArgumentException 当组件不存在时抛出
+     */
+    public int getComponentIndexOrThrow(String componentName) {
+        int index = getComponentIndex(componentName);
+        if (index == ExceptionCode.INVALID_INDEX) {
+            throw ExceptionUtil.recordComponentNotFound(componentName);
+        }
+
+        return index;
+    }
+
+    /**
+     * 获取组件数量，即组件缓冲区所需的长度
+     *
+     * @return 组件数量
+     */
+    public int getComponentCount() {
+        return componentNames.length;
+    }
+
+    /**
+     * 获取组件类型
+     *
+     * @param index 组件索引
+     * @return 组件类型
+     * @throws ArrayIndexOutOfBoundsException 当索引越界时抛出
+     */
+    public Class<?> getComponentType(int index) {
+        return componentTypes[index];
+    }
+
+    @Override
+    public Object get(int index, Object record) {
+        return recordInvoker.get(index, record);
+    }
+
+    @Override
+    public int getInt(int index, Object record) {
+        return recordInvoker.getInt(index, record);
+    }
+
+    @Override
+    public long getLong(int index, Object record) {
+        return recordInvoker.getLong(index, record);
+    }
+
+    @Override
+    public float getFloat(int index, Object record) {
+        return recordInvoker.getFloat(index, record);
+    }
+
+    @Override
+    public double getDouble(int index, Object record) {
+        return recordInvoker.getDouble(index, record);
+    }
+
+    @Override
+    public boolean getBoolean(int index, Object record) {
+        return recordInvoker.getBoolean(index, record);
+    }
+
+    @Override
+    public byte getByte(int index, Object record) {
+        return recordInvoker.getByte(index, record);
+    }
+
+    @Override
+    public short getShort(int index, Object record) {
+        return recordInvoker.getShort(index, record);
+    }
+
+    @Override
+    public char getChar(int index, Object record) {
+        return recordInvoker.getChar(index, record);
+    }
+
+    @Override
+    public Object newInstance(Object[] components) {
+        return recordInvoker.newInstance(components);
+    }
+
+    @Override
+    public Object newInstance(long[] primitives, Object[] references) {
+        return recordInvoker.newInstance(primitives, references);
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.archtiger.bytebean.core.invoker.shard;
+
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * 分片广播字节码实现，为分片调度器中不带索引的批量方法生成依次调用全部分片的字节码。
+ * <p>
+ * 适用于 {@code void} 返回值、每个分片只处理自己负责区间的方法（如字段的批量读写），等价于：
+ * <pre>
+ * public void method(args...) {
+ *     this.shard0.method(args...);
+ *     this.shard1.method(args...);
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class ShardBroadcastByteCode implements Implementation {
+
+    /**
+     * 调用器基类，分片字段类型以及转发调用的 owner。
+     */
+    private final Class<?> invokerType;
+
+    /**
+     * 分片数量。
+     */
+    private final int shardCount;
+
+    /**
+     * 构造函数。
+     *
+     * @param invokerType 调用器基类
+     * @param shardCount  分片数量
+     */
+    public ShardBroadcastByteCode(Class<?> invokerType, int shardCount) {
+        this.invokerType = invokerType;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            String owner = implementationTarget.getInstrumentedType().getInternalName();
+            String invokerOwner = Type.getInternalName(invokerType);
+            String invokerDesc = Type.getDescriptor(invokerType);
+
+            for (int i = 0; i < shardCount; i++) {
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, ShardDispatchByteCode.shardFieldName(i), invokerDesc);
+                MethodVariableAccess.allArgumentsOf(md).apply(mv, ctx);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, invokerOwner, md.getInternalName(), md.getDescriptor(), false);
+            }
+
+            mv.visitInsn(Opcodes.RETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
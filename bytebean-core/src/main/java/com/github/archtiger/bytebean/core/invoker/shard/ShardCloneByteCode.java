@@ -0,0 +1,98 @@
+package com.github.archtiger.bytebean.core.invoker.shard;
+
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * 分片克隆字节码实现，为分片调度器中 {@code Object method(Object src)} 形式的克隆方法生成字节码。
+ * <p>
+ * 克隆只能创建一个实例，因此不能简单广播：由第一个分片创建实例并复制自己负责的字段，
+ * 其余分片再通过复制方法把各自负责的字段复制到同一个实例，等价于：
+ * <pre>
+ * public Object shallowClone(Object src) {
+ *     Object dst = this.shard0.shallowClone(src);
+ *     this.shard1.copyFields(src, dst);
+ *     ...
+ *     return dst;
+ * }
+ * </pre>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: Object src
+ * slot 2: Object dst
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class ShardCloneByteCode implements Implementation {
+
+    /**
+     * 调用器基类，分片字段类型以及转发调用的 owner。
+     */
+    private final Class<?> invokerType;
+
+    /**
+     * 分片数量。
+     */
+    private final int shardCount;
+
+    /**
+     * 复制方法名称，签名为 {@code void method(Object src, Object dst)}。
+     */
+    private final String copyMethod;
+
+    /**
+     * 构造函数。
+     *
+     * @param invokerType 调用器基类
+     * @param shardCount  分片数量
+     * @param copyMethod  复制方法名称
+     */
+    public ShardCloneByteCode(Class<?> invokerType, int shardCount, String copyMethod) {
+        this.invokerType = invokerType;
+        this.shardCount = shardCount;
+        this.copyMethod = copyMethod;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            String owner = implementationTarget.getInstrumentedType().getInternalName();
+            String invokerOwner = Type.getInternalName(invokerType);
+            String invokerDesc = Type.getDescriptor(invokerType);
+
+            // 第一个分片创建实例
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitFieldInsn(Opcodes.GETFIELD, owner, ShardDispatchByteCode.shardFieldName(0), invokerDesc);
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, invokerOwner, md.getInternalName(), md.getDescriptor(), false);
+            mv.visitVarInsn(Opcodes.ASTORE, 2);
+
+            // 其余分片复制各自负责的字段
+            for (int i = 1; i < shardCount; i++) {
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, ShardDispatchByteCode.shardFieldName(i), invokerDesc);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitVarInsn(Opcodes.ALOAD, 2);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, invokerOwner, copyMethod,
+                        "(Ljava/lang/Object;Ljava/lang/Object;)V", false);
+            }
+
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitInsn(Opcodes.ARETURN);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.archtiger.bytebean.core.invoker.shard;
+
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * 分片调度器构造器字节码实现。
+ * <p>
+ * 生成的构造器接收分片实例数组，并将每个元素写入对应的 final 分片字段，等价于：
+ * <pre>
+ * public Dispatcher(Invoker[] shards) {
+ *     super();
+ *     this.shard0 = shards[0];
+ *     this.shard1 = shards[1];
+ *     ...
+ * }
+ * </pre>
+ * 使用独立字段而非数组保存分片，可以让分发时的每个调用点保持单态。
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class ShardConstructorByteCode implements Implementation {
+
+    /**
+     * 调用器基类，同时是调度器的父类。
+     */
+    private final Class<?> invokerType;
+
+    /**
+     * 分片数量。
+     */
+    private final int shardCount;
+
+    /**
+     * 构造函数。
+     *
+     * @param invokerType 调用器基类
+     * @param shardCount  分片数量
+     */
+    public ShardConstructorByteCode(Class<?> invokerType, int shardCount) {
+        this.invokerType = invokerType;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            String owner = implementationTarget.getInstrumentedType().getInternalName();
+            String invokerOwner = Type.getInternalName(invokerType);
+            String invokerDesc = Type.getDescriptor(invokerType);
+
+            // super()
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitMethodInsn(Opcodes.INVOKESPECIAL, invokerOwner, "<init>", "()V", false);
+
+            // this.shardN = shards[N]
+            for (int i = 0; i < shardCount; i++) {
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                IntegerConstant.forValue(i).apply(mv, ctx);
+                mv.visitInsn(Opcodes.AALOAD);
+                mv.visitFieldInsn(Opcodes.PUTFIELD, owner, ShardDispatchByteCode.shardFieldName(i), invokerDesc);
+            }
+
+            mv.visitInsn(Opcodes.RETURN);
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.archtiger.bytebean.core.invoker.shard;
+
+import com.github.archtiger.bytebean.core.utils.AsmUtil;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * 分片分发字节码实现，为分片调度器生成按索引区间转发的字节码。
+ * <p>
+ * 调度器持有若干分片实例，每个分片覆盖 {@code 1 << shardShift} 个连续的全局索引。
+ * 生成的字节码具有以下特点：
+ * <ul>
+ *   <li>通过 {@code index >>> shardShift} 计算分片编号，使用tableswitch实现O(1)分发</li>
+ *   <li>每个case是一个独立的单态调用点，JIT可以将分片方法直接内联</li>
+ *   <li>原样转发全部参数，分片内部仍使用全局索引</li>
+ *   <li>索引为负数或超出分片范围时抛出IllegalArgumentException</li>
+ * </ul>
+ * <p>
+ * <b>局部变量表布局：</b>
+ * <pre>
+ * slot 0: this
+ * slot 1: int index
+ * slot 2..: 其余参数，原样转发
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class ShardDispatchByteCode implements Implementation {
+
+    /**
+     * 调用器基类，分片字段类型以及转发调用的 owner。
+     */
+    private final Class<?> invokerType;
+
+    /**
+     * 分片数量。
+     */
+    private final int shardCount;
+
+    /**
+     * 分片位移，每个分片覆盖 {@code 1 << shardShift} 个索引。
+     */
+    private final int shardShift;
+
+    /**
+     * 索引越界时的异常信息前缀。
+     */
+    private final String messagePrefix;
+
+    /**
+     * 构造函数。
+     *
+     * @param invokerType   调用器基类
+     * @param shardCount    分片数量
+     * @param shardShift    分片位移
+     * @param messagePrefix 索引越界时的异常信息前缀
+     */
+    public ShardDispatchByteCode(Class<?> invokerType, int shardCount, int shardShift, String messagePrefix) {
+        this.invokerType = invokerType;
+        this.shardCount = shardCount;
+        this.shardShift = shardShift;
+        this.messagePrefix = messagePrefix;
+    }
+
+    /**
+     * 计算分片字段名称
+     *
+     * @param shardIndex 分片编号
+     * @return 分片字段名称
+     */
+    public static String shardFieldName(int shardIndex) {
+        return "shard" + shardIndex;
+    }
+
+    @Override
+    public ByteCodeAppender appender(Target implementationTarget) {
+        return (mv, ctx, md) -> {
+            String owner = implementationTarget.getInstrumentedType().getInternalName();
+            String invokerOwner = Type.getInternalName(invokerType);
+            String invokerDesc = Type.getDescriptor(invokerType);
+
+            // ============================================================
+            // 步骤1: 计算分片编号 index >>> shardShift
+            // 负数索引无符号右移后为极大值，同样落入 default 分支
+            // ============================================================
+            mv.visitVarInsn(Opcodes.ILOAD, 1);
+            mv.visitIntInsn(Opcodes.BIPUSH, shardShift);
+            mv.visitInsn(Opcodes.IUSHR);
+
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[shardCount];
+            for (int i = 0; i < labels.length; i++) labels[i] = new Label();
+
+            mv.visitTableSwitchInsn(0, shardCount - 1, defaultLabel, labels);
+
+            // ============================================================
+            // 步骤2: 每个分片一个 case，原样转发所有参数
+            // ============================================================
+            for (int i = 0; i < shardCount; i++) {
+                mv.visitLabel(labels[i]);
+
+                mv.visitVarInsn(Opcodes.ALOAD, 0);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, shardFieldName(i), invokerDesc);
+                MethodVariableAccess.allArgumentsOf(md).apply(mv, ctx);
+                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, invokerOwner, md.getInternalName(), md.getDescriptor(), false);
+                MethodReturn.of(md.getReturnType()).apply(mv, ctx);
+            }
+
+            // ============================================================
+            // 步骤3: 处理 default 分支（索引越界）
+            // ============================================================
+            mv.visitLabel(defaultLabel);
+
+            AsmUtil.throwIAE(mv, messagePrefix);
+
+            return ByteCodeAppender.Size.ZERO;
+        };
+    }
+
+    @Override
+    public InstrumentedType prepare(InstrumentedType instrumentedType) {
+        return instrumentedType;
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.archtiger.bytebean.core.invoker.shard;
+
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.jar.asm.ClassWriter;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 分片调度器生成器
+ * <p>
+ * 当成员数量超过单个类的字节码阈值时，调用器被拆分为多个分片类，每个分片覆盖一段连续的全局索引。
+ * 本生成器为这些分片生成一个轻量的调度器：调度器继承调用器基类，
+ * 所有抽象方法都按 {@code index >>> shardShift} 转发给对应分片；
+ * 指定的广播方法（不带索引的批量方法）则依次调用全部分片；其余特殊方法可以指定自定义实现。
+ * </p>
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class ShardDispatcherGenerator {
+
+    private ShardDispatcherGenerator() {
+    }
+
+    /**
+     * 生成分片调度器类
+     * <p>
+     * 生成的类包含一个 {@code public Dispatcher(Invoker[] shards)} 构造器，
+     * 分片实例按编号顺序传入。
+     *
+     * @param invokerType      调用器基类
+     * @param invokerName      生成类的全限定名
+     * @param targetClass      目标类，调度器与分片定义在同一位置
+     * @param shardCount       分片数量
+     * @param shardShift       分片位移
+     * @param messagePrefix    索引越界时的异常信息前缀
+     * @param broadcastMethods 依次调用全部分片的方法名称，这些方法必须返回 {@code void}
+     * @param <T>              调用器类型
+     * @return 生成的调度器类
+     */
+    public static <T> Class<? extends T> make(Class<T> invokerType,
+                                              String invokerName,
+                                              Class<?> targetClass,
+                                              int shardCount,
+                                              int shardShift,
+                                              String messagePrefix,
+                                              String... broadcastMethods) {
+        return make(invokerType, invokerName, targetClass, shardCount, shardShift, messagePrefix,
+                Collections.emptyMap(), broadcastMethods);
+    }
+
+    /**
+     * 生成分片调度器类，并为指定方法使用自定义实现
+     * <p>
+     * 自定义实现用于既不能按索引转发、也不能简单广播的方法（如只能创建一个实例的克隆方法），
+     * 其匹配优先级高于索引转发与广播。
+     *
+     * @param invokerType      调用器基类
+     * @param invokerName      生成类的全限定名
+     * @param targetClass      目标类，调度器与分片定义在同一位置
+     * @param shardCount       分片数量
+     * @param shardShift       分片位移
+     * @param messagePrefix    索引越界时的异常信息前缀
+     * @param customMethods    方法名称到自定义实现的映射
+     * @param broadcastMethods 依次调用全部分片的方法名称，这些方法必须返回 {@code void}
+     * @param <T>              调用器类型
+     * @return 生成的调度器类
+     */
+    public static <T> Class<? extends T> make(Class<T> invokerType,
+                                              String invokerName,
+                                              Class<?> targetClass,
+                                              int shardCount,
+                                              int shardShift,
+                                              String messagePrefix,
+                                              Map<String, Implementation> customMethods,
+                                              String... broadcastMethods) {
+        DynamicType.Builder<T> builder = new ByteBuddy()
+                .subclass(invokerType, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                .modifiers(Visibility.PUBLIC, TypeManifestation.FINAL)
+                .name(invokerName);
+
+        // 每个分片一个 final 字段
+        for (int i = 0; i < shardCount; i++) {
+            builder = builder.defineField(ShardDispatchByteCode.shardFieldName(i), invokerType,
+                    Visibility.PRIVATE, FieldManifestation.FINAL);
+        }
+
+        builder = builder
+                // 构造器: Dispatcher(Invoker[] shards)
+                .defineConstructor(Visibility.PUBLIC)
+                .withParameters(Array.newInstance(invokerType, 0).getClass())
+                .intercept(new ShardConstructorByteCode(invokerType, shardCount))
+                // 所有抽象方法按索引区间转发
+                .method(ElementMatchers.isAbstract())
+                .intercept(new ShardDispatchByteCode(invokerType, shardCount, shardShift, messagePrefix))
+                // 广播方法依次调用全部分片（后注册的匹配规则优先）
+                .method(ElementMatchers.isAbstract().and(ElementMatchers.namedOneOf(broadcastMethods)))
+                .intercept(new ShardBroadcastByteCode(invokerType, shardCount));
+
+        // 自定义实现优先级最高
+        for (Map.Entry<String, Implementation> entry : customMethods.entrySet()) {
+            builder = builder
+                    .method(ElementMatchers.isAbstract().and(ElementMatchers.named(entry.getKey())))
+                    .intercept(entry.getValue());
+        }
+
+        return ClassDefineUtil.define(targetClass, builder
+                // 自动计算
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make());
+    }
+}
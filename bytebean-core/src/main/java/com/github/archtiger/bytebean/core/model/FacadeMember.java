@@ -0,0 +1,35 @@
+package com.github.archtiger.bytebean.core.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+/**
+ * 门面方法与目标成员的绑定
+ *
+ * @param facadeMethod 门面接口中的抽象方法，第一个参数为目标实例
+ * @param ownerClass   字节码中引用成员时使用的类
+ * @param member       目标方法或字段
+ * @param write        成员为字段时，是否写入字段
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public record FacadeMember(
+        Method facadeMethod,
+        Class<?> ownerClass,
+        Member member,
+        boolean write
+) {
+
+    /**
+     * 获取目标成员产生的值类型
+     *
+     * @return 方法返回类型、读取的字段类型，写入字段时为void
+     */
+    public Class<?> valueType() {
+        if (member instanceof Method method) {
+            return method.getReturnType();
+        }
+        return write ? void.class : ((Field) member).getType();
+    }
+}
@@ -7,11 +7,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 方法分组，按参数数量分组，保证参数0-5的特化表全局索引连续
+ * 方法分组，按参数数量分组，保证参数0-10的特化表全局索引连续
  *
  * @param ok 是否成功
  * @param methodAllList 所有方法列表
@@ -21,6 +23,11 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @param method3List 三参方法列表
  * @param method4List 四参方法列表
  * @param method5List 五参方法列表
+ * @param method6List 六参方法列表
+ * @param method7List 七参方法列表
+ * @param method8List 八参方法列表
+ * @param method9List 九参方法列表
+ * @param method10List 十参方法列表
  * @author ZIJIDELU
  * @since 1.0.0
  */
@@ -32,7 +39,12 @@ public record MethodGroup(
         List<MethodIdentify> method2List,
         List<MethodIdentify> method3List,
         List<MethodIdentify> method4List,
-        List<MethodIdentify> method5List
+        List<MethodIdentify> method5List,
+        List<MethodIdentify> method6List,
+        List<MethodIdentify> method7List,
+        List<MethodIdentify> method8List,
+        List<MethodIdentify> method9List,
+        List<MethodIdentify> method10List
 ) {
     private static final ClassValue<MethodGroup> CACHE = new SimpleClassValue<>(MethodGroup::doCreate);
     private static final MethodGroup FAIL_METHOD_GROUP = new MethodGroup(
@@ -43,6 +55,11 @@ public record MethodGroup(
             Collections.emptyList(),
             Collections.emptyList(),
             Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
             Collections.emptyList()
     );
 
@@ -59,7 +76,12 @@ public record MethodGroup(
         List<Method> method3List = new ArrayList<>();
         List<Method> method4List = new ArrayList<>();
         List<Method> method5List = new ArrayList<>();
-        List<Method> otherMethodList = new ArrayList<>();  // 超过5个参数的方法
+        List<Method> method6List = new ArrayList<>();
+        List<Method> method7List = new ArrayList<>();
+        List<Method> method8List = new ArrayList<>();
+        List<Method> method9List = new ArrayList<>();
+        List<Method> method10List = new ArrayList<>();
+        List<Method> otherMethodList = new ArrayList<>();  // 超过10个参数的方法
 
         for (Method method : methods) {
             int paramCount = method.getParameterCount();
@@ -75,6 +97,16 @@ public record MethodGroup(
                 method4List.add(method);
             } else if (paramCount == 5) {
                 method5List.add(method);
+            } else if (paramCount == 6) {
+                method6List.add(method);
+            } else if (paramCount == 7) {
+                method7List.add(method);
+            } else if (paramCount == 8) {
+                method8List.add(method);
+            } else if (paramCount == 9) {
+                method9List.add(method);
+            } else if (paramCount == 10) {
+                method10List.add(method);
             } else {
                 otherMethodList.add(method);
             }
@@ -111,6 +143,11 @@ public record MethodGroup(
         method3List.sort(methodComparator);
         method4List.sort(methodComparator);
         method5List.sort(methodComparator);
+        method6List.sort(methodComparator);
+        method7List.sort(methodComparator);
+        method8List.sort(methodComparator);
+        method9List.sort(methodComparator);
+        method10List.sort(methodComparator);
         otherMethodList.sort(methodComparator);
 
         final AtomicInteger globalIndex = new AtomicInteger(0);
@@ -135,6 +172,21 @@ public record MethodGroup(
         List<MethodIdentify> identifyMethod5List = method5List.stream()
                 .map(method -> new MethodIdentify(method, globalIndex.getAndIncrement()))
                 .toList();
+        List<MethodIdentify> identifyMethod6List = method6List.stream()
+                .map(method -> new MethodIdentify(method, globalIndex.getAndIncrement()))
+                .toList();
+        List<MethodIdentify> identifyMethod7List = method7List.stream()
+                .map(method -> new MethodIdentify(method, globalIndex.getAndIncrement()))
+                .toList();
+        List<MethodIdentify> identifyMethod8List = method8List.stream()
+                .map(method -> new MethodIdentify(method, globalIndex.getAndIncrement()))
+                .toList();
+        List<MethodIdentify> identifyMethod9List = method9List.stream()
+                .map(method -> new MethodIdentify(method, globalIndex.getAndIncrement()))
+                .toList();
+        List<MethodIdentify> identifyMethod10List = method10List.stream()
+                .map(method -> new MethodIdentify(method, globalIndex.getAndIncrement()))
+                .toList();
         List<MethodIdentify> identifyOtherMethodList = otherMethodList.stream()
                 .map(method -> new MethodIdentify(method, globalIndex.getAndIncrement()))
                 .toList();
@@ -145,6 +197,11 @@ public record MethodGroup(
         identifyMethodAllList.addAll(identifyMethod3List);
         identifyMethodAllList.addAll(identifyMethod4List);
         identifyMethodAllList.addAll(identifyMethod5List);
+        identifyMethodAllList.addAll(identifyMethod6List);
+        identifyMethodAllList.addAll(identifyMethod7List);
+        identifyMethodAllList.addAll(identifyMethod8List);
+        identifyMethodAllList.addAll(identifyMethod9List);
+        identifyMethodAllList.addAll(identifyMethod10List);
         identifyMethodAllList.addAll(identifyOtherMethodList);
 
         return new MethodGroup(
@@ -155,28 +212,123 @@ public record MethodGroup(
                 identifyMethod2List.isEmpty() ? Collections.emptyList() : identifyMethod2List,
                 identifyMethod3List.isEmpty() ? Collections.emptyList() : identifyMethod3List,
                 identifyMethod4List.isEmpty() ? Collections.emptyList() : identifyMethod4List,
-                identifyMethod5List.isEmpty() ? Collections.emptyList() : identifyMethod5List
+                identifyMethod5List.isEmpty() ? Collections.emptyList() : identifyMethod5List,
+                identifyMethod6List.isEmpty() ? Collections.emptyList() : identifyMethod6List,
+                identifyMethod7List.isEmpty() ? Collections.emptyList() : identifyMethod7List,
+                identifyMethod8List.isEmpty() ? Collections.emptyList() : identifyMethod8List,
+                identifyMethod9List.isEmpty() ? Collections.emptyList() : identifyMethod9List,
+                identifyMethod10List.isEmpty() ? Collections.emptyList() : identifyMethod10List
         );
     }
 
     private static int getParamTypeOrder(Class<?> type) {
-        return getTypeOrder(type);
+        return ByteBeanReflectUtil.getTypeOrder(type);
     }
 
     private static int getReturnTypeOrder(Class<?> type) {
-        return getTypeOrder(type);
+        return ByteBeanReflectUtil.getTypeOrder(type);
+    }
+
+    /**
+     * 获取返回指定基本类型的方法紧凑表
+     * <p>
+     * 按全局索引顺序筛选返回类型为 {@code primitiveType} 的方法，并重新编号为 0 ~ k-1 的紧凑索引，
+     * 使基本类型返回方法（如 {@code intInvoke}）的 tableswitch 只覆盖返回类型匹配的方法。
+     *
+     * @param primitiveType 基本类型返回值（不含void）
+     * @return 方法标识列表，索引为紧凑索引
+     */
+    public List<MethodIdentify> primitiveReturnList(Class<?> primitiveType) {
+        final List<MethodIdentify> list = new ArrayList<>();
+        for (MethodIdentify methodIdentify : methodAllList) {
+            if (methodIdentify.method().getReturnType() == primitiveType) {
+                list.add(new MethodIdentify(methodIdentify.method(), list.size()));
+            }
+        }
+        return list.isEmpty() ? Collections.emptyList() : list;
+    }
+
+    /**
+     * 计算全局索引到基本类型返回值紧凑索引的映射
+     * <p>
+     * 与 {@link #primitiveReturnList(Class)} 的编号一致；返回类型为引用类型或void的方法映射为 -1。
+     *
+     * @return 按全局索引排列的紧凑索引数组
+     */
+    public int[] primitiveReturnIndexes() {
+        final int[] indexes = new int[methodAllList.size()];
+        // 按类型排序序号（int=1 ... char=8）分别计数
+        final int[] counters = new int[10];
+        for (int i = 0; i < indexes.length; i++) {
+            final Class<?> returnType = methodAllList.get(i).method().getReturnType();
+            indexes[i] = returnType.isPrimitive() && returnType != void.class
+                    ? counters[ByteBeanReflectUtil.getTypeOrder(returnType)]++
+                    : -1;
+        }
+        return indexes;
+    }
+
+    /**
+     * 计算方法的擦除基本类型签名
+     * <p>
+     * 参数与返回值中的基本类型保留其描述符字母（{@code Z B C S I J F D}），引用类型擦除为 {@code L}，
+     * void 返回值为 {@code V}，参数与返回值之间以下划线分隔，如 {@code setRange(int, int)} 为 {@code II_V}、
+     * {@code add(long, double)} 返回 {@code double} 为 {@code JD_D}。
+     * 只有至少一个参数、且参数或返回值中包含基本类型的方法才有签名，其余方法已可通过 {@code invoke0~5} 无装箱调用。
+     *
+     * @param method 方法
+     * @return 擦除签名，方法不需要专用入口时返回null
+     */
+    public static String primitiveSignature(Method method) {
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        boolean primitive = method.getReturnType().isPrimitive() && method.getReturnType() != void.class;
+        final StringBuilder signature = new StringBuilder(paramTypes.length + 2);
+        for (Class<?> paramType : paramTypes) {
+            primitive |= paramType.isPrimitive();
+            signature.append(paramType.isPrimitive() ? Type.getDescriptor(paramType) : "L");
+        }
+        if (paramTypes.length == 0 || !primitive) {
+            return null;
+        }
+        final Class<?> returnType = method.getReturnType();
+        return signature.append('_').append(returnType.isPrimitive() ? Type.getDescriptor(returnType) : "L").toString();
     }
 
-    private static int getTypeOrder(Class<?> type) {
-        if (type == int.class) return 1;
-        if (type == long.class) return 2;
-        if (type == float.class) return 3;
-        if (type == double.class) return 4;
-        if (type == boolean.class) return 5;
-        if (type == byte.class) return 6;
-        if (type == short.class) return 7;
-        if (type == char.class) return 8;
-        return 9; // Object or other types
+    /**
+     * 按擦除基本类型签名分组的方法紧凑表
+     * <p>
+     * 按全局索引顺序筛选具有 {@link #primitiveSignature(Method) 擦除签名} 的方法，同一签名的方法重新编号为
+     * 0 ~ k-1 的紧凑索引，每个签名生成一个专用入口（如 {@code invoke_II_V}），其 tableswitch 只覆盖该签名的方法。
+     *
+     * @return 签名到方法标识列表的映射，按签名首次出现的顺序排列
+     */
+    public Map<String, List<MethodIdentify>> primitiveSignatureLists() {
+        final Map<String, List<MethodIdentify>> lists = new LinkedHashMap<>();
+        for (MethodIdentify methodIdentify : methodAllList) {
+            final String signature = primitiveSignature(methodIdentify.method());
+            if (signature != null) {
+                final List<MethodIdentify> list = lists.computeIfAbsent(signature, k -> new ArrayList<>());
+                list.add(new MethodIdentify(methodIdentify.method(), list.size()));
+            }
+        }
+        return lists;
+    }
+
+    /**
+     * 计算全局索引到擦除签名紧凑索引的映射
+     * <p>
+     * 与 {@link #primitiveSignatureLists()} 的编号一致；没有擦除签名的方法映射为 -1。
+     *
+     * @return 按全局索引排列的紧凑索引数组
+     */
+    public int[] primitiveSignatureIndexes() {
+        final int[] indexes = new int[methodAllList.size()];
+        final Map<String, Integer> counters = new LinkedHashMap<>();
+        for (int i = 0; i < indexes.length; i++) {
+            final String signature = primitiveSignature(methodAllList.get(i).method());
+            indexes[i] = signature == null ? -1 : counters.merge(signature, 1, Integer::sum) - 1;
+        }
+        return indexes;
     }
 
     /**
@@ -0,0 +1,30 @@
+package com.github.archtiger.bytebean.core.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+/**
+ * 属性路径中的一级属性
+ *
+ * @param name       属性名
+ * @param ownerClass 字节码中引用成员时使用的类
+ * @param member     读取属性的getter方法或字段
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public record PropertyHop(
+        String name,
+        Class<?> ownerClass,
+        Member member
+) {
+
+    /**
+     * 获取属性值类型
+     *
+     * @return getter返回类型或字段类型
+     */
+    public Class<?> type() {
+        return member instanceof Method method ? method.getReturnType() : ((Field) member).getType();
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.archtiger.bytebean.core.model;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 分片调用器信息
+ *
+ * @param dispatcherClass 分片调度器类
+ * @param shardClasses    分片类列表，按分片编号排列
+ * @param ok              是否成功
+ * @param <T>             调用器类型
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public record ShardInvokerResult<T>(
+        Class<? extends T> dispatcherClass,
+        List<Class<? extends T>> shardClasses,
+        boolean ok
+) {
+    private static final ShardInvokerResult<?> FAIL = new ShardInvokerResult<>(null, Collections.emptyList(), false);
+
+    /**
+     * 创建失败的结果
+     *
+     * @param <T> 调用器类型
+     * @return 失败的结果
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ShardInvokerResult<T> fail() {
+        return (ShardInvokerResult<T>) FAIL;
+    }
+
+    /**
+     * 创建成功的结果
+     *
+     * @param dispatcherClass 分片调度器类
+     * @param shardClasses    分片类列表
+     * @param <T>             调用器类型
+     * @return 成功的结果
+     */
+    public static <T> ShardInvokerResult<T> success(Class<? extends T> dispatcherClass, List<Class<? extends T>> shardClasses) {
+        return new ShardInvokerResult<>(dispatcherClass, shardClasses, true);
+    }
+
+    /**
+     * 实例化所有分片并创建调度器实例
+     *
+     * @param invokerType 调用器基类
+     * @return 调度器实例
+     * @throws ReflectiveOperationException 实例化失败时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance(Class<T> invokerType) throws ReflectiveOperationException {
+        final T[] shards = (T[]) Array.newInstance(invokerType, shardClasses.size());
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = shardClasses.get(i).getDeclaredConstructor().newInstance();
+        }
+        return dispatcherClass.getDeclaredConstructor(shards.getClass()).newInstance((Object) shards);
+    }
+}
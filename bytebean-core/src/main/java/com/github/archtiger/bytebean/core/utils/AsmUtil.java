@@ -1,9 +1,12 @@
 package com.github.archtiger.bytebean.core.utils;
 
+import net.bytebuddy.jar.asm.Label;
 import net.bytebuddy.jar.asm.MethodVisitor;
 import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
 
+import java.lang.reflect.Method;
+
 /**
  * 辅助类，用于 ASM 字节码生成时的一些辅助操作
  *
@@ -33,6 +36,21 @@ public class AsmUtil {
         }
     }
 
+    /**
+     * 调用实例方法，操作数栈上依次为接收者与全部参数
+     * <p>
+     * 引用类为接口时使用 INVOKEINTERFACE（default 方法由虚拟机按实现类分派），否则使用 INVOKEVIRTUAL。
+     *
+     * @param mv         方法访问器
+     * @param ownerClass 字节码中引用方法时使用的类
+     * @param method     方法
+     */
+    public static void invokeMethod(MethodVisitor mv, Class<?> ownerClass, Method method) {
+        final boolean isInterface = ownerClass.isInterface();
+        mv.visitMethodInsn(isInterface ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL,
+                Type.getInternalName(ownerClass), method.getName(), Type.getMethodDescriptor(method), isInterface);
+    }
+
     /**
      * 自动装箱 primitive 类型
      *
@@ -111,6 +129,128 @@ public class AsmUtil {
         }
     }
 
+    /**
+     * 压入类型的JVM默认值（0、false、null）
+     *
+     * @param mv   方法访问器
+     * @param type 类型
+     */
+    public static void pushDefaultValue(MethodVisitor mv, Class<?> type) {
+        if (type == long.class) {
+            mv.visitInsn(Opcodes.LCONST_0);
+        } else if (type == float.class) {
+            mv.visitInsn(Opcodes.FCONST_0);
+        } else if (type == double.class) {
+            mv.visitInsn(Opcodes.DCONST_0);
+        } else if (type.isPrimitive()) {
+            // int、short、byte、char、boolean 在栈上都是 int
+            mv.visitInsn(Opcodes.ICONST_0);
+        } else {
+            mv.visitInsn(Opcodes.ACONST_NULL);
+        }
+    }
+
+    /**
+     * 将栈顶的基本类型值按 JLS 5.1.2 拓宽转换为目标类型
+     * <p>
+     * byte、short、char、int 在栈上都是 int，相互之间无需转换指令。
+     * 调用方需保证 {@code from} 可拓宽为 {@code to}（见 {@link ByteBeanReflectUtil#isWidening(Class, Class)}）。
+     *
+     * @param mv   方法访问器
+     * @param from 栈顶值的类型
+     * @param to   目标类型
+     */
+    public static void widen(MethodVisitor mv, Class<?> from, Class<?> to) {
+        if (from == to) {
+            return;
+        }
+        if (to == long.class) {
+            mv.visitInsn(Opcodes.I2L);
+        } else if (to == float.class) {
+            mv.visitInsn(from == long.class ? Opcodes.L2F : Opcodes.I2F);
+        } else if (to == double.class) {
+            if (from == long.class) {
+                mv.visitInsn(Opcodes.L2D);
+            } else if (from == float.class) {
+                mv.visitInsn(Opcodes.F2D);
+            } else {
+                mv.visitInsn(Opcodes.I2D);
+            }
+        }
+    }
+
+    /**
+     * 将栈顶的基本类型值窄化为目标类型，不做范围检查
+     * <p>
+     * 支持整数类型之间以及 double 到 float 的窄化（见 {@link ByteBeanReflectUtil#isCheckedNarrowing(Class, Class)}）。
+     *
+     * @param mv   方法访问器
+     * @param from 栈顶值的类型
+     * @param to   目标类型
+     */
+    public static void narrow(MethodVisitor mv, Class<?> from, Class<?> to) {
+        if (from == double.class) {
+            mv.visitInsn(Opcodes.D2F);
+            return;
+        }
+        if (from == long.class) {
+            mv.visitInsn(Opcodes.L2I);
+        }
+        if (to == byte.class) {
+            mv.visitInsn(Opcodes.I2B);
+        } else if (to == short.class) {
+            mv.visitInsn(Opcodes.I2S);
+        } else if (to == char.class) {
+            mv.visitInsn(Opcodes.I2C);
+        }
+    }
+
+    /**
+     * 检查局部变量中的值能否窄化为目标类型，不能时跳转到 {@code outOfRange}
+     * <p>
+     * 整数类型要求窄化后能精确还原，生成的字节码等价于：
+     * <pre>
+     * if ((from) (to) value != value) goto outOfRange;
+     * </pre>
+     * double 到 float 与 {@code setLong} 写入 float 字段一致，按 IEEE 754 舍入到最接近的 float，
+     * 只拒绝有限值溢出为无穷大的情况（NaN 与无穷大原样写入）：
+     * <pre>
+     * if (Float.isInfinite((float) value) &amp;&amp; !Double.isInfinite(value)) goto outOfRange;
+     * </pre>
+     * 执行前后操作数栈不变。
+     *
+     * @param mv         方法访问器
+     * @param from       局部变量的类型
+     * @param to         目标类型
+     * @param slot       局部变量槽位
+     * @param outOfRange 值超出范围时的跳转目标
+     */
+    public static void checkNarrowing(MethodVisitor mv, Class<?> from, Class<?> to, int slot, Label outOfRange) {
+        if (from == double.class) {
+            final Label inRange = new Label();
+            mv.visitVarInsn(Opcodes.DLOAD, slot);
+            mv.visitInsn(Opcodes.D2F);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "isInfinite", "(F)Z", false);
+            mv.visitJumpInsn(Opcodes.IFEQ, inRange);
+            mv.visitVarInsn(Opcodes.DLOAD, slot);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "isInfinite", "(D)Z", false);
+            mv.visitJumpInsn(Opcodes.IFEQ, outOfRange);
+            mv.visitLabel(inRange);
+            return;
+        }
+        final int loadOpcode = getLoadOpcode(from);
+        mv.visitVarInsn(loadOpcode, slot);
+        narrow(mv, from, to);
+        widen(mv, to, from);
+        mv.visitVarInsn(loadOpcode, slot);
+        if (from == long.class) {
+            mv.visitInsn(Opcodes.LCMP);
+            mv.visitJumpInsn(Opcodes.IFNE, outOfRange);
+        } else {
+            mv.visitJumpInsn(Opcodes.IF_ICMPNE, outOfRange);
+        }
+    }
+
     /**
      * 根据类型获取对应的加载指令
      * <p>
@@ -175,6 +315,15 @@ public class AsmUtil {
         throwIAE(mv, "Invalid field index: ");
     }
 
+    /**
+     * 生成抛出 IllegalArgumentException 的字节码，用于写入值窄化后超出字段类型范围
+     *
+     * @param mv 方法访问器
+     */
+    public static void throwIAEForFieldValue(MethodVisitor mv) {
+        throwIAE(mv, "Value out of range for field index: ");
+    }
+
     /**
      * 生成抛出 IllegalArgumentException 的字节码
      *
@@ -193,6 +342,15 @@ public class AsmUtil {
         throwIAE(mv, "Invalid constructor index: ");
     }
 
+    /**
+     * 生成抛出 IllegalArgumentException 的字节码
+     *
+     * @param mv 方法访问器
+     */
+    public static void throwIAEForRecordComponent(MethodVisitor mv) {
+        throwIAE(mv, "Invalid record component index: ");
+    }
+
     /**
      * 生成抛出 IllegalArgumentException 的字节码
      * <p>
@@ -255,4 +413,62 @@ public class AsmUtil {
         }
         return 1;
     }
+
+    /**
+     * 将栈顶的基本类型值编码为 long
+     * <p>
+     * float、double 取原始位（{@code Float.floatToRawIntBits}、{@code Double.doubleToRawLongBits}），
+     * boolean 按 0/1，其余整数类型直接拓宽。与 {@link #decodeFromLong(MethodVisitor, Class)} 互逆。
+     *
+     * @param mv   方法访问器
+     * @param type 基本类型
+     */
+    public static void encodeToLong(MethodVisitor mv, Class<?> type) {
+        if (type == long.class) {
+            return;
+        }
+        if (type == double.class) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "doubleToRawLongBits", "(D)J", false);
+            return;
+        }
+        if (type == float.class) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "floatToRawIntBits", "(F)I", false);
+        }
+        // int、short、byte、char、boolean 以及 float 的位模式在栈上都是 int
+        mv.visitInsn(Opcodes.I2L);
+    }
+
+    /**
+     * 将栈顶由 {@link #encodeToLong(MethodVisitor, Class)} 编码的 long 还原为基本类型值
+     *
+     * @param mv   方法访问器
+     * @param type 基本类型
+     */
+    public static void decodeFromLong(MethodVisitor mv, Class<?> type) {
+        if (type == long.class) {
+            return;
+        }
+        if (type == double.class) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Double", "longBitsToDouble", "(J)D", false);
+            return;
+        }
+        if (type == boolean.class) {
+            // 非0即true：lcmp 得到 -1/0/1，再取最低位
+            mv.visitInsn(Opcodes.LCONST_0);
+            mv.visitInsn(Opcodes.LCMP);
+            mv.visitInsn(Opcodes.ICONST_1);
+            mv.visitInsn(Opcodes.IAND);
+            return;
+        }
+        mv.visitInsn(Opcodes.L2I);
+        if (type == float.class) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Float", "intBitsToFloat", "(I)F", false);
+        } else if (type == byte.class) {
+            mv.visitInsn(Opcodes.I2B);
+        } else if (type == short.class) {
+            mv.visitInsn(Opcodes.I2S);
+        } else if (type == char.class) {
+            mv.visitInsn(Opcodes.I2C);
+        }
+    }
 }
@@ -5,6 +5,7 @@ import net.bytebuddy.jar.asm.Type;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -31,46 +32,166 @@ public class ByteBeanReflectUtil {
     /**
      * 获取指定类的字段集合
      * <p>
-     * 获取当前类所有，非static，非private字段
+     * 将整个继承链（不含 {@link Object}）展开到同一索引空间：当前类的所有非static、非private字段，
+     * 以及父类中生成的调用器可直接访问的非static字段（见 {@link #isInheritedFieldAccessible(Class, Field)}）。
+     * 调用器可定义为目标类的隐藏嵌套成员时（见 {@link ClassDefineUtil}），同一嵌套中声明的private字段也会被包含。
+     * 父类与子类的同名字段（字段遮蔽）会同时保留，按名称查找时以继承层级最近的声明为准。
      *
      * @param targetClass 目标类
      * @return Field 字段列表
      */
     public static List<Field> getFields(Class<?> targetClass) {
-        Field[] fields = targetClass.getDeclaredFields();
-        if (fields.length == 0) {
+        List<Field> fieldList = new ArrayList<>();
+        for (Class<?> current = targetClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                // 跳过静态字段
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                // 私有字段：仅在隐藏嵌套成员模式下保留同一嵌套中声明的字段
+                if (Modifier.isPrivate(field.getModifiers())) {
+                    if (!ClassDefineUtil.isAccessible(targetClass, field)) {
+                        continue;
+                    }
+                } else if (current != targetClass && !isInheritedFieldAccessible(targetClass, field)) {
+                    // 跳过父类中不可访问的字段
+                    continue;
+                }
+
+                fieldList.add(field);
+            }
+        }
+        if (fieldList.isEmpty()) {
             return Collections.emptyList();
         }
 
+        // 排序规则: 先按字段类型分组（基本类型聚集），再按字段名排序，再按字段类型描述符排序，
+        // 最后按声明类的继承深度排序（子类在前），保证字段遮蔽时顺序稳定
+        // 例如: int a, long b, int c 会被排序为: a, c, b
+        fieldList.sort(Comparator
+                .comparingInt((Field f) -> getTypeOrder(f.getType()))
+                .thenComparing(Field::getName)
+                .thenComparing(f -> Type.getDescriptor(f.getType()))
+                .thenComparingInt(f -> getHierarchyDepth(targetClass, f.getDeclaringClass()))
+        );
+
+        return fieldList;
+    }
+
+    /**
+     * 获取指定类的静态字段集合
+     * <p>
+     * 只包含目标类自身声明的非合成static字段（父类的静态字段应通过父类访问）；private字段与实例字段规则一致，
+     * 仅在隐藏嵌套成员模式下包含。排序规则与 {@link #getFields(Class)} 相同，同类型字段索引连续。
+     *
+     * @param targetClass 目标类
+     * @return Field 静态字段列表
+     */
+    public static List<Field> getStaticFields(Class<?> targetClass) {
         List<Field> fieldList = new ArrayList<>();
-        for (Field field : fields) {
-            // 跳过静态字段
-            if (Modifier.isStatic(field.getModifiers())) {
+        for (Field field : targetClass.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
                 continue;
             }
-
-            // 跳过私有字段
-            if (Modifier.isPrivate(field.getModifiers())) {
+            if (!ClassDefineUtil.isAccessible(targetClass, field)) {
                 continue;
             }
-
             fieldList.add(field);
         }
+        if (fieldList.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        // 排序规则: 先按字段名排序，再按字段类型描述符排序
-        // 例如: int a, long b, int c 会被排序为: a, c, b
         fieldList.sort(Comparator
-                .comparing(Field::getName)
-                .thenComparing(f -> Type.getDescriptor(f.getType()))
+                .comparingInt((Field f) -> getTypeOrder(f.getType()))
+                .thenComparing(Field::getName)
         );
 
         return fieldList;
     }
 
+    /**
+     * 判断父类字段能否被生成在目标类所在包中的调用器直接访问
+     * <p>
+     * 声明类与字段都需要可访问：public 类的 public 字段，或与目标类处于同一运行时包（包名与类加载器均相同）
+     * 的非private字段。其他包中的 protected 字段对调用器不可见，因此排除。
+     *
+     * @param targetClass 目标类
+     * @param field       父类中声明的字段
+     * @return 是否可访问
+     */
+    private static boolean isInheritedFieldAccessible(Class<?> targetClass, Field field) {
+        Class<?> declaringClass = field.getDeclaringClass();
+        if (isSameRuntimePackage(targetClass, declaringClass)) {
+            return true;
+        }
+        return Modifier.isPublic(declaringClass.getModifiers()) && Modifier.isPublic(field.getModifiers());
+    }
+
+    /**
+     * 判断通过引用类访问的成员能否被为目标类生成的调用器直接访问
+     * <p>
+     * 引用类需为 public 类或与目标类处于同一运行时包；成员为 public 时直接可访问，
+     * private 成员遵循 {@link ClassDefineUtil#isAccessible(Class, Member)}，
+     * 其余成员要求声明类与目标类处于同一运行时包。
+     *
+     * @param targetClass 目标类（调用器以其身份定义）
+     * @param ownerClass  字节码中引用成员时使用的类
+     * @param member      成员
+     * @return 是否可访问
+     */
+    public static boolean isMemberAccessible(Class<?> targetClass, Class<?> ownerClass, Member member) {
+        if (!isTypeAccessible(targetClass, ownerClass)) {
+            return false;
+        }
+        int modifiers = member.getModifiers();
+        if (Modifier.isPublic(modifiers)) {
+            return true;
+        }
+        if (Modifier.isPrivate(modifiers)) {
+            return ClassDefineUtil.isAccessible(targetClass, member);
+        }
+        return isSameRuntimePackage(targetClass, member.getDeclaringClass());
+    }
+
+    /**
+     * 判断类型能否被为目标类生成的调用器直接引用
+     * <p>
+     * 类型为 public 类，或与目标类处于同一运行时包（包名与类加载器均相同）时可引用。
+     *
+     * @param targetClass 目标类（调用器以其身份定义）
+     * @param type        被引用的类型
+     * @return 是否可引用
+     */
+    public static boolean isTypeAccessible(Class<?> targetClass, Class<?> type) {
+        return Modifier.isPublic(type.getModifiers()) || isSameRuntimePackage(targetClass, type);
+    }
+
+    private static boolean isSameRuntimePackage(Class<?> a, Class<?> b) {
+        return a.getClassLoader() == b.getClassLoader() && a.getPackageName().equals(b.getPackageName());
+    }
+
+    /**
+     * 计算声明类相对目标类的继承深度，目标类自身为0
+     *
+     * @param targetClass    目标类
+     * @param declaringClass 声明类
+     * @return 继承深度
+     */
+    private static int getHierarchyDepth(Class<?> targetClass, Class<?> declaringClass) {
+        int depth = 0;
+        for (Class<?> current = targetClass; current != declaringClass; current = current.getSuperclass()) {
+            depth++;
+        }
+        return depth;
+    }
+
     /**
      * 获取指定类的方法集合
      * <p>
-     * 获取当前类及父类所有，非static，非private方法。
+     * 获取当前类及父类所有，非static，非private方法；隐藏嵌套成员模式下也包含当前类声明的private方法。
+     * 目标类型为接口时，包含自身及父接口的抽象方法与default方法（不含接口的private方法）。
      *
      * @param targetClass 目标类
      * @return Method 方法列表
@@ -93,8 +214,9 @@ public class ByteBeanReflectUtil {
                 continue;
             }
 
-            // 跳过私有方法
-            if (Modifier.isPrivate(method.getModifiers())) {
+            // 私有方法：仅在隐藏嵌套成员模式下保留当前类声明的方法
+            if (Modifier.isPrivate(method.getModifiers())
+                    && (method.getDeclaringClass() != targetClass || !ClassDefineUtil.isAccessible(targetClass, method))) {
                 continue;
             }
 
@@ -109,10 +231,102 @@ public class ByteBeanReflectUtil {
         return methodList;
     }
 
+    /**
+     * 获取指定类的静态方法集合
+     * <p>
+     * 只包含目标类自身声明的非合成static方法（父类的静态方法应通过父类调用）；private方法与实例方法规则一致，
+     * 仅在隐藏嵌套成员模式下包含。先按参数数量排序，保证同参数数量的方法索引连续，再按方法名、方法描述符排序。
+     *
+     * @param targetClass 目标类
+     * @return Method 静态方法列表
+     */
+    public static List<Method> getStaticMethods(Class<?> targetClass) {
+        List<Method> methodList = new ArrayList<>();
+        for (Method method : targetClass.getDeclaredMethods()) {
+            if (!Modifier.isStatic(method.getModifiers()) || method.isSynthetic()) {
+                continue;
+            }
+            if (!ClassDefineUtil.isAccessible(targetClass, method)) {
+                continue;
+            }
+            methodList.add(method);
+        }
+        if (methodList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        methodList.sort(Comparator
+                .comparingInt(Method::getParameterCount)
+                .thenComparing(Method::getName)
+                .thenComparing(m -> Type.getMethodDescriptor(m))
+        );
+
+        return methodList;
+    }
+
+    /**
+     * 按名称与参数类型查找实例方法
+     * <p>
+     * 先沿继承链（不含 {@link Object}）查找参数类型完全一致的声明方法，子类声明优先；找不到时再查找public方法（含接口default方法）。
+     * {@link Object} 声明的方法（如 {@code getClass}）不会被返回。
+     *
+     * @param type           目标类
+     * @param methodName     方法名
+     * @param parameterTypes 参数类型
+     * @return 方法，不存在时返回null
+     */
+    public static Method findMethod(Class<?> type, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                final Method method = current.getDeclaredMethod(methodName, parameterTypes);
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // 继续查找父类
+            }
+        }
+
+        try {
+            final Method method = type.getMethod(methodName, parameterTypes);
+            if (!Modifier.isStatic(method.getModifiers()) && method.getDeclaringClass() != Object.class) {
+                return method;
+            }
+        } catch (NoSuchMethodException e) {
+            // 不存在
+        }
+
+        return null;
+    }
+
+    /**
+     * 按名称查找实例字段
+     * <p>
+     * 沿继承链查找，子类字段优先（与字段遮蔽时按名称查找的规则一致）。
+     *
+     * @param type      目标类
+     * @param fieldName 字段名
+     * @return 字段，不存在时返回null
+     */
+    public static Field findField(Class<?> type, String fieldName) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                final Field field = current.getDeclaredField(fieldName);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            } catch (NoSuchFieldException e) {
+                // 继续查找父类
+            }
+        }
+
+        return null;
+    }
+
     /**
      * 获取指定类的构造方法集合
      * <p>
-     * 获取当前类所有，非private构造方法。
+     * 获取当前类所有，非private构造方法；隐藏嵌套成员模式下也包含private构造方法。
      *
      * @param targetClass 目标类
      * @return Constructor 构造方法列表
@@ -125,8 +339,8 @@ public class ByteBeanReflectUtil {
 
         List<Constructor<?>> constructorList = new ArrayList<>();
         for (Constructor<?> constructor : constructors) {
-            // 跳过私有构造方法
-            if (Modifier.isPrivate(constructor.getModifiers())) {
+            // 私有构造方法：仅在隐藏嵌套成员模式下保留
+            if (!ClassDefineUtil.isAccessible(targetClass, constructor)) {
                 continue;
             }
 
@@ -141,4 +355,85 @@ public class ByteBeanReflectUtil {
 
         return constructorList;
     }
+
+    /**
+     * 判断基本类型 from 的值能否不经检查地赋给基本类型 to
+     * <p>
+     * 类型相同，或符合 JLS 5.1.2 基本类型拓宽转换（byte→short→int→long→float→double，char→int）时返回true；
+     * boolean 只能赋给 boolean。
+     *
+     * @param from 源基本类型
+     * @param to   目标基本类型
+     * @return 是否可拓宽赋值
+     */
+    public static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return from.isPrimitive();
+        }
+        if (from == boolean.class || to == boolean.class || !from.isPrimitive() || !to.isPrimitive()) {
+            return false;
+        }
+        if (from == char.class) {
+            return numericRank(to) >= numericRank(int.class);
+        }
+        return to != char.class && numericRank(from) <= numericRank(to);
+    }
+
+    /**
+     * 判断基本类型 from 的值赋给基本类型 to 时是否需要带检查的窄化转换
+     * <p>
+     * 包括整数类型之间（byte、short、char、int、long）的窄化，要求值能精确表示；
+     * 以及 double 到 float 的窄化，按舍入规则写入，只检查有限值是否溢出 float 范围。
+     * 浮点类型到整数类型的转换不支持。
+     *
+     * @param from 源基本类型
+     * @param to   目标基本类型
+     * @return 是否为带检查的窄化转换
+     */
+    public static boolean isCheckedNarrowing(Class<?> from, Class<?> to) {
+        if (isWidening(from, to)) {
+            return false;
+        }
+        if (from == double.class) {
+            return to == float.class;
+        }
+        return isIntegral(from) && isIntegral(to);
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == byte.class || type == short.class || type == char.class || type == int.class || type == long.class;
+    }
+
+    /**
+     * 数值类型拓宽顺序：byte、short、int、long、float、double，char 单独处理
+     */
+    private static int numericRank(Class<?> type) {
+        if (type == byte.class) return 1;
+        if (type == short.class) return 2;
+        if (type == int.class) return 3;
+        if (type == long.class) return 4;
+        if (type == float.class) return 5;
+        if (type == double.class) return 6;
+        return 0;
+    }
+
+    /**
+     * 获取类型排序序号
+     * <p>
+     * 用于字段、方法排序时将相同基本类型聚集在一起，保证同类型成员的索引连续。
+     *
+     * @param type 类型
+     * @return 排序序号，基本类型依次为 int、long、float、double、boolean、byte、short、char，其余类型排在最后
+     */
+    public static int getTypeOrder(Class<?> type) {
+        if (type == int.class) return 1;
+        if (type == long.class) return 2;
+        if (type == float.class) return 3;
+        if (type == double.class) return 4;
+        if (type == boolean.class) return 5;
+        if (type == byte.class) return 6;
+        if (type == short.class) return 7;
+        if (type == char.class) return 8;
+        return 9; // Object or other types
+    }
 }
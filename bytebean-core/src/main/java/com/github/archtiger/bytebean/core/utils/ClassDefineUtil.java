@@ -0,0 +1,182 @@
+package com.github.archtiger.bytebean.core.utils;
+
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.model.SimpleClassValue;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassInjector;
+import net.bytebuddy.jar.asm.ClassReader;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 类定义工具类
+ * <p>
+ * 负责将生成的调用器字节码定义到JVM中，优先基于目标类的 {@link MethodHandles.Lookup}：
+ * <ul>
+ *   <li>能取得目标类的完全权限Lookup（{@link MethodHandles#privateLookupIn(Class, MethodHandles.Lookup)}
+ *   且 {@code hasFullPrivilegeAccess()}，类路径上的普通类均满足）时，通过 {@code defineHiddenClass(bytes, true)}
+ *   定义为目标类所在包中的隐藏类，只能访问非private成员。隐藏类不注册到类加载器，
+ *   不再被引用时即可独立于目标类卸载。</li>
+ *   <li>同时启用系统属性 {@link ByteBeanConstant#PRIVATE_ACCESS_PROPERTY}（默认关闭）时，
+ *   额外使用 {@code NESTMATE} 选项定义为目标类的隐藏嵌套成员（nestmate），可直接访问目标类的private成员。</li>
+ *   <li>Lookup不具备完全权限时（如目标类位于向本库开放包的其他命名模块中），
+ *   使用 {@link MethodHandles.Lookup#defineClass(byte[])} 定义为目标类所在包中的普通类，只能访问非private成员。</li>
+ *   <li>无法取得目标类的Lookup时（如目标类位于未向本库开放包的命名模块中），
+ *   回退为注入目标类的类加载器（{@link ClassInjector.UsingReflection}），同样只能访问非private成员。</li>
+ * </ul>
+ * 后两种方式定义的类注册到目标类的类加载器，可按名称查找（{@link #findInvokerClass}），随类加载器一同卸载。
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class ClassDefineUtil {
+
+    /**
+     * 当前类的Lookup，用于获取目标类的私有Lookup。
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 是否启用隐藏嵌套成员模式，在类初始化时读取一次 {@link ByteBeanConstant#PRIVATE_ACCESS_PROPERTY}。
+     * <p>
+     * 成员索引空间、生成的调用器与各类缓存在不同时刻按目标类建立，运行期间切换模式会使它们的索引空间不一致，因此不随属性变化。
+     */
+    private static final boolean PRIVATE_ACCESS_ENABLED = Boolean.getBoolean(ByteBeanConstant.PRIVATE_ACCESS_PROPERTY);
+
+    /**
+     * 目标类的私有Lookup缓存，无法获取时为空。
+     */
+    private static final ClassValue<Optional<MethodHandles.Lookup>> LOOKUP_CACHE =
+            new SimpleClassValue<>(ClassDefineUtil::createLookup);
+
+    /**
+     * 私有构造函数，防止实例化。
+     */
+    private ClassDefineUtil() {
+    }
+
+    private static Optional<MethodHandles.Lookup> createLookup(Class<?> targetClass) {
+        if (targetClass.isPrimitive() || targetClass.isArray() || targetClass.isHidden()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(MethodHandles.privateLookupIn(targetClass, LOOKUP));
+        } catch (IllegalAccessException | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 是否将调用器定义为目标类的隐藏嵌套成员
+     * <p>
+     * 需要在启动时启用系统属性 {@link ByteBeanConstant#PRIVATE_ACCESS_PROPERTY}，且能取得目标类的完全权限Lookup。
+     *
+     * @param targetClass 目标类
+     * @return 是否使用隐藏嵌套成员模式
+     */
+    public static boolean isNestmateSupported(Class<?> targetClass) {
+        return PRIVATE_ACCESS_ENABLED && isHiddenSupported(targetClass);
+    }
+
+    /**
+     * 是否将调用器定义为隐藏类
+     * <p>
+     * 需要能取得目标类的完全权限Lookup，与是否启用隐藏嵌套成员模式无关。
+     *
+     * @param targetClass 目标类
+     * @return 是否使用隐藏类
+     */
+    public static boolean isHiddenSupported(Class<?> targetClass) {
+        return LOOKUP_CACHE.get(targetClass).filter(MethodHandles.Lookup::hasFullPrivilegeAccess).isPresent();
+    }
+
+    /**
+     * 判断成员能否被为目标类生成的调用器直接访问
+     * <p>
+     * 非private成员总是可访问（由调用方负责包可见性判断）；private成员仅在隐藏嵌套成员模式下，
+     * 且声明类与目标类属于同一嵌套（nest）时可访问。
+     *
+     * @param targetClass 目标类
+     * @param member      成员
+     * @return 是否可访问
+     */
+    public static boolean isAccessible(Class<?> targetClass, Member member) {
+        if (!Modifier.isPrivate(member.getModifiers())) {
+            return true;
+        }
+        return isNestmateSupported(targetClass) && member.getDeclaringClass().isNestmateOf(targetClass);
+    }
+
+    /**
+     * 查找已经按名称定义过的调用器类
+     * <p>
+     * 隐藏类无法按名称查找，定义为隐藏类时直接返回null，由调用方重新生成（调用方按目标类缓存生成结果）。
+     *
+     * @param targetClass 目标类
+     * @param invokerName 调用器类全限定名
+     * @param invokerType 调用器基类
+     * @param <T>         调用器类型
+     * @return 已定义的调用器类，不存在时返回null
+     */
+    public static <T> Class<? extends T> findInvokerClass(Class<?> targetClass, String invokerName, Class<T> invokerType) {
+        if (isHiddenSupported(targetClass)) {
+            return null;
+        }
+        try {
+            return Class.forName(invokerName, false, targetClass.getClassLoader()).asSubclass(invokerType);
+        } catch (ClassNotFoundException e) {
+            // Class not generated yet, continue with ByteBuddy generation.
+            return null;
+        }
+    }
+
+    /**
+     * 定义生成的调用器类
+     *
+     * @param targetClass 目标类
+     * @param unloaded    ByteBuddy生成的未加载类型
+     * @param <T>         调用器类型
+     * @return 已加载的调用器类
+     */
+    public static <T> Class<? extends T> define(Class<?> targetClass, DynamicType.Unloaded<T> unloaded) {
+        return define(targetClass, unloaded.getBytes());
+    }
+
+    /**
+     * 在目标类所在包中定义类
+     *
+     * @param targetClass 目标类
+     * @param bytes       类字节码，类名必须与目标类处于同一包
+     * @param <T>         调用器类型
+     * @return 已加载的类
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Class<? extends T> define(Class<?> targetClass, byte[] bytes) {
+        Optional<MethodHandles.Lookup> optionalLookup = LOOKUP_CACHE.get(targetClass);
+        if (optionalLookup.isEmpty()) {
+            // 无法取得Lookup时回退为注入类加载器
+            String name = new ClassReader(bytes).getClassName().replace('/', '.');
+            return (Class<? extends T>) new ClassInjector.UsingReflection(targetClass.getClassLoader())
+                    .injectRaw(Map.of(name, bytes))
+                    .get(name);
+        }
+        MethodHandles.Lookup lookup = optionalLookup.get();
+        try {
+            if (isNestmateSupported(targetClass)) {
+                return (Class<? extends T>) lookup
+                        .defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE)
+                        .lookupClass();
+            }
+            if (lookup.hasFullPrivilegeAccess()) {
+                return (Class<? extends T>) lookup.defineHiddenClass(bytes, true).lookupClass();
+            }
+            return (Class<? extends T>) lookup.defineClass(bytes);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
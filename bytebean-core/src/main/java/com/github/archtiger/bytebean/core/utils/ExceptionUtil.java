@@ -39,6 +39,56 @@ public class ExceptionUtil {
         return new IllegalArgumentException("Cannot set field: " + fieldName);
     }
 
+    /**
+     * 创建表示字段索引与访问类型不匹配的IllegalArgumentException。
+     *
+     * @param index 字段索引
+     * @return IllegalArgumentException实例
+     */
+    public static IllegalArgumentException invalidFieldIndex(int index) {
+        return new IllegalArgumentException("Invalid field index: " + index);
+    }
+
+    /**
+     * 创建表示写入值窄化后超出字段类型范围的IllegalArgumentException。
+     *
+     * @param index 字段索引
+     * @return IllegalArgumentException实例
+     */
+    public static IllegalArgumentException fieldValueOutOfRange(int index) {
+        return new IllegalArgumentException("Value out of range for field index: " + index);
+    }
+
+    /**
+     * 创建表示方法索引越界或与返回类型不匹配的IllegalArgumentException。
+     *
+     * @param index 方法索引
+     * @return IllegalArgumentException实例
+     */
+    public static IllegalArgumentException invalidMethodIndex(int index) {
+        return new IllegalArgumentException("Invalid method index: " + index);
+    }
+
+    /**
+     * 创建表示擦除基本类型签名未找到的IllegalArgumentException。
+     *
+     * @param signature 擦除签名
+     * @return IllegalArgumentException实例
+     */
+    public static IllegalArgumentException primitiveSignatureNotFound(String signature) {
+        return new IllegalArgumentException("Cannot find primitive signature: " + signature);
+    }
+
+    /**
+     * 创建表示record组件未找到的IllegalArgumentException。
+     *
+     * @param componentName 组件名称
+     * @return IllegalArgumentException实例
+     */
+    public static IllegalArgumentException recordComponentNotFound(String componentName) {
+        return new IllegalArgumentException("Cannot find record component: " + componentName);
+    }
+
     /**
      * 创建表示方法未找到的IllegalArgumentException。
      *
@@ -0,0 +1,16 @@
+package com.github.archtiger.bytebean.core.invoker.entity;
+
+/**
+ * 公共父类测试实体
+ * 用于测试跨包继承字段的可见性：仅 public 字段可被子类的调用器访问
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+public class BaseEntity {
+
+    public Long id;
+    public long version;
+    protected String createdBy;
+    String remark;
+}
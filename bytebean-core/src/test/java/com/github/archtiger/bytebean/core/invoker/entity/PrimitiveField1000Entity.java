@@ -0,0 +1,1012 @@
+package com.github.archtiger.bytebean.core.invoker.entity;
+
+/**
+ * 拥有1000个基本类型字段的测试实体类
+ * 用于基本类型读写（无装箱）的性能测试：field1-250为int，field251-500为long，field501-750为double，field751-1000为boolean
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+public class PrimitiveField1000Entity {
+
+    public int field1;
+    public int field2;
+    public int field3;
+    public int field4;
+    public int field5;
+    public int field6;
+    public int field7;
+    public int field8;
+    public int field9;
+    public int field10;
+    public int field11;
+    public int field12;
+    public int field13;
+    public int field14;
+    public int field15;
+    public int field16;
+    public int field17;
+    public int field18;
+    public int field19;
+    public int field20;
+    public int field21;
+    public int field22;
+    public int field23;
+    public int field24;
+    public int field25;
+    public int field26;
+    public int field27;
+    public int field28;
+    public int field29;
+    public int field30;
+    public int field31;
+    public int field32;
+    public int field33;
+    public int field34;
+    public int field35;
+    public int field36;
+    public int field37;
+    public int field38;
+    public int field39;
+    public int field40;
+    public int field41;
+    public int field42;
+    public int field43;
+    public int field44;
+    public int field45;
+    public int field46;
+    public int field47;
+    public int field48;
+    public int field49;
+    public int field50;
+    public int field51;
+    public int field52;
+    public int field53;
+    public int field54;
+    public int field55;
+    public int field56;
+    public int field57;
+    public int field58;
+    public int field59;
+    public int field60;
+    public int field61;
+    public int field62;
+    public int field63;
+    public int field64;
+    public int field65;
+    public int field66;
+    public int field67;
+    public int field68;
+    public int field69;
+    public int field70;
+    public int field71;
+    public int field72;
+    public int field73;
+    public int field74;
+    public int field75;
+    public int field76;
+    public int field77;
+    public int field78;
+    public int field79;
+    public int field80;
+    public int field81;
+    public int field82;
+    public int field83;
+    public int field84;
+    public int field85;
+    public int field86;
+    public int field87;
+    public int field88;
+    public int field89;
+    public int field90;
+    public int field91;
+    public int field92;
+    public int field93;
+    public int field94;
+    public int field95;
+    public int field96;
+    public int field97;
+    public int field98;
+    public int field99;
+    public int field100;
+    public int field101;
+    public int field102;
+    public int field103;
+    public int field104;
+    public int field105;
+    public int field106;
+    public int field107;
+    public int field108;
+    public int field109;
+    public int field110;
+    public int field111;
+    public int field112;
+    public int field113;
+    public int field114;
+    public int field115;
+    public int field116;
+    public int field117;
+    public int field118;
+    public int field119;
+    public int field120;
+    public int field121;
+    public int field122;
+    public int field123;
+    public int field124;
+    public int field125;
+    public int field126;
+    public int field127;
+    public int field128;
+    public int field129;
+    public int field130;
+    public int field131;
+    public int field132;
+    public int field133;
+    public int field134;
+    public int field135;
+    public int field136;
+    public int field137;
+    public int field138;
+    public int field139;
+    public int field140;
+    public int field141;
+    public int field142;
+    public int field143;
+    public int field144;
+    public int field145;
+    public int field146;
+    public int field147;
+    public int field148;
+    public int field149;
+    public int field150;
+    public int field151;
+    public int field152;
+    public int field153;
+    public int field154;
+    public int field155;
+    public int field156;
+    public int field157;
+    public int field158;
+    public int field159;
+    public int field160;
+    public int field161;
+    public int field162;
+    public int field163;
+    public int field164;
+    public int field165;
+    public int field166;
+    public int field167;
+    public int field168;
+    public int field169;
+    public int field170;
+    public int field171;
+    public int field172;
+    public int field173;
+    public int field174;
+    public int field175;
+    public int field176;
+    public int field177;
+    public int field178;
+    public int field179;
+    public int field180;
+    public int field181;
+    public int field182;
+    public int field183;
+    public int field184;
+    public int field185;
+    public int field186;
+    public int field187;
+    public int field188;
+    public int field189;
+    public int field190;
+    public int field191;
+    public int field192;
+    public int field193;
+    public int field194;
+    public int field195;
+    public int field196;
+    public int field197;
+    public int field198;
+    public int field199;
+    public int field200;
+    public int field201;
+    public int field202;
+    public int field203;
+    public int field204;
+    public int field205;
+    public int field206;
+    public int field207;
+    public int field208;
+    public int field209;
+    public int field210;
+    public int field211;
+    public int field212;
+    public int field213;
+    public int field214;
+    public int field215;
+    public int field216;
+    public int field217;
+    public int field218;
+    public int field219;
+    public int field220;
+    public int field221;
+    public int field222;
+    public int field223;
+    public int field224;
+    public int field225;
+    public int field226;
+    public int field227;
+    public int field228;
+    public int field229;
+    public int field230;
+    public int field231;
+    public int field232;
+    public int field233;
+    public int field234;
+    public int field235;
+    public int field236;
+    public int field237;
+    public int field238;
+    public int field239;
+    public int field240;
+    public int field241;
+    public int field242;
+    public int field243;
+    public int field244;
+    public int field245;
+    public int field246;
+    public int field247;
+    public int field248;
+    public int field249;
+    public int field250;
+    public long field251;
+    public long field252;
+    public long field253;
+    public long field254;
+    public long field255;
+    public long field256;
+    public long field257;
+    public long field258;
+    public long field259;
+    public long field260;
+    public long field261;
+    public long field262;
+    public long field263;
+    public long field264;
+    public long field265;
+    public long field266;
+    public long field267;
+    public long field268;
+    public long field269;
+    public long field270;
+    public long field271;
+    public long field272;
+    public long field273;
+    public long field274;
+    public long field275;
+    public long field276;
+    public long field277;
+    public long field278;
+    public long field279;
+    public long field280;
+    public long field281;
+    public long field282;
+    public long field283;
+    public long field284;
+    public long field285;
+    public long field286;
+    public long field287;
+    public long field288;
+    public long field289;
+    public long field290;
+    public long field291;
+    public long field292;
+    public long field293;
+    public long field294;
+    public long field295;
+    public long field296;
+    public long field297;
+    public long field298;
+    public long field299;
+    public long field300;
+    public long field301;
+    public long field302;
+    public long field303;
+    public long field304;
+    public long field305;
+    public long field306;
+    public long field307;
+    public long field308;
+    public long field309;
+    public long field310;
+    public long field311;
+    public long field312;
+    public long field313;
+    public long field314;
+    public long field315;
+    public long field316;
+    public long field317;
+    public long field318;
+    public long field319;
+    public long field320;
+    public long field321;
+    public long field322;
+    public long field323;
+    public long field324;
+    public long field325;
+    public long field326;
+    public long field327;
+    public long field328;
+    public long field329;
+    public long field330;
+    public long field331;
+    public long field332;
+    public long field333;
+    public long field334;
+    public long field335;
+    public long field336;
+    public long field337;
+    public long field338;
+    public long field339;
+    public long field340;
+    public long field341;
+    public long field342;
+    public long field343;
+    public long field344;
+    public long field345;
+    public long field346;
+    public long field347;
+    public long field348;
+    public long field349;
+    public long field350;
+    public long field351;
+    public long field352;
+    public long field353;
+    public long field354;
+    public long field355;
+    public long field356;
+    public long field357;
+    public long field358;
+    public long field359;
+    public long field360;
+    public long field361;
+    public long field362;
+    public long field363;
+    public long field364;
+    public long field365;
+    public long field366;
+    public long field367;
+    public long field368;
+    public long field369;
+    public long field370;
+    public long field371;
+    public long field372;
+    public long field373;
+    public long field374;
+    public long field375;
+    public long field376;
+    public long field377;
+    public long field378;
+    public long field379;
+    public long field380;
+    public long field381;
+    public long field382;
+    public long field383;
+    public long field384;
+    public long field385;
+    public long field386;
+    public long field387;
+    public long field388;
+    public long field389;
+    public long field390;
+    public long field391;
+    public long field392;
+    public long field393;
+    public long field394;
+    public long field395;
+    public long field396;
+    public long field397;
+    public long field398;
+    public long field399;
+    public long field400;
+    public long field401;
+    public long field402;
+    public long field403;
+    public long field404;
+    public long field405;
+    public long field406;
+    public long field407;
+    public long field408;
+    public long field409;
+    public long field410;
+    public long field411;
+    public long field412;
+    public long field413;
+    public long field414;
+    public long field415;
+    public long field416;
+    public long field417;
+    public long field418;
+    public long field419;
+    public long field420;
+    public long field421;
+    public long field422;
+    public long field423;
+    public long field424;
+    public long field425;
+    public long field426;
+    public long field427;
+    public long field428;
+    public long field429;
+    public long field430;
+    public long field431;
+    public long field432;
+    public long field433;
+    public long field434;
+    public long field435;
+    public long field436;
+    public long field437;
+    public long field438;
+    public long field439;
+    public long field440;
+    public long field441;
+    public long field442;
+    public long field443;
+    public long field444;
+    public long field445;
+    public long field446;
+    public long field447;
+    public long field448;
+    public long field449;
+    public long field450;
+    public long field451;
+    public long field452;
+    public long field453;
+    public long field454;
+    public long field455;
+    public long field456;
+    public long field457;
+    public long field458;
+    public long field459;
+    public long field460;
+    public long field461;
+    public long field462;
+    public long field463;
+    public long field464;
+    public long field465;
+    public long field466;
+    public long field467;
+    public long field468;
+    public long field469;
+    public long field470;
+    public long field471;
+    public long field472;
+    public long field473;
+    public long field474;
+    public long field475;
+    public long field476;
+    public long field477;
+    public long field478;
+    public long field479;
+    public long field480;
+    public long field481;
+    public long field482;
+    public long field483;
+    public long field484;
+    public long field485;
+    public long field486;
+    public long field487;
+    public long field488;
+    public long field489;
+    public long field490;
+    public long field491;
+    public long field492;
+    public long field493;
+    public long field494;
+    public long field495;
+    public long field496;
+    public long field497;
+    public long field498;
+    public long field499;
+    public long field500;
+    public double field501;
+    public double field502;
+    public double field503;
+    public double field504;
+    public double field505;
+    public double field506;
+    public double field507;
+    public double field508;
+    public double field509;
+    public double field510;
+    public double field511;
+    public double field512;
+    public double field513;
+    public double field514;
+    public double field515;
+    public double field516;
+    public double field517;
+    public double field518;
+    public double field519;
+    public double field520;
+    public double field521;
+    public double field522;
+    public double field523;
+    public double field524;
+    public double field525;
+    public double field526;
+    public double field527;
+    public double field528;
+    public double field529;
+    public double field530;
+    public double field531;
+    public double field532;
+    public double field533;
+    public double field534;
+    public double field535;
+    public double field536;
+    public double field537;
+    public double field538;
+    public double field539;
+    public double field540;
+    public double field541;
+    public double field542;
+    public double field543;
+    public double field544;
+    public double field545;
+    public double field546;
+    public double field547;
+    public double field548;
+    public double field549;
+    public double field550;
+    public double field551;
+    public double field552;
+    public double field553;
+    public double field554;
+    public double field555;
+    public double field556;
+    public double field557;
+    public double field558;
+    public double field559;
+    public double field560;
+    public double field561;
+    public double field562;
+    public double field563;
+    public double field564;
+    public double field565;
+    public double field566;
+    public double field567;
+    public double field568;
+    public double field569;
+    public double field570;
+    public double field571;
+    public double field572;
+    public double field573;
+    public double field574;
+    public double field575;
+    public double field576;
+    public double field577;
+    public double field578;
+    public double field579;
+    public double field580;
+    public double field581;
+    public double field582;
+    public double field583;
+    public double field584;
+    public double field585;
+    public double field586;
+    public double field587;
+    public double field588;
+    public double field589;
+    public double field590;
+    public double field591;
+    public double field592;
+    public double field593;
+    public double field594;
+    public double field595;
+    public double field596;
+    public double field597;
+    public double field598;
+    public double field599;
+    public double field600;
+    public double field601;
+    public double field602;
+    public double field603;
+    public double field604;
+    public double field605;
+    public double field606;
+    public double field607;
+    public double field608;
+    public double field609;
+    public double field610;
+    public double field611;
+    public double field612;
+    public double field613;
+    public double field614;
+    public double field615;
+    public double field616;
+    public double field617;
+    public double field618;
+    public double field619;
+    public double field620;
+    public double field621;
+    public double field622;
+    public double field623;
+    public double field624;
+    public double field625;
+    public double field626;
+    public double field627;
+    public double field628;
+    public double field629;
+    public double field630;
+    public double field631;
+    public double field632;
+    public double field633;
+    public double field634;
+    public double field635;
+    public double field636;
+    public double field637;
+    public double field638;
+    public double field639;
+    public double field640;
+    public double field641;
+    public double field642;
+    public double field643;
+    public double field644;
+    public double field645;
+    public double field646;
+    public double field647;
+    public double field648;
+    public double field649;
+    public double field650;
+    public double field651;
+    public double field652;
+    public double field653;
+    public double field654;
+    public double field655;
+    public double field656;
+    public double field657;
+    public double field658;
+    public double field659;
+    public double field660;
+    public double field661;
+    public double field662;
+    public double field663;
+    public double field664;
+    public double field665;
+    public double field666;
+    public double field667;
+    public double field668;
+    public double field669;
+    public double field670;
+    public double field671;
+    public double field672;
+    public double field673;
+    public double field674;
+    public double field675;
+    public double field676;
+    public double field677;
+    public double field678;
+    public double field679;
+    public double field680;
+    public double field681;
+    public double field682;
+    public double field683;
+    public double field684;
+    public double field685;
+    public double field686;
+    public double field687;
+    public double field688;
+    public double field689;
+    public double field690;
+    public double field691;
+    public double field692;
+    public double field693;
+    public double field694;
+    public double field695;
+    public double field696;
+    public double field697;
+    public double field698;
+    public double field699;
+    public double field700;
+    public double field701;
+    public double field702;
+    public double field703;
+    public double field704;
+    public double field705;
+    public double field706;
+    public double field707;
+    public double field708;
+    public double field709;
+    public double field710;
+    public double field711;
+    public double field712;
+    public double field713;
+    public double field714;
+    public double field715;
+    public double field716;
+    public double field717;
+    public double field718;
+    public double field719;
+    public double field720;
+    public double field721;
+    public double field722;
+    public double field723;
+    public double field724;
+    public double field725;
+    public double field726;
+    public double field727;
+    public double field728;
+    public double field729;
+    public double field730;
+    public double field731;
+    public double field732;
+    public double field733;
+    public double field734;
+    public double field735;
+    public double field736;
+    public double field737;
+    public double field738;
+    public double field739;
+    public double field740;
+    public double field741;
+    public double field742;
+    public double field743;
+    public double field744;
+    public double field745;
+    public double field746;
+    public double field747;
+    public double field748;
+    public double field749;
+    public double field750;
+    public boolean field751;
+    public boolean field752;
+    public boolean field753;
+    public boolean field754;
+    public boolean field755;
+    public boolean field756;
+    public boolean field757;
+    public boolean field758;
+    public boolean field759;
+    public boolean field760;
+    public boolean field761;
+    public boolean field762;
+    public boolean field763;
+    public boolean field764;
+    public boolean field765;
+    public boolean field766;
+    public boolean field767;
+    public boolean field768;
+    public boolean field769;
+    public boolean field770;
+    public boolean field771;
+    public boolean field772;
+    public boolean field773;
+    public boolean field774;
+    public boolean field775;
+    public boolean field776;
+    public boolean field777;
+    public boolean field778;
+    public boolean field779;
+    public boolean field780;
+    public boolean field781;
+    public boolean field782;
+    public boolean field783;
+    public boolean field784;
+    public boolean field785;
+    public boolean field786;
+    public boolean field787;
+    public boolean field788;
+    public boolean field789;
+    public boolean field790;
+    public boolean field791;
+    public boolean field792;
+    public boolean field793;
+    public boolean field794;
+    public boolean field795;
+    public boolean field796;
+    public boolean field797;
+    public boolean field798;
+    public boolean field799;
+    public boolean field800;
+    public boolean field801;
+    public boolean field802;
+    public boolean field803;
+    public boolean field804;
+    public boolean field805;
+    public boolean field806;
+    public boolean field807;
+    public boolean field808;
+    public boolean field809;
+    public boolean field810;
+    public boolean field811;
+    public boolean field812;
+    public boolean field813;
+    public boolean field814;
+    public boolean field815;
+    public boolean field816;
+    public boolean field817;
+    public boolean field818;
+    public boolean field819;
+    public boolean field820;
+    public boolean field821;
+    public boolean field822;
+    public boolean field823;
+    public boolean field824;
+    public boolean field825;
+    public boolean field826;
+    public boolean field827;
+    public boolean field828;
+    public boolean field829;
+    public boolean field830;
+    public boolean field831;
+    public boolean field832;
+    public boolean field833;
+    public boolean field834;
+    public boolean field835;
+    public boolean field836;
+    public boolean field837;
+    public boolean field838;
+    public boolean field839;
+    public boolean field840;
+    public boolean field841;
+    public boolean field842;
+    public boolean field843;
+    public boolean field844;
+    public boolean field845;
+    public boolean field846;
+    public boolean field847;
+    public boolean field848;
+    public boolean field849;
+    public boolean field850;
+    public boolean field851;
+    public boolean field852;
+    public boolean field853;
+    public boolean field854;
+    public boolean field855;
+    public boolean field856;
+    public boolean field857;
+    public boolean field858;
+    public boolean field859;
+    public boolean field860;
+    public boolean field861;
+    public boolean field862;
+    public boolean field863;
+    public boolean field864;
+    public boolean field865;
+    public boolean field866;
+    public boolean field867;
+    public boolean field868;
+    public boolean field869;
+    public boolean field870;
+    public boolean field871;
+    public boolean field872;
+    public boolean field873;
+    public boolean field874;
+    public boolean field875;
+    public boolean field876;
+    public boolean field877;
+    public boolean field878;
+    public boolean field879;
+    public boolean field880;
+    public boolean field881;
+    public boolean field882;
+    public boolean field883;
+    public boolean field884;
+    public boolean field885;
+    public boolean field886;
+    public boolean field887;
+    public boolean field888;
+    public boolean field889;
+    public boolean field890;
+    public boolean field891;
+    public boolean field892;
+    public boolean field893;
+    public boolean field894;
+    public boolean field895;
+    public boolean field896;
+    public boolean field897;
+    public boolean field898;
+    public boolean field899;
+    public boolean field900;
+    public boolean field901;
+    public boolean field902;
+    public boolean field903;
+    public boolean field904;
+    public boolean field905;
+    public boolean field906;
+    public boolean field907;
+    public boolean field908;
+    public boolean field909;
+    public boolean field910;
+    public boolean field911;
+    public boolean field912;
+    public boolean field913;
+    public boolean field914;
+    public boolean field915;
+    public boolean field916;
+    public boolean field917;
+    public boolean field918;
+    public boolean field919;
+    public boolean field920;
+    public boolean field921;
+    public boolean field922;
+    public boolean field923;
+    public boolean field924;
+    public boolean field925;
+    public boolean field926;
+    public boolean field927;
+    public boolean field928;
+    public boolean field929;
+    public boolean field930;
+    public boolean field931;
+    public boolean field932;
+    public boolean field933;
+    public boolean field934;
+    public boolean field935;
+    public boolean field936;
+    public boolean field937;
+    public boolean field938;
+    public boolean field939;
+    public boolean field940;
+    public boolean field941;
+    public boolean field942;
+    public boolean field943;
+    public boolean field944;
+    public boolean field945;
+    public boolean field946;
+    public boolean field947;
+    public boolean field948;
+    public boolean field949;
+    public boolean field950;
+    public boolean field951;
+    public boolean field952;
+    public boolean field953;
+    public boolean field954;
+    public boolean field955;
+    public boolean field956;
+    public boolean field957;
+    public boolean field958;
+    public boolean field959;
+    public boolean field960;
+    public boolean field961;
+    public boolean field962;
+    public boolean field963;
+    public boolean field964;
+    public boolean field965;
+    public boolean field966;
+    public boolean field967;
+    public boolean field968;
+    public boolean field969;
+    public boolean field970;
+    public boolean field971;
+    public boolean field972;
+    public boolean field973;
+    public boolean field974;
+    public boolean field975;
+    public boolean field976;
+    public boolean field977;
+    public boolean field978;
+    public boolean field979;
+    public boolean field980;
+    public boolean field981;
+    public boolean field982;
+    public boolean field983;
+    public boolean field984;
+    public boolean field985;
+    public boolean field986;
+    public boolean field987;
+    public boolean field988;
+    public boolean field989;
+    public boolean field990;
+    public boolean field991;
+    public boolean field992;
+    public boolean field993;
+    public boolean field994;
+    public boolean field995;
+    public boolean field996;
+    public boolean field997;
+    public boolean field998;
+    public boolean field999;
+    public boolean field1000;
+}
@@ -0,0 +1,205 @@
+package com.github.archtiger.bytebean.core.invoker.facade;
+
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 类型化门面测试
+ * <p>
+ * 测试包括：
+ * 1. 同名方法、getter/setter、字段、private 成员的绑定
+ * 2. 基本类型精确签名与拓宽转换、引用类型向父类型赋值、丢弃返回值
+ * 3. default 方法保留，门面实例缓存
+ * 4. 接口作为目标类型
+ * 5. 非接口、首参数不匹配、无法绑定的方法、引用类型不可赋值的异常
+ */
+@PrivateAccess
+class BeanFacadeTest {
+
+    static class User {
+        private int age;
+        private String name;
+        long score;
+        final String id = "u1";
+        private boolean active;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        private String greet(String prefix, int times) {
+            return prefix.repeat(times) + name;
+        }
+
+        boolean rename(String newName) {
+            boolean changed = !newName.equals(name);
+            name = newName;
+            return changed;
+        }
+    }
+
+    interface UserOps {
+        int age(User u);
+
+        void setAge(User u, int v);
+
+        String name(User u);
+
+        void setName(User u, String name);
+
+        long score(User u);
+
+        void score(User u, long value);
+
+        boolean active(User u);
+
+        String id(User u);
+
+        String greet(User u, String prefix, int times);
+
+        void rename(User u, String newName);
+
+        default String describe(User u) {
+            return name(u) + "@" + age(u);
+        }
+    }
+
+    interface WideningOps {
+        long getAge(Object u);
+
+        double score(User u);
+
+        Object getName(User u);
+
+        void setName(Object u, String name);
+    }
+
+    interface MismatchedReturn {
+        Integer name(User u);
+    }
+
+    interface MismatchedArgument {
+        void setName(User u, Object name);
+    }
+
+    interface Shape {
+        double area();
+    }
+
+    record Square(double side) implements Shape {
+        @Override
+        public double area() {
+            return side * side;
+        }
+    }
+
+    interface ShapeOps {
+        double area(Shape shape);
+    }
+
+    interface BadFirstParameter {
+        int age(String u);
+    }
+
+    interface Unresolvable {
+        int height(User u);
+    }
+
+    static class NotInterface {
+    }
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setAge(30);
+        user.name = "alice";
+        user.score = 7L;
+        user.active = true;
+    }
+
+    // ==================== 绑定测试 ====================
+
+    @Test
+    void testBindings() {
+        UserOps ops = BeanFacade.of(UserOps.class, User.class);
+
+        assertEquals(30, ops.age(user));
+        ops.setAge(user, 31);
+        assertEquals(31, user.getAge());
+
+        // name 只有 getter，setName 绑定 private 字段
+        assertEquals("alice", ops.name(user));
+        ops.setName(user, "bob");
+        assertEquals("bob", user.name);
+
+        // score 没有 getter/setter，直接读写字段
+        assertEquals(7L, ops.score(user));
+        ops.score(user, 9L);
+        assertEquals(9L, user.score);
+
+        assertTrue(ops.active(user));
+        assertEquals("u1", ops.id(user));
+        assertEquals("hihibob", ops.greet(user, "hi", 2));
+    }
+
+    @Test
+    void testDiscardedReturnAndDefaultMethod() {
+        UserOps ops = BeanFacade.of(UserOps.class, User.class);
+        ops.rename(user, "carol");
+        assertEquals("carol", user.name);
+        assertEquals("carol@30", ops.describe(user));
+    }
+
+    @Test
+    void testConversions() {
+        WideningOps ops = BeanFacade.of(WideningOps.class, User.class);
+        assertEquals(30L, ops.getAge(user));
+        assertEquals(7.0d, ops.score(user));
+        assertEquals("alice", ops.getName(user));
+
+        ops.setName(user, "dave");
+        assertEquals("dave", user.name);
+        assertThrows(ClassCastException.class, () -> ops.setName("not user", "erin"));
+        assertThrows(ClassCastException.class, () -> ops.getAge("not user"));
+    }
+
+    @Test
+    void testInterfaceTarget() {
+        ShapeOps ops = BeanFacade.of(ShapeOps.class, Shape.class);
+        assertEquals(4.0d, ops.area(new Square(2.0d)));
+    }
+
+    @Test
+    void testCache() {
+        assertSame(BeanFacade.of(UserOps.class, User.class), BeanFacade.of(UserOps.class, User.class));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testInvalidFacade() {
+        assertThrows(IllegalArgumentException.class, () -> BeanFacade.of(NotInterface.class, User.class));
+        assertThrows(IllegalArgumentException.class, () -> BeanFacade.of(BadFirstParameter.class, User.class));
+        assertThrows(IllegalArgumentException.class, () -> BeanFacade.of(Unresolvable.class, User.class));
+        // 引用类型必须可赋值：String 属性不能绑定到 Integer 返回值，Object 参数不能写入 String 字段
+        assertThrows(IllegalArgumentException.class, () -> BeanFacade.of(MismatchedReturn.class, User.class));
+        assertThrows(IllegalArgumentException.class, () -> BeanFacade.of(MismatchedArgument.class, User.class));
+    }
+}
@@ -0,0 +1,224 @@
+package com.github.archtiger.bytebean.core.invoker.facade;
+
+import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
+import com.github.archtiger.bytebean.core.invoker.method.MethodInvokerHelper;
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 函数式接口适配测试
+ * <p>
+ * 测试包括：
+ * 1. MethodInvokerHelper 生成的 ToIntFunction、Predicate、Function、ObjIntConsumer、BiFunction 等
+ * 2. FieldInvokerHelper 生成的字段读取与写入函数，含 private 字段、拓宽转换与拆箱
+ * 3. 生成的实现可直接用于 Stream，实例被缓存
+ * 4. 签名不匹配、final 字段、索引越界与非函数式接口的异常
+ */
+@PrivateAccess
+class MemberFunctionTest {
+
+    static class Order {
+        private int quantity;
+        private short priority;
+        private double price;
+        private String sku;
+        private boolean paid;
+        private final long id;
+
+        Order(long id, int quantity, double price) {
+            this.id = id;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public String getSku() {
+            return sku;
+        }
+
+        public double total(int discount) {
+            return quantity * price - discount;
+        }
+
+        public int addQuantity(int delta) {
+            quantity += delta;
+            return quantity;
+        }
+
+        public void pay() {
+            paid = true;
+        }
+
+        private String label(String prefix) {
+            return prefix + id;
+        }
+    }
+
+    // ==================== 方法 ====================
+
+    @Test
+    void testMethodFunctions() {
+        MethodInvokerHelper helper = MethodInvokerHelper.of(Order.class);
+        Order order = new Order(7L, 3, 2.5);
+        order.sku = "A-1";
+
+        ToIntFunction<Order> quantity = helper.toIntFunction(helper.getMethodIndexOrThrow("getQuantity"));
+        assertEquals(3, quantity.applyAsInt(order));
+
+        ToLongFunction<Order> quantityAsLong = helper.toLongFunction(helper.getMethodIndexOrThrow("getQuantity"));
+        assertEquals(3L, quantityAsLong.applyAsLong(order));
+
+        ToDoubleFunction<Order> price = helper.toDoubleFunction(helper.getMethodIndexOrThrow("getPrice"));
+        assertEquals(2.5, price.applyAsDouble(order));
+
+        Function<Order, String> sku = helper.function(helper.getMethodIndexOrThrow("getSku"));
+        assertEquals("A-1", sku.apply(order));
+
+        Function<Order, Integer> boxedQuantity = helper.function(helper.getMethodIndexOrThrow("getQuantity"));
+        assertEquals(3, boxedQuantity.apply(order));
+
+        Predicate<Order> paid = helper.predicate(helper.getMethodIndexOrThrow("isPaid"));
+        assertFalse(paid.test(order));
+        Consumer<Order> pay = helper.consumer(helper.getMethodIndexOrThrow("pay"));
+        pay.accept(order);
+        assertTrue(paid.test(order));
+
+        ObjIntConsumer<Order> setQuantity = helper.objIntConsumer(helper.getMethodIndexOrThrow("setQuantity", int.class));
+        setQuantity.accept(order, 4);
+        assertEquals(4, order.getQuantity());
+
+        // 丢弃返回值
+        ObjIntConsumer<Order> addQuantity = helper.objIntConsumer(helper.getMethodIndexOrThrow("addQuantity", int.class));
+        addQuantity.accept(order, 1);
+        assertEquals(5, order.getQuantity());
+
+        BiFunction<Order, Integer, Double> total = helper.biFunction(helper.getMethodIndexOrThrow("total", int.class));
+        assertEquals(11.5, total.apply(order, 1));
+
+        BiConsumer<Order, Integer> boxedSetQuantity = helper.biConsumer(helper.getMethodIndexOrThrow("setQuantity", int.class));
+        boxedSetQuantity.accept(order, 9);
+        assertEquals(9, order.getQuantity());
+        assertThrows(NullPointerException.class, () -> boxedSetQuantity.accept(order, null));
+
+        BiFunction<Order, String, String> label = helper.biFunction(helper.getMethodIndexOrThrow("label", String.class));
+        assertEquals("#7", label.apply(order, "#"));
+    }
+
+    // ==================== 字段 ====================
+
+    @Test
+    void testFieldFunctions() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(Order.class);
+        Order order = new Order(7L, 3, 2.5);
+        order.priority = 2;
+
+        ToIntFunction<Order> quantity = helper.toIntFunction(helper.getFieldGetterIndexOrThrow("quantity"));
+        assertEquals(3, quantity.applyAsInt(order));
+
+        // short 字段拓宽为 int/long/double
+        assertEquals(2, helper.<Order>toIntFunction(helper.getFieldGetterIndexOrThrow("priority")).applyAsInt(order));
+        assertEquals(2L, helper.<Order>toLongFunction(helper.getFieldGetterIndexOrThrow("priority")).applyAsLong(order));
+        assertEquals(2.0, helper.<Order>toDoubleFunction(helper.getFieldGetterIndexOrThrow("priority")).applyAsDouble(order));
+
+        ToLongFunction<Order> id = helper.toLongFunction(helper.getFieldGetterIndexOrThrow("id"));
+        assertEquals(7L, id.applyAsLong(order));
+
+        Function<Order, Double> price = helper.function(helper.getFieldGetterIndexOrThrow("price"));
+        assertEquals(2.5, price.apply(order));
+
+        Predicate<Order> paid = helper.predicate(helper.getFieldGetterIndexOrThrow("paid"));
+        assertFalse(paid.test(order));
+
+        ObjIntConsumer<Order> setQuantity = helper.objIntConsumer(helper.getFieldSetterIndexOrThrow("quantity"));
+        setQuantity.accept(order, 8);
+        assertEquals(8, order.quantity);
+
+        // int 写入 double 字段（拓宽）
+        ObjIntConsumer<Order> setPriceFromInt = helper.objIntConsumer(helper.getFieldSetterIndexOrThrow("price"));
+        setPriceFromInt.accept(order, 4);
+        assertEquals(4.0, order.price);
+
+        ObjDoubleConsumer<Order> setPrice = helper.objDoubleConsumer(helper.getFieldSetterIndexOrThrow("price"));
+        setPrice.accept(order, 1.25);
+        assertEquals(1.25, order.price);
+
+        BiConsumer<Order, String> setSku = helper.biConsumer(helper.getFieldSetterIndexOrThrow("sku"));
+        setSku.accept(order, "B-2");
+        assertEquals("B-2", order.sku);
+
+        BiConsumer<Order, Boolean> setPaid = helper.biConsumer(helper.getFieldSetterIndexOrThrow("paid"));
+        setPaid.accept(order, true);
+        assertTrue(order.paid);
+    }
+
+    // ==================== Stream 与缓存 ====================
+
+    @Test
+    void testStreamAndCache() {
+        FieldInvokerHelper fieldHelper = FieldInvokerHelper.of(Order.class);
+        MethodInvokerHelper methodHelper = MethodInvokerHelper.of(Order.class);
+        List<Order> orders = List.of(new Order(1L, 1, 1.0), new Order(2L, 2, 2.0), new Order(3L, 3, 3.0));
+
+        ToIntFunction<Order> quantity = fieldHelper.toIntFunction(fieldHelper.getFieldGetterIndexOrThrow("quantity"));
+        assertEquals(6, orders.stream().mapToInt(quantity).sum());
+
+        ToDoubleFunction<Order> price = methodHelper.toDoubleFunction(methodHelper.getMethodIndexOrThrow("getPrice"));
+        assertEquals(6.0, orders.stream().mapToDouble(price).sum());
+
+        assertSame(quantity, fieldHelper.toIntFunction(fieldHelper.getFieldGetterIndexOrThrow("quantity")));
+        assertSame(price, methodHelper.toDoubleFunction(methodHelper.getMethodIndexOrThrow("getPrice")));
+        assertNotSame(quantity, fieldHelper.toLongFunction(fieldHelper.getFieldGetterIndexOrThrow("quantity")));
+    }
+
+    // ==================== 异常 ====================
+
+    @Test
+    void testInvalidBindings() {
+        FieldInvokerHelper fieldHelper = FieldInvokerHelper.of(Order.class);
+        MethodInvokerHelper methodHelper = MethodInvokerHelper.of(Order.class);
+
+        // 窄化与类型不匹配
+        assertThrows(IllegalArgumentException.class,
+                () -> fieldHelper.toIntFunction(fieldHelper.getFieldGetterIndexOrThrow("price")));
+        assertThrows(IllegalArgumentException.class,
+                () -> fieldHelper.predicate(fieldHelper.getFieldGetterIndexOrThrow("quantity")));
+        assertThrows(IllegalArgumentException.class,
+                () -> methodHelper.toIntFunction(methodHelper.getMethodIndexOrThrow("getSku")));
+
+        // final 字段不能写入，参数数量不匹配
+        assertThrows(IllegalArgumentException.class,
+                () -> fieldHelper.objLongConsumer(fieldHelper.getFieldGetterIndexOrThrow("id")));
+        assertThrows(IllegalArgumentException.class,
+                () -> methodHelper.toIntFunction(methodHelper.getMethodIndexOrThrow("addQuantity", int.class)));
+        assertThrows(IllegalArgumentException.class,
+                () -> methodHelper.function(methodHelper.getMethodIndexOrThrow("pay")));
+
+        // 索引越界与非函数式接口
+        assertThrows(IllegalArgumentException.class, () -> fieldHelper.toIntFunction(-1));
+        assertThrows(IllegalArgumentException.class, () -> methodHelper.toIntFunction(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class,
+                () -> methodHelper.function(methodHelper.getMethodIndexOrThrow("getQuantity"), Runnable.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> methodHelper.function(methodHelper.getMethodIndexOrThrow("getQuantity"), List.class));
+    }
+}
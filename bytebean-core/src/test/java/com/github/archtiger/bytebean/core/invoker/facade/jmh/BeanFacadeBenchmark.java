@@ -0,0 +1,112 @@
+package com.github.archtiger.bytebean.core.invoker.facade.jmh;
+
+import com.github.archtiger.bytebean.core.invoker.facade.BeanFacade;
+import com.github.archtiger.bytebean.core.invoker.method.MethodInvokerHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 类型化门面性能基准测试
+ * <p>
+ * 对比直接调用、门面（BeanFacade）、按索引调用（MethodInvokerHelper）与反射在 getter/setter 上的开销。
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanFacadeBenchmark {
+
+    public static class User {
+        private int age;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public interface UserOps {
+        int age(User u);
+
+        void setAge(User u, int v);
+    }
+
+    private User user;
+    private UserOps userOps;
+    private MethodInvokerHelper methodInvokerHelper;
+    private int getAgeIndex;
+    private int setAgeIndex;
+    private Method getAgeMethod;
+    private int value;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        user = new User();
+        user.setAge(30);
+        userOps = BeanFacade.of(UserOps.class, User.class);
+        methodInvokerHelper = MethodInvokerHelper.of(User.class);
+        getAgeIndex = methodInvokerHelper.getMethodIndexOrThrow("getAge");
+        setAgeIndex = methodInvokerHelper.getMethodIndexOrThrow("setAge", int.class);
+        getAgeMethod = User.class.getMethod("getAge");
+    }
+
+    // ==================== 读取 ====================
+
+    @Benchmark
+    public int directGet() {
+        return user.getAge();
+    }
+
+    @Benchmark
+    public int facadeGet() {
+        return userOps.age(user);
+    }
+
+    @Benchmark
+    public int methodInvokerHelperGet() {
+        return methodInvokerHelper.intInvoke(getAgeIndex, user);
+    }
+
+    @Benchmark
+    public Object reflectGet() throws Exception {
+        return getAgeMethod.invoke(user);
+    }
+
+    // ==================== 写入 ====================
+
+    @Benchmark
+    public void directSet() {
+        user.setAge(value++);
+    }
+
+    @Benchmark
+    public void facadeSet() {
+        userOps.setAge(user, value++);
+    }
+
+    @Benchmark
+    public Object methodInvokerHelperSet() {
+        return methodInvokerHelper.invokeInt1(setAgeIndex, user, value++);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BeanFacadeBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
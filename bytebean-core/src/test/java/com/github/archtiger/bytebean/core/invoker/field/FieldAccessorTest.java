@@ -0,0 +1,167 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.BooleanFieldAccessor;
+import com.github.archtiger.bytebean.api.field.ByteFieldAccessor;
+import com.github.archtiger.bytebean.api.field.CharFieldAccessor;
+import com.github.archtiger.bytebean.api.field.DoubleFieldAccessor;
+import com.github.archtiger.bytebean.api.field.FieldAccessor;
+import com.github.archtiger.bytebean.api.field.FloatFieldAccessor;
+import com.github.archtiger.bytebean.api.field.IntFieldAccessor;
+import com.github.archtiger.bytebean.api.field.LongFieldAccessor;
+import com.github.archtiger.bytebean.api.field.ShortFieldAccessor;
+import com.github.archtiger.bytebean.core.invoker.entity.Field1000Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 单字段访问器测试
+ * <p>
+ * 测试包括：
+ * 1. 基本类型字段返回类型化访问器，无装箱读写
+ * 2. 引用类型字段的通用读写
+ * 3. 访问器缓存与生成类特征（final、单字段），能取得 Lookup 时定义为隐藏类
+ * 4. final 字段、类型不匹配、字段不存在的异常
+ */
+class FieldAccessorTest {
+
+    static class FinalFieldEntity {
+        final int id = 7;
+    }
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private TestEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(TestEntity.class);
+        entity = new TestEntity();
+    }
+
+    // ==================== 类型化访问器测试 ====================
+
+    @Test
+    void testPrimitiveAccessors() {
+        ByteFieldAccessor byteAccessor = fieldInvokerHelper.accessor("byteField", ByteFieldAccessor.class);
+        ShortFieldAccessor shortAccessor = fieldInvokerHelper.accessor("shortField", ShortFieldAccessor.class);
+        IntFieldAccessor intAccessor = fieldInvokerHelper.accessor("intField", IntFieldAccessor.class);
+        LongFieldAccessor longAccessor = fieldInvokerHelper.accessor("longField", LongFieldAccessor.class);
+        FloatFieldAccessor floatAccessor = fieldInvokerHelper.accessor("floatField", FloatFieldAccessor.class);
+        DoubleFieldAccessor doubleAccessor = fieldInvokerHelper.accessor("doubleField", DoubleFieldAccessor.class);
+        BooleanFieldAccessor booleanAccessor = fieldInvokerHelper.accessor("booleanField", BooleanFieldAccessor.class);
+        CharFieldAccessor charAccessor = fieldInvokerHelper.accessor("charField", CharFieldAccessor.class);
+
+        byteAccessor.setByte(entity, (byte) 1);
+        shortAccessor.setShort(entity, (short) 2);
+        intAccessor.setInt(entity, 3);
+        longAccessor.setLong(entity, 4L);
+        floatAccessor.setFloat(entity, 5.0f);
+        doubleAccessor.setDouble(entity, 6.0);
+        booleanAccessor.setBoolean(entity, true);
+        charAccessor.setChar(entity, '7');
+
+        assertEquals((byte) 1, entity.byteField);
+        assertEquals((short) 2, entity.shortField);
+        assertEquals(3, entity.intField);
+        assertEquals(4L, entity.longField);
+        assertEquals(5.0f, entity.floatField);
+        assertEquals(6.0, entity.doubleField);
+        assertTrue(entity.booleanField);
+        assertEquals('7', entity.charField);
+
+        assertEquals((byte) 1, byteAccessor.getByte(entity));
+        assertEquals((short) 2, shortAccessor.getShort(entity));
+        assertEquals(3, intAccessor.getInt(entity));
+        assertEquals(4L, longAccessor.getLong(entity));
+        assertEquals(5.0f, floatAccessor.getFloat(entity));
+        assertEquals(6.0, doubleAccessor.getDouble(entity));
+        assertTrue(booleanAccessor.getBoolean(entity));
+        assertEquals('7', charAccessor.getChar(entity));
+    }
+
+    @Test
+    void testPrimitiveAccessorBoxedMethods() {
+        FieldAccessor accessor = fieldInvokerHelper.accessor("intField");
+        accessor.set(entity, 42);
+        assertEquals(42, entity.intField);
+        assertEquals(42, accessor.get(entity));
+    }
+
+    // ==================== 引用类型访问器测试 ====================
+
+    @Test
+    void testReferenceAccessor() {
+        FieldAccessor accessor = fieldInvokerHelper.accessor("stringField");
+        assertFalse(accessor instanceof IntFieldAccessor);
+
+        accessor.set(entity, "value");
+        assertEquals("value", entity.stringField);
+        assertEquals("value", accessor.get(entity));
+
+        accessor.set(entity, null);
+        assertNull(accessor.get(entity));
+        assertThrows(ClassCastException.class, () -> accessor.set(entity, 1));
+    }
+
+    // ==================== 缓存与生成类测试 ====================
+
+    @Test
+    void testAccessorCachedAndFinal() {
+        FieldAccessor accessor = fieldInvokerHelper.accessor("intField");
+        assertSame(accessor, fieldInvokerHelper.accessor("intField"));
+        assertSame(accessor, fieldInvokerHelper.accessor(fieldInvokerHelper.getFieldGetterIndex("intField")));
+        assertTrue(Modifier.isFinal(accessor.getClass().getModifiers()));
+        assertTrue(accessor.getClass().getName().contains("$FieldAccessor$"));
+    }
+
+    @Test
+    void testAccessorClassHidden() throws Exception {
+        // 能取得完全权限Lookup时访问器定义为隐藏类，不注册到类加载器，缓存被回收后重新生成新的隐藏类而不会重名冲突
+        Field field = TestEntity.class.getDeclaredField("intField");
+        int index = fieldInvokerHelper.getFieldGetterIndex("intField");
+        Class<? extends FieldAccessor> accessorClass = FieldAccessorGenerator.make(TestEntity.class, field, index);
+        assertTrue(accessorClass.isHidden());
+        Class<? extends FieldAccessor> regenerated = FieldAccessorGenerator.make(TestEntity.class, field, index);
+        assertNotSame(accessorClass, regenerated);
+        TestEntity entity = new TestEntity();
+        entity.intField = 3;
+        assertEquals(3, regenerated.getDeclaredConstructor().newInstance().get(entity));
+    }
+
+    @Test
+    void testAccessorForShardedClass() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(Field1000Entity.class);
+        Field1000Entity bigEntity = new Field1000Entity();
+        FieldAccessor accessor = helper.accessor("field999");
+        accessor.set(bigEntity, 999);
+        assertEquals(999, bigEntity.field999);
+        assertEquals(999, accessor.get(bigEntity));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testFinalFieldAccessor() {
+        FinalFieldEntity finalEntity = new FinalFieldEntity();
+        IntFieldAccessor accessor = FieldInvokerHelper.of(FinalFieldEntity.class).accessor("id", IntFieldAccessor.class);
+        assertEquals(7, accessor.getInt(finalEntity));
+        assertThrows(IllegalArgumentException.class, () -> accessor.setInt(finalEntity, 1));
+        assertThrows(IllegalArgumentException.class, () -> accessor.set(finalEntity, 1));
+    }
+
+    @Test
+    void testAccessorTypeMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.accessor("intField", LongFieldAccessor.class));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.accessor("stringField", IntFieldAccessor.class));
+    }
+
+    @Test
+    void testAccessorFieldNotFound() {
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.accessor("notExist"));
+        assertThrows(IndexOutOfBoundsException.class, () -> fieldInvokerHelper.accessor(100));
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 原子与内存序字段操作测试
+ * <p>
+ * 测试包括：
+ * 1. volatile/acquire/release 读写
+ * 2. int、long、引用类型的 compareAndSet 与 getAndAdd
+ * 3. 多线程并发累加
+ * 4. 字段类型不匹配、final 字段的异常
+ * 5. 分片字节码与 VarHandle 实现的一致性
+ * 6. 生成类不在类初始化时查找 VarHandle
+ */
+class FieldAtomicAccessTest {
+
+    static class FinalFieldEntity {
+        final int id = 7;
+        final String name = "final";
+    }
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private TestEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(TestEntity.class);
+        entity = new TestEntity();
+    }
+
+    private int index(String fieldName) {
+        return fieldInvokerHelper.getFieldGetterIndexOrThrow(fieldName);
+    }
+
+    // ==================== 内存序读写测试 ====================
+
+    @Test
+    void testVolatileAndOrderedAccess() {
+        assertVolatileAndOrderedAccess(fieldInvokerHelper);
+        assertVolatileAndOrderedAccess(FieldVarHandleInvoker.of(TestEntity.class));
+    }
+
+    private void assertVolatileAndOrderedAccess(FieldInvoker invoker) {
+        TestEntity target = new TestEntity();
+        invoker.setVolatile(index("intField"), target, 10);
+        invoker.setRelease(index("doubleField"), target, 2.5d);
+        invoker.setVolatile(index("stringField"), target, "volatile");
+        invoker.setRelease(index("booleanField"), target, true);
+
+        assertEquals(10, invoker.getVolatile(index("intField"), target));
+        assertEquals(2.5d, invoker.getAcquire(index("doubleField"), target));
+        assertEquals("volatile", invoker.getAcquire(index("stringField"), target));
+        assertEquals(true, invoker.getVolatile(index("booleanField"), target));
+        assertEquals(10, target.intField);
+    }
+
+    // ==================== 原子操作测试 ====================
+
+    @Test
+    void testCompareAndSet() {
+        assertCompareAndSet(fieldInvokerHelper);
+        assertCompareAndSet(FieldVarHandleInvoker.of(TestEntity.class));
+    }
+
+    private void assertCompareAndSet(FieldInvoker invoker) {
+        TestEntity target = new TestEntity();
+        target.intField = 1;
+        target.longField = 2L;
+        String initial = "a";
+        target.stringField = initial;
+
+        assertTrue(invoker.compareAndSetInt(index("intField"), target, 1, 11));
+        assertFalse(invoker.compareAndSetInt(index("intField"), target, 1, 12));
+        assertEquals(11, target.intField);
+
+        assertTrue(invoker.compareAndSetLong(index("longField"), target, 2L, 22L));
+        assertFalse(invoker.compareAndSetLong(index("longField"), target, 2L, 23L));
+        assertEquals(22L, target.longField);
+
+        assertTrue(invoker.compareAndSetReference(index("stringField"), target, initial, "b"));
+        assertFalse(invoker.compareAndSetReference(index("stringField"), target, initial, "c"));
+        assertEquals("b", target.stringField);
+    }
+
+    @Test
+    void testGetAndAdd() {
+        entity.intField = 5;
+        entity.longField = 50L;
+
+        assertEquals(5, fieldInvokerHelper.getAndAddInt(index("intField"), entity, 3));
+        assertEquals(50L, fieldInvokerHelper.getAndAddLong(index("longField"), entity, 30L));
+        assertEquals(8, entity.intField);
+        assertEquals(80L, entity.longField);
+
+        FieldVarHandleInvoker varHandleInvoker = FieldVarHandleInvoker.of(TestEntity.class);
+        assertEquals(8, varHandleInvoker.getAndAddInt(index("intField"), entity, 2));
+        assertEquals(80L, varHandleInvoker.getAndAddLong(index("longField"), entity, 20L));
+        assertEquals(10, entity.intField);
+        assertEquals(100L, entity.longField);
+    }
+
+    @Test
+    void testConcurrentGetAndAdd() throws InterruptedException {
+        int threads = 4;
+        int iterations = 10_000;
+        int intIndex = index("intField");
+        List<Thread> workers = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    fieldInvokerHelper.getAndAddInt(intIndex, entity, 1);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * iterations, entity.intField);
+    }
+
+    @Test
+    void testShardedCompareAndSet() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(PrimitiveField1000Entity.class);
+        PrimitiveField1000Entity target = new PrimitiveField1000Entity();
+        int intIndex = helper.getFieldGetterIndexOrThrow("field200");
+        int longIndex = helper.getFieldGetterIndexOrThrow("field400");
+
+        assertTrue(helper.compareAndSetInt(intIndex, target, 0, 200));
+        assertEquals(0L, helper.getAndAddLong(longIndex, target, 400L));
+        assertEquals(200, target.field200);
+        assertEquals(400L, target.field400);
+        assertTrue(helper.compareAndSetInt(intIndex, target, 200, 201));
+        assertEquals(201, helper.getVolatile(intIndex, target));
+    }
+
+    @Test
+    void testVarHandlesResolvedLazily() throws Exception {
+        Class<? extends FieldInvoker> invokerClass = FieldInvokerGenerator.generate(TestEntity.class).fieldInvokerClass();
+        // VarHandle 以动态常量引用，生成类没有静态字段，也没有类初始化方法
+        assertTrue(Arrays.stream(invokerClass.getDeclaredFields()).noneMatch(f -> Modifier.isStatic(f.getModifiers())));
+
+        FieldInvoker invoker = invokerClass.getDeclaredConstructor().newInstance();
+        TestEntity target = new TestEntity();
+        assertTrue(invoker.compareAndSetInt(index("intField"), target, 0, 3));
+        assertEquals(3, invoker.getAndAddInt(index("intField"), target, 1));
+        assertEquals(4, target.intField);
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testTypeMismatch() {
+        assertTypeMismatch(fieldInvokerHelper);
+        assertTypeMismatch(FieldVarHandleInvoker.of(TestEntity.class));
+    }
+
+    private void assertTypeMismatch(FieldInvoker invoker) {
+        assertThrows(IllegalArgumentException.class,
+                () -> invoker.compareAndSetInt(index("longField"), entity, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> invoker.compareAndSetLong(index("intField"), entity, 0L, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> invoker.compareAndSetReference(index("intField"), entity, null, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> invoker.getAndAddInt(index("stringField"), entity, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> invoker.getAndAddLong(index("doubleField"), entity, 1L));
+    }
+
+    @Test
+    void testInvalidIndex() {
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.getVolatile(-1, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.setRelease(100, entity, 1));
+    }
+
+    @Test
+    void testFinalFieldRejected() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(FinalFieldEntity.class);
+        FieldVarHandleInvoker varHandleInvoker = FieldVarHandleInvoker.of(FinalFieldEntity.class);
+        FinalFieldEntity target = new FinalFieldEntity();
+        int idIndex = helper.getFieldGetterIndexOrThrow("id");
+        int nameIndex = helper.getFieldGetterIndexOrThrow("name");
+
+        assertEquals(7, helper.getVolatile(idIndex, target));
+        assertEquals("final", helper.getAcquire(nameIndex, target));
+        for (FieldInvoker invoker : new FieldInvoker[]{helper, varHandleInvoker}) {
+            assertThrows(IllegalArgumentException.class, () -> invoker.compareAndSetInt(idIndex, target, 7, 8));
+            assertThrows(IllegalArgumentException.class, () -> invoker.getAndAddInt(idIndex, target, 1));
+            assertThrows(IllegalArgumentException.class, () -> invoker.setVolatile(idIndex, target, 8));
+            assertThrows(IllegalArgumentException.class, () -> invoker.setRelease(nameIndex, target, "x"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> invoker.compareAndSetReference(nameIndex, target, "final", "x"));
+        }
+    }
+}
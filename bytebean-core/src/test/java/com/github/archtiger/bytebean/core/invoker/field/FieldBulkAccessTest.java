@@ -0,0 +1,303 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.invoker.entity.Field1000Entity;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 批量读写测试
+ * <p>
+ * 测试包括：
+ * 1. 缓冲区布局：基本类型槽位、原始位编码、引用类型槽位
+ * 2. 快照与恢复（字节码、分片字节码、VarHandle 三种实现）
+ * 3. final 字段跳过、缓冲区长度不足
+ * 4. 默认模式下存在可变 private 字段时拒绝快照与恢复，private final 字段不影响
+ */
+class FieldBulkAccessTest {
+
+    static class FinalFieldEntity {
+        final int id;
+        int count;
+        final String name;
+        String note;
+
+        FinalFieldEntity(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    static class PrivateStateEntity {
+        private int age;
+        public String name;
+
+        int age() {
+            return age;
+        }
+    }
+
+    static class PrivateFinalEntity {
+        private final int id = 7;
+        int count;
+    }
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private TestEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(TestEntity.class);
+        entity = new TestEntity();
+        entity.byteField = (byte) -1;
+        entity.shortField = (short) -2;
+        entity.intField = -3;
+        entity.longField = Long.MIN_VALUE;
+        entity.floatField = 1.5f;
+        entity.doubleField = -2.5d;
+        entity.booleanField = true;
+        entity.charField = Character.MAX_VALUE;
+        entity.stringField = "hello";
+        entity.integerField = 42;
+    }
+
+    private long[] prims(FieldInvokerHelper helper) {
+        return new long[helper.getPrimitiveSlotCount()];
+    }
+
+    private Object[] refs(FieldInvokerHelper helper) {
+        return new Object[helper.getReferenceSlotCount()];
+    }
+
+    private int primSlot(String fieldName) {
+        return fieldInvokerHelper.getFieldGetterIndexOrThrow(fieldName);
+    }
+
+    private int refSlot(String fieldName) {
+        return fieldInvokerHelper.getFieldGetterIndexOrThrow(fieldName) - fieldInvokerHelper.getPrimitiveSlotCount();
+    }
+
+    // ==================== 缓冲区布局测试 ====================
+
+    @Test
+    void testSlotCount() {
+        assertEquals(8, fieldInvokerHelper.getPrimitiveSlotCount());
+        assertEquals(2, fieldInvokerHelper.getReferenceSlotCount());
+    }
+
+    @Test
+    void testReadAllLayout() {
+        long[] prims = prims(fieldInvokerHelper);
+        Object[] refs = refs(fieldInvokerHelper);
+        fieldInvokerHelper.readAll(entity, prims, refs);
+
+        assertEquals(-1L, prims[primSlot("byteField")]);
+        assertEquals(-2L, prims[primSlot("shortField")]);
+        assertEquals(-3L, prims[primSlot("intField")]);
+        assertEquals(Long.MIN_VALUE, prims[primSlot("longField")]);
+        assertEquals(Float.floatToRawIntBits(1.5f), prims[primSlot("floatField")]);
+        assertEquals(Double.doubleToRawLongBits(-2.5d), prims[primSlot("doubleField")]);
+        assertEquals(1L, prims[primSlot("booleanField")]);
+        assertEquals(0xffffL, prims[primSlot("charField")]);
+        assertEquals("hello", refs[refSlot("stringField")]);
+        assertEquals(42, refs[refSlot("integerField")]);
+    }
+
+    @Test
+    void testVarHandleLayoutMatchesByteCode() {
+        long[] expectedPrims = prims(fieldInvokerHelper);
+        Object[] expectedRefs = refs(fieldInvokerHelper);
+        fieldInvokerHelper.readAll(entity, expectedPrims, expectedRefs);
+
+        long[] prims = prims(fieldInvokerHelper);
+        Object[] refs = refs(fieldInvokerHelper);
+        FieldVarHandleInvoker.of(TestEntity.class).readAll(entity, prims, refs);
+
+        assertArrayEquals(expectedPrims, prims);
+        assertArrayEquals(expectedRefs, refs);
+    }
+
+    // ==================== 快照与恢复测试 ====================
+
+    @Test
+    void testWriteAllRestoresSnapshot() {
+        long[] prims = prims(fieldInvokerHelper);
+        Object[] refs = refs(fieldInvokerHelper);
+        fieldInvokerHelper.readAll(entity, prims, refs);
+
+        TestEntity restored = new TestEntity();
+        fieldInvokerHelper.writeAll(restored, prims, refs);
+
+        assertEquals(entity.byteField, restored.byteField);
+        assertEquals(entity.shortField, restored.shortField);
+        assertEquals(entity.intField, restored.intField);
+        assertEquals(entity.longField, restored.longField);
+        assertEquals(entity.floatField, restored.floatField);
+        assertEquals(entity.doubleField, restored.doubleField);
+        assertEquals(entity.booleanField, restored.booleanField);
+        assertEquals(entity.charField, restored.charField);
+        assertEquals(entity.stringField, restored.stringField);
+        assertEquals(entity.integerField, restored.integerField);
+    }
+
+    @Test
+    void testVarHandleWriteAllRestoresSnapshot() {
+        FieldVarHandleInvoker invoker = FieldVarHandleInvoker.of(TestEntity.class);
+        long[] prims = prims(fieldInvokerHelper);
+        Object[] refs = refs(fieldInvokerHelper);
+        invoker.readAll(entity, prims, refs);
+
+        TestEntity restored = new TestEntity();
+        invoker.writeAll(restored, prims, refs);
+
+        assertEquals(entity.charField, restored.charField);
+        assertEquals(entity.booleanField, restored.booleanField);
+        assertEquals(entity.doubleField, restored.doubleField);
+        assertEquals(entity.stringField, restored.stringField);
+    }
+
+    @Test
+    void testNaNBitsPreserved() {
+        int floatBits = 0x7fc00001;
+        long doubleBits = 0x7ff8000000000001L;
+        entity.floatField = Float.intBitsToFloat(floatBits);
+        entity.doubleField = Double.longBitsToDouble(doubleBits);
+
+        long[] prims = prims(fieldInvokerHelper);
+        Object[] refs = refs(fieldInvokerHelper);
+        fieldInvokerHelper.readAll(entity, prims, refs);
+        TestEntity restored = new TestEntity();
+        fieldInvokerHelper.writeAll(restored, prims, refs);
+
+        assertEquals(floatBits, Float.floatToRawIntBits(restored.floatField));
+        assertEquals(doubleBits, Double.doubleToRawLongBits(restored.doubleField));
+    }
+
+    @Test
+    void testBooleanNonZeroIsTrue() {
+        long[] prims = prims(fieldInvokerHelper);
+        Object[] refs = refs(fieldInvokerHelper);
+        prims[primSlot("booleanField")] = 2L;
+
+        TestEntity restored = new TestEntity();
+        fieldInvokerHelper.writeAll(restored, prims, refs);
+        assertTrue(restored.booleanField);
+
+        TestEntity varHandleRestored = new TestEntity();
+        FieldVarHandleInvoker.of(TestEntity.class).writeAll(varHandleRestored, prims, refs);
+        assertTrue(varHandleRestored.booleanField);
+    }
+
+    @Test
+    void testShardedPrimitiveRoundTrip() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(PrimitiveField1000Entity.class);
+        PrimitiveField1000Entity source = new PrimitiveField1000Entity();
+        source.field1 = 1;
+        source.field250 = 250;
+        source.field251 = 251L;
+        source.field500 = 500L;
+        source.field501 = 501.5d;
+        source.field750 = 750.5d;
+        source.field751 = true;
+        source.field1000 = true;
+
+        long[] prims = prims(helper);
+        Object[] refs = refs(helper);
+        assertEquals(1000, prims.length);
+        assertEquals(0, refs.length);
+        helper.readAll(source, prims, refs);
+
+        PrimitiveField1000Entity restored = new PrimitiveField1000Entity();
+        helper.writeAll(restored, prims, refs);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(helper.get(i, source), helper.get(i, restored), "index " + i);
+        }
+    }
+
+    @Test
+    void testShardedReferenceRoundTrip() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(Field1000Entity.class);
+        Field1000Entity source = new Field1000Entity();
+        source.field1 = 1;
+        source.field300 = "300";
+        source.field999 = 999;
+        source.field1000 = 1000;
+
+        long[] prims = prims(helper);
+        Object[] refs = refs(helper);
+        assertEquals(0, prims.length);
+        assertEquals(1000, refs.length);
+        helper.readAll(source, prims, refs);
+
+        Field1000Entity restored = new Field1000Entity();
+        helper.writeAll(restored, prims, refs);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(helper.get(i, source), helper.get(i, restored), "index " + i);
+        }
+    }
+
+    // ==================== 异常与边界测试 ====================
+
+    @Test
+    void testFinalFieldsSkipped() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(FinalFieldEntity.class);
+        FinalFieldEntity source = new FinalFieldEntity(1, "source");
+        source.count = 2;
+        source.note = "note";
+
+        long[] prims = prims(helper);
+        Object[] refs = refs(helper);
+        helper.readAll(source, prims, refs);
+
+        FinalFieldEntity restored = new FinalFieldEntity(9, "restored");
+        helper.writeAll(restored, prims, refs);
+        assertEquals(9, restored.id);
+        assertEquals("restored", restored.name);
+        assertEquals(2, restored.count);
+        assertEquals("note", restored.note);
+
+        FinalFieldEntity varHandleRestored = new FinalFieldEntity(9, "restored");
+        FieldVarHandleInvoker.of(FinalFieldEntity.class).writeAll(varHandleRestored, prims, refs);
+        assertEquals(9, varHandleRestored.id);
+        assertEquals("restored", varHandleRestored.name);
+        assertEquals(2, varHandleRestored.count);
+        assertEquals("note", varHandleRestored.note);
+    }
+
+    @Test
+    void testBufferTooShort() {
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> fieldInvokerHelper.readAll(entity, new long[1], refs(fieldInvokerHelper)));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> fieldInvokerHelper.readAll(entity, prims(fieldInvokerHelper), new Object[0]));
+    }
+
+    @Test
+    void testPrivateStateRejected() {
+        // 默认模式下 private 字段不在索引空间内，快照会静默丢失 age，因此直接拒绝
+        FieldInvokerHelper helper = FieldInvokerHelper.of(PrivateStateEntity.class);
+        PrivateStateEntity source = new PrivateStateEntity();
+        source.age = 30;
+        source.name = "user";
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> helper.readAll(source, prims(helper), refs(helper)));
+        assertTrue(e.getMessage().contains("PrivateStateEntity.age"));
+        assertThrows(IllegalStateException.class, () -> helper.writeAll(source, prims(helper), refs(helper)));
+        assertEquals(30, source.age());
+
+        // private final 字段不参与恢复，不影响快照
+        FieldInvokerHelper finalHelper = FieldInvokerHelper.of(PrivateFinalEntity.class);
+        PrivateFinalEntity entity = new PrivateFinalEntity();
+        entity.count = 3;
+        long[] prims = prims(finalHelper);
+        Object[] refs = refs(finalHelper);
+        finalHelper.readAll(entity, prims, refs);
+        PrivateFinalEntity restored = new PrivateFinalEntity();
+        finalHelper.writeAll(restored, prims, refs);
+        assertEquals(3, restored.count);
+    }
+}
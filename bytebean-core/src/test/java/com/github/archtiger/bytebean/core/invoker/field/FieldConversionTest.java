@@ -0,0 +1,195 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 基本类型拓宽读取与带检查窄化写入测试
+ * <p>
+ * 测试包括：
+ * 1. 类型化 getter 按 JLS 5.1.2 拓宽读取更窄的数值字段
+ * 2. 类型化 setter 拓宽写入更宽的数值字段
+ * 3. 类型化 setter 带检查地窄化写入更窄的整数字段，超出范围时抛出异常；double 舍入写入 float 字段，仅溢出时抛出异常
+ * 4. 无法转换的类型组合（boolean、浮点到整数）仍抛出异常
+ * 5. 分片字节码、VarHandle 与偏移量实现的一致性
+ */
+class FieldConversionTest {
+
+    private TestEntity entity;
+    private FieldInvokerHelper fieldInvokerHelper;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(TestEntity.class);
+        entity = new TestEntity();
+        entity.byteField = (byte) -1;
+        entity.shortField = (short) -2;
+        entity.intField = -3;
+        entity.longField = Long.MAX_VALUE;
+        entity.floatField = 1.5f;
+        entity.doubleField = -2.5d;
+        entity.booleanField = true;
+        entity.charField = Character.MAX_VALUE;
+    }
+
+    private int index(String name) {
+        return fieldInvokerHelper.getFieldGetterIndex(name);
+    }
+
+    // ==================== 拓宽读取测试 ====================
+
+    @Test
+    void testWideningGetters() {
+        assertWideningGetters(fieldInvokerHelper);
+        assertWideningGetters(FieldVarHandleInvoker.of(TestEntity.class));
+        assertWideningGetters(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertWideningGetters(FieldInvoker invoker) {
+        assertEquals((short) -1, invoker.getShort(index("byteField"), entity));
+
+        assertEquals(-1, invoker.getInt(index("byteField"), entity));
+        assertEquals(-2, invoker.getInt(index("shortField"), entity));
+        assertEquals(Character.MAX_VALUE, invoker.getInt(index("charField"), entity));
+
+        assertEquals(-1L, invoker.getLong(index("byteField"), entity));
+        assertEquals(-3L, invoker.getLong(index("intField"), entity));
+        assertEquals((long) Character.MAX_VALUE, invoker.getLong(index("charField"), entity));
+
+        assertEquals(-3f, invoker.getFloat(index("intField"), entity));
+        assertEquals((float) Long.MAX_VALUE, invoker.getFloat(index("longField"), entity));
+
+        assertEquals(-2d, invoker.getDouble(index("shortField"), entity));
+        assertEquals((double) Long.MAX_VALUE, invoker.getDouble(index("longField"), entity));
+        assertEquals(1.5d, invoker.getDouble(index("floatField"), entity));
+        assertEquals((double) Character.MAX_VALUE, invoker.getDouble(index("charField"), entity));
+    }
+
+    @Test
+    void testNonWideningGetters() {
+        assertNonWideningGetters(fieldInvokerHelper);
+        assertNonWideningGetters(FieldVarHandleInvoker.of(TestEntity.class));
+        assertNonWideningGetters(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertNonWideningGetters(FieldInvoker invoker) {
+        assertThrows(IllegalArgumentException.class, () -> invoker.getShort(index("charField"), entity));
+        assertThrows(IllegalArgumentException.class, () -> invoker.getInt(index("longField"), entity));
+        assertThrows(IllegalArgumentException.class, () -> invoker.getLong(index("floatField"), entity));
+        assertThrows(IllegalArgumentException.class, () -> invoker.getDouble(index("booleanField"), entity));
+        assertThrows(IllegalArgumentException.class, () -> invoker.getChar(index("byteField"), entity));
+    }
+
+    // ==================== 拓宽写入测试 ====================
+
+    @Test
+    void testWideningSetters() {
+        assertWideningSetters(fieldInvokerHelper);
+        assertWideningSetters(FieldVarHandleInvoker.of(TestEntity.class));
+        assertWideningSetters(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertWideningSetters(FieldInvoker invoker) {
+        invoker.setByte(index("longField"), entity, (byte) -7);
+        assertEquals(-7L, entity.longField);
+
+        invoker.setChar(index("intField"), entity, 'A');
+        assertEquals('A', entity.intField);
+
+        invoker.setInt(index("doubleField"), entity, 42);
+        assertEquals(42d, entity.doubleField);
+
+        invoker.setLong(index("floatField"), entity, 1L << 40);
+        assertEquals((float) (1L << 40), entity.floatField);
+
+        invoker.setFloat(index("doubleField"), entity, 0.25f);
+        assertEquals(0.25d, entity.doubleField);
+    }
+
+    // ==================== 带检查窄化写入测试 ====================
+
+    @Test
+    void testCheckedNarrowingSetters() {
+        assertCheckedNarrowingSetters(fieldInvokerHelper);
+        assertCheckedNarrowingSetters(FieldVarHandleInvoker.of(TestEntity.class));
+        assertCheckedNarrowingSetters(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertCheckedNarrowingSetters(FieldInvoker invoker) {
+        invoker.setLong(index("intField"), entity, Integer.MIN_VALUE);
+        assertEquals(Integer.MIN_VALUE, entity.intField);
+        invoker.setLong(index("byteField"), entity, -128L);
+        assertEquals((byte) -128, entity.byteField);
+        invoker.setInt(index("charField"), entity, 0xFFFF);
+        assertEquals(Character.MAX_VALUE, entity.charField);
+        invoker.setShort(index("byteField"), entity, (short) 127);
+        assertEquals((byte) 127, entity.byteField);
+        invoker.setDouble(index("floatField"), entity, 0.5d);
+        assertEquals(0.5f, entity.floatField);
+        invoker.setDouble(index("floatField"), entity, Double.NaN);
+        assertTrue(Float.isNaN(entity.floatField));
+        // 与 setLong 写入 float 字段一致，按舍入规则写入最接近的 float
+        invoker.setDouble(index("floatField"), entity, 0.1d);
+        assertEquals(0.1f, entity.floatField);
+        invoker.setDouble(index("floatField"), entity, Double.MIN_VALUE);
+        assertEquals(0f, entity.floatField);
+        invoker.setDouble(index("floatField"), entity, Double.NEGATIVE_INFINITY);
+        assertEquals(Float.NEGATIVE_INFINITY, entity.floatField);
+
+        entity.intField = 9;
+        assertThrows(IllegalArgumentException.class, () -> invoker.setLong(index("intField"), entity, 1L << 31));
+        assertEquals(9, entity.intField);
+        assertThrows(IllegalArgumentException.class, () -> invoker.setInt(index("byteField"), entity, 128));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setInt(index("charField"), entity, -1));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setByte(index("charField"), entity, (byte) -1));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setChar(index("shortField"), entity, Character.MAX_VALUE));
+        // 有限值溢出 float 范围
+        assertThrows(IllegalArgumentException.class, () -> invoker.setDouble(index("floatField"), entity, 1e39d));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setDouble(index("floatField"), entity, -Double.MAX_VALUE));
+        assertEquals(Float.NEGATIVE_INFINITY, entity.floatField);
+    }
+
+    @Test
+    void testUnsupportedConversions() {
+        assertUnsupportedConversions(fieldInvokerHelper);
+        assertUnsupportedConversions(FieldVarHandleInvoker.of(TestEntity.class));
+        assertUnsupportedConversions(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertUnsupportedConversions(FieldInvoker invoker) {
+        assertThrows(IllegalArgumentException.class, () -> invoker.setDouble(index("intField"), entity, 1d));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setFloat(index("longField"), entity, 1f));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setInt(index("booleanField"), entity, 1));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setBoolean(index("intField"), entity, true));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setLong(index("stringField"), entity, 1L));
+    }
+
+    // ==================== 分片测试 ====================
+
+    @Test
+    void testShardedConversions() {
+        assertShardedConversions(FieldInvokerHelper.of(PrimitiveField1000Entity.class));
+        assertShardedConversions(FieldVarHandleInvoker.of(PrimitiveField1000Entity.class));
+        assertShardedConversions(FieldUnsafeInvoker.of(PrimitiveField1000Entity.class));
+    }
+
+    private void assertShardedConversions(FieldInvoker invoker) {
+        PrimitiveField1000Entity target = new PrimitiveField1000Entity();
+        FieldInvokerHelper helper = FieldInvokerHelper.of(PrimitiveField1000Entity.class);
+        int intIndex = helper.getFieldGetterIndex("field1");
+        int longIndex = helper.getFieldGetterIndex("field251");
+
+        invoker.setLong(intIndex, target, 7L);
+        assertEquals(7L, invoker.getLong(intIndex, target));
+        assertEquals(7d, invoker.getDouble(intIndex, target));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setLong(intIndex, target, Long.MAX_VALUE));
+
+        invoker.setInt(longIndex, target, -5);
+        assertEquals(-5d, invoker.getDouble(longIndex, target));
+        assertThrows(IllegalArgumentException.class, () -> invoker.getInt(longIndex, target));
+    }
+}
@@ -0,0 +1,215 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 字段复制与浅拷贝测试
+ * <p>
+ * 测试包括：
+ * 1. copyFields 复制全部字段，引用类型只复制引用
+ * 2. shallowClone 创建新实例并复制字段
+ * 3. final 字段跳过、缺少无参构造器、类型不匹配的处理
+ * 4. 分片字节码、VarHandle 与偏移量实现的一致性
+ * 5. 默认模式下存在可变 private 字段（含父类）时拒绝复制与克隆
+ */
+class FieldCopyTest {
+
+    static class FinalFieldEntity {
+        final int id;
+        int count;
+        final String name;
+        String note;
+
+        FinalFieldEntity() {
+            this(0, "default");
+        }
+
+        FinalFieldEntity(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    static class NoDefaultConstructorEntity {
+        int value;
+
+        NoDefaultConstructorEntity(int value) {
+            this.value = value;
+        }
+    }
+
+    static class User {
+        private int age;
+        public String name;
+
+        int age() {
+            return age;
+        }
+    }
+
+    static class Admin extends User {
+        public String role;
+    }
+
+    private TestEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        entity = new TestEntity();
+        entity.byteField = (byte) -1;
+        entity.shortField = (short) -2;
+        entity.intField = -3;
+        entity.longField = Long.MIN_VALUE;
+        entity.floatField = 1.5f;
+        entity.doubleField = -2.5d;
+        entity.booleanField = true;
+        entity.charField = Character.MAX_VALUE;
+        entity.stringField = "hello";
+        entity.integerField = 42;
+    }
+
+    private void assertSameFields(TestEntity expected, TestEntity actual) {
+        assertEquals(expected.byteField, actual.byteField);
+        assertEquals(expected.shortField, actual.shortField);
+        assertEquals(expected.intField, actual.intField);
+        assertEquals(expected.longField, actual.longField);
+        assertEquals(expected.floatField, actual.floatField);
+        assertEquals(expected.doubleField, actual.doubleField);
+        assertEquals(expected.booleanField, actual.booleanField);
+        assertEquals(expected.charField, actual.charField);
+        assertSame(expected.stringField, actual.stringField);
+        assertSame(expected.integerField, actual.integerField);
+    }
+
+    // ==================== 复制测试 ====================
+
+    @Test
+    void testCopyFields() {
+        assertCopyFields(FieldInvokerHelper.of(TestEntity.class));
+        assertCopyFields(FieldVarHandleInvoker.of(TestEntity.class));
+        assertCopyFields(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertCopyFields(FieldInvoker invoker) {
+        TestEntity target = new TestEntity();
+        invoker.copyFields(entity, target);
+        assertSameFields(entity, target);
+    }
+
+    @Test
+    void testShallowClone() {
+        assertShallowClone(FieldInvokerHelper.of(TestEntity.class));
+        assertShallowClone(FieldVarHandleInvoker.of(TestEntity.class));
+        assertShallowClone(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertShallowClone(FieldInvoker invoker) {
+        Object clone = invoker.shallowClone(entity);
+        assertInstanceOf(TestEntity.class, clone);
+        assertNotSame(entity, clone);
+        assertSameFields(entity, (TestEntity) clone);
+    }
+
+    // ==================== final 字段与构造器测试 ====================
+
+    @Test
+    void testFinalFieldsSkipped() {
+        assertFinalFieldsSkipped(FieldInvokerHelper.of(FinalFieldEntity.class));
+        assertFinalFieldsSkipped(FieldVarHandleInvoker.of(FinalFieldEntity.class));
+        assertFinalFieldsSkipped(FieldUnsafeInvoker.of(FinalFieldEntity.class));
+    }
+
+    private void assertFinalFieldsSkipped(FieldInvoker invoker) {
+        FinalFieldEntity source = new FinalFieldEntity(7, "source");
+        source.count = 3;
+        source.note = "note";
+
+        FinalFieldEntity target = new FinalFieldEntity(8, "target");
+        invoker.copyFields(source, target);
+        assertEquals(8, target.id);
+        assertEquals("target", target.name);
+        assertEquals(3, target.count);
+        assertEquals("note", target.note);
+
+        FinalFieldEntity clone = (FinalFieldEntity) invoker.shallowClone(source);
+        assertEquals(0, clone.id);
+        assertEquals("default", clone.name);
+        assertEquals(3, clone.count);
+        assertEquals("note", clone.note);
+    }
+
+    @Test
+    void testNoDefaultConstructor() {
+        NoDefaultConstructorEntity source = new NoDefaultConstructorEntity(5);
+        assertThrows(IllegalStateException.class, () -> FieldInvokerHelper.of(NoDefaultConstructorEntity.class).shallowClone(source));
+        assertThrows(IllegalStateException.class, () -> FieldVarHandleInvoker.of(NoDefaultConstructorEntity.class).shallowClone(source));
+        assertThrows(IllegalStateException.class, () -> FieldUnsafeInvoker.of(NoDefaultConstructorEntity.class).shallowClone(source));
+
+        NoDefaultConstructorEntity target = new NoDefaultConstructorEntity(0);
+        FieldInvokerHelper.of(NoDefaultConstructorEntity.class).copyFields(source, target);
+        assertEquals(5, target.value);
+    }
+
+    @Test
+    void testTypeMismatch() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(TestEntity.class);
+        assertThrows(ClassCastException.class, () -> helper.copyFields(entity, "not entity"));
+        assertThrows(ClassCastException.class, () -> helper.shallowClone("not entity"));
+    }
+
+    // ==================== 索引空间外的字段 ====================
+
+    @Test
+    void testPrivateStateRejected() {
+        // 默认模式下 private 字段不在索引空间内，复制与克隆会静默丢失 age，因此直接拒绝
+        FieldInvokerHelper helper = FieldInvokerHelper.of(User.class);
+        User source = new User();
+        source.age = 30;
+        source.name = "user";
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> helper.copyFields(source, new User()));
+        assertTrue(e.getMessage().contains("User.age"));
+        assertTrue(e.getMessage().contains("bytebean.private.access"));
+        assertThrows(IllegalStateException.class, () -> helper.shallowClone(source));
+
+        // 父类中的 private 字段同样会被遗漏
+        FieldInvokerHelper adminHelper = FieldInvokerHelper.of(Admin.class);
+        assertThrows(IllegalStateException.class, () -> adminHelper.shallowClone(new Admin()));
+        assertEquals(30, source.age());
+    }
+
+    // ==================== 分片测试 ====================
+
+    @Test
+    void testShardedCopyAndClone() {
+        assertShardedCopyAndClone(FieldInvokerHelper.of(PrimitiveField1000Entity.class));
+        assertShardedCopyAndClone(FieldVarHandleInvoker.of(PrimitiveField1000Entity.class));
+        assertShardedCopyAndClone(FieldUnsafeInvoker.of(PrimitiveField1000Entity.class));
+    }
+
+    private void assertShardedCopyAndClone(FieldInvoker invoker) {
+        PrimitiveField1000Entity source = new PrimitiveField1000Entity();
+        source.field1 = 1;
+        source.field250 = 250;
+        source.field251 = 251L;
+        source.field500 = 500L;
+        source.field501 = 501.5d;
+        source.field750 = 750.5d;
+        source.field751 = true;
+        source.field1000 = true;
+
+        PrimitiveField1000Entity copy = new PrimitiveField1000Entity();
+        invoker.copyFields(source, copy);
+        Object clone = invoker.shallowClone(source);
+        assertInstanceOf(PrimitiveField1000Entity.class, clone);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(invoker.get(i, source), invoker.get(i, copy), "index " + i);
+            assertEquals(invoker.get(i, source), invoker.get(i, clone), "index " + i);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.BooleanFieldAccessor;
+import com.github.archtiger.bytebean.api.field.CharFieldAccessor;
+import com.github.archtiger.bytebean.api.field.DoubleFieldAccessor;
+import com.github.archtiger.bytebean.api.field.IntFieldAccessor;
+import com.github.archtiger.bytebean.api.field.LongFieldAccessor;
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 列式字段提取测试
+ * <p>
+ * 测试包括：
+ * 1. 访问器生成的数组与列表区间提取循环
+ * 2. 数组、随机访问列表、链表来源的顺序提取
+ * 3. 超过拆分粒度时在指定线程池上并行提取
+ * 4. 结果数组长度不足、元素类型不匹配的异常
+ */
+class FieldExtractorTest {
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private TestEntity[] entities;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(TestEntity.class);
+        entities = entities(100);
+    }
+
+    private static TestEntity[] entities(int size) {
+        TestEntity[] result = new TestEntity[size];
+        for (int i = 0; i < size; i++) {
+            TestEntity entity = new TestEntity();
+            entity.intField = i;
+            entity.longField = i * 10L;
+            entity.doubleField = i + 0.5d;
+            entity.booleanField = (i & 1) == 0;
+            entity.charField = (char) ('a' + i % 26);
+            result[i] = entity;
+        }
+        return result;
+    }
+
+    // ==================== 区间提取测试 ====================
+
+    @Test
+    void testAccessorRangeExtraction() {
+        IntFieldAccessor accessor = fieldInvokerHelper.accessor("intField", IntFieldAccessor.class);
+        int[] dest = new int[12];
+        accessor.getInts(entities, 10, 20, dest, 2);
+
+        assertEquals(0, dest[0]);
+        assertEquals(0, dest[1]);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(10 + i, dest[2 + i]);
+        }
+    }
+
+    @Test
+    void testAccessorListRangeExtraction() {
+        IntFieldAccessor accessor = fieldInvokerHelper.accessor("intField", IntFieldAccessor.class);
+        int[] fromArrayList = new int[10];
+        accessor.getInts(new ArrayList<>(Arrays.asList(entities)), 30, 40, fromArrayList, 0);
+        int[] fromLinkedList = new int[11];
+        accessor.getInts(new LinkedList<>(Arrays.asList(entities)), 30, 40, fromLinkedList, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(30 + i, fromArrayList[i]);
+            assertEquals(30 + i, fromLinkedList[1 + i]);
+        }
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> accessor.getInts(Arrays.asList(entities), 95, 105, new int[10], 0));
+    }
+
+    @Test
+    void testAccessorEmptyRange() {
+        LongFieldAccessor accessor = fieldInvokerHelper.accessor("longField", LongFieldAccessor.class);
+        long[] dest = new long[0];
+        assertDoesNotThrow(() -> accessor.getLongs(entities, 5, 5, dest, 0));
+    }
+
+    // ==================== 顺序提取测试 ====================
+
+    @Test
+    void testExtractFromArray() {
+        DoubleFieldAccessor accessor = fieldInvokerHelper.accessor("doubleField", DoubleFieldAccessor.class);
+        double[] dest = new double[entities.length];
+        FieldExtractor.extract(accessor, entities, dest);
+
+        for (int i = 0; i < entities.length; i++) {
+            assertEquals(i + 0.5d, dest[i]);
+        }
+    }
+
+    @Test
+    void testExtractFromList() {
+        BooleanFieldAccessor booleanAccessor = fieldInvokerHelper.accessor("booleanField", BooleanFieldAccessor.class);
+        CharFieldAccessor charAccessor = fieldInvokerHelper.accessor("charField", CharFieldAccessor.class);
+        List<TestEntity> arrayList = new ArrayList<>(Arrays.asList(entities));
+        List<TestEntity> linkedList = new LinkedList<>(Arrays.asList(entities));
+
+        boolean[] booleans = new boolean[entities.length];
+        FieldExtractor.extract(booleanAccessor, arrayList, booleans);
+        char[] chars = new char[entities.length];
+        FieldExtractor.extract(charAccessor, linkedList, chars);
+
+        for (int i = 0; i < entities.length; i++) {
+            assertEquals((i & 1) == 0, booleans[i]);
+            assertEquals((char) ('a' + i % 26), chars[i]);
+        }
+    }
+
+    // ==================== 并行提取测试 ====================
+
+    @Test
+    void testParallelExtract() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        int size = ByteBeanConstant.EXTRACT_PARALLEL_SPLIT_SIZE * 4 + 7;
+        TestEntity[] large = entities(size);
+        IntFieldAccessor accessor = fieldInvokerHelper.accessor("intField", IntFieldAccessor.class);
+
+        int[] fromArray = new int[size];
+        FieldExtractor.parallelExtract(accessor, large, fromArray, pool);
+        int[] fromList = new int[size];
+        FieldExtractor.parallelExtract(accessor, Arrays.asList(large), fromList, pool);
+        int[] fromLinkedList = new int[size];
+        FieldExtractor.parallelExtract(accessor, new LinkedList<>(Arrays.asList(large)), fromLinkedList, pool);
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, fromArray[i]);
+            assertEquals(i, fromList[i]);
+            assertEquals(i, fromLinkedList[i]);
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    void testParallelExtractSmallInput() {
+        LongFieldAccessor accessor = fieldInvokerHelper.accessor("longField", LongFieldAccessor.class);
+        long[] dest = new long[entities.length];
+        FieldExtractor.parallelExtract(accessor, entities, dest, ForkJoinPool.commonPool());
+
+        for (int i = 0; i < entities.length; i++) {
+            assertEquals(i * 10L, dest[i]);
+        }
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testDestinationTooShort() {
+        IntFieldAccessor accessor = fieldInvokerHelper.accessor("intField", IntFieldAccessor.class);
+        assertThrows(IllegalArgumentException.class,
+                () -> FieldExtractor.extract(accessor, entities, new int[entities.length - 1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> FieldExtractor.parallelExtract(accessor, Arrays.asList(entities), new int[0], ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void testWrongElementType() {
+        IntFieldAccessor accessor = fieldInvokerHelper.accessor("intField", IntFieldAccessor.class);
+        Object[] source = {new TestEntity(), "not an entity"};
+        assertThrows(ClassCastException.class, () -> FieldExtractor.extract(accessor, source, new int[2]));
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.constant.ExceptionCode;
+import com.github.archtiger.bytebean.core.invoker.entity.BaseEntity;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 继承字段访问测试
+ * <p>
+ * 测试包括：
+ * 1. 父类字段展开到同一索引空间
+ * 2. 跨包父类仅暴露 public 字段
+ * 3. 字段遮蔽时按名称查找以子类为准，并可按声明类访问父类字段
+ * 4. VarHandle 回退路径同样支持继承字段
+ */
+class FieldInheritanceTest {
+
+    static class Parent extends BaseEntity {
+        int count;
+        String name;
+        protected double score;
+    }
+
+    static class Child extends Parent {
+        String name;
+        final int level = 3;
+    }
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private Child child;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(Child.class);
+        child = new Child();
+    }
+
+    // ==================== 字段收集测试 ====================
+
+    @Test
+    void testInheritedFieldsCollected() {
+        List<Field> fields = ByteBeanReflectUtil.getFields(Child.class);
+        List<String> names = fields.stream().map(f -> f.getDeclaringClass().getSimpleName() + "." + f.getName()).toList();
+
+        assertTrue(names.contains("Child.name"));
+        assertTrue(names.contains("Child.level"));
+        assertTrue(names.contains("Parent.count"));
+        assertTrue(names.contains("Parent.name"));
+        assertTrue(names.contains("Parent.score"));
+        assertTrue(names.contains("BaseEntity.id"));
+        assertTrue(names.contains("BaseEntity.version"));
+
+        // 跨包父类的 protected/包私有字段对调用器不可见
+        assertFalse(names.contains("BaseEntity.createdBy"));
+        assertFalse(names.contains("BaseEntity.remark"));
+        assertEquals(7, fields.size());
+    }
+
+    // ==================== 读写测试 ====================
+
+    @Test
+    void testGetSetInheritedFields() {
+        int countIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("count");
+        int idIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("id");
+        int versionIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("version");
+        int scoreIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("score");
+
+        fieldInvokerHelper.setInt(countIndex, child, 7);
+        fieldInvokerHelper.set(idIndex, child, 100L);
+        fieldInvokerHelper.setLong(versionIndex, child, 2L);
+        fieldInvokerHelper.set(scoreIndex, child, 9.5);
+
+        assertEquals(7, child.count);
+        assertEquals(100L, child.id);
+        assertEquals(2L, child.version);
+        assertEquals(9.5, child.score);
+        assertEquals(7, fieldInvokerHelper.getInt(countIndex, child));
+        assertEquals(100L, fieldInvokerHelper.get(idIndex, child));
+        assertEquals(2L, fieldInvokerHelper.getLong(versionIndex, child));
+    }
+
+    @Test
+    void testShadowedFieldResolvesToMostDerived() {
+        int childNameIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("name");
+        int parentNameIndex = fieldInvokerHelper.getFieldSetterIndex(Parent.class, "name");
+
+        assertEquals(childNameIndex, fieldInvokerHelper.getFieldGetterIndex(Child.class, "name"));
+        assertNotEquals(childNameIndex, parentNameIndex);
+
+        fieldInvokerHelper.set(childNameIndex, child, "child");
+        fieldInvokerHelper.set(parentNameIndex, child, "parent");
+
+        assertEquals("child", child.name);
+        assertEquals("parent", ((Parent) child).name);
+        assertEquals("child", fieldInvokerHelper.get(childNameIndex, child));
+        assertEquals("parent", fieldInvokerHelper.get(parentNameIndex, child));
+    }
+
+    @Test
+    void testDeclaringClassLookupNotFound() {
+        assertEquals(ExceptionCode.INVALID_INDEX, fieldInvokerHelper.getFieldGetterIndex(Parent.class, "level"));
+        assertEquals(ExceptionCode.INVALID_INDEX, fieldInvokerHelper.getFieldSetterIndex(Child.class, "level"));
+        assertEquals(ExceptionCode.INVALID_INDEX, fieldInvokerHelper.getFieldGetterIndex(BaseEntity.class, "remark"));
+    }
+
+    @Test
+    void testParentInstanceUsesOwnFields() {
+        FieldInvokerHelper parentHelper = FieldInvokerHelper.of(Parent.class);
+        Parent parent = new Parent();
+        int nameIndex = parentHelper.getFieldSetterIndexOrThrow("name");
+        parentHelper.set(nameIndex, parent, "p");
+        assertEquals("p", parent.name);
+    }
+
+    // ==================== VarHandle 回退测试 ====================
+
+    @Test
+    void testVarHandleInvokerInheritedFields() {
+        FieldVarHandleInvoker varHandleInvoker = FieldVarHandleInvoker.of(Child.class);
+        int countIndex = fieldInvokerHelper.getFieldGetterIndex("count");
+        int idIndex = fieldInvokerHelper.getFieldGetterIndex("id");
+        int parentNameIndex = fieldInvokerHelper.getFieldGetterIndex(Parent.class, "name");
+
+        varHandleInvoker.setInt(countIndex, child, 5);
+        varHandleInvoker.set(idIndex, child, 1L);
+        varHandleInvoker.set(parentNameIndex, child, "parent");
+
+        assertEquals(5, child.count);
+        assertEquals(1L, child.id);
+        assertEquals("parent", ((Parent) child).name);
+        assertNull(child.name);
+    }
+}
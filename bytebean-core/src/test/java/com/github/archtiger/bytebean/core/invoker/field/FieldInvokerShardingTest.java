@@ -0,0 +1,120 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.invoker.entity.Field1000Entity;
+import com.github.archtiger.bytebean.core.model.ShardInvokerResult;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分片字段访问器测试
+ * <p>
+ * 测试包括：
+ * 1. 超过阈值的类生成分片调度器
+ * 2. 跨分片边界的 get/set
+ * 3. 索引越界异常
+ */
+class FieldInvokerShardingTest {
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private Field1000Entity entity;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(Field1000Entity.class);
+        entity = new Field1000Entity();
+    }
+
+    // ==================== 分片生成测试 ====================
+
+    @Test
+    void testShardClassesGenerated() {
+        ShardInvokerResult<FieldInvoker> result = FieldInvokerShardingGenerator.generate(Field1000Entity.class);
+        assertTrue(result.ok());
+
+        int shardSize = 1 << ByteBeanConstant.FIELD_SHARD_SHIFT;
+        assertEquals((1000 + shardSize - 1) / shardSize, result.shardClasses().size());
+        assertNotNull(result.dispatcherClass());
+    }
+
+    @Test
+    void testShardCacheReused() {
+        assertSame(FieldInvokerShardingGenerator.generate(Field1000Entity.class),
+                FieldInvokerShardingGenerator.generate(Field1000Entity.class));
+    }
+
+    // ==================== 读写测试 ====================
+
+    @Test
+    void testGetSetIntegerFields() {
+        for (int i = 1; i <= 100; i++) {
+            int index = fieldInvokerHelper.getFieldSetterIndexOrThrow("field" + i);
+            fieldInvokerHelper.set(index, entity, i);
+        }
+        for (int i = 901; i <= 1000; i++) {
+            int index = fieldInvokerHelper.getFieldSetterIndexOrThrow("field" + i);
+            fieldInvokerHelper.set(index, entity, i);
+        }
+
+        assertEquals(1, entity.getField1());
+        assertEquals(100, entity.getField100());
+        assertEquals(1000, entity.getField1000());
+
+        for (int i = 901; i <= 1000; i++) {
+            int index = fieldInvokerHelper.getFieldGetterIndexOrThrow("field" + i);
+            assertEquals(i, fieldInvokerHelper.get(index, entity));
+        }
+    }
+
+    @Test
+    void testGetAllFieldsMatchReflection() throws IllegalAccessException {
+        List<Field> fields = ByteBeanReflectUtil.getFields(Field1000Entity.class);
+        entity.setField250("s250");
+        entity.setField500(Boolean.TRUE);
+        entity.setField750((short) 750);
+        entity.setField850((byte) 85);
+
+        // 逐个索引比对，覆盖所有分片及分片边界
+        for (int i = 0; i < fields.size(); i++) {
+            assertEquals(fields.get(i).get(entity), fieldInvokerHelper.get(i, entity), fields.get(i).getName());
+        }
+    }
+
+    @Test
+    void testShardBoundary() {
+        int shardSize = 1 << ByteBeanConstant.FIELD_SHARD_SHIFT;
+        List<Field> fields = ByteBeanReflectUtil.getFields(Field1000Entity.class);
+
+        // 分片边界两侧的索引分别落在不同分片
+        for (int index : new int[]{shardSize - 1, shardSize, 2 * shardSize - 1, 2 * shardSize}) {
+            Object value = fields.get(index).getType() == String.class ? "v" + index : null;
+            fieldInvokerHelper.set(index, entity, value);
+            assertEquals(value, fieldInvokerHelper.get(index, entity));
+        }
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testInvalidIndex() {
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.get(-1, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.get(1000, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.set(4096, entity, 1));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.getInt(1000, entity));
+    }
+
+    @Test
+    void testTypeMismatch() {
+        int index = fieldInvokerHelper.getFieldGetterIndexOrThrow("field999");
+        // Integer 包装类型字段不支持基本类型访问
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.getInt(index, entity));
+        assertThrows(ClassCastException.class, () -> fieldInvokerHelper.get(index, new Object()));
+    }
+}
@@ -536,23 +536,23 @@ class FieldInvokerTest {
 
     @Test
     void testTypeMismatchGetShort() {
-        int byteFieldIndex = fieldInvokerHelper.getFieldGetterIndex("byteField");
+        int charFieldIndex = fieldInvokerHelper.getFieldGetterIndex("charField");
         int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getShort(byteFieldIndex, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getShort(charFieldIndex, entity));
         assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getShort(intFieldIndex, entity));
         assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getShort(stringFieldIndex, entity));
     }
 
     @Test
     void testTypeMismatchGetInt() {
-        int byteFieldIndex = fieldInvokerHelper.getFieldGetterIndex("byteField");
+        int longFieldIndex = fieldInvokerHelper.getFieldGetterIndex("longField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        // 尝试使用 getInt 访问非 int 类型的字段（应该抛异常）
+        // 尝试使用 getInt 访问不能拓宽为 int 的字段（应该抛异常）
         assertThrows(IllegalArgumentException.class, () -> {
-            fieldInvoker.getInt(byteFieldIndex, entity);
+            fieldInvoker.getInt(longFieldIndex, entity);
         });
 
         assertThrows(IllegalArgumentException.class, () -> {
@@ -562,12 +562,12 @@ class FieldInvokerTest {
 
     @Test
     void testTypeMismatchGetLong() {
-        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int floatFieldIndex = fieldInvokerHelper.getFieldGetterIndex("floatField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        // 尝试使用 getLong 访问非 long 类型的字段（应该抛异常）
+        // 尝试使用 getLong 访问不能拓宽为 long 的字段（应该抛异常）
         assertThrows(IllegalArgumentException.class, () -> {
-            fieldInvoker.getLong(intFieldIndex, entity);
+            fieldInvoker.getLong(floatFieldIndex, entity);
         });
 
         assertThrows(IllegalArgumentException.class, () -> {
@@ -577,19 +577,19 @@ class FieldInvokerTest {
 
     @Test
     void testTypeMismatchGetFloat() {
-        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int doubleFieldIndex = fieldInvokerHelper.getFieldGetterIndex("doubleField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getFloat(intFieldIndex, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getFloat(doubleFieldIndex, entity));
         assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getFloat(stringFieldIndex, entity));
     }
 
     @Test
     void testTypeMismatchGetDouble() {
-        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int booleanFieldIndex = fieldInvokerHelper.getFieldGetterIndex("booleanField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getDouble(intFieldIndex, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getDouble(booleanFieldIndex, entity));
         assertThrows(IllegalArgumentException.class, () -> fieldInvoker.getDouble(stringFieldIndex, entity));
     }
 
@@ -613,12 +613,12 @@ class FieldInvokerTest {
 
     @Test
     void testTypeMismatchSetByte() {
-        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int booleanFieldIndex = fieldInvokerHelper.getFieldGetterIndex("booleanField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        // 尝试使用 setByte 设置非 byte 类型的字段（应该抛异常）
+        // 尝试使用 setByte 设置无法接收 byte 值的字段（应该抛异常）
         assertThrows(IllegalArgumentException.class, () -> {
-            fieldInvoker.setByte(intFieldIndex, entity, (byte) 42);
+            fieldInvoker.setByte(booleanFieldIndex, entity, (byte) 42);
         });
 
         assertThrows(IllegalArgumentException.class, () -> {
@@ -628,23 +628,21 @@ class FieldInvokerTest {
 
     @Test
     void testTypeMismatchSetShort() {
-        int byteFieldIndex = fieldInvokerHelper.getFieldGetterIndex("byteField");
-        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int booleanFieldIndex = fieldInvokerHelper.getFieldGetterIndex("booleanField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setShort(byteFieldIndex, entity, (short) 1));
-        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setShort(intFieldIndex, entity, (short) 1));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setShort(booleanFieldIndex, entity, (short) 1));
         assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setShort(stringFieldIndex, entity, (short) 1));
     }
 
     @Test
     void testTypeMismatchSetInt() {
-        int byteFieldIndex = fieldInvokerHelper.getFieldGetterIndex("byteField");
+        int booleanFieldIndex = fieldInvokerHelper.getFieldGetterIndex("booleanField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        // 尝试使用 setInt 设置非 int 类型的字段（应该抛异常）
+        // 尝试使用 setInt 设置无法接收 int 值的字段（应该抛异常）
         assertThrows(IllegalArgumentException.class, () -> {
-            fieldInvoker.setInt(byteFieldIndex, entity, 42);
+            fieldInvoker.setInt(booleanFieldIndex, entity, 42);
         });
 
         assertThrows(IllegalArgumentException.class, () -> {
@@ -654,10 +652,10 @@ class FieldInvokerTest {
 
     @Test
     void testTypeMismatchSetLong() {
-        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int booleanFieldIndex = fieldInvokerHelper.getFieldGetterIndex("booleanField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setLong(intFieldIndex, entity, 1L));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setLong(booleanFieldIndex, entity, 1L));
         assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setLong(stringFieldIndex, entity, 1L));
     }
 
@@ -690,10 +688,10 @@ class FieldInvokerTest {
 
     @Test
     void testTypeMismatchSetChar() {
-        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int booleanFieldIndex = fieldInvokerHelper.getFieldGetterIndex("booleanField");
         int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
 
-        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setChar(intFieldIndex, entity, 'A'));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setChar(booleanFieldIndex, entity, 'A'));
         assertThrows(IllegalArgumentException.class, () -> fieldInvoker.setChar(stringFieldIndex, entity, 'A'));
     }
 
@@ -1147,7 +1145,7 @@ class FieldInvokerTest {
 
     @Test
     void testExceptionMessages() {
-        int byteFieldIndex = fieldInvokerHelper.getFieldGetterIndex("byteField");
+        int longFieldIndex = fieldInvokerHelper.getFieldGetterIndex("longField");
         // 测试异常消息
         try {
             fieldInvoker.get(-1, entity);
@@ -1158,7 +1156,7 @@ class FieldInvokerTest {
         }
 
         try {
-            fieldInvoker.getInt(byteFieldIndex, entity);
+            fieldInvoker.getInt(longFieldIndex, entity);
             fail("Should throw IllegalArgumentException");
         } catch (IllegalArgumentException e) {
             assertNotNull(e.getMessage());
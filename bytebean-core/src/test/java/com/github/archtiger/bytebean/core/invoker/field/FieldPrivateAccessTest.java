@@ -0,0 +1,84 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import com.github.archtiger.bytebean.core.utils.ClassDefineUtil;
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 私有字段访问测试（隐藏嵌套成员模式）
+ * <p>
+ * 测试包括：
+ * 1. 可获取完全权限 Lookup 时启用隐藏嵌套成员模式
+ * 2. private 字段进入索引空间并通过字节码直接读写
+ * 3. 同一嵌套中父类的 private 字段
+ * 4. private final 字段只读
+ */
+@PrivateAccess
+class FieldPrivateAccessTest {
+
+    static class PrivateParent {
+        private long parentId;
+    }
+
+    static class PrivateEntity extends PrivateParent {
+        private int age;
+        private String name;
+        private final String code = "c";
+    }
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private PrivateEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        fieldInvokerHelper = FieldInvokerHelper.of(PrivateEntity.class);
+        entity = new PrivateEntity();
+    }
+
+    @Test
+    void testNestmateModeEnabled() {
+        assertTrue(ClassDefineUtil.isNestmateSupported(PrivateEntity.class));
+        List<Field> fields = ByteBeanReflectUtil.getFields(PrivateEntity.class);
+        assertEquals(4, fields.size());
+    }
+
+    @Test
+    void testGetSetPrivateFields() {
+        int ageIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("age");
+        int nameIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("name");
+
+        fieldInvokerHelper.setInt(ageIndex, entity, 18);
+        fieldInvokerHelper.set(nameIndex, entity, "Alice");
+
+        assertEquals(18, entity.age);
+        assertEquals("Alice", entity.name);
+        assertEquals(18, fieldInvokerHelper.getInt(ageIndex, entity));
+        assertEquals("Alice", fieldInvokerHelper.get(nameIndex, entity));
+    }
+
+    @Test
+    void testNestmateParentPrivateField() {
+        int parentIdIndex = fieldInvokerHelper.getFieldSetterIndexOrThrow("parentId");
+        fieldInvokerHelper.setLong(parentIdIndex, entity, 99L);
+        assertEquals(99L, ((PrivateParent) entity).parentId);
+        assertEquals(99L, fieldInvokerHelper.getLong(parentIdIndex, entity));
+    }
+
+    @Test
+    void testPrivateFinalFieldReadOnly() {
+        assertEquals("c", fieldInvokerHelper.get(fieldInvokerHelper.getFieldGetterIndexOrThrow("code"), entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldInvokerHelper.getFieldSetterIndexOrThrow("code"));
+    }
+
+    @Test
+    void testGeneratedInvokerIsHiddenClass() {
+        assertTrue(FieldInvokerGenerator.generate(PrivateEntity.class).fieldInvokerClass().isHidden());
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.api.field.FieldInvoker;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 字段重置测试
+ * <p>
+ * 测试包括：
+ * 1. reset 将全部基本类型与引用类型字段写回默认值
+ * 2. final 字段跳过
+ * 3. 类型不匹配的处理
+ * 4. 分片字节码、VarHandle 与偏移量实现的一致性
+ */
+class FieldResetTest {
+
+    static class FinalFieldEntity {
+        final int id;
+        int count;
+        final String name;
+        String note;
+
+        FinalFieldEntity(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private TestEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        entity = new TestEntity();
+        entity.byteField = (byte) -1;
+        entity.shortField = (short) -2;
+        entity.intField = -3;
+        entity.longField = Long.MIN_VALUE;
+        entity.floatField = 1.5f;
+        entity.doubleField = -2.5d;
+        entity.booleanField = true;
+        entity.charField = Character.MAX_VALUE;
+        entity.stringField = "hello";
+        entity.integerField = 42;
+    }
+
+    // ==================== 重置测试 ====================
+
+    @Test
+    void testReset() {
+        assertReset(FieldInvokerHelper.of(TestEntity.class));
+        setUp();
+        assertReset(FieldVarHandleInvoker.of(TestEntity.class));
+        assertReset(FieldUnsafeInvoker.of(TestEntity.class));
+    }
+
+    private void assertReset(FieldInvoker invoker) {
+        invoker.reset(entity);
+        assertEquals((byte) 0, entity.byteField);
+        assertEquals((short) 0, entity.shortField);
+        assertEquals(0, entity.intField);
+        assertEquals(0L, entity.longField);
+        assertEquals(0f, entity.floatField);
+        assertEquals(0d, entity.doubleField);
+        assertFalse(entity.booleanField);
+        assertEquals('\u0000', entity.charField);
+        assertNull(entity.stringField);
+        assertNull(entity.integerField);
+    }
+
+    // ==================== final 字段与异常测试 ====================
+
+    @Test
+    void testFinalFieldsSkipped() {
+        assertFinalFieldsSkipped(FieldInvokerHelper.of(FinalFieldEntity.class));
+        assertFinalFieldsSkipped(FieldVarHandleInvoker.of(FinalFieldEntity.class));
+        assertFinalFieldsSkipped(FieldUnsafeInvoker.of(FinalFieldEntity.class));
+    }
+
+    private void assertFinalFieldsSkipped(FieldInvoker invoker) {
+        FinalFieldEntity target = new FinalFieldEntity(7, "name");
+        target.count = 3;
+        target.note = "note";
+
+        invoker.reset(target);
+        assertEquals(7, target.id);
+        assertEquals("name", target.name);
+        assertEquals(0, target.count);
+        assertNull(target.note);
+    }
+
+    @Test
+    void testTypeMismatch() {
+        FieldInvokerHelper helper = FieldInvokerHelper.of(TestEntity.class);
+        assertThrows(ClassCastException.class, () -> helper.reset("not entity"));
+    }
+
+    // ==================== 分片测试 ====================
+
+    @Test
+    void testShardedReset() {
+        assertShardedReset(FieldInvokerHelper.of(PrimitiveField1000Entity.class));
+        assertShardedReset(FieldVarHandleInvoker.of(PrimitiveField1000Entity.class));
+        assertShardedReset(FieldUnsafeInvoker.of(PrimitiveField1000Entity.class));
+    }
+
+    private void assertShardedReset(FieldInvoker invoker) {
+        PrimitiveField1000Entity target = new PrimitiveField1000Entity();
+        target.field1 = 1;
+        target.field250 = 250;
+        target.field251 = 251L;
+        target.field500 = 500L;
+        target.field501 = 501.5d;
+        target.field750 = 750.5d;
+        target.field751 = true;
+        target.field1000 = true;
+
+        invoker.reset(target);
+        PrimitiveField1000Entity expected = new PrimitiveField1000Entity();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(invoker.get(i, expected), invoker.get(i, target), "index " + i);
+        }
+    }
+}
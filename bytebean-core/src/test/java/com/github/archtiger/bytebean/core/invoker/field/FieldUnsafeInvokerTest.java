@@ -0,0 +1,204 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FieldUnsafeInvoker 类的功能完整性测试
+ * <p>
+ * 测试包括：
+ * 1. 通用 get/set 方法与所有基本类型的 getter/setter 方法
+ * 2. volatile、acquire/release、CAS、getAndAdd 操作
+ * 3. 批量读写与字节码实现的一致性
+ * 4. 实例、值类型检查与 final 字段保护
+ * 5. 不支持的目标类与回退实现选择
+ */
+class FieldUnsafeInvokerTest {
+
+    record Point(int x, int y) {
+    }
+
+    private FieldUnsafeInvoker fieldUnsafeInvoker;
+    private FieldInvokerHelper fieldInvokerHelper;
+    private TestEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        fieldUnsafeInvoker = FieldUnsafeInvoker.of(TestEntity.class);
+        fieldInvokerHelper = FieldInvokerHelper.of(TestEntity.class);
+        entity = new TestEntity();
+    }
+
+    private int index(String name) {
+        return fieldInvokerHelper.getFieldGetterIndex(name);
+    }
+
+    // ==================== 读写测试 ====================
+
+    @Test
+    void testGetSetObject() {
+        fieldUnsafeInvoker.set(index("stringField"), entity, "value");
+        fieldUnsafeInvoker.set(index("integerField"), entity, 7);
+        fieldUnsafeInvoker.set(index("longField"), entity, 8L);
+        fieldUnsafeInvoker.set(index("booleanField"), entity, true);
+
+        assertEquals("value", entity.stringField);
+        assertEquals(7, entity.integerField);
+        assertEquals(8L, fieldUnsafeInvoker.get(index("longField"), entity));
+        assertEquals(true, fieldUnsafeInvoker.get(index("booleanField"), entity));
+
+        fieldUnsafeInvoker.set(index("stringField"), entity, null);
+        assertNull(fieldUnsafeInvoker.get(index("stringField"), entity));
+    }
+
+    @Test
+    void testPrimitiveAccessors() {
+        fieldUnsafeInvoker.setByte(index("byteField"), entity, (byte) -1);
+        fieldUnsafeInvoker.setShort(index("shortField"), entity, (short) -2);
+        fieldUnsafeInvoker.setInt(index("intField"), entity, -3);
+        fieldUnsafeInvoker.setLong(index("longField"), entity, Long.MIN_VALUE);
+        fieldUnsafeInvoker.setFloat(index("floatField"), entity, 1.5f);
+        fieldUnsafeInvoker.setDouble(index("doubleField"), entity, -2.5d);
+        fieldUnsafeInvoker.setBoolean(index("booleanField"), entity, true);
+        fieldUnsafeInvoker.setChar(index("charField"), entity, Character.MAX_VALUE);
+
+        assertEquals((byte) -1, fieldUnsafeInvoker.getByte(index("byteField"), entity));
+        assertEquals((short) -2, fieldUnsafeInvoker.getShort(index("shortField"), entity));
+        assertEquals(-3, fieldUnsafeInvoker.getInt(index("intField"), entity));
+        assertEquals(Long.MIN_VALUE, fieldUnsafeInvoker.getLong(index("longField"), entity));
+        assertEquals(1.5f, fieldUnsafeInvoker.getFloat(index("floatField"), entity));
+        assertEquals(-2.5d, fieldUnsafeInvoker.getDouble(index("doubleField"), entity));
+        assertTrue(fieldUnsafeInvoker.getBoolean(index("booleanField"), entity));
+        assertEquals(Character.MAX_VALUE, fieldUnsafeInvoker.getChar(index("charField"), entity));
+
+        // 与字节码实现读取的值一致
+        for (int i = 0; i < 10; i++) {
+            assertEquals(fieldInvokerHelper.get(i, entity), fieldUnsafeInvoker.get(i, entity), "index " + i);
+        }
+    }
+
+    // ==================== 原子与内存序测试 ====================
+
+    @Test
+    void testAtomicOperations() {
+        int intIndex = index("intField");
+        int longIndex = index("longField");
+        int stringIndex = index("stringField");
+
+        assertTrue(fieldUnsafeInvoker.compareAndSetInt(intIndex, entity, 0, 5));
+        assertFalse(fieldUnsafeInvoker.compareAndSetInt(intIndex, entity, 0, 6));
+        assertEquals(5, fieldUnsafeInvoker.getAndAddInt(intIndex, entity, 3));
+        assertEquals(8, entity.intField);
+
+        assertTrue(fieldUnsafeInvoker.compareAndSetLong(longIndex, entity, 0L, 10L));
+        assertEquals(10L, fieldUnsafeInvoker.getAndAddLong(longIndex, entity, -4L));
+        assertEquals(6L, entity.longField);
+
+        assertTrue(fieldUnsafeInvoker.compareAndSetReference(stringIndex, entity, null, "a"));
+        assertFalse(fieldUnsafeInvoker.compareAndSetReference(stringIndex, entity, null, "b"));
+
+        fieldUnsafeInvoker.setVolatile(index("doubleField"), entity, 2.5d);
+        fieldUnsafeInvoker.setRelease(stringIndex, entity, "released");
+        fieldUnsafeInvoker.setRelease(index("charField"), entity, 'x');
+        assertEquals(2.5d, fieldUnsafeInvoker.getVolatile(index("doubleField"), entity));
+        assertEquals("released", fieldUnsafeInvoker.getAcquire(stringIndex, entity));
+        assertEquals('x', entity.charField);
+
+        assertThrows(IllegalArgumentException.class, () -> fieldUnsafeInvoker.compareAndSetInt(longIndex, entity, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> fieldUnsafeInvoker.getAndAddLong(intIndex, entity, 1L));
+    }
+
+    // ==================== 批量读写测试 ====================
+
+    @Test
+    void testReadAllWriteAllMatchesBytecode() {
+        PrimitiveField1000Entity source = new PrimitiveField1000Entity();
+        source.field1 = -1;
+        source.field251 = Long.MAX_VALUE;
+        source.field501 = -0.5d;
+        source.field1000 = true;
+
+        FieldInvokerHelper helper = FieldInvokerHelper.of(PrimitiveField1000Entity.class);
+        FieldUnsafeInvoker invoker = FieldUnsafeInvoker.of(PrimitiveField1000Entity.class);
+        long[] expected = new long[helper.getPrimitiveSlotCount()];
+        long[] actual = new long[expected.length];
+        helper.readAll(source, expected, new Object[0]);
+        invoker.readAll(source, actual, new Object[0]);
+        assertArrayEquals(expected, actual);
+
+        PrimitiveField1000Entity target = new PrimitiveField1000Entity();
+        invoker.writeAll(target, actual, new Object[0]);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(helper.get(i, source), helper.get(i, target), "index " + i);
+        }
+    }
+
+    // ==================== 安全检查测试 ====================
+
+    @Test
+    void testInstanceAndValueChecks() {
+        int intIndex = index("intField");
+        int stringIndex = index("stringField");
+
+        assertThrows(NullPointerException.class, () -> fieldUnsafeInvoker.getInt(intIndex, null));
+        assertThrows(ClassCastException.class, () -> fieldUnsafeInvoker.getInt(intIndex, "not entity"));
+        assertThrows(ClassCastException.class, () -> fieldUnsafeInvoker.set(stringIndex, entity, 42));
+        assertThrows(ClassCastException.class, () -> fieldUnsafeInvoker.set(intIndex, entity, "42"));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> fieldUnsafeInvoker.get(-1, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldUnsafeInvoker.getBoolean(intIndex, entity));
+    }
+
+    @Test
+    void testFinalFieldsRejected() {
+        FieldCopyTest.FinalFieldEntity target = new FieldCopyTest.FinalFieldEntity(7, "name");
+        FieldInvokerHelper helper = FieldInvokerHelper.of(FieldCopyTest.FinalFieldEntity.class);
+        FieldUnsafeInvoker invoker = FieldUnsafeInvoker.of(FieldCopyTest.FinalFieldEntity.class);
+        int idIndex = helper.getFieldGetterIndex("id");
+
+        assertEquals(7, invoker.getInt(idIndex, target));
+        assertThrows(IllegalArgumentException.class, () -> invoker.setInt(idIndex, target, 8));
+        assertThrows(IllegalArgumentException.class, () -> invoker.set(idIndex, target, 8));
+        assertEquals(7, target.id);
+    }
+
+    // ==================== 可用性与回退选择测试 ====================
+
+    @Test
+    void testUnsupportedTargets() {
+        assertTrue(FieldUnsafeInvoker.isAvailable());
+        assertNull(FieldUnsafeInvoker.of(Point.class));
+    }
+
+    @Test
+    void testFallbackSelection() {
+        String previous = System.getProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY);
+        try {
+            // 默认自动选择：JDK 版本低于上限时使用偏移量实现
+            Class<?> auto = Runtime.version().feature() < ByteBeanConstant.FIELD_FALLBACK_OFFSET_MAX_FEATURE
+                    ? FieldUnsafeInvoker.class : FieldVarHandleInvoker.class;
+            System.clearProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY);
+            assertInstanceOf(auto, FieldInvokerHelper.fallbackInvoker(TestEntity.class));
+            assertInstanceOf(FieldVarHandleInvoker.class, FieldInvokerHelper.fallbackInvoker(Point.class));
+
+            System.setProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY, "varhandle");
+            assertInstanceOf(FieldVarHandleInvoker.class, FieldInvokerHelper.fallbackInvoker(TestEntity.class));
+
+            System.setProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY, "offset");
+            assertInstanceOf(FieldUnsafeInvoker.class, FieldInvokerHelper.fallbackInvoker(TestEntity.class));
+            assertInstanceOf(FieldVarHandleInvoker.class, FieldInvokerHelper.fallbackInvoker(Point.class));
+
+            System.setProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY, "auto");
+            assertInstanceOf(auto, FieldInvokerHelper.fallbackInvoker(TestEntity.class));
+        } finally {
+            if (previous == null) {
+                System.clearProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY);
+            } else {
+                System.setProperty(ByteBeanConstant.FIELD_FALLBACK_PROPERTY, previous);
+            }
+        }
+    }
+}
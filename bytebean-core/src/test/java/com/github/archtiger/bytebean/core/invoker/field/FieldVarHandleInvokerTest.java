@@ -609,6 +609,30 @@ class FieldVarHandleInvokerTest {
         assertEquals("newValue", fieldVarHandleInvoker.get(stringFieldIndex, entity));
     }
 
+    // ==================== 类型不匹配测试 ====================
+
+    @Test
+    void testPrimitiveAccessorTypeMismatch() {
+        int floatFieldIndex = fieldInvokerHelper.getFieldGetterIndex("floatField");
+        int booleanFieldIndex = fieldInvokerHelper.getFieldGetterIndex("booleanField");
+        int integerFieldIndex = fieldInvokerHelper.getFieldGetterIndex("integerField");
+
+        // 类型既不能拓宽也不能窄化时与字节码访问器一致抛出 IllegalArgumentException
+        assertThrows(IllegalArgumentException.class, () -> fieldVarHandleInvoker.getLong(floatFieldIndex, entity));
+        assertThrows(IllegalArgumentException.class, () -> fieldVarHandleInvoker.setInt(booleanFieldIndex, entity, 1));
+        assertThrows(IllegalArgumentException.class, () -> fieldVarHandleInvoker.getInt(integerFieldIndex, entity));
+    }
+
+    @Test
+    void testFieldsGroupedByType() {
+        // 同类型字段索引连续：int 字段排在 long 字段之前
+        int intFieldIndex = fieldInvokerHelper.getFieldGetterIndex("intField");
+        int longFieldIndex = fieldInvokerHelper.getFieldGetterIndex("longField");
+        int stringFieldIndex = fieldInvokerHelper.getFieldGetterIndex("stringField");
+        assertTrue(intFieldIndex < longFieldIndex);
+        assertTrue(longFieldIndex < stringFieldIndex);
+    }
+
     // ==================== 组合测试 ====================
 
     @Test
@@ -0,0 +1,146 @@
+package com.github.archtiger.bytebean.core.invoker.field;
+
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 静态字段访问测试
+ * <p>
+ * 测试包括：
+ * 1. 基本类型与引用类型静态字段的通用读写、类型化读写
+ * 2. 字段索引查找，实例字段与合成字段不进入索引空间
+ * 3. private 静态字段（隐藏嵌套成员模式）
+ * 4. final 字段、类型不匹配、索引越界的异常
+ */
+@PrivateAccess
+class StaticFieldInvokerTest {
+
+    static class StaticEntity {
+        static final int VERSION = 3;
+        static final String NAME = "static";
+
+        static byte byteField;
+        static short shortField;
+        static int intField;
+        static long longField;
+        static float floatField;
+        static double doubleField;
+        static boolean booleanField;
+        static char charField;
+        static String stringField;
+        private static int secret;
+
+        int instanceField;
+
+        static int secret() {
+            return secret;
+        }
+    }
+
+    static class NoStaticEntity {
+        int value;
+    }
+
+    private StaticFieldInvokerHelper helper;
+
+    @BeforeEach
+    void setUp() {
+        helper = StaticFieldInvokerHelper.of(StaticEntity.class);
+        StaticEntity.intField = 0;
+        StaticEntity.longField = 0L;
+        StaticEntity.booleanField = false;
+        StaticEntity.stringField = null;
+    }
+
+    // ==================== 索引测试 ====================
+
+    @Test
+    void testIndexLookup() {
+        assertNotEquals(-1, helper.getFieldGetterIndex("intField"));
+        assertNotEquals(-1, helper.getFieldGetterIndex("VERSION"));
+        assertEquals(-1, helper.getFieldGetterIndex("instanceField"));
+        assertEquals(-1, helper.getFieldGetterIndex("notExist"));
+        assertEquals(-1, helper.getFieldSetterIndex("VERSION"));
+        assertThrows(IllegalArgumentException.class, () -> helper.getFieldSetterIndexOrThrow("NAME"));
+        assertThrows(IllegalArgumentException.class, () -> helper.getFieldGetterIndexOrThrow("instanceField"));
+    }
+
+    @Test
+    void testNoStaticFields() {
+        assertNull(StaticFieldInvokerHelper.of(NoStaticEntity.class));
+    }
+
+    // ==================== 读写测试 ====================
+
+    @Test
+    void testGenericGetAndSet() {
+        helper.set(helper.getFieldSetterIndexOrThrow("intField"), 42);
+        helper.set(helper.getFieldSetterIndexOrThrow("stringField"), "hello");
+        helper.set(helper.getFieldSetterIndexOrThrow("booleanField"), true);
+
+        assertEquals(42, StaticEntity.intField);
+        assertEquals("hello", StaticEntity.stringField);
+        assertTrue(StaticEntity.booleanField);
+        assertEquals(42, helper.get(helper.getFieldGetterIndexOrThrow("intField")));
+        assertEquals("hello", helper.get(helper.getFieldGetterIndexOrThrow("stringField")));
+        assertEquals(3, helper.get(helper.getFieldGetterIndexOrThrow("VERSION")));
+        assertEquals("static", helper.get(helper.getFieldGetterIndexOrThrow("NAME")));
+    }
+
+    @Test
+    void testPrimitiveGetAndSet() {
+        helper.setByte(helper.getFieldSetterIndexOrThrow("byteField"), (byte) 1);
+        helper.setShort(helper.getFieldSetterIndexOrThrow("shortField"), (short) 2);
+        helper.setInt(helper.getFieldSetterIndexOrThrow("intField"), 3);
+        helper.setLong(helper.getFieldSetterIndexOrThrow("longField"), 4L);
+        helper.setFloat(helper.getFieldSetterIndexOrThrow("floatField"), 5.5f);
+        helper.setDouble(helper.getFieldSetterIndexOrThrow("doubleField"), 6.5d);
+        helper.setBoolean(helper.getFieldSetterIndexOrThrow("booleanField"), true);
+        helper.setChar(helper.getFieldSetterIndexOrThrow("charField"), 'x');
+
+        assertEquals((byte) 1, helper.getByte(helper.getFieldGetterIndexOrThrow("byteField")));
+        assertEquals((short) 2, helper.getShort(helper.getFieldGetterIndexOrThrow("shortField")));
+        assertEquals(3, helper.getInt(helper.getFieldGetterIndexOrThrow("intField")));
+        assertEquals(4L, helper.getLong(helper.getFieldGetterIndexOrThrow("longField")));
+        assertEquals(5.5f, helper.getFloat(helper.getFieldGetterIndexOrThrow("floatField")));
+        assertEquals(6.5d, helper.getDouble(helper.getFieldGetterIndexOrThrow("doubleField")));
+        assertTrue(helper.getBoolean(helper.getFieldGetterIndexOrThrow("booleanField")));
+        assertEquals('x', helper.getChar(helper.getFieldGetterIndexOrThrow("charField")));
+        assertEquals(3, helper.getInt(helper.getFieldGetterIndexOrThrow("VERSION")));
+    }
+
+    @Test
+    void testPrivateStaticField() {
+        int index = helper.getFieldSetterIndexOrThrow("secret");
+        helper.setInt(index, 99);
+
+        assertEquals(99, StaticEntity.secret());
+        assertEquals(99, helper.getInt(index));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testFinalFieldRejected() {
+        int index = helper.getFieldGetterIndexOrThrow("VERSION");
+        assertThrows(IllegalArgumentException.class, () -> helper.setInt(index, 4));
+        assertThrows(IllegalArgumentException.class, () -> helper.set(index, 4));
+        assertEquals(3, StaticEntity.VERSION);
+    }
+
+    @Test
+    void testTypeMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> helper.getLong(helper.getFieldGetterIndexOrThrow("intField")));
+        assertThrows(IllegalArgumentException.class, () -> helper.setInt(helper.getFieldSetterIndexOrThrow("stringField"), 1));
+        assertThrows(ClassCastException.class, () -> helper.set(helper.getFieldSetterIndexOrThrow("stringField"), 1));
+    }
+
+    @Test
+    void testInvalidIndex() {
+        assertThrows(IllegalArgumentException.class, () -> helper.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> helper.set(100, 1));
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.archtiger.bytebean.core.invoker.field.jmh;
+
+import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
+import com.github.archtiger.bytebean.core.invoker.field.FieldVarHandleInvoker;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * 原子字段操作性能基准测试
+ * <p>
+ * 对比生成类中常量VarHandle、FieldVarHandleInvoker 数组中的非常量VarHandle、
+ * 手写 static final VarHandle 与 AtomicIntegerFieldUpdater 的 getAndAdd/compareAndSet 开销。
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldAtomicBenchmark {
+
+    public static class Counter {
+        public volatile int count;
+        public volatile long total;
+    }
+
+    private static final VarHandle COUNT;
+
+    private static final AtomicIntegerFieldUpdater<Counter> COUNT_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Counter.class, "count");
+
+    static {
+        try {
+            COUNT = MethodHandles.lookup().findVarHandle(Counter.class, "count", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Counter counter;
+    private FieldInvokerHelper fieldInvokerHelper;
+    private FieldVarHandleInvoker varHandleInvoker;
+    private int countIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        counter = new Counter();
+        fieldInvokerHelper = FieldInvokerHelper.of(Counter.class);
+        varHandleInvoker = FieldVarHandleInvoker.of(Counter.class);
+        countIndex = fieldInvokerHelper.getFieldGetterIndex("count");
+    }
+
+    @Benchmark
+    public int fieldInvokerHelperGetAndAddInt() {
+        return fieldInvokerHelper.getAndAddInt(countIndex, counter, 1);
+    }
+
+    @Benchmark
+    public int fieldVarHandleInvokerGetAndAddInt() {
+        return varHandleInvoker.getAndAddInt(countIndex, counter, 1);
+    }
+
+    @Benchmark
+    public int staticVarHandleGetAndAdd() {
+        return (int) COUNT.getAndAdd(counter, 1);
+    }
+
+    @Benchmark
+    public int atomicFieldUpdaterGetAndAdd() {
+        return COUNT_UPDATER.getAndAdd(counter, 1);
+    }
+
+    @Benchmark
+    public boolean fieldInvokerHelperCompareAndSetInt() {
+        int current = counter.count;
+        return fieldInvokerHelper.compareAndSetInt(countIndex, counter, current, current + 1);
+    }
+
+    @Benchmark
+    public boolean atomicFieldUpdaterCompareAndSet() {
+        int current = counter.count;
+        return COUNT_UPDATER.compareAndSet(counter, current, current + 1);
+    }
+
+    @Benchmark
+    public Object fieldInvokerHelperGetAcquire() {
+        return fieldInvokerHelper.getAcquire(countIndex, counter);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{FieldAtomicBenchmark.class.getName()});
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.archtiger.bytebean.core.invoker.field.jmh;
+
+import com.github.archtiger.bytebean.api.field.DoubleFieldAccessor;
+import com.github.archtiger.bytebean.core.invoker.field.FieldExtractor;
+import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 列式字段提取性能基准测试 - 从 100 万个对象中提取一个 double 字段
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldExtractorBenchmark {
+
+    public static class Order {
+        public long id;
+        public int quantity;
+        public double price;
+    }
+
+    private static final int SIZE = 1_000_000;
+
+    private Order[] orderArray;
+    private List<Order> orderList;
+    private double[] dest;
+
+    private FieldInvokerHelper fieldInvokerHelper;
+    private int priceIndex;
+    private DoubleFieldAccessor priceAccessor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        orderArray = new Order[SIZE];
+        orderList = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            Order order = new Order();
+            order.id = i;
+            order.price = i * 0.01d;
+            orderArray[i] = order;
+            orderList.add(order);
+        }
+        dest = new double[SIZE];
+
+        fieldInvokerHelper = FieldInvokerHelper.of(Order.class);
+        priceIndex = fieldInvokerHelper.getFieldGetterIndex("price");
+        priceAccessor = fieldInvokerHelper.accessor("price", DoubleFieldAccessor.class);
+    }
+
+    @Benchmark
+    public double[] directLoop() {
+        for (int i = 0; i < SIZE; i++) {
+            dest[i] = orderArray[i].price;
+        }
+        return dest;
+    }
+
+    @Benchmark
+    public double[] fieldInvokerHelperGetDoubleLoop() {
+        for (int i = 0; i < SIZE; i++) {
+            dest[i] = fieldInvokerHelper.getDouble(priceIndex, orderArray[i]);
+        }
+        return dest;
+    }
+
+    @Benchmark
+    public double[] extractFromArray() {
+        FieldExtractor.extract(priceAccessor, orderArray, dest);
+        return dest;
+    }
+
+    @Benchmark
+    public double[] extractFromList() {
+        FieldExtractor.extract(priceAccessor, orderList, dest);
+        return dest;
+    }
+
+    @Benchmark
+    public double[] parallelExtractFromArray() {
+        FieldExtractor.parallelExtract(priceAccessor, orderArray, dest, ForkJoinPool.commonPool());
+        return dest;
+    }
+
+    @Benchmark
+    public double[] parallelExtractFromList() {
+        FieldExtractor.parallelExtract(priceAccessor, orderList, dest, ForkJoinPool.commonPool());
+        return dest;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{FieldExtractorBenchmark.class.getName()});
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.archtiger.bytebean.core.invoker.field.jmh;
+
+import com.github.archtiger.bytebean.core.invoker.entity.Field1000Entity;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
+import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
+import com.github.archtiger.bytebean.core.invoker.field.FieldUnsafeInvoker;
+import com.github.archtiger.bytebean.core.invoker.field.FieldVarHandleInvoker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 字段回退实现性能基准测试 - 1000字段实体
+ * <p>
+ * 对比分片字节码（FieldInvokerHelper）、VarHandle实现与偏移量实现在单字段读写和批量读取上的开销，
+ * 结果是 {@code bytebean.field.fallback=auto} 默认选择偏移量实现的依据（见 {@code ByteBeanConstant.FIELD_FALLBACK_PROPERTY}）。
+ * <p>
+ * 参考结果（JDK 17，单核）：
+ * <pre>
+ * 操作          分片字节码   VarHandle   偏移量
+ * get           4.6ns       11.2ns      4.1ns
+ * set           5.5ns       13.2ns      6.7ns
+ * getInt        4.7ns        8.6ns      4.3ns
+ * setLong       -            8.4ns      4.7ns
+ * getDouble     -            7.7ns      3.7ns
+ * readAll       0.54μs      773μs       3.5μs
+ * </pre>
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldFallbackBenchmark {
+
+    private Field1000Entity entity;
+    private FieldInvokerHelper fieldInvokerHelper;
+    private FieldVarHandleInvoker varHandleInvoker;
+    private FieldUnsafeInvoker unsafeInvoker;
+    private int referenceFieldIndex;
+
+    private PrimitiveField1000Entity primitiveEntity;
+    private FieldInvokerHelper primitiveFieldInvokerHelper;
+    private FieldVarHandleInvoker primitiveVarHandleInvoker;
+    private FieldUnsafeInvoker primitiveUnsafeInvoker;
+    private int intFieldIndex;
+    private int longFieldIndex;
+    private int doubleFieldIndex;
+    private long[] prims;
+    private Object[] refs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        entity = new Field1000Entity();
+        fieldInvokerHelper = FieldInvokerHelper.of(Field1000Entity.class);
+        varHandleInvoker = FieldVarHandleInvoker.of(Field1000Entity.class);
+        unsafeInvoker = FieldUnsafeInvoker.of(Field1000Entity.class);
+        referenceFieldIndex = fieldInvokerHelper.getFieldGetterIndex("field500");
+
+        primitiveEntity = new PrimitiveField1000Entity();
+        primitiveFieldInvokerHelper = FieldInvokerHelper.of(PrimitiveField1000Entity.class);
+        primitiveVarHandleInvoker = FieldVarHandleInvoker.of(PrimitiveField1000Entity.class);
+        primitiveUnsafeInvoker = FieldUnsafeInvoker.of(PrimitiveField1000Entity.class);
+        intFieldIndex = primitiveFieldInvokerHelper.getFieldGetterIndex("field100");
+        longFieldIndex = primitiveFieldInvokerHelper.getFieldGetterIndex("field400");
+        doubleFieldIndex = primitiveFieldInvokerHelper.getFieldGetterIndex("field600");
+        prims = new long[primitiveFieldInvokerHelper.getPrimitiveSlotCount()];
+        refs = new Object[primitiveFieldInvokerHelper.getReferenceSlotCount()];
+    }
+
+    // ==================== 引用类型字段 ====================
+
+    @Benchmark
+    public Object fieldInvokerHelperGet() {
+        return fieldInvokerHelper.get(referenceFieldIndex, entity);
+    }
+
+    @Benchmark
+    public Object fieldVarHandleInvokerGet() {
+        return varHandleInvoker.get(referenceFieldIndex, entity);
+    }
+
+    @Benchmark
+    public Object fieldUnsafeInvokerGet() {
+        return unsafeInvoker.get(referenceFieldIndex, entity);
+    }
+
+    @Benchmark
+    public void fieldInvokerHelperSet() {
+        fieldInvokerHelper.set(referenceFieldIndex, entity, Boolean.TRUE);
+    }
+
+    @Benchmark
+    public void fieldVarHandleInvokerSet() {
+        varHandleInvoker.set(referenceFieldIndex, entity, Boolean.TRUE);
+    }
+
+    @Benchmark
+    public void fieldUnsafeInvokerSet() {
+        unsafeInvoker.set(referenceFieldIndex, entity, Boolean.TRUE);
+    }
+
+    // ==================== 基本类型字段 ====================
+
+    @Benchmark
+    public int fieldInvokerHelperGetInt() {
+        return primitiveFieldInvokerHelper.getInt(intFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public int fieldVarHandleInvokerGetInt() {
+        return primitiveVarHandleInvoker.getInt(intFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public int fieldUnsafeInvokerGetInt() {
+        return primitiveUnsafeInvoker.getInt(intFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public void fieldVarHandleInvokerSetLong() {
+        primitiveVarHandleInvoker.setLong(longFieldIndex, primitiveEntity, 999L);
+    }
+
+    @Benchmark
+    public void fieldUnsafeInvokerSetLong() {
+        primitiveUnsafeInvoker.setLong(longFieldIndex, primitiveEntity, 999L);
+    }
+
+    @Benchmark
+    public double fieldVarHandleInvokerGetDouble() {
+        return primitiveVarHandleInvoker.getDouble(doubleFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public double fieldUnsafeInvokerGetDouble() {
+        return primitiveUnsafeInvoker.getDouble(doubleFieldIndex, primitiveEntity);
+    }
+
+    // ==================== 批量读取 ====================
+
+    @Benchmark
+    public long[] fieldInvokerHelperReadAll() {
+        primitiveFieldInvokerHelper.readAll(primitiveEntity, prims, refs);
+        return prims;
+    }
+
+    @Benchmark
+    public long[] fieldVarHandleInvokerReadAll() {
+        primitiveVarHandleInvoker.readAll(primitiveEntity, prims, refs);
+        return prims;
+    }
+
+    @Benchmark
+    public long[] fieldUnsafeInvokerReadAll() {
+        primitiveUnsafeInvoker.readAll(primitiveEntity, prims, refs);
+        return prims;
+    }
+}
@@ -2,11 +2,15 @@ package com.github.archtiger.bytebean.core.invoker.field.jmh;
 
 import cn.hutool.core.util.ReflectUtil;
 import com.esotericsoftware.reflectasm.FieldAccess;
+import com.github.archtiger.bytebean.api.field.IntFieldAccessor;
 import com.github.archtiger.bytebean.core.invoker.entity.Field1000Entity;
+import com.github.archtiger.bytebean.core.invoker.entity.PrimitiveField1000Entity;
 import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
 import com.github.archtiger.bytebean.core.invoker.field.FieldVarHandleInvoker;
 import org.openjdk.jmh.annotations.*;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.util.concurrent.TimeUnit;
 
@@ -44,6 +48,19 @@ public class FieldInvokerHelper1000Benchmark {
     private int fieldInvokerMiddleFieldIndex;
     private int fieldInvokerLastFieldIndex;
 
+    // 基本类型字段：对比精确签名紧凑数组与通用VarHandle（签名适配+装箱）
+    private PrimitiveField1000Entity primitiveEntity;
+    private FieldVarHandleInvoker primitiveVarHandleInvoker;
+    private FieldInvokerHelper primitiveFieldInvokerHelper;
+    private VarHandle genericIntVarHandle;
+    private VarHandle genericLongVarHandle;
+    private VarHandle genericDoubleVarHandle;
+    private Field standardReflectionIntField;
+    private IntFieldAccessor intFieldAccessor;
+    private int primitiveIntFieldIndex;
+    private int primitiveLongFieldIndex;
+    private int primitiveDoubleFieldIndex;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         entity = new Field1000Entity();
@@ -67,6 +84,19 @@ public class FieldInvokerHelper1000Benchmark {
         varHandleFirstFieldIndex = fieldInvokerFirstFieldIndex;
         varHandleMiddleFieldIndex = fieldInvokerMiddleFieldIndex;
         varHandleLastFieldIndex = fieldInvokerLastFieldIndex;
+
+        primitiveEntity = new PrimitiveField1000Entity();
+        primitiveVarHandleInvoker = FieldVarHandleInvoker.of(PrimitiveField1000Entity.class);
+        primitiveFieldInvokerHelper = FieldInvokerHelper.of(PrimitiveField1000Entity.class);
+        primitiveIntFieldIndex = primitiveFieldInvokerHelper.getFieldGetterIndex("field100");
+        primitiveLongFieldIndex = primitiveFieldInvokerHelper.getFieldGetterIndex("field400");
+        primitiveDoubleFieldIndex = primitiveFieldInvokerHelper.getFieldGetterIndex("field600");
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        genericIntVarHandle = lookup.findVarHandle(PrimitiveField1000Entity.class, "field100", int.class);
+        genericLongVarHandle = lookup.findVarHandle(PrimitiveField1000Entity.class, "field400", long.class);
+        genericDoubleVarHandle = lookup.findVarHandle(PrimitiveField1000Entity.class, "field600", double.class);
+        standardReflectionIntField = PrimitiveField1000Entity.class.getDeclaredField("field100");
+        intFieldAccessor = primitiveFieldInvokerHelper.accessor("field100", IntFieldAccessor.class);
     }
 
     @Benchmark
@@ -274,6 +304,86 @@ public class FieldInvokerHelper1000Benchmark {
         return ReflectUtil.getFieldValue(entity, "field1");
     }
 
+    @Benchmark
+    public int fieldVarHandleInvokerGetInt() {
+        return primitiveVarHandleInvoker.getInt(primitiveIntFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public void fieldVarHandleInvokerSetInt() {
+        primitiveVarHandleInvoker.setInt(primitiveIntFieldIndex, primitiveEntity, 999);
+    }
+
+    @Benchmark
+    public long fieldVarHandleInvokerGetLong() {
+        return primitiveVarHandleInvoker.getLong(primitiveLongFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public void fieldVarHandleInvokerSetLong() {
+        primitiveVarHandleInvoker.setLong(primitiveLongFieldIndex, primitiveEntity, 999L);
+    }
+
+    @Benchmark
+    public double fieldVarHandleInvokerGetDouble() {
+        return primitiveVarHandleInvoker.getDouble(primitiveDoubleFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public void fieldVarHandleInvokerSetDouble() {
+        primitiveVarHandleInvoker.setDouble(primitiveDoubleFieldIndex, primitiveEntity, 999.0);
+    }
+
+    @Benchmark
+    public int genericVarHandleGetInt() {
+        return (int) genericIntVarHandle.get((Object) primitiveEntity);
+    }
+
+    @Benchmark
+    public void genericVarHandleSetInt() {
+        genericIntVarHandle.set((Object) primitiveEntity, (Object) 999);
+    }
+
+    @Benchmark
+    public long genericVarHandleGetLong() {
+        return (long) genericLongVarHandle.get((Object) primitiveEntity);
+    }
+
+    @Benchmark
+    public double genericVarHandleGetDouble() {
+        return (double) genericDoubleVarHandle.get((Object) primitiveEntity);
+    }
+
+    @Benchmark
+    public int fieldInvokerHelperGetInt() {
+        return primitiveFieldInvokerHelper.getInt(primitiveIntFieldIndex, primitiveEntity);
+    }
+
+    @Benchmark
+    public void fieldInvokerHelperSetInt() {
+        primitiveFieldInvokerHelper.setInt(primitiveIntFieldIndex, primitiveEntity, 999);
+    }
+
+    @Benchmark
+    public int fieldAccessorGetInt() {
+        return intFieldAccessor.getInt(primitiveEntity);
+    }
+
+    @Benchmark
+    public void fieldAccessorSetInt() {
+        intFieldAccessor.setInt(primitiveEntity, 999);
+    }
+
+    @Benchmark
+    public int standardReflectionGetInt() throws IllegalAccessException {
+        return standardReflectionIntField.getInt(primitiveEntity);
+    }
+
+    @Benchmark
+    public void standardReflectionSetInt() throws IllegalAccessException {
+        standardReflectionIntField.setInt(primitiveEntity, 999);
+    }
+
     public static void main(String[] args) throws Exception {
         org.openjdk.jmh.Main.main(new String[]{FieldInvokerHelper1000Benchmark.class.getName()});
     }
@@ -44,6 +44,10 @@ public class FieldInvokerHelper200Benchmark {
     private int fieldInvokerMiddleFieldIndex;
     private int fieldInvokerLastFieldIndex;
 
+    private long[] snapshotPrims;
+    private Object[] snapshotRefs;
+    private Field200Entity copyTarget;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         entity = new Field200Entity();
@@ -67,6 +71,75 @@ public class FieldInvokerHelper200Benchmark {
         varHandleFirstFieldIndex = fieldInvokerFirstFieldIndex;
         varHandleMiddleFieldIndex = fieldInvokerMiddleFieldIndex;
         varHandleLastFieldIndex = fieldInvokerLastFieldIndex;
+
+        snapshotPrims = new long[fieldInvokerHelper.getPrimitiveSlotCount()];
+        snapshotRefs = new Object[fieldInvokerHelper.getReferenceSlotCount()];
+        copyTarget = new Field200Entity();
+    }
+
+    @Benchmark
+    public Object fieldInvokerHelperCopyFields() {
+        fieldInvokerHelper.copyFields(entity, copyTarget);
+        return copyTarget;
+    }
+
+    @Benchmark
+    public Object fieldInvokerHelperCopyLoop() {
+        for (int i = 0; i < snapshotRefs.length; i++) {
+            fieldInvokerHelper.set(i, copyTarget, fieldInvokerHelper.get(i, entity));
+        }
+        return copyTarget;
+    }
+
+    @Benchmark
+    public Object fieldInvokerHelperShallowClone() {
+        return fieldInvokerHelper.shallowClone(entity);
+    }
+
+    @Benchmark
+    public Object fieldInvokerHelperReset() {
+        fieldInvokerHelper.reset(copyTarget);
+        return copyTarget;
+    }
+
+    @Benchmark
+    public Object fieldInvokerHelperResetLoop() {
+        for (int i = 0; i < snapshotRefs.length; i++) {
+            fieldInvokerHelper.set(i, copyTarget, null);
+        }
+        return copyTarget;
+    }
+
+    @Benchmark
+    public Object[] fieldInvokerHelperReadAll() {
+        fieldInvokerHelper.readAll(entity, snapshotPrims, snapshotRefs);
+        return snapshotRefs;
+    }
+
+    @Benchmark
+    public Object[] fieldInvokerHelperGetLoop() {
+        for (int i = 0; i < snapshotRefs.length; i++) {
+            snapshotRefs[i] = fieldInvokerHelper.get(i, entity);
+        }
+        return snapshotRefs;
+    }
+
+    @Benchmark
+    public void fieldInvokerHelperWriteAll() {
+        fieldInvokerHelper.writeAll(entity, snapshotPrims, snapshotRefs);
+    }
+
+    @Benchmark
+    public void fieldInvokerHelperSetLoop() {
+        for (int i = 0; i < snapshotRefs.length; i++) {
+            fieldInvokerHelper.set(i, entity, snapshotRefs[i]);
+        }
+    }
+
+    @Benchmark
+    public Object[] fieldVarHandleInvokerReadAll() {
+        varHandleInvoker.readAll(entity, snapshotPrims, snapshotRefs);
+        return snapshotRefs;
     }
 
     @Benchmark
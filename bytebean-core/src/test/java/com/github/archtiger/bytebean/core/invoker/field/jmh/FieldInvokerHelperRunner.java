@@ -16,7 +16,8 @@ public class FieldInvokerHelperRunner {
                 FieldInvokerHelper250Benchmark.class.getName(),
                 FieldInvokerHelper300Benchmark.class.getName(),
                 FieldInvokerHelper500Benchmark.class.getName(),
-                FieldInvokerHelper1000Benchmark.class.getName()
+                FieldInvokerHelper1000Benchmark.class.getName(),
+                FieldFallbackBenchmark.class.getName()
         });
     }
 }
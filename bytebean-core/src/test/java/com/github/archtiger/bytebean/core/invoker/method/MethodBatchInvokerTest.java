@@ -0,0 +1,246 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.invoker.entity.Field150Entity;
+import com.github.archtiger.bytebean.core.model.MethodGroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 批量调用测试
+ * <p>
+ * 测试包括：
+ * 1. 字节码实现的 invokeAll：丢弃返回值、装箱写入结果数组、区间与目标偏移
+ * 2. 字节码实现的类型化 intInvokeAll、doubleInvokeAll、booleanInvokeAll 等
+ * 3. MethodHandle 实现的批量调用
+ * 4. 在指定 ForkJoinPool 上并行批量调用，结果与顺序调用一致
+ * 5. 有参方法、返回类型不匹配、索引越界与结果数组长度不足异常
+ * 6. 方法较多时批量循环按组拆分为私有方法，入口方法只做分发
+ */
+class MethodBatchInvokerTest {
+
+    static class Counter {
+        int value;
+
+        Counter(int value) {
+            this.value = value;
+        }
+
+        public void increment() {
+            value++;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public long square() {
+            return (long) value * value;
+        }
+
+        public double half() {
+            return value / 2.0;
+        }
+
+        public boolean isEven() {
+            return (value & 1) == 0;
+        }
+
+        public char letter() {
+            return (char) ('a' + value % 26);
+        }
+
+        public String label() {
+            return "c" + value;
+        }
+
+        public int add(int delta) {
+            return value += delta;
+        }
+    }
+
+    private MethodInvokerHelper helper;
+    private Counter[] counters;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        helper = MethodInvokerHelper.of(Counter.class);
+        counters = newCounters(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Counter[] newCounters(int size) {
+        Counter[] counters = new Counter[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new Counter(i);
+        }
+        return counters;
+    }
+
+    // ==================== 字节码实现 ====================
+
+    @Test
+    void testGeneratedInvokeAll() {
+        int increment = helper.getMethodIndexOrThrow("increment");
+        helper.invokeAll(increment, counters);
+        for (int i = 0; i < counters.length; i++) {
+            assertEquals(i + 1, counters[i].value);
+        }
+
+        int label = helper.getMethodIndexOrThrow("label");
+        Object[] labels = new Object[counters.length];
+        helper.invokeAll(label, counters, labels);
+        assertEquals("c1", labels[0]);
+        assertEquals("c10", labels[9]);
+
+        // 装箱返回值，void 方法写入 null
+        Object[] boxed = new Object[4];
+        helper.invokeAll(helper.getMethodIndexOrThrow("getValue"), counters, 2, 5, boxed, 1);
+        assertArrayEquals(new Object[]{null, 3, 4, 5}, boxed);
+        Object[] voids = {"x", "y"};
+        helper.invokeAll(increment, counters, 0, 2, voids, 0);
+        assertArrayEquals(new Object[]{null, null}, voids);
+    }
+
+    @Test
+    void testGeneratedTypedInvokeAll() {
+        int[] ints = new int[counters.length];
+        helper.intInvokeAll(helper.getMethodIndexOrThrow("getValue"), counters, ints);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, ints);
+
+        long[] longs = new long[3];
+        helper.longInvokeAll(helper.getMethodIndexOrThrow("square"), counters, 7, 10, longs, 0);
+        assertArrayEquals(new long[]{49L, 64L, 81L}, longs);
+
+        double[] doubles = new double[counters.length];
+        helper.doubleInvokeAll(helper.getMethodIndexOrThrow("half"), counters, doubles);
+        assertEquals(4.5, doubles[9]);
+
+        boolean[] booleans = new boolean[counters.length];
+        helper.booleanInvokeAll(helper.getMethodIndexOrThrow("isEven"), counters, booleans);
+        assertTrue(booleans[0]);
+        assertFalse(booleans[1]);
+
+        char[] chars = new char[counters.length];
+        helper.charInvokeAll(helper.getMethodIndexOrThrow("letter"), counters, chars);
+        assertEquals("abcdefghij", new String(chars));
+    }
+
+    // ==================== MethodHandle 实现 ====================
+
+    @Test
+    void testMethodHandleInvokeAll() {
+        MethodHandleInvoker invoker = MethodHandleInvoker.of(Counter.class);
+        invoker.invokeAll(helper.getMethodIndexOrThrow("increment"), counters, 0, counters.length);
+        assertEquals(10, counters[9].value);
+
+        Object[] labels = new Object[2];
+        invoker.invokeAll(helper.getMethodIndexOrThrow("label"), counters, 0, 2, labels, 0);
+        assertArrayEquals(new Object[]{"c1", "c2"}, labels);
+
+        int[] ints = new int[counters.length + 1];
+        invoker.intInvokeAll(helper.getMethodIndexOrThrow("getValue"), counters, 0, counters.length, ints, 1);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, ints);
+
+        double[] doubles = new double[1];
+        invoker.doubleInvokeAll(helper.getMethodIndexOrThrow("half"), counters, 4, 5, doubles, 0);
+        assertEquals(2.5, doubles[0]);
+    }
+
+    // ==================== 并行调用 ====================
+
+    @Test
+    void testParallelInvokeAll() {
+        pool = new ForkJoinPool(4);
+        Counter[] many = newCounters(100_000);
+
+        helper.parallelInvokeAll(helper.getMethodIndexOrThrow("increment"), many, pool);
+        long[] squares = new long[many.length];
+        helper.parallelLongInvokeAll(helper.getMethodIndexOrThrow("square"), many, squares, pool);
+        Object[] labels = new Object[many.length];
+        helper.parallelInvokeAll(helper.getMethodIndexOrThrow("label"), many, labels, pool);
+        for (int i = 0; i < many.length; i++) {
+            assertEquals(i + 1, many[i].value);
+            assertEquals((long) (i + 1) * (i + 1), squares[i]);
+            assertEquals("c" + (i + 1), labels[i]);
+        }
+
+        // 小输入在调用线程中顺序执行
+        int[] ints = new int[counters.length];
+        helper.parallelIntInvokeAll(helper.getMethodIndexOrThrow("getValue"), counters, ints, pool);
+        assertEquals(9, ints[9]);
+    }
+
+    // ==================== 分组生成 ====================
+
+    @Test
+    void testGroupedBatchMethods() {
+        int method0Count = MethodGroup.of(Field150Entity.class).method0List().size();
+        int groupCount = (method0Count + (1 << ByteBeanConstant.METHOD_BATCH_GROUP_SHIFT) - 1) >> ByteBeanConstant.METHOD_BATCH_GROUP_SHIFT;
+        assertTrue(groupCount > 1);
+
+        // 每组循环生成一个私有方法，避免单个方法超过 HugeMethodLimit
+        Class<?> invokerClass = MethodInvokerGenerator.generate(Field150Entity.class).methodInvokerClass();
+        List<Method> groups = Arrays.stream(invokerClass.getDeclaredMethods())
+                .filter(m -> m.getName().startsWith("invokeAll$") && m.getParameterCount() == 6)
+                .toList();
+        assertEquals(groupCount, groups.size());
+        assertTrue(groups.stream().allMatch(m -> Modifier.isPrivate(m.getModifiers())));
+
+        MethodInvokerHelper wide = MethodInvokerHelper.of(Field150Entity.class);
+        Field150Entity[] entities = new Field150Entity[3];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = new Field150Entity();
+            entities[i].setField1(i);
+            entities[i].setField150(i + 150);
+        }
+        Object[] firsts = new Object[entities.length];
+        wide.invokeAll(wide.getMethodIndexOrThrow("getField1"), entities, firsts);
+        assertArrayEquals(new Object[]{0, 1, 2}, firsts);
+        Object[] lasts = new Object[entities.length];
+        wide.invokeAll(wide.getMethodIndexOrThrow("getField150"), entities, lasts);
+        assertArrayEquals(new Object[]{150, 151, 152}, lasts);
+
+        assertThrows(IllegalArgumentException.class, () -> wide.invokeAll(-1, entities));
+        assertThrows(IllegalArgumentException.class, () -> wide.invokeAll(wide.getMethodIndexOrThrow("setField1", Integer.class), entities));
+        assertThrows(IllegalArgumentException.class, () -> wide.invokeAll(Integer.MAX_VALUE, entities, lasts));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testInvalidBatch() {
+        int add = helper.getMethodIndexOrThrow("add", int.class);
+        int label = helper.getMethodIndexOrThrow("label");
+        int getValue = helper.getMethodIndexOrThrow("getValue");
+
+        // 有参方法不能批量调用
+        assertThrows(IllegalArgumentException.class, () -> helper.invokeAll(add, counters));
+        assertThrows(IllegalArgumentException.class, () -> helper.intInvokeAll(add, counters, new int[counters.length]));
+        // 返回类型不匹配
+        assertThrows(IllegalArgumentException.class, () -> helper.intInvokeAll(label, counters, new int[counters.length]));
+        assertThrows(IllegalArgumentException.class, () -> helper.longInvokeAll(getValue, counters, new long[counters.length]));
+        // 索引越界
+        assertThrows(IllegalArgumentException.class, () -> helper.invokeAll(-1, counters));
+        assertThrows(IllegalArgumentException.class, () -> helper.invokeAll(Integer.MAX_VALUE, counters, new Object[counters.length]));
+        // 结果数组长度不足
+        assertThrows(IllegalArgumentException.class, () -> helper.intInvokeAll(getValue, counters, new int[1]));
+        assertEquals(0, counters[0].value);
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.api.method.MethodInvoker;
+import com.github.archtiger.bytebean.core.model.MethodGroup;
+import com.github.archtiger.bytebean.core.model.MethodIdentify;
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 六至十参数特化方法测试
+ * <p>
+ * 测试包括：
+ * 1. MethodGroup 按参数数量 6 ~ 10 分组且全局索引连续
+ * 2. 字节码实现的 invoke6 ~ invoke10，含基本类型拆箱与 private 方法
+ * 3. MethodHandle 实现的 invoke6 ~ invoke10
+ * 4. 超过十个参数的方法仍通过 invoke(index, instance, args...) 调用
+ * 5. 参数数量不匹配与索引越界异常
+ */
+@PrivateAccess
+class MethodFixedArityInvokerTest {
+
+    static class Command {
+        String last;
+
+        public String handle6(String a, int b, long c, double d, boolean e, char f) {
+            return last = a + b + c + d + e + f;
+        }
+
+        public int handle7(int a, int b, int c, int d, int e, int f, int g) {
+            return a + b + c + d + e + f + g;
+        }
+
+        public void handle8(String a, String b, String c, String d, String e, String f, String g, String h) {
+            last = a + b + c + d + e + f + g + h;
+        }
+
+        private long handle9(long a, long b, long c, long d, long e, long f, long g, long h, long i) {
+            return a + b + c + d + e + f + g + h + i;
+        }
+
+        public String handle10(Object a, Object b, Object c, Object d, Object e, Object f, Object g, Object h, Object i, Object j) {
+            return "" + a + b + c + d + e + f + g + h + i + j;
+        }
+
+        public int handle11(int a, int b, int c, int d, int e, int f, int g, int h, int i, int j, int k) {
+            return a + b + c + d + e + f + g + h + i + j + k;
+        }
+    }
+
+    private MethodInvokerHelper helper;
+    private Command command;
+
+    @BeforeEach
+    void setUp() {
+        helper = MethodInvokerHelper.of(Command.class);
+        command = new Command();
+    }
+
+    // ==================== 分组测试 ====================
+
+    @Test
+    void testMethodGroup() {
+        MethodGroup group = MethodGroup.of(Command.class);
+        List<List<MethodIdentify>> lists = List.of(group.method6List(), group.method7List(), group.method8List(),
+                group.method9List(), group.method10List());
+        int previous = -1;
+        for (int i = 0; i < lists.size(); i++) {
+            assertEquals(1, lists.get(i).size());
+            MethodIdentify methodIdentify = lists.get(i).get(0);
+            assertEquals(6 + i, methodIdentify.method().getParameterCount());
+            assertTrue(methodIdentify.index() > previous);
+            previous = methodIdentify.index();
+        }
+        // 超过十个参数的方法排在最后
+        int handle11 = helper.getMethodIndexOrThrow("handle11", int.class, int.class, int.class, int.class, int.class,
+                int.class, int.class, int.class, int.class, int.class, int.class);
+        assertEquals(group.methodAllList().size() - 1, handle11);
+    }
+
+    // ==================== 调用测试 ====================
+
+    @Test
+    void testGeneratedInvoke6To10() {
+        assertFixedArity(helper);
+    }
+
+    @Test
+    void testMethodHandleInvoke6To10() {
+        assertFixedArity(MethodHandleInvoker.of(Command.class));
+    }
+
+    private void assertFixedArity(MethodInvoker invoker) {
+        int handle6 = helper.getMethodIndexOrThrow("handle6", String.class, int.class, long.class, double.class, boolean.class, char.class);
+        assertEquals("x123.0trueZ", invoker.invoke6(handle6, command, "x", 1, 2L, 3.0, true, 'Z'));
+
+        int handle7 = helper.getMethodIndexOrThrow("handle7", int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+        assertEquals(28, invoker.invoke7(handle7, command, 1, 2, 3, 4, 5, 6, 7));
+
+        int handle8 = helper.getMethodIndexOrThrow("handle8", String.class, String.class, String.class, String.class,
+                String.class, String.class, String.class, String.class);
+        assertNull(invoker.invoke8(handle8, command, "a", "b", "c", "d", "e", "f", "g", "h"));
+        assertEquals("abcdefgh", command.last);
+
+        int handle9 = helper.getMethodIndexOrThrow("handle9", long.class, long.class, long.class, long.class, long.class,
+                long.class, long.class, long.class, long.class);
+        assertEquals(45L, invoker.invoke9(handle9, command, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+
+        int handle10 = helper.getMethodIndexOrThrow("handle10", Object.class, Object.class, Object.class, Object.class,
+                Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
+        assertEquals("0123456789", invoker.invoke10(handle10, command, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    void testVarargsBeyondTen() {
+        int handle11 = helper.getMethodIndexOrThrow("handle11", int.class, int.class, int.class, int.class, int.class,
+                int.class, int.class, int.class, int.class, int.class, int.class);
+        assertEquals(66, helper.invoke(handle11, command, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+
+        int handle7 = helper.getMethodIndexOrThrow("handle7", int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+        assertEquals(7, helper.invoke(handle7, command, 1, 1, 1, 1, 1, 1, 1));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testArityMismatchAndInvalidIndex() {
+        int handle7 = helper.getMethodIndexOrThrow("handle7", int.class, int.class, int.class, int.class, int.class, int.class, int.class);
+        assertThrows(IllegalArgumentException.class,
+                () -> helper.invoke6(handle7, command, 1, 2, 3, 4, 5, 6));
+        assertThrows(IllegalArgumentException.class,
+                () -> helper.invoke8(handle7, command, 1, 2, 3, 4, 5, 6, 7, 8));
+        assertThrows(IllegalArgumentException.class,
+                () -> helper.invoke10(-1, command, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> helper.invoke9(Integer.MAX_VALUE, command, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+}
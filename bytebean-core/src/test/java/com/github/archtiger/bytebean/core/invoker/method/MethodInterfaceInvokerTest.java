@@ -0,0 +1,165 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 接口与抽象类作为目标类型的方法调用测试
+ * <p>
+ * 测试包括：
+ * 1. 接口抽象方法通过 INVOKEINTERFACE 分派到不同实现
+ * 2. default 方法（含被实现类覆盖的 default 方法）与父接口方法，接口 private 方法不进入索引空间
+ * 3. 接口方法的基本类型返回值与单参数基本类型调用
+ * 4. 抽象类的抽象方法分派
+ * 5. 实例类型不匹配的异常
+ */
+class MethodInterfaceInvokerTest {
+
+    interface Named {
+        String name();
+    }
+
+    interface Handler extends Named {
+        String handle(String input);
+
+        int priority();
+
+        default String describe() {
+            return name() + ":" + priority();
+        }
+
+        default long weight(int factor) {
+            return (long) priority() * factor;
+        }
+
+        private String tag() {
+            return "#" + name();
+        }
+    }
+
+    static class UpperHandler implements Handler {
+        @Override
+        public String name() {
+            return "upper";
+        }
+
+        @Override
+        public String handle(String input) {
+            return input.toUpperCase();
+        }
+
+        @Override
+        public int priority() {
+            return 1;
+        }
+    }
+
+    static class PrefixHandler implements Handler {
+        @Override
+        public String name() {
+            return "prefix";
+        }
+
+        @Override
+        public String handle(String input) {
+            return "> " + input;
+        }
+
+        @Override
+        public int priority() {
+            return 2;
+        }
+
+        @Override
+        public String describe() {
+            return "custom";
+        }
+    }
+
+    static abstract class AbstractCounter {
+        protected int count;
+
+        abstract int step();
+
+        void increment() {
+            count += step();
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+
+    static class DoubleCounter extends AbstractCounter {
+        @Override
+        int step() {
+            return 2;
+        }
+    }
+
+    // ==================== 接口方法测试 ====================
+
+    @Test
+    void testInterfaceAbstractMethods() {
+        MethodInvokerHelper helper = MethodInvokerHelper.of(Handler.class);
+        assertNotNull(helper);
+
+        int handleIndex = helper.getMethodIndexOrThrow("handle", String.class);
+        assertEquals("ABC", helper.invoke1(handleIndex, new UpperHandler(), "abc"));
+        assertEquals("> abc", helper.invoke1(handleIndex, new PrefixHandler(), "abc"));
+        assertEquals("> abc", helper.invoke(handleIndex, new PrefixHandler(), "abc"));
+    }
+
+    @Test
+    void testDefaultAndInheritedMethods() {
+        MethodInvokerHelper helper = MethodInvokerHelper.of(Handler.class);
+
+        int describeIndex = helper.getMethodIndexOrThrow("describe");
+        assertEquals("upper:1", helper.invoke(describeIndex, new UpperHandler()));
+        assertEquals("custom", helper.invoke(describeIndex, new PrefixHandler()));
+
+        int nameIndex = helper.getMethodIndexOrThrow("name");
+        assertEquals("prefix", helper.invoke(nameIndex, new PrefixHandler()));
+
+        // 接口的 private 方法不进入索引空间
+        assertEquals(-1, helper.getMethodIndex("tag"));
+    }
+
+    @Test
+    void testInterfacePrimitiveMethods() {
+        MethodInvokerHelper helper = MethodInvokerHelper.of(Handler.class);
+
+        int priorityIndex = helper.getMethodIndexOrThrow("priority");
+        assertEquals(1, helper.intInvoke(priorityIndex, new UpperHandler()));
+        assertEquals(2, helper.intInvoke(priorityIndex, new PrefixHandler()));
+
+        int weightIndex = helper.getMethodIndexOrThrow("weight", int.class);
+        assertEquals(20L, helper.longInvoke(weightIndex, new PrefixHandler(), 10));
+        assertEquals(10L, helper.invokeInt1(weightIndex, new UpperHandler(), 10));
+    }
+
+    // ==================== 抽象类测试 ====================
+
+    @Test
+    void testAbstractClassTarget() {
+        MethodInvokerHelper helper = MethodInvokerHelper.of(AbstractCounter.class);
+        assertNotNull(helper);
+
+        DoubleCounter counter = new DoubleCounter();
+        helper.invoke(helper.getMethodIndexOrThrow("increment"), counter);
+        helper.invoke(helper.getMethodIndexOrThrow("increment"), counter);
+
+        assertEquals(2, helper.intInvoke(helper.getMethodIndexOrThrow("step"), counter));
+        assertEquals(4, helper.intInvoke(helper.getMethodIndexOrThrow("getCount"), counter));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testInstanceTypeMismatch() {
+        MethodInvokerHelper helper = MethodInvokerHelper.of(Handler.class);
+        int priorityIndex = helper.getMethodIndexOrThrow("priority");
+        assertThrows(ClassCastException.class, () -> helper.intInvoke(priorityIndex, "not handler"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.api.method.MethodInvoker;
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.invoker.entity.Field1000Entity;
+import com.github.archtiger.bytebean.core.model.MethodGroup;
+import com.github.archtiger.bytebean.core.model.ShardInvokerResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分片方法访问器测试
+ * <p>
+ * 测试包括：
+ * 1. 超过阈值的类生成分片调度器
+ * 2. 各特化入口跨分片调用
+ * 3. 索引越界与类型不匹配异常
+ */
+class MethodInvokerShardingTest {
+
+    private MethodInvokerHelper methodInvokerHelper;
+    private Field1000Entity entity;
+
+    @BeforeEach
+    void setUp() {
+        methodInvokerHelper = MethodInvokerHelper.of(Field1000Entity.class);
+        entity = new Field1000Entity();
+    }
+
+    // ==================== 分片生成测试 ====================
+
+    @Test
+    void testShardClassesGenerated() {
+        int methodCount = MethodGroup.of(Field1000Entity.class).methodAllList().size();
+        assertTrue(methodCount > ByteBeanConstant.METHOD_SHARDING_THRESHOLD_VALUE);
+
+        ShardInvokerResult<MethodInvoker> result = MethodInvokerGenerator.generateSharded(Field1000Entity.class);
+        assertTrue(result.ok());
+
+        int shardSize = 1 << ByteBeanConstant.METHOD_SHARD_SHIFT;
+        assertEquals((methodCount + shardSize - 1) / shardSize, result.shardClasses().size());
+    }
+
+    // ==================== 调用测试 ====================
+
+    @Test
+    void testInvokeGettersAndSetters() {
+        for (int i = 1; i <= 100; i++) {
+            int setter = methodInvokerHelper.getMethodIndexOrThrow("setField" + i, Integer.class);
+            methodInvokerHelper.invoke1(setter, entity, i);
+        }
+        for (int i = 201; i <= 300; i++) {
+            int setter = methodInvokerHelper.getMethodIndexOrThrow("setField" + i, String.class);
+            methodInvokerHelper.invoke(setter, entity, "s" + i);
+        }
+
+        for (int i = 1; i <= 100; i++) {
+            int getter = methodInvokerHelper.getMethodIndexOrThrow("getField" + i);
+            assertEquals(i, methodInvokerHelper.invoke(getter, entity));
+        }
+        for (int i = 201; i <= 300; i++) {
+            int getter = methodInvokerHelper.getMethodIndexOrThrow("getField" + i);
+            assertEquals("s" + i, methodInvokerHelper.invoke(getter, entity, new Object[0]));
+        }
+    }
+
+    @Test
+    void testInvoke5() {
+        int index = methodInvokerHelper.getMethodIndexOrThrow("setFiveFields_1_5",
+                Integer.class, Integer.class, Integer.class, Integer.class, Integer.class);
+        methodInvokerHelper.invoke5(index, entity, 1, 2, 3, 4, 5);
+
+        assertEquals(1, entity.getField1());
+        assertEquals(5, entity.getField5());
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testInvalidIndex() {
+        int methodCount = MethodGroup.of(Field1000Entity.class).methodAllList().size();
+        assertThrows(IllegalArgumentException.class, () -> methodInvokerHelper.invoke(-1, entity));
+        assertThrows(IllegalArgumentException.class, () -> methodInvokerHelper.invoke(methodCount, entity));
+        assertThrows(IllegalArgumentException.class, () -> methodInvokerHelper.invoke1(Integer.MAX_VALUE, entity, 1));
+    }
+
+    @Test
+    void testArityMismatch() {
+        int getter = methodInvokerHelper.getMethodIndexOrThrow("getField1");
+        int setter = methodInvokerHelper.getMethodIndexOrThrow("setField1", Integer.class);
+
+        assertThrows(IllegalArgumentException.class, () -> methodInvokerHelper.invoke1(getter, entity, 1));
+        assertThrows(IllegalArgumentException.class, () -> methodInvokerHelper.invoke(setter, entity));
+        // 包装类型返回值不支持基本类型返回入口
+        assertThrows(IllegalArgumentException.class, () -> methodInvokerHelper.intInvoke(getter, entity));
+    }
+}
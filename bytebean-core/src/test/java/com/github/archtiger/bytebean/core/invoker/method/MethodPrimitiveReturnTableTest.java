@@ -0,0 +1,98 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.model.MethodGroup;
+import com.github.archtiger.bytebean.core.model.MethodIdentify;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 基本类型返回值紧凑索引表测试
+ * <p>
+ * 测试包括：
+ * 1. 每种基本类型返回值的方法编号为 0 ~ k-1，与全局索引顺序一致
+ * 2. 引用类型、void 返回值与越界索引的映射
+ * 3. intInvoke 等方法仍接收全局索引，覆盖所有参数数量
+ * 4. 返回类型不匹配时异常信息保留全局索引
+ */
+class MethodPrimitiveReturnTableTest {
+
+    private static final Class<?>[] PRIMITIVE_TYPES = {
+            int.class, long.class, float.class, double.class, boolean.class, byte.class, short.class, char.class
+    };
+
+    private MethodInvokerHelper helper;
+    private TestMethodEntity entity;
+
+    @BeforeEach
+    void setUp() {
+        helper = MethodInvokerHelper.of(TestMethodEntity.class);
+        entity = new TestMethodEntity();
+    }
+
+    // ==================== 索引映射测试 ====================
+
+    @Test
+    void testDenseNumbering() {
+        MethodGroup methodGroup = MethodGroup.of(TestMethodEntity.class);
+        for (Class<?> primitiveType : PRIMITIVE_TYPES) {
+            List<MethodIdentify> table = methodGroup.primitiveReturnList(primitiveType);
+            int previousGlobalIndex = -1;
+            for (int i = 0; i < table.size(); i++) {
+                MethodIdentify methodIdentify = table.get(i);
+                assertEquals(i, methodIdentify.index());
+                assertSame(primitiveType, methodIdentify.method().getReturnType());
+
+                int globalIndex = helper.getMethodIndex(methodIdentify.method());
+                assertTrue(globalIndex > previousGlobalIndex);
+                assertEquals(i, helper.getPrimitiveReturnIndex(globalIndex));
+                previousGlobalIndex = globalIndex;
+            }
+        }
+        assertFalse(methodGroup.primitiveReturnList(int.class).isEmpty());
+    }
+
+    @Test
+    void testNonPrimitiveMapping() {
+        assertEquals(-1, helper.getPrimitiveReturnIndex(helper.getMethodIndexOrThrow("getString")));
+        assertEquals(-1, helper.getPrimitiveReturnIndex(helper.getMethodIndexOrThrow("getInteger")));
+        assertEquals(-1, helper.getPrimitiveReturnIndex(helper.getMethodIndexOrThrow("voidMethod")));
+        assertEquals(-1, helper.getPrimitiveReturnIndex(-1));
+        assertEquals(-1, helper.getPrimitiveReturnIndex(Integer.MAX_VALUE));
+    }
+
+    // ==================== 调用测试 ====================
+
+    @Test
+    void testInvokeWithGlobalIndex() {
+        entity.setInt(3);
+        entity.setLong(4L);
+        entity.setChar('x');
+
+        assertEquals(3, helper.intInvoke(helper.getMethodIndexOrThrow("getInt"), entity));
+        assertEquals(5, helper.intInvoke(helper.getMethodIndexOrThrow("addInt", int.class), entity, 2));
+        assertEquals(7, helper.intInvoke(helper.getMethodIndexOrThrow("addTwoInts", int.class, int.class), entity, 3, 4));
+        assertEquals(15, helper.intInvoke(helper.getMethodIndexOrThrow("addFiveInts",
+                int.class, int.class, int.class, int.class, int.class), entity, 1, 2, 3, 4, 5));
+        assertEquals(4L, helper.longInvoke(helper.getMethodIndexOrThrow("getLong"), entity));
+        assertEquals(5L, helper.longInvoke(helper.getMethodIndexOrThrow("addTwoLongs", long.class, long.class), entity, 2L, 3L));
+        assertEquals('x', helper.charInvoke(helper.getMethodIndexOrThrow("getChar"), entity));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testReturnTypeMismatch() {
+        int getLong = helper.getMethodIndexOrThrow("getLong");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> helper.intInvoke(getLong, entity));
+        assertTrue(e.getMessage().endsWith(": " + getLong));
+
+        int getString = helper.getMethodIndexOrThrow("getString");
+        assertThrows(IllegalArgumentException.class, () -> helper.booleanInvoke(getString, entity));
+        assertThrows(IllegalArgumentException.class, () -> helper.doubleInvoke(-1, entity));
+        assertThrows(IllegalArgumentException.class, () -> helper.floatInvoke(Integer.MAX_VALUE, entity));
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.invoker.constructor.ConstructorInvokerHelper;
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 私有方法与私有构造器调用测试（隐藏嵌套成员模式）
+ * <p>
+ * 测试包括：
+ * 1. private 方法进入索引空间并通过 INVOKEVIRTUAL 直接调用
+ * 2. private 基本类型返回值方法
+ * 3. private 构造器
+ */
+@PrivateAccess
+class MethodPrivateAccessTest {
+
+    static class PrivateService {
+        private int count;
+
+        private PrivateService() {
+        }
+
+        private PrivateService(int count) {
+            this.count = count;
+        }
+
+        private void add(int delta) {
+            count += delta;
+        }
+
+        private int getCount() {
+            return count;
+        }
+
+        private String describe(String prefix, int times) {
+            return prefix + count * times;
+        }
+    }
+
+    @Test
+    void testInvokePrivateMethods() {
+        MethodInvokerHelper helper = MethodInvokerHelper.of(PrivateService.class);
+        PrivateService service = new PrivateService();
+
+        int addIndex = helper.getMethodIndexOrThrow("add", int.class);
+        int getIndex = helper.getMethodIndexOrThrow("getCount");
+        int describeIndex = helper.getMethodIndexOrThrow("describe", String.class, int.class);
+
+        helper.invokeInt1(addIndex, service, 5);
+        helper.invoke(addIndex, service, 2);
+
+        assertEquals(7, service.count);
+        assertEquals(7, helper.intInvoke(getIndex, service));
+        assertEquals("n14", helper.invoke(describeIndex, service, "n", 2));
+    }
+
+    @Test
+    void testInvokePrivateConstructors() {
+        ConstructorInvokerHelper helper = ConstructorInvokerHelper.of(PrivateService.class);
+
+        Object instance = helper.newInstance();
+        assertInstanceOf(PrivateService.class, instance);
+
+        int index = helper.getConstructorIndexOrThrow(int.class);
+        PrivateService service = (PrivateService) helper.newInstance(index, 3);
+        assertEquals(3, service.count);
+    }
+}
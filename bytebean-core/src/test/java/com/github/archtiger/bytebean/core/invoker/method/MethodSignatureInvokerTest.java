@@ -0,0 +1,226 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.invoker.entity.Field1000Entity;
+import com.github.archtiger.bytebean.core.model.MethodGroup;
+import com.github.archtiger.bytebean.core.model.MethodIdentify;
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 擦除签名专用入口测试
+ * <p>
+ * 测试包括：
+ * 1. 擦除签名的计算规则与按签名的紧凑编号
+ * 2. 为类中出现的每个签名生成 invoke_XX_Y 入口，signatureEntry 按签名缓存并绑定到入口
+ * 3. methodHandle 按方法索引缓存，精确签名与多基本类型参数调用，含 private 方法与引用类型参数
+ * 4. 分片实现经由通用 invoke 适配，未知签名与索引越界异常
+ */
+@PrivateAccess
+class MethodSignatureInvokerTest {
+
+    static class Range {
+        private int from;
+        private int to;
+        private double total;
+        private String label;
+
+        public void setRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        public void shift(int from, int to) {
+            this.from += from;
+            this.to += to;
+        }
+
+        public double add(long count, double price) {
+            total += count * price;
+            return total;
+        }
+
+        public int length() {
+            return to - from;
+        }
+
+        public String describe(String prefix, int width) {
+            return prefix + ":" + String.valueOf(to - from).repeat(width);
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+
+        private boolean contains(long value) {
+            return value >= from && value < to;
+        }
+    }
+
+    /**
+     * 继承1000字段实体的方法，方法数超过分片阈值
+     */
+    static class ShardedRange extends Field1000Entity {
+        private int from;
+        private int to;
+
+        public void setRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private MethodInvokerHelper helper;
+    private Range range;
+
+    @BeforeEach
+    void setUp() {
+        helper = MethodInvokerHelper.of(Range.class);
+        range = new Range();
+    }
+
+    // ==================== 签名计算 ====================
+
+    @Test
+    void testPrimitiveSignature() throws Exception {
+        assertEquals("II_V", MethodGroup.primitiveSignature(Range.class.getMethod("setRange", int.class, int.class)));
+        assertEquals("JD_D", MethodGroup.primitiveSignature(Range.class.getMethod("add", long.class, double.class)));
+        assertEquals("LI_L", MethodGroup.primitiveSignature(Range.class.getMethod("describe", String.class, int.class)));
+        assertEquals("J_Z", MethodGroup.primitiveSignature(Range.class.getDeclaredMethod("contains", long.class)));
+        // 无参方法与纯引用类型签名不需要专用入口
+        assertNull(MethodGroup.primitiveSignature(Range.class.getMethod("length")));
+        assertNull(MethodGroup.primitiveSignature(Range.class.getMethod("setLabel", String.class)));
+
+        assertEquals("II_V", helper.getPrimitiveSignature(helper.getMethodIndexOrThrow("shift", int.class, int.class)));
+        assertNull(helper.getPrimitiveSignature(-1));
+
+        Map<String, List<MethodIdentify>> lists = MethodGroup.of(Range.class).primitiveSignatureLists();
+        List<MethodIdentify> intInt = lists.get("II_V");
+        assertEquals(2, intInt.size());
+        for (int i = 0; i < intInt.size(); i++) {
+            assertEquals(i, intInt.get(i).index());
+            assertEquals(i, helper.getPrimitiveSignatureIndex(helper.getMethodIndex(intInt.get(i).method())));
+        }
+        assertEquals(-1, helper.getPrimitiveSignatureIndex(helper.getMethodIndexOrThrow("length")));
+        assertEquals(-1, helper.getPrimitiveSignatureIndex(-1));
+    }
+
+    // ==================== 签名入口 ====================
+
+    @Test
+    void testEntryPointsGenerated() throws Exception {
+        Class<?> invokerClass = MethodInvokerGenerator.generate(Range.class).methodInvokerClass();
+        Method entry = invokerClass.getDeclaredMethod("invoke_II_V", int.class, Object.class, int.class, int.class);
+        assertEquals(void.class, entry.getReturnType());
+        assertEquals(double.class, invokerClass.getDeclaredMethod("invoke_JD_D", int.class, Object.class, long.class, double.class).getReturnType());
+        assertEquals(Object.class, invokerClass.getDeclaredMethod("invoke_LI_L", int.class, Object.class, Object.class, int.class).getReturnType());
+        assertThrows(NoSuchMethodException.class, () -> invokerClass.getDeclaredMethod("invoke_L_V", int.class, Object.class, Object.class));
+    }
+
+    @Test
+    void testSignatureEntry() throws Throwable {
+        MethodHandle intInt = helper.signatureEntry("II_V");
+        assertSame(intInt, helper.signatureEntry("II_V"));
+        assertEquals(MethodType.methodType(void.class, int.class, Object.class, int.class, int.class), intInt.type());
+
+        int setRange = helper.getPrimitiveSignatureIndex(helper.getMethodIndexOrThrow("setRange", int.class, int.class));
+        int shift = helper.getPrimitiveSignatureIndex(helper.getMethodIndexOrThrow("shift", int.class, int.class));
+        intInt.invokeExact(setRange, (Object) range, 2, 9);
+        intInt.invokeExact(shift, (Object) range, 1, 1);
+        assertEquals(3, range.from);
+        assertEquals(10, range.to);
+
+        int add = helper.getPrimitiveSignatureIndex(helper.getMethodIndexOrThrow("add", long.class, double.class));
+        assertEquals(4.5, (double) helper.signatureEntry("JD_D").invokeExact(add, (Object) range, 3L, 1.5));
+
+        int describe = helper.getPrimitiveSignatureIndex(helper.getMethodIndexOrThrow("describe", String.class, int.class));
+        assertEquals("len:77", helper.signatureEntry("LI_L").invokeExact(describe, (Object) range, (Object) "len", 2));
+
+        int contains = helper.getPrimitiveSignatureIndex(helper.getMethodIndexOrThrow("contains", long.class));
+        assertTrue((boolean) helper.signatureEntry("J_Z").invokeExact(contains, (Object) range, 5L));
+
+        // 签名内的紧凑索引越界
+        assertThrows(IllegalArgumentException.class, () -> {
+            intInt.invokeExact(2, (Object) range, 1, 1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> helper.signatureEntry("L_V"));
+    }
+
+    // ==================== 句柄缓存 ====================
+
+    @Test
+    void testMethodHandleCached() {
+        int setRange = helper.getMethodIndexOrThrow("setRange", int.class, int.class);
+        assertSame(helper.methodHandle(setRange), helper.methodHandle(setRange));
+    }
+
+    // ==================== 句柄调用 ====================
+
+    @Test
+    void testMethodHandle() throws Throwable {
+        MethodHandle setRange = helper.methodHandle(helper.getMethodIndexOrThrow("setRange", int.class, int.class));
+        assertEquals(MethodType.methodType(void.class, Range.class, int.class, int.class), setRange.type());
+        setRange.invokeExact(range, 2, 9);
+        assertEquals(2, range.from);
+        assertEquals(9, range.to);
+
+        MethodHandle shift = helper.methodHandle(helper.getMethodIndexOrThrow("shift", int.class, int.class));
+        shift.invokeExact(range, 1, 1);
+        assertEquals(3, range.from);
+        assertEquals(10, range.to);
+
+        MethodHandle add = helper.methodHandle(helper.getMethodIndexOrThrow("add", long.class, double.class));
+        double total = (double) add.invokeExact(range, 3L, 1.5);
+        assertEquals(4.5, total);
+
+        MethodHandle describe = helper.methodHandle(helper.getMethodIndexOrThrow("describe", String.class, int.class));
+        String text = (String) describe.invokeExact(range, "len", 2);
+        assertEquals("len:77", text);
+
+        MethodHandle contains = helper.methodHandle(helper.getMethodIndexOrThrow("contains", long.class));
+        assertTrue((boolean) contains.invokeExact(range, 5L));
+        assertFalse((boolean) contains.invokeExact(range, 10L));
+
+        // 无参方法与纯引用类型参数方法
+        MethodHandle length = helper.methodHandle(helper.getMethodIndexOrThrow("length"));
+        assertEquals(7, (int) length.invokeExact(range));
+        MethodHandle setLabel = helper.methodHandle(helper.getMethodIndexOrThrow("setLabel", String.class));
+        setLabel.invokeExact(range, "r");
+        assertEquals("r", range.label);
+    }
+
+    // ==================== 分片与异常 ====================
+
+    @Test
+    void testShardedFallbackAndInvalidIndex() throws Throwable {
+        MethodInvokerHelper shardedHelper = MethodInvokerHelper.of(Field1000Entity.class);
+        Field1000Entity entity = new Field1000Entity();
+        MethodHandle setter = shardedHelper.methodHandle(shardedHelper.getMethodIndexOrThrow("setField1", Integer.class));
+        setter.invokeExact(entity, (Integer) 42);
+        MethodHandle getter = shardedHelper.methodHandle(shardedHelper.getMethodIndexOrThrow("getField1"));
+        assertEquals(42, (Integer) getter.invokeExact(entity));
+
+        // 分片实现没有专用入口，签名入口经由通用 invoke 适配，类型与紧凑索引不变
+        assertTrue(MethodGroup.of(ShardedRange.class).methodAllList().size() > ByteBeanConstant.METHOD_SHARDING_THRESHOLD_VALUE);
+        MethodInvokerHelper shardedRangeHelper = MethodInvokerHelper.of(ShardedRange.class);
+        ShardedRange shardedRange = new ShardedRange();
+        int setRange = shardedRangeHelper.getMethodIndexOrThrow("setRange", int.class, int.class);
+        MethodHandle intInt = shardedRangeHelper.signatureEntry(shardedRangeHelper.getPrimitiveSignature(setRange));
+        assertEquals(MethodType.methodType(void.class, int.class, Object.class, int.class, int.class), intInt.type());
+        intInt.invokeExact(shardedRangeHelper.getPrimitiveSignatureIndex(setRange), (Object) shardedRange, 2, 9);
+        assertEquals(2, shardedRange.from);
+        assertEquals(9, shardedRange.to);
+
+        assertThrows(IllegalArgumentException.class, () -> helper.methodHandle(-1));
+        assertThrows(IllegalArgumentException.class, () -> helper.methodHandle(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.archtiger.bytebean.core.invoker.method;
+
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 静态方法调用测试
+ * <p>
+ * 测试包括：
+ * 1. 工厂与转换方法的通用调用、特化参数数量调用
+ * 2. 方法重载的精确匹配，实例方法不进入索引空间
+ * 3. 基本类型返回值、void 方法、超过 5 个参数的方法
+ * 4. private 静态方法（隐藏嵌套成员模式）与接口静态方法
+ * 5. 参数数量、返回类型不匹配与索引越界的异常
+ */
+@PrivateAccess
+class StaticMethodInvokerTest {
+
+    static final class Money {
+        static int created;
+
+        final long cents;
+
+        private Money(long cents) {
+            this.cents = cents;
+        }
+
+        static Money of(long cents) {
+            created++;
+            return new Money(cents);
+        }
+
+        static Money of(int yuan, int fen) {
+            return new Money(yuan * 100L + fen);
+        }
+
+        static Money parse(String text) {
+            return new Money(toCents(text));
+        }
+
+        static long toCents(String text) {
+            String[] parts = text.split("\\.");
+            return Long.parseLong(parts[0]) * 100 + (parts.length > 1 ? Integer.parseInt(parts[1]) : 0);
+        }
+
+        static boolean isZero(Money money) {
+            return money.cents == 0;
+        }
+
+        static double ratio(Money a, Money b) {
+            return (double) a.cents / b.cents;
+        }
+
+        static void reset() {
+            created = 0;
+        }
+
+        static long sum(long a, long b, long c, long d, long e, long f) {
+            return a + b + c + d + e + f;
+        }
+
+        private static String secret() {
+            return "secret";
+        }
+
+        long cents() {
+            return cents;
+        }
+    }
+
+    interface Codec {
+        static String encode(String value) {
+            return "[" + value + "]";
+        }
+    }
+
+    static class NoStaticMethods {
+        int value() {
+            return 1;
+        }
+    }
+
+    private StaticMethodInvokerHelper helper;
+
+    @BeforeEach
+    void setUp() {
+        helper = StaticMethodInvokerHelper.of(Money.class);
+        Money.created = 0;
+    }
+
+    // ==================== 索引测试 ====================
+
+    @Test
+    void testIndexLookup() {
+        assertNotEquals(helper.getMethodIndex("of", long.class), helper.getMethodIndex("of", int.class, int.class));
+        assertEquals(-1, helper.getMethodIndex("cents"));
+        assertEquals(-1, helper.getMethodIndex("of", Long.class));
+        assertThrows(IllegalArgumentException.class, () -> helper.getMethodIndexOrThrow("notExist"));
+        assertNull(StaticMethodInvokerHelper.of(NoStaticMethods.class));
+    }
+
+    // ==================== 调用测试 ====================
+
+    @Test
+    void testInvokeStatic() {
+        int ofIndex = helper.getMethodIndexOrThrow("of", long.class);
+        int of2Index = helper.getMethodIndexOrThrow("of", int.class, int.class);
+        int parseIndex = helper.getMethodIndexOrThrow("parse", String.class);
+
+        assertEquals(1234L, ((Money) helper.invokeStatic1(ofIndex, 1234L)).cents);
+        assertEquals(1234L, ((Money) helper.invokeStatic(ofIndex, 1234L)).cents);
+        assertEquals(2, Money.created);
+        assertEquals(1205L, ((Money) helper.invokeStatic2(of2Index, 12, 5)).cents);
+        assertEquals(1230L, ((Money) helper.invokeStatic1(parseIndex, "12.30")).cents);
+    }
+
+    @Test
+    void testPrimitiveReturnAndVoid() {
+        assertEquals(1230L, helper.longInvokeStatic(helper.getMethodIndexOrThrow("toCents", String.class), "12.30"));
+        assertEquals(1230L, helper.invokeStatic1(helper.getMethodIndexOrThrow("toCents", String.class), "12.30"));
+        assertTrue(helper.booleanInvokeStatic(helper.getMethodIndexOrThrow("isZero", Money.class), Money.of(0)));
+        assertEquals(0.5d, helper.doubleInvokeStatic(helper.getMethodIndexOrThrow("ratio", Money.class, Money.class),
+                Money.of(1), Money.of(2)));
+
+        int resetIndex = helper.getMethodIndexOrThrow("reset");
+        assertNull(helper.invokeStatic(resetIndex));
+        assertEquals(0, Money.created);
+    }
+
+    @Test
+    void testManyParameters() {
+        int sumIndex = helper.getMethodIndexOrThrow("sum", long.class, long.class, long.class, long.class, long.class, long.class);
+        assertEquals(21L, helper.longInvokeStatic(sumIndex, 1L, 2L, 3L, 4L, 5L, 6L));
+        assertEquals(21L, helper.invokeStatic(sumIndex, 1L, 2L, 3L, 4L, 5L, 6L));
+    }
+
+    @Test
+    void testPrivateAndInterfaceStaticMethods() {
+        assertEquals("secret", helper.invokeStatic(helper.getMethodIndexOrThrow("secret")));
+
+        StaticMethodInvokerHelper codec = StaticMethodInvokerHelper.of(Codec.class);
+        assertEquals("[a]", codec.invokeStatic1(codec.getMethodIndexOrThrow("encode", String.class), "a"));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testMismatch() {
+        int parseIndex = helper.getMethodIndexOrThrow("parse", String.class);
+        assertThrows(IllegalArgumentException.class, () -> helper.invokeStatic2(parseIndex, "1", "2"));
+        assertThrows(IllegalArgumentException.class, () -> helper.invokeStatic(parseIndex));
+        assertThrows(IllegalArgumentException.class, () -> helper.intInvokeStatic(parseIndex, "1"));
+        assertThrows(IllegalArgumentException.class, () -> helper.invokeStatic(-1));
+        assertThrows(IllegalArgumentException.class, () -> helper.invokeStatic(100, "1"));
+        assertThrows(ClassCastException.class, () -> helper.invokeStatic1(parseIndex, 1));
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.archtiger.bytebean.core.invoker.method.jmh;
+
+import com.github.archtiger.bytebean.core.invoker.method.MethodInvokerHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 批量方法调用性能基准测试
+ * <p>
+ * 对比直接循环调用、逐个 {@code intInvoke}、生成的 {@code intInvokeAll} 特化循环与并行 {@code parallelIntInvokeAll}
+ * 对大量实例调用同一个无参方法的开销。
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodBatchBenchmark {
+
+    public static class Item {
+        private final int quantity;
+        private final int price;
+
+        public Item(int quantity, int price) {
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public int total() {
+            return quantity * price;
+        }
+    }
+
+    private static final MethodInvokerHelper HELPER = MethodInvokerHelper.of(Item.class);
+    private static final int TOTAL_INDEX = HELPER.getMethodIndexOrThrow("total");
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Item[] items;
+    private int[] totals;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Item(i, i % 100);
+        }
+        totals = new int[size];
+        pool = new ForkJoinPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] direct() {
+        for (int i = 0; i < items.length; i++) {
+            totals[i] = items[i].total();
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public int[] intInvoke() {
+        for (int i = 0; i < items.length; i++) {
+            totals[i] = HELPER.intInvoke(TOTAL_INDEX, items[i]);
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public int[] intInvokeAll() {
+        HELPER.intInvokeAll(TOTAL_INDEX, items, totals);
+        return totals;
+    }
+
+    @Benchmark
+    public int[] parallelIntInvokeAll() {
+        HELPER.parallelIntInvokeAll(TOTAL_INDEX, items, totals, pool);
+        return totals;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MethodBatchBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.archtiger.bytebean.core.invoker.method.jmh;
+
+import com.github.archtiger.bytebean.core.invoker.method.MethodInvokerHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 擦除签名专用入口性能基准测试
+ * <p>
+ * 对比直接调用、{@code signatureEntry} 返回的生成入口（如 {@code invoke_JD_D}）、{@code methodHandle} 返回的 unreflect 句柄
+ * 与装箱的 {@code invoke2} 调用多个基本类型参数方法的开销。
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MethodSignatureBenchmark {
+
+    public static class Calculator {
+        private double total;
+
+        public double add(long count, double price) {
+            total += count * price;
+            return total;
+        }
+    }
+
+    private static final MethodInvokerHelper HELPER = MethodInvokerHelper.of(Calculator.class);
+    private static final int ADD_INDEX = HELPER.getMethodIndexOrThrow("add", long.class, double.class);
+    private static final MethodHandle ADD = HELPER.methodHandle(ADD_INDEX);
+    private static final MethodHandle JD_D = HELPER.signatureEntry(HELPER.getPrimitiveSignature(ADD_INDEX));
+    private static final int ADD_SIGNATURE_INDEX = HELPER.getPrimitiveSignatureIndex(ADD_INDEX);
+
+    private Calculator calculator;
+    private long count;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        calculator = new Calculator();
+    }
+
+    @Benchmark
+    public double direct() {
+        return calculator.add(count++, 1.5);
+    }
+
+    @Benchmark
+    public double signatureEntry() throws Throwable {
+        return (double) JD_D.invokeExact(ADD_SIGNATURE_INDEX, (Object) calculator, count++, 1.5);
+    }
+
+    @Benchmark
+    public double methodHandle() throws Throwable {
+        return (double) ADD.invokeExact(calculator, count++, 1.5);
+    }
+
+    @Benchmark
+    public double boxedInvoke2() {
+        return (double) HELPER.invoke2(ADD_INDEX, calculator, count++, 1.5);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MethodSignatureBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
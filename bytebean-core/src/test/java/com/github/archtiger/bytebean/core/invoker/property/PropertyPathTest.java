@@ -0,0 +1,156 @@
+package com.github.archtiger.bytebean.core.invoker.property;
+
+import com.github.archtiger.bytebean.api.property.PropertyAccessor;
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 嵌套属性路径访问器测试
+ * <p>
+ * 测试包括：
+ * 1. getter、字段、private 成员、record 访问方法、接口方法组成的多级路径
+ * 2. 基本类型末端的类型化读取与装箱读取
+ * 3. 空值安全模式与非空值安全模式
+ * 4. 编译结果缓存
+ * 5. 非法路径、属性不存在、类型不匹配的异常
+ */
+@PrivateAccess
+class PropertyPathTest {
+
+    interface Named {
+        String getName();
+    }
+
+    record Address(String city, int zip) {
+    }
+
+    static class Customer implements Named {
+        private final String name;
+        private Address address;
+        boolean vip;
+
+        Customer(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+    }
+
+    static class Order {
+        private Customer customer;
+        private Named owner;
+        long amount;
+        double rate;
+
+        Customer getCustomer() {
+            return customer;
+        }
+    }
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        order = new Order();
+        order.customer = new Customer("alice", new Address("Hangzhou", 310000));
+        order.customer.vip = true;
+        order.owner = order.customer;
+        order.amount = 42L;
+        order.rate = 0.5d;
+    }
+
+    // ==================== 路径读取测试 ====================
+
+    @Test
+    void testNestedPath() {
+        assertEquals("Hangzhou", PropertyPath.compile(Order.class, "customer.address.city").get(order));
+        assertEquals("alice", PropertyPath.compile(Order.class, "customer.name").get(order));
+        assertEquals(order.customer.getAddress(), PropertyPath.compile(Order.class, "customer.address").get(order));
+    }
+
+    @Test
+    void testInterfaceAndFieldHops() {
+        // owner 为私有字段，name 通过接口方法读取
+        assertEquals("alice", PropertyPath.compile(Order.class, "owner.name").get(order));
+        assertSame(order.customer, PropertyPath.compile(Order.class, "customer").get(order));
+    }
+
+    // ==================== 基本类型末端测试 ====================
+
+    @Test
+    void testTypedTerminals() {
+        PropertyAccessor zip = PropertyPath.compile(Order.class, "customer.address.zip");
+        assertEquals(310000, zip.getInt(order));
+        assertEquals(310000, zip.get(order));
+
+        assertEquals(42L, PropertyPath.compile(Order.class, "amount").getLong(order));
+        assertEquals(0.5d, PropertyPath.compile(Order.class, "rate").getDouble(order));
+        assertTrue(PropertyPath.compile(Order.class, "customer.vip").getBoolean(order));
+    }
+
+    @Test
+    void testTypeMismatch() {
+        PropertyAccessor zip = PropertyPath.compile(Order.class, "customer.address.zip");
+        assertThrows(IllegalArgumentException.class, () -> zip.getLong(order));
+
+        PropertyAccessor city = PropertyPath.compile(Order.class, "customer.address.city");
+        assertThrows(IllegalArgumentException.class, () -> city.getInt(order));
+    }
+
+    // ==================== 空值安全测试 ====================
+
+    @Test
+    void testNullSafe() {
+        PropertyAccessor city = PropertyPath.compile(Order.class, "customer.address.city", true);
+        PropertyAccessor zip = PropertyPath.compile(Order.class, "customer.address.zip", true);
+
+        assertEquals("Hangzhou", city.get(order));
+        order.customer.address = null;
+        assertNull(city.get(order));
+        assertNull(zip.get(order));
+        assertEquals(0, zip.getInt(order));
+        assertNull(city.get(null));
+        assertFalse(PropertyPath.compile(Order.class, "customer.vip", true).getBoolean(null));
+    }
+
+    @Test
+    void testNotNullSafe() {
+        PropertyAccessor city = PropertyPath.compile(Order.class, "customer.address.city");
+        order.customer.address = null;
+        assertThrows(NullPointerException.class, () -> city.get(order));
+    }
+
+    // ==================== 缓存测试 ====================
+
+    @Test
+    void testCache() {
+        PropertyAccessor first = PropertyPath.compile(Order.class, "customer.address.city");
+        assertSame(first, PropertyPath.compile(Order.class, "customer.address.city"));
+        assertNotSame(first, PropertyPath.compile(Order.class, "customer.address.city", true));
+    }
+
+    // ==================== 异常测试 ====================
+
+    @Test
+    void testInvalidPath() {
+        assertThrows(IllegalArgumentException.class, () -> PropertyPath.compile(Order.class, ""));
+        assertThrows(IllegalArgumentException.class, () -> PropertyPath.compile(Order.class, "customer..name"));
+        assertThrows(IllegalArgumentException.class, () -> PropertyPath.compile(Order.class, "customer.missing"));
+        assertThrows(IllegalArgumentException.class, () -> PropertyPath.compile(Order.class, "amount.value"));
+    }
+}
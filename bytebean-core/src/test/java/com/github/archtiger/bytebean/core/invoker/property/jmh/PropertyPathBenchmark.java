@@ -0,0 +1,84 @@
+package com.github.archtiger.bytebean.core.invoker.property.jmh;
+
+import com.github.archtiger.bytebean.api.property.PropertyAccessor;
+import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
+import com.github.archtiger.bytebean.core.invoker.property.PropertyPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 嵌套属性路径读取性能基准测试
+ * <p>
+ * 对比编译后的属性路径访问器、逐级通过 FieldInvokerHelper 按索引读取与直接访问
+ * 读取 {@code customer.address.zip} 的开销。
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyPathBenchmark {
+
+    public static class Address {
+        public String city = "Hangzhou";
+        public int zip = 310000;
+    }
+
+    public static class Customer {
+        public Address address = new Address();
+    }
+
+    public static class Order {
+        public Customer customer = new Customer();
+    }
+
+    private Order order;
+    private PropertyAccessor zipAccessor;
+    private PropertyAccessor nullSafeZipAccessor;
+    private FieldInvokerHelper orderHelper;
+    private FieldInvokerHelper customerHelper;
+    private FieldInvokerHelper addressHelper;
+    private int customerIndex;
+    private int addressIndex;
+    private int zipIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        order = new Order();
+        zipAccessor = PropertyPath.compile(Order.class, "customer.address.zip");
+        nullSafeZipAccessor = PropertyPath.compile(Order.class, "customer.address.zip", true);
+        orderHelper = FieldInvokerHelper.of(Order.class);
+        customerHelper = FieldInvokerHelper.of(Customer.class);
+        addressHelper = FieldInvokerHelper.of(Address.class);
+        customerIndex = orderHelper.getFieldGetterIndex("customer");
+        addressIndex = customerHelper.getFieldGetterIndex("address");
+        zipIndex = addressHelper.getFieldGetterIndex("zip");
+    }
+
+    @Benchmark
+    public int propertyPathGetInt() {
+        return zipAccessor.getInt(order);
+    }
+
+    @Benchmark
+    public int propertyPathNullSafeGetInt() {
+        return nullSafeZipAccessor.getInt(order);
+    }
+
+    @Benchmark
+    public int fieldInvokerHelperChain() {
+        Object customer = orderHelper.get(customerIndex, order);
+        Object address = customerHelper.get(addressIndex, customer);
+        return addressHelper.getInt(zipIndex, address);
+    }
+
+    @Benchmark
+    public int direct() {
+        return order.customer.address.zip;
+    }
+}
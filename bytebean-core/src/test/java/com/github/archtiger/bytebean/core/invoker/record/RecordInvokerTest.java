@@ -0,0 +1,137 @@
+package com.github.archtiger.bytebean.core.invoker.record;
+
+import com.github.archtiger.bytebean.core.utils.PrivateAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Record组件访问器测试
+ * <p>
+ * 测试包括：
+ * 1. 组件索引按声明顺序排列
+ * 2. 通用读取与基本类型组件的类型化读取
+ * 3. 通过 Object[] 与 long[]/Object[] 缓冲区调用规范构造器
+ * 4. 非record类、组件不存在、类型不匹配、索引越界的处理
+ * 5. 缓存
+ */
+@PrivateAccess
+class RecordInvokerTest {
+
+    record Event(long id, String type, int count, double price, boolean urgent,
+                 byte level, short code, char flag, float ratio) {
+    }
+
+    private record Secret(String value) {
+    }
+
+    record Empty() {
+    }
+
+    static class NotRecord {
+        int value;
+    }
+
+    private RecordInvokerHelper helper;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        helper = RecordInvokerHelper.of(Event.class);
+        event = new Event(7L, "created", 3, 9.5d, true, (byte) 1, (short) 2, 'x', 0.25f);
+    }
+
+    // ==================== 索引测试 ====================
+
+    @Test
+    void testComponentIndex() {
+        assertNotNull(helper);
+        assertEquals(9, helper.getComponentCount());
+        assertEquals(0, helper.getComponentIndex("id"));
+        assertEquals(1, helper.getComponentIndex("type"));
+        assertEquals(8, helper.getComponentIndex("ratio"));
+        assertEquals(int.class, helper.getComponentType(2));
+        assertEquals(-1, helper.getComponentIndex("missing"));
+        assertThrows(IllegalArgumentException.class, () -> helper.getComponentIndexOrThrow("missing"));
+    }
+
+    // ==================== 读取测试 ====================
+
+    @Test
+    void testGet() {
+        assertEquals(7L, helper.get(helper.getComponentIndexOrThrow("id"), event));
+        assertEquals("created", helper.get(helper.getComponentIndexOrThrow("type"), event));
+        assertEquals('x', helper.get(helper.getComponentIndexOrThrow("flag"), event));
+    }
+
+    @Test
+    void testTypedGet() {
+        assertEquals(7L, helper.getLong(helper.getComponentIndexOrThrow("id"), event));
+        assertEquals(3, helper.getInt(helper.getComponentIndexOrThrow("count"), event));
+        assertEquals(9.5d, helper.getDouble(helper.getComponentIndexOrThrow("price"), event));
+        assertTrue(helper.getBoolean(helper.getComponentIndexOrThrow("urgent"), event));
+        assertEquals((byte) 1, helper.getByte(helper.getComponentIndexOrThrow("level"), event));
+        assertEquals((short) 2, helper.getShort(helper.getComponentIndexOrThrow("code"), event));
+        assertEquals('x', helper.getChar(helper.getComponentIndexOrThrow("flag"), event));
+        assertEquals(0.25f, helper.getFloat(helper.getComponentIndexOrThrow("ratio"), event));
+    }
+
+    @Test
+    void testTypeMismatchAndInvalidIndex() {
+        assertThrows(IllegalArgumentException.class, () -> helper.getInt(helper.getComponentIndexOrThrow("id"), event));
+        assertThrows(IllegalArgumentException.class, () -> helper.getLong(helper.getComponentIndexOrThrow("type"), event));
+        assertThrows(IllegalArgumentException.class, () -> helper.get(99, event));
+        assertThrows(IllegalArgumentException.class, () -> helper.get(-1, event));
+    }
+
+    // ==================== 构造测试 ====================
+
+    @Test
+    void testNewInstance() {
+        Object[] components = new Object[helper.getComponentCount()];
+        for (int i = 0; i < components.length; i++) {
+            components[i] = helper.get(i, event);
+        }
+
+        assertEquals(event, helper.newInstance(components));
+    }
+
+    @Test
+    void testNewInstanceFromEncodedBuffers() {
+        long[] primitives = new long[helper.getComponentCount()];
+        Object[] references = new Object[helper.getComponentCount()];
+        primitives[0] = 7L;
+        references[1] = "created";
+        primitives[2] = 3;
+        primitives[3] = Double.doubleToRawLongBits(9.5d);
+        primitives[4] = 1;
+        primitives[5] = 1;
+        primitives[6] = 2;
+        primitives[7] = 'x';
+        primitives[8] = Float.floatToRawIntBits(0.25f);
+
+        assertEquals(event, helper.newInstance(primitives, references));
+    }
+
+    // ==================== 特殊类型测试 ====================
+
+    @Test
+    void testSpecialClasses() {
+        assertNull(RecordInvokerHelper.of(NotRecord.class));
+
+        RecordInvokerHelper empty = RecordInvokerHelper.of(Empty.class);
+        assertEquals(new Empty(), empty.newInstance(new Object[0]));
+        assertThrows(IllegalArgumentException.class, () -> empty.get(0, new Empty()));
+
+        // private record 通过隐藏嵌套成员模式访问规范构造器
+        RecordInvokerHelper secret = RecordInvokerHelper.of(Secret.class);
+        assertEquals(new Secret("s"), secret.newInstance(new Object[]{"s"}));
+        assertEquals("s", secret.get(0, new Secret("s")));
+    }
+
+    @Test
+    void testCache() {
+        assertSame(helper, RecordInvokerHelper.of(Event.class));
+    }
+}
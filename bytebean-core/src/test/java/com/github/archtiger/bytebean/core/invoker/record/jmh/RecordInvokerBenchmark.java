@@ -0,0 +1,82 @@
+package com.github.archtiger.bytebean.core.invoker.record.jmh;
+
+import com.github.archtiger.bytebean.core.invoker.method.MethodInvokerHelper;
+import com.github.archtiger.bytebean.core.invoker.record.RecordInvokerHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record组件访问性能基准测试
+ * <p>
+ * 对比 RecordInvokerHelper 的类型化读取、MethodInvokerHelper 调用访问方法（装箱）与直接调用的读取开销，
+ * 以及通过 long[]/Object[] 缓冲区、Object[] 缓冲区、反射调用规范构造器的创建开销。
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordInvokerBenchmark {
+
+    public record Event(long id, String type, int count, double price) {
+    }
+
+    private Event event;
+    private RecordInvokerHelper recordInvokerHelper;
+    private MethodInvokerHelper methodInvokerHelper;
+    private Constructor<Event> constructor;
+    private int countIndex;
+    private int countMethodIndex;
+    private long[] primitives;
+    private Object[] references;
+    private Object[] components;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        event = new Event(1L, "created", 3, 9.5d);
+        recordInvokerHelper = RecordInvokerHelper.of(Event.class);
+        methodInvokerHelper = MethodInvokerHelper.of(Event.class);
+        constructor = Event.class.getDeclaredConstructor(long.class, String.class, int.class, double.class);
+        countIndex = recordInvokerHelper.getComponentIndexOrThrow("count");
+        countMethodIndex = methodInvokerHelper.getMethodIndexOrThrow("count");
+        primitives = new long[]{1L, 0L, 3L, Double.doubleToRawLongBits(9.5d)};
+        references = new Object[]{null, "created", null, null};
+        components = new Object[]{1L, "created", 3, 9.5d};
+    }
+
+    @Benchmark
+    public int recordInvokerGetInt() {
+        return recordInvokerHelper.getInt(countIndex, event);
+    }
+
+    @Benchmark
+    public int methodInvokerHelperInvoke() {
+        return (int) methodInvokerHelper.invoke(countMethodIndex, event);
+    }
+
+    @Benchmark
+    public int directGet() {
+        return event.count();
+    }
+
+    @Benchmark
+    public Object recordInvokerNewInstanceEncoded() {
+        return recordInvokerHelper.newInstance(primitives, references);
+    }
+
+    @Benchmark
+    public Object recordInvokerNewInstance() {
+        return recordInvokerHelper.newInstance(components);
+    }
+
+    @Benchmark
+    public Object reflectionNewInstance() throws ReflectiveOperationException {
+        return constructor.newInstance(components);
+    }
+}
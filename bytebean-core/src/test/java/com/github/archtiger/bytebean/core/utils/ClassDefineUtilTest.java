@@ -0,0 +1,156 @@
+package com.github.archtiger.bytebean.core.utils;
+
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import com.github.archtiger.bytebean.core.constant.ExceptionCode;
+import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
+import com.github.archtiger.bytebean.core.invoker.method.MethodInvokerHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.module.Configuration;
+import java.lang.module.ModuleFinder;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 类定义工具测试
+ * <p>
+ * 测试包括：
+ * 1. 默认关闭隐藏嵌套成员模式，private 成员不进入索引空间，调用器定义为非嵌套成员的隐藏类；运行期间修改系统属性不切换模式
+ * 2. 目标类位于未开放包的命名模块中（无法取得 Lookup）时回退为注入类加载器（普通类），方法句柄回退为签名入口或通用 invoke 适配
+ */
+class ClassDefineUtilTest {
+
+    static class Secretive {
+        private int hidden;
+        int visible;
+
+        private void secret() {
+        }
+
+        void open() {
+        }
+    }
+
+    // ==================== 默认模式 ====================
+
+    @Test
+    void testPrivateAccessDisabledByDefault() {
+        assertNull(System.getProperty(ByteBeanConstant.PRIVATE_ACCESS_PROPERTY));
+        assertFalse(ClassDefineUtil.isNestmateSupported(Secretive.class));
+
+        List<Field> fields = ByteBeanReflectUtil.getFields(Secretive.class);
+        assertEquals(List.of("visible"), fields.stream().map(Field::getName).toList());
+        List<Method> methods = ByteBeanReflectUtil.getMethods(Secretive.class);
+        assertEquals(List.of("open"), methods.stream().map(Method::getName).toList());
+
+        FieldInvokerHelper fieldInvokerHelper = FieldInvokerHelper.of(Secretive.class);
+        assertEquals(ExceptionCode.INVALID_INDEX, fieldInvokerHelper.getFieldGetterIndex("hidden"));
+        Secretive secretive = new Secretive();
+        fieldInvokerHelper.setInt(fieldInvokerHelper.getFieldSetterIndexOrThrow("visible"), secretive, 7);
+        assertEquals(7, secretive.visible);
+        // 隐藏类不注册到类加载器，可独立于目标类卸载；不是嵌套成员，索引空间不变
+        Class<?> accessorClass = fieldInvokerHelper.accessor("visible").getClass();
+        assertTrue(ClassDefineUtil.isHiddenSupported(Secretive.class));
+        assertTrue(accessorClass.isHidden());
+        assertFalse(accessorClass.isNestmateOf(Secretive.class));
+
+        MethodInvokerHelper methodInvokerHelper = MethodInvokerHelper.of(Secretive.class);
+        assertEquals(ExceptionCode.INVALID_INDEX, methodInvokerHelper.getMethodIndex("secret"));
+    }
+
+    @Test
+    void testPrivateAccessReadOnce() {
+        assertFalse(ClassDefineUtil.isNestmateSupported(Secretive.class));
+        System.setProperty(ByteBeanConstant.PRIVATE_ACCESS_PROPERTY, "true");
+        try {
+            // 属性只在启动时读取，已建立的索引空间与之后生成的调用器保持一致
+            assertFalse(ClassDefineUtil.isNestmateSupported(Secretive.class));
+            assertEquals(List.of("open"), ByteBeanReflectUtil.getMethods(Secretive.class).stream().map(Method::getName).toList());
+        } finally {
+            System.clearProperty(ByteBeanConstant.PRIVATE_ACCESS_PROPERTY);
+        }
+    }
+
+    // ==================== 无法取得 Lookup ====================
+
+    @Test
+    void testInjectionFallbackForUnopenedModule(@TempDir Path dir) throws Throwable {
+        Class<?> closedClass = defineClosedModuleClass(dir);
+        assertThrows(IllegalAccessException.class, () -> MethodHandles.privateLookupIn(closedClass, MethodHandles.lookup()));
+        assertFalse(ClassDefineUtil.isNestmateSupported(closedClass));
+
+        Object bean = closedClass.getConstructor().newInstance();
+        FieldInvokerHelper fieldInvokerHelper = FieldInvokerHelper.of(closedClass);
+        fieldInvokerHelper.setInt(fieldInvokerHelper.getFieldSetterIndexOrThrow("count"), bean, 5);
+        fieldInvokerHelper.set(fieldInvokerHelper.getFieldSetterIndexOrThrow("name"), bean, "closed");
+        assertEquals("closed", fieldInvokerHelper.get(fieldInvokerHelper.getFieldGetterIndexOrThrow("name"), bean));
+        assertFalse(ClassDefineUtil.isHiddenSupported(closedClass));
+        assertFalse(fieldInvokerHelper.accessor("count").getClass().isHidden());
+
+        MethodInvokerHelper methodInvokerHelper = MethodInvokerHelper.of(closedClass);
+        assertEquals(5, methodInvokerHelper.intInvoke(methodInvokerHelper.getMethodIndexOrThrow("getCount"), bean));
+        assertEquals("closed:5", methodInvokerHelper.invoke(methodInvokerHelper.getMethodIndexOrThrow("describe"), bean));
+        // 无法 unreflect 时句柄经由通用 invoke 适配，类型仍为精确签名
+        MethodHandle getCount = methodInvokerHelper.methodHandle(methodInvokerHelper.getMethodIndexOrThrow("getCount"));
+        assertEquals(MethodType.methodType(int.class, closedClass), getCount.type());
+        assertEquals(5, (int) getCount.invoke(bean));
+        // 有擦除签名的方法绑定到生成的签名入口
+        MethodHandle add = methodInvokerHelper.methodHandle(methodInvokerHelper.getMethodIndexOrThrow("add", int.class, int.class));
+        assertEquals(MethodType.methodType(int.class, closedClass, int.class, int.class), add.type());
+        assertEquals(11, (int) add.invoke(bean, 3, 2));
+    }
+
+    /**
+     * 编译并加载一个只导出（不开放）包的命名模块，返回其中的目标类
+     * <p>
+     * 模块额外读取本库所在的未命名模块，使注入的调用器能够链接到调用器接口。
+     */
+    private static Class<?> defineClosedModuleClass(Path dir) throws Exception {
+        Path source = Files.createDirectories(dir.resolve("src/closed/bean"));
+        Files.writeString(dir.resolve("src/module-info.java"), "module bytebean.closed { exports closed.bean; }");
+        Files.writeString(source.resolve("ClosedBean.java"), """
+                package closed.bean;
+
+                public class ClosedBean {
+                    public int count;
+                    public String name;
+
+                    public int getCount() {
+                        return count;
+                    }
+
+                    public String describe() {
+                        return name + ":" + count;
+                    }
+
+                    public int add(int delta, int times) {
+                        return count += delta * times;
+                    }
+                }
+                """);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, "-d", classes.toString(),
+                dir.resolve("src/module-info.java").toString(), source.resolve("ClosedBean.java").toString()));
+
+        Configuration configuration = ModuleLayer.boot().configuration()
+                .resolve(ModuleFinder.of(classes), ModuleFinder.of(), Set.of("bytebean.closed"));
+        ModuleLayer.Controller controller = ModuleLayer.defineModulesWithOneLoader(
+                configuration, List.of(ModuleLayer.boot()), ClassDefineUtilTest.class.getClassLoader());
+        Module module = controller.layer().findModule("bytebean.closed").orElseThrow();
+        controller.addReads(module, ClassDefineUtil.class.getModule());
+        return Class.forName(module, "closed.bean.ClosedBean");
+    }
+}
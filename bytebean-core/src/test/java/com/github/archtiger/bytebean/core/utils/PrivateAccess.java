@@ -0,0 +1,29 @@
+package com.github.archtiger.bytebean.core.utils;
+
+import com.github.archtiger.bytebean.core.constant.ByteBeanConstant;
+import org.junit.jupiter.api.Tag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 测试标记：测试类需要在启用隐藏嵌套成员模式（{@link ByteBeanConstant#PRIVATE_ACCESS_PROPERTY}）的JVM中执行。
+ * <p>
+ * 该属性只在启动时读取一次，标记的测试类由 bytebean-core 的 surefire {@code private-access} 执行在单独的JVM中运行，
+ * 默认执行排除这些测试类，两种索引空间不会出现在同一JVM中。
+ *
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag(PrivateAccess.TAG)
+public @interface PrivateAccess {
+
+    /**
+     * JUnit标签名称，与 pom 中 surefire 的 groups / excludedGroups 配置一致。
+     */
+    String TAG = "private-access";
+}
@@ -0,0 +1,96 @@
+package com.github.archtiger.bytebean.core.utils.jmh;
+
+import com.github.archtiger.bytebean.core.invoker.entity.Field10Entity;
+import com.github.archtiger.bytebean.core.invoker.field.FieldGetterByteCode;
+import com.github.archtiger.bytebean.core.invoker.field.FieldSetterByteCode;
+import com.github.archtiger.bytebean.core.utils.ByteBeanReflectUtil;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.jar.asm.ClassWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 调用器类定义开销基准测试
+ * <p>
+ * 对比同一份调用器字节码的四种定义方式（字节码生成在每次调用前的 Setup 中完成，不计入耗时）：
+ * 1. Lookup.defineHiddenClass - ClassDefineUtil 的默认路径
+ * 2. Lookup.defineHiddenClass(NESTMATE) - ClassDefineUtil 的隐藏嵌套成员模式
+ * 3. Lookup.defineClass - Lookup 不具备完全权限时的路径
+ * 4. ClassLoadingStrategy.Default.INJECTION - 无法取得 Lookup 时的回退路径
+ *
+ * @author ZIJIDELU
+ * @datetime 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassDefineBenchmark {
+
+    private static final String NAME_PREFIX = Field10Entity.class.getName() + "$$ClassDefineBenchmark$";
+
+    private List<Field> fields;
+    private MethodHandles.Lookup lookup;
+    private long sequence;
+    private DynamicType.Unloaded<Object> unloaded;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        fields = ByteBeanReflectUtil.getFields(Field10Entity.class);
+        lookup = MethodHandles.privateLookupIn(Field10Entity.class, MethodHandles.lookup());
+    }
+
+    @Setup(Level.Invocation)
+    public void generate() {
+        // 每次生成唯一类名，避免普通类重复定义
+        unloaded = new ByteBuddy()
+                .subclass(Object.class)
+                .name(NAME_PREFIX + sequence++)
+                .defineMethod("get", Object.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class)
+                .intercept(new FieldGetterByteCode(Field10Entity.class, fields))
+                .defineMethod("set", void.class, Visibility.PUBLIC)
+                .withParameters(int.class, Object.class, Object.class)
+                .intercept(new FieldSetterByteCode(Field10Entity.class, fields))
+                .visit(new AsmVisitorWrapper.ForDeclaredMethods()
+                        .writerFlags(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS)
+                )
+                .make();
+        bytes = unloaded.getBytes();
+    }
+
+    @Benchmark
+    public Class<?> hidden() throws IllegalAccessException {
+        return lookup.defineHiddenClass(bytes, true).lookupClass();
+    }
+
+    @Benchmark
+    public Class<?> hiddenNestmate() throws IllegalAccessException {
+        return lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE).lookupClass();
+    }
+
+    @Benchmark
+    public Class<?> lookupDefineClass() throws IllegalAccessException {
+        return lookup.defineClass(bytes);
+    }
+
+    @Benchmark
+    public Class<?> injection() {
+        return unloaded.load(Field10Entity.class.getClassLoader(), ClassLoadingStrategy.Default.INJECTION).getLoaded();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{ClassDefineBenchmark.class.getName()});
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.archtiger.bytebean.extensions;
+
+import com.github.archtiger.bytebean.core.invoker.constructor.ConstructorInvokerHelper;
+import com.github.archtiger.bytebean.core.invoker.field.FieldInvokerHelper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+
+/**
+ * Bean对象池，基于ConstructorInvoker与FieldInvoker复用可变对象。
+ * <p>
+ * 池中对象通过无参构造器创建，归还时使用生成的 {@code reset} 方法将全部非final字段一次性写回默认值，
+ * 不依赖反射，也不需要逐字段按索引写入。
+ * <p>
+ * 目标类（含父类）的全部非final实例字段都必须在字段调用器的索引空间内，否则归还时无法重置，
+ * 上一个使用者的状态会泄漏给下一个使用者，因此 {@link #of(Class, int)} 会拒绝这样的类型。
+ * 默认模式下private字段不在索引空间内，含有可变private字段的类需要开启隐藏嵌套成员模式
+ * （{@code -Dbytebean.private.access=true}）才能池化。
+ * <p>
+ * <b>特点：</b>
+ * <ul>
+ *   <li>每个线程持有独立的空闲队列，获取与归还不需要加锁</li>
+ *   <li>空闲队列超过容量上限时直接丢弃归还的对象，交给GC回收</li>
+ *   <li>池为空时通过生成的无参构造器调用创建新实例</li>
+ * </ul>
+ * <p>
+ * <b>注意：</b> 对象应在获取它的线程中归还；跨线程归还的对象会进入归还线程的空闲队列。
+ * final字段不会被重置。
+ *
+ * <p><b>使用示例：</b></p>
+ * <pre>{@code
+ * BeanPool<Order> pool = BeanPool.of(Order.class);
+ * Order order = pool.acquire();
+ * try {
+ *     // 使用 order
+ * } finally {
+ *     pool.release(order);
+ * }
+ * }</pre>
+ *
+ * @param <T> 对象类型
+ * @author ZIJIDELU
+ * @since 1.0.0
+ */
+public final class BeanPool<T> {
+
+    /**
+     * 每个线程默认保留的空闲对象数量上限。
+     */
+    public static final int DEFAULT_MAX_IDLE_PER_THREAD = 256;
+
+    /**
+     * 对象类型。
+     */
+    private final Class<T> type;
+
+    /**
+     * 构造器调用器，用于创建新实例。
+     */
+    private final ConstructorInvokerHelper constructorInvokerHelper;
+
+    /**
+     * 字段调用器，用于重置归还的实例；目标类没有可访问字段时为null。
+     */
+    private final FieldInvokerHelper fieldInvokerHelper;
+
+    /**
+     * 每个线程保留的空闲对象数量上限。
+     */
+    private final int maxIdlePerThread;
+
+    /**
+     * 线程本地空闲队列。
+     */
+    private final ThreadLocal<ArrayDeque<T>> idle = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private BeanPool(Class<T> type, ConstructorInvokerHelper constructorInvokerHelper,
+                     FieldInvokerHelper fieldInvokerHelper, int maxIdlePerThread) {
+        this.type = type;
+        this.constructorInvokerHelper = constructorInvokerHelper;
+        this.fieldInvokerHelper = fieldInvokerHelper;
+        this.maxIdlePerThread = maxIdlePerThread;
+    }
+
+    /**
+     * 创建对象池，每个线程最多保留 {@link #DEFAULT_MAX_IDLE_PER_THREAD} 个空闲对象。
+     *
+     * @param type 对象类型
+     * @param <T>  对象类型
+     * @return 对象池
+     * @throws IllegalArgumentException 如果对象类型没有可访问的无参构造器，或存在无法重置的非final实例字段
+     */
+    public static <T> BeanPool<T> of(Class<T> type) {
+        return of(type, DEFAULT_MAX_IDLE_PER_THREAD);
+    }
+
+    /**
+     * 创建对象池。
+     *
+     * @param type             对象类型
+     * @param maxIdlePerThread 每个线程保留的空闲对象数量上限，非负
+     * @param <T>              对象类型
+     * @return 对象池
+     * @throws IllegalArgumentException 如果对象类型没有可访问的无参构造器，存在无法重置的非final实例字段，或容量上限为负数
+     */
+    public static <T> BeanPool<T> of(Class<T> type, int maxIdlePerThread) {
+        if (maxIdlePerThread < 0) {
+            throw new IllegalArgumentException("maxIdlePerThread must not be negative: " + maxIdlePerThread);
+        }
+        final ConstructorInvokerHelper constructorInvokerHelper = ConstructorInvokerHelper.of(type);
+        if (constructorInvokerHelper == null || constructorInvokerHelper.getConstructorIndex() < 0) {
+            throw new IllegalArgumentException("No accessible no-arg constructor: " + type.getName());
+        }
+        final FieldInvokerHelper fieldInvokerHelper = FieldInvokerHelper.of(type);
+        checkResettable(type, fieldInvokerHelper);
+        return new BeanPool<>(type, constructorInvokerHelper, fieldInvokerHelper, maxIdlePerThread);
+    }
+
+    /**
+     * 校验目标类（含父类）的全部非final实例字段都能被字段调用器重置
+     *
+     * @param type               对象类型
+     * @param fieldInvokerHelper 字段调用器，目标类没有可访问字段时为null
+     * @throws IllegalArgumentException 如果存在不在字段调用器索引空间内的非final实例字段
+     */
+    private static void checkResettable(Class<?> type, FieldInvokerHelper fieldInvokerHelper) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (fieldInvokerHelper == null
+                        || fieldInvokerHelper.getFieldSetterIndex(current, field.getName()) < 0) {
+                    throw new IllegalArgumentException("Field cannot be reset on release: "
+                            + current.getName() + "." + field.getName()
+                            + (Modifier.isPrivate(modifiers) ? " (private fields require -Dbytebean.private.access=true)" : ""));
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取一个对象：优先复用当前线程的空闲对象，否则创建新实例。
+     * <p>
+     * 复用的对象已在归还时重置，非final字段均为默认值。
+     *
+     * @return 对象实例
+     */
+    public T acquire() {
+        final T instance = idle.get().pollLast();
+        if (instance != null) {
+            return instance;
+        }
+        return type.cast(constructorInvokerHelper.newInstance());
+    }
+
+    /**
+     * 归还对象：重置全部非final字段后放入当前线程的空闲队列，队列已满时丢弃。
+     *
+     * @param instance 对象实例，非null
+     * @throws ClassCastException 如果实例不是对象类型的实例
+     */
+    public void release(T instance) {
+        type.cast(instance);
+        if (fieldInvokerHelper != null) {
+            fieldInvokerHelper.reset(instance);
+        }
+        final ArrayDeque<T> queue = idle.get();
+        if (queue.size() < maxIdlePerThread) {
+            queue.addLast(instance);
+        }
+    }
+
+    /**
+     * 获取当前线程空闲队列中的对象数量。
+     *
+     * @return 空闲对象数量
+     */
+    public int idleCount() {
+        return idle.get().size();
+    }
+}
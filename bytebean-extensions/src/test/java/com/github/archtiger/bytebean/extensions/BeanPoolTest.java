@@ -0,0 +1,122 @@
+package com.github.archtiger.bytebean.extensions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BeanPoolTest {
+
+    // ==================== acquire / release tests ====================
+
+    @Test
+    void acquire_shouldReuseReleasedInstanceAfterReset() {
+        final BeanPool<PooledBean> pool = BeanPool.of(PooledBean.class);
+
+        final PooledBean bean = pool.acquire();
+        bean.id = 7L;
+        bean.count = 3;
+        bean.name = "alice";
+        pool.release(bean);
+        assertEquals(1, pool.idleCount());
+
+        final PooledBean reused = pool.acquire();
+        assertSame(bean, reused);
+        assertEquals(0L, reused.id);
+        assertEquals(0, reused.count);
+        assertNull(reused.name);
+        assertEquals(0, pool.idleCount());
+    }
+
+    @Test
+    void release_shouldDropInstancesBeyondCapacity() {
+        final BeanPool<PooledBean> pool = BeanPool.of(PooledBean.class, 1);
+
+        final PooledBean first = pool.acquire();
+        final PooledBean second = pool.acquire();
+        assertNotSame(first, second);
+
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.idleCount());
+        assertSame(first, pool.acquire());
+    }
+
+    @Test
+    void idleQueues_shouldBeThreadLocal() throws InterruptedException {
+        final BeanPool<PooledBean> pool = BeanPool.of(PooledBean.class);
+        pool.release(pool.acquire());
+
+        final AtomicReference<Integer> otherIdle = new AtomicReference<>();
+        final Thread thread = new Thread(() -> otherIdle.set(pool.idleCount()));
+        thread.start();
+        thread.join();
+
+        assertEquals(0, otherIdle.get());
+        assertEquals(1, pool.idleCount());
+    }
+
+    // ==================== invalid usage tests ====================
+
+    @Test
+    void of_shouldRejectTypeWithoutNoArgConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> BeanPool.of(NoDefaultConstructorBean.class));
+        assertThrows(IllegalArgumentException.class, () -> BeanPool.of(PooledBean.class, -1));
+    }
+
+    @Test
+    void of_shouldRejectTypeWithUnresettableFields() {
+        // 默认模式下private字段不在索引空间内，归还时无法重置
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> BeanPool.of(PrivateStateBean.class));
+        assertTrue(ex.getMessage().contains("secret"));
+        assertThrows(IllegalArgumentException.class, () -> BeanPool.of(PrivateStateChildBean.class));
+
+        // final private字段不需要重置
+        final BeanPool<FinalPrivateBean> pool = BeanPool.of(FinalPrivateBean.class);
+        pool.release(pool.acquire());
+        assertEquals(1, pool.idleCount());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void release_shouldRejectForeignInstance() {
+        final BeanPool pool = BeanPool.of(PooledBean.class);
+        assertThrows(ClassCastException.class, () -> pool.release("not bean"));
+        assertEquals(0, pool.idleCount());
+    }
+
+    public static class PooledBean {
+        long id;
+        int count;
+        String name;
+    }
+
+    public static class PrivateStateBean {
+        int count;
+        private String secret;
+    }
+
+    public static class PrivateStateChildBean extends PrivateStateBean {
+        long id;
+    }
+
+    public static class FinalPrivateBean {
+        private final int[] buffer = new int[4];
+        int count;
+    }
+
+    public static class NoDefaultConstructorBean {
+        final int value;
+
+        public NoDefaultConstructorBean(int value) {
+            this.value = value;
+        }
+    }
+}